@@ -3,6 +3,7 @@ package com.arkone.flowable;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * ArkOne Flowable 主应用
@@ -12,6 +13,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  */
 @SpringBootApplication
 @MapperScan("com.arkone.flowable.repository")
+@EnableScheduling
 public class FlowableApplication {
 
     public static void main(String[] args) {
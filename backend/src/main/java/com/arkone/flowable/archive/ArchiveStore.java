@@ -0,0 +1,24 @@
+package com.arkone.flowable.archive;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 归档存储
+ * 保存审计分区、流程历史等冷数据的归档文件
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface ArchiveStore {
+
+    /**
+     * 保存归档文件
+     *
+     * @param key  归档键（相对路径，如 audit/lims_audit_log_2025_01.jsonl.gz）
+     * @param file 本地归档文件
+     * @return 归档位置描述
+     * @throws IOException 保存失败
+     */
+    String put(String key, Path file) throws IOException;
+}
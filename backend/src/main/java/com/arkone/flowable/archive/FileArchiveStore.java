@@ -0,0 +1,45 @@
+package com.arkone.flowable.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 本地文件系统归档存储
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "archive", name = "store", havingValue = "file", matchIfMissing = true)
+public class FileArchiveStore implements ArchiveStore {
+
+    private final Path baseDir;
+
+    public FileArchiveStore(@Value("${archive.file.base-dir:./data/archive}") String baseDir) {
+        this.baseDir = Paths.get(baseDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String put(String key, Path file) throws IOException {
+        Path target = baseDir.resolve(key).normalize();
+        if (!target.startsWith(baseDir)) {
+            throw new IOException("非法的归档键: " + key);
+        }
+        Files.createDirectories(target.getParent());
+        // 先写临时文件再原子改名，避免留下不完整的归档
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.copy(file, tmp, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("归档文件已保存: {}", target);
+        return target.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.arkone.flowable.archive;
+
+import io.minio.BucketExistsArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.UploadObjectArgs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * MinIO（S3兼容）归档存储
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "archive", name = "store", havingValue = "minio")
+public class MinioArchiveStore implements ArchiveStore {
+
+    private final MinioClient minioClient;
+    private final String bucket;
+    private volatile boolean bucketChecked;
+
+    public MinioArchiveStore(@Value("${minio.endpoint}") String endpoint,
+                             @Value("${minio.access-key}") String accessKey,
+                             @Value("${minio.secret-key}") String secretKey,
+                             @Value("${archive.minio.bucket:${minio.bucket-name}}") String bucket) {
+        this.minioClient = MinioClient.builder()
+                .endpoint(endpoint)
+                .credentials(accessKey, secretKey)
+                .build();
+        this.bucket = bucket;
+    }
+
+    @Override
+    public String put(String key, Path file) throws IOException {
+        try {
+            ensureBucket();
+            minioClient.uploadObject(UploadObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(key)
+                    .filename(file.toString())
+                    .build());
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("上传归档文件失败: " + key, e);
+        }
+        log.info("归档文件已上传: {}/{}", bucket, key);
+        return bucket + "/" + key;
+    }
+
+    private void ensureBucket() throws Exception {
+        if (bucketChecked) {
+            return;
+        }
+        if (!minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucket).build())) {
+            minioClient.makeBucket(MakeBucketArgs.builder().bucket(bucket).build());
+        }
+        bucketChecked = true;
+    }
+}
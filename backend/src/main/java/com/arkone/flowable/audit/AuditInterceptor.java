@@ -0,0 +1,319 @@
+package com.arkone.flowable.audit;
+
+import com.arkone.flowable.common.typehandler.LazyJsonbMap;
+import com.arkone.flowable.entity.AuditLog;
+import com.arkone.flowable.entity.Container;
+import com.arkone.flowable.entity.ProcessNodeData;
+import com.arkone.flowable.entity.Project;
+import com.arkone.flowable.entity.Sample;
+import com.arkone.flowable.repository.ContainerMapper;
+import com.arkone.flowable.repository.ProcessNodeDataMapper;
+import com.arkone.flowable.repository.ProjectMapper;
+import com.arkone.flowable.repository.SampleMapper;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 审计拦截器
+ *
+ * <p>拦截 Sample、Container、Project、ProcessNodeData 四类实体的增删改：</p>
+ * <ul>
+ *   <li>查询：写事务内读取的实体保存快照，作为后续更新、删除的变更前值（不额外查询数据库）</li>
+ *   <li>新增：记录完整的新值</li>
+ *   <li>更新：有快照时只记录发生变化的字段，否则记录非空字段</li>
+ *   <li>删除：记录快照作为变更前值</li>
+ * </ul>
+ *
+ * <p>拦截器只构造审计记录，记录在事务提交后进入 {@link AuditPublisher} 的缓冲区，由后台线程批量写库。
+ * 按条件（Wrapper）批量更新、删除时无法定位实体ID，不产生审计记录。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class AuditInterceptor implements Interceptor {
+
+    public static final String ACTION_CREATE = "CREATE";
+    public static final String ACTION_UPDATE = "UPDATE";
+    public static final String ACTION_DELETE = "DELETE";
+
+    /**
+     * 需要审计的Mapper命名空间 -> 实体类型
+     */
+    private static final Map<String, Class<?>> AUDITED_MAPPERS = Map.of(
+            SampleMapper.class.getName(), Sample.class,
+            ContainerMapper.class.getName(), Container.class,
+            ProjectMapper.class.getName(), Project.class,
+            ProcessNodeDataMapper.class.getName(), ProcessNodeData.class
+    );
+
+    /**
+     * 更新时不参与比较的字段（每次更新都会变化）
+     */
+    private static final Set<String> IGNORED_DIFF_PROPERTIES = Set.of("updatedAt", "updatedBy", "version");
+
+    private static final int USER_AGENT_MAX_LENGTH = 500;
+
+    private final AuditPublisher auditPublisher;
+
+    public AuditInterceptor(AuditPublisher auditPublisher) {
+        this.auditPublisher = auditPublisher;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Class<?> entityClass = AUDITED_MAPPERS.get(namespaceOf(ms.getId()));
+        if (entityClass == null) {
+            return invocation.proceed();
+        }
+
+        Object result = invocation.proceed();
+        try {
+            if ("query".equals(invocation.getMethod().getName())) {
+                captureSnapshots(entityClass, result);
+            } else if (result instanceof Integer rows && rows > 0) {
+                record(entityClass, ms, invocation.getArgs()[1]);
+            }
+        } catch (Exception e) {
+            // 审计失败不影响业务操作
+            log.warn("审计记录生成失败: {}", ms.getId(), e);
+        }
+        return result;
+    }
+
+    /**
+     * 保存写事务内读取到的实体快照
+     */
+    private void captureSnapshots(Class<?> entityClass, Object result) {
+        if (!(result instanceof List<?> rows) || rows.isEmpty()) {
+            return;
+        }
+        AuditTransactionContext context = AuditTransactionContext.current(auditPublisher);
+        if (context == null) {
+            return;
+        }
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        if (tableInfo == null) {
+            return;
+        }
+        String entityType = entityClass.getSimpleName();
+        for (Object row : rows) {
+            if (entityClass.isInstance(row)) {
+                Object id = tableInfo.getPropertyValue(row, tableInfo.getKeyProperty());
+                if (id != null) {
+                    context.putSnapshot(entityType, id.toString(), snapshot(tableInfo, row, false));
+                }
+            }
+        }
+    }
+
+    /**
+     * 生成审计记录
+     */
+    private void record(Class<?> entityClass, MappedStatement ms, Object parameter) {
+        String action = resolveAction(ms.getId());
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        if (action == null || tableInfo == null) {
+            return;
+        }
+        String entityType = entityClass.getSimpleName();
+        AuditTransactionContext context = AuditTransactionContext.current(auditPublisher);
+        RequestInfo requestInfo = null;
+
+        for (Object target : resolveTargets(parameter)) {
+            Object entity = entityClass.isInstance(target) ? target : null;
+            Object idValue = entity != null ? tableInfo.getPropertyValue(entity, tableInfo.getKeyProperty()) : target;
+            if (idValue == null) {
+                continue;
+            }
+            String id = idValue.toString();
+            Map<String, Object> snapshot = context != null ? context.getSnapshot(entityType, id) : null;
+
+            Map<String, Object> oldValue = null;
+            Map<String, Object> newValue = null;
+            switch (action) {
+                case ACTION_CREATE -> {
+                    if (entity == null) {
+                        continue;
+                    }
+                    newValue = snapshot(tableInfo, entity, true);
+                }
+                case ACTION_UPDATE -> {
+                    if (entity == null) {
+                        continue;
+                    }
+                    Map<String, Object> current = snapshot(tableInfo, entity, true);
+                    if (snapshot != null) {
+                        oldValue = new LinkedHashMap<>();
+                        newValue = new LinkedHashMap<>();
+                        for (Map.Entry<String, Object> e : current.entrySet()) {
+                            String property = e.getKey();
+                            if (!IGNORED_DIFF_PROPERTIES.contains(property)
+                                    && !Objects.equals(snapshot.get(property), e.getValue())) {
+                                oldValue.put(property, snapshot.get(property));
+                                newValue.put(property, e.getValue());
+                            }
+                        }
+                        if (newValue.isEmpty()) {
+                            continue;
+                        }
+                        Map<String, Object> merged = new LinkedHashMap<>(snapshot);
+                        merged.putAll(current);
+                        context.putSnapshot(entityType, id, merged);
+                    } else {
+                        newValue = current;
+                    }
+                }
+                default -> {
+                    oldValue = snapshot;
+                    if (context != null) {
+                        context.removeSnapshot(entityType, id);
+                    }
+                }
+            }
+
+            if (requestInfo == null) {
+                requestInfo = RequestInfo.current();
+            }
+            AuditLog auditLog = AuditLog.builder()
+                    .userId("system") // TODO: 从上下文获取当前用户
+                    .userName("system")
+                    .action(action)
+                    .entityType(entityType)
+                    .entityId(id)
+                    .oldValue(oldValue)
+                    .newValue(newValue)
+                    .ipAddress(requestInfo.ipAddress())
+                    .userAgent(requestInfo.userAgent())
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            if (context != null) {
+                context.addPending(auditLog);
+            } else {
+                auditPublisher.publish(auditLog);
+            }
+        }
+    }
+
+    /**
+     * 根据Mapper方法名判断操作类型
+     */
+    private static String resolveAction(String statementId) {
+        String method = statementId.substring(statementId.lastIndexOf('.') + 1);
+        if (method.startsWith("insert")) {
+            return ACTION_CREATE;
+        }
+        if (method.startsWith("delete")) {
+            return ACTION_DELETE;
+        }
+        if (method.startsWith("update")) {
+            return ACTION_UPDATE;
+        }
+        return null;
+    }
+
+    /**
+     * 从Mapper参数中解析操作对象（实体或ID）
+     */
+    private static Collection<?> resolveTargets(Object parameter) {
+        if (parameter instanceof Map<?, ?> map) {
+            if (map.containsKey(Constants.ENTITY)) {
+                Object entity = map.get(Constants.ENTITY);
+                return entity != null ? List.of(entity) : Collections.emptyList();
+            }
+            if (map.containsKey(Constants.COLL) && map.get(Constants.COLL) instanceof Collection<?> coll) {
+                return coll;
+            }
+            return Collections.emptyList();
+        }
+        if (parameter instanceof Collection<?> coll) {
+            return coll;
+        }
+        return parameter != null ? List.of(parameter) : Collections.emptyList();
+    }
+
+    /**
+     * 生成实体快照
+     * <p>时间类型转为字符串，JSONB字段浅拷贝，避免后续修改影响已生成的记录</p>
+     */
+    private static Map<String, Object> snapshot(TableInfo tableInfo, Object entity, boolean skipNulls) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(tableInfo.getKeyProperty(), tableInfo.getPropertyValue(entity, tableInfo.getKeyProperty()));
+        for (TableFieldInfo field : tableInfo.getFieldList()) {
+            Object value = tableInfo.getPropertyValue(entity, field.getProperty());
+            if (value == null && skipNulls) {
+                continue;
+            }
+            if (value instanceof TemporalAccessor) {
+                value = value.toString();
+            } else if (value instanceof LazyJsonbMap lazy) {
+                // 未解析的JSONB共享原始字节，不触发解析
+                value = lazy.copy();
+            } else if (value instanceof Map<?, ?> map) {
+                value = new LinkedHashMap<>(map);
+            }
+            values.put(field.getProperty(), value);
+        }
+        return values;
+    }
+
+    private static String namespaceOf(String statementId) {
+        int index = statementId.lastIndexOf('.');
+        return index > 0 ? statementId.substring(0, index) : statementId;
+    }
+
+    /**
+     * 当前请求的来源信息
+     */
+    private record RequestInfo(String ipAddress, String userAgent) {
+
+        static RequestInfo current() {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes instanceof ServletRequestAttributes servletAttributes) {
+                HttpServletRequest request = servletAttributes.getRequest();
+                String userAgent = request.getHeader("User-Agent");
+                if (userAgent != null && userAgent.length() > USER_AGENT_MAX_LENGTH) {
+                    userAgent = userAgent.substring(0, USER_AGENT_MAX_LENGTH);
+                }
+                return new RequestInfo(request.getRemoteAddr(), userAgent);
+            }
+            return new RequestInfo(null, null);
+        }
+    }
+}
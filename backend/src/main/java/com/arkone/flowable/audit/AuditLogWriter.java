@@ -0,0 +1,148 @@
+package com.arkone.flowable.audit;
+
+import com.arkone.flowable.entity.AuditLog;
+import com.arkone.flowable.repository.AuditLogMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 审计日志后台写入器
+ *
+ * <p>单线程从 {@link AuditPublisher} 的缓冲区批量取出记录，以多行INSERT写入 lims_audit_log。
+ * 缓冲区为空时休眠 {@code audit.flush-interval-ms}，积压达到批量大小时由发布方提前唤醒。
+ * 应用关闭时会写完缓冲区中的剩余记录。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    /**
+     * PostgreSQL: 找不到行对应的分区（no partition of relation found for row）
+     */
+    private static final String SQL_STATE_NO_PARTITION = "23514";
+
+    private final AuditPublisher auditPublisher;
+    private final AuditLogMapper auditLogMapper;
+    private final AuditPartitionManager auditPartitionManager;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public AuditLogWriter(AuditPublisher auditPublisher,
+                          AuditLogMapper auditLogMapper,
+                          AuditPartitionManager auditPartitionManager,
+                          @Value("${audit.batch-size:500}") int batchSize,
+                          @Value("${audit.flush-interval-ms:200}") long flushIntervalMs) {
+        this.auditPublisher = auditPublisher;
+        this.auditLogMapper = auditLogMapper;
+        this.auditPartitionManager = auditPartitionManager;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::runLoop, "audit-writer");
+        thread.setDaemon(true);
+        auditPublisher.registerWriter(thread, batchSize);
+        thread.start();
+        log.info("审计日志写入线程已启动: batchSize={}", batchSize);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("审计日志写入线程已停止: {}", auditPublisher.stats());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 晚于业务组件停止，尽量写完关闭前产生的记录
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE + 100;
+    }
+
+    private void runLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || auditPublisher.hasPending()) {
+            auditPublisher.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 批量写入，缺少分区时预建分区后重试一次，仍失败则记录并丢弃该批次，不阻塞后续写入
+     */
+    private void write(List<AuditLog> batch) {
+        for (AuditLog record : batch) {
+            if (record.getId() == null) {
+                record.setId(UUID.randomUUID().toString());
+            }
+        }
+        try {
+            auditLogMapper.insertBatch(batch);
+            auditPublisher.recordBatch(batch.size());
+        } catch (Exception e) {
+            if (isMissingPartition(e)) {
+                log.warn("审计日志分区缺失，预建分区后重试");
+                try {
+                    auditPartitionManager.ensurePartitions();
+                    auditLogMapper.insertBatch(batch);
+                    auditPublisher.recordBatch(batch.size());
+                    return;
+                } catch (Exception retryError) {
+                    e = retryError;
+                }
+            }
+            auditPublisher.recordFailure(batch.size());
+            log.error("审计日志批量写入失败，丢弃{}条记录", batch.size(), e);
+        }
+    }
+
+    private static boolean isMissingPartition(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sqlException && SQL_STATE_NO_PARTITION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,286 @@
+package com.arkone.flowable.audit;
+
+import com.arkone.flowable.archive.ArchiveStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 审计日志分区管理器
+ *
+ * <p>lims_audit_log 按月分区，本组件负责：</p>
+ * <ul>
+ *   <li>启动时及每日定时预建未来 {@code audit.partition.months-ahead} 个月的分区，保证审计写入不会因缺少分区失败</li>
+ *   <li>可选地为每个分区建立 created_at 的BRIN索引（按时间追加写入，BRIN体积极小）</li>
+ *   <li>超过 {@code audit.partition.retention-months} 的分区先DETACH，导出为gzip压缩的JSON Lines归档后DROP，
+ *       归档失败时保留已分离的表，下次执行时继续处理</li>
+ * </ul>
+ *
+ * <p>多实例部署时通过PostgreSQL会话级咨询锁保证同一时间只有一个实例执行归档。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class AuditPartitionManager {
+
+    private static final String PARENT_TABLE = "lims_audit_log";
+    private static final Pattern PARTITION_PATTERN = Pattern.compile("^lims_audit_log_(\\d{4})_(\\d{2})$");
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    /**
+     * 咨询锁键（固定值，仅用于分区维护）
+     */
+    private static final long ADVISORY_LOCK_KEY = 0x4155444954L;
+
+    /**
+     * 表已存在
+     */
+    private static final String SQL_STATE_DUPLICATE_TABLE = "42P07";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchiveStore archiveStore;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean brinEnabled;
+
+    public AuditPartitionManager(JdbcTemplate jdbcTemplate,
+                                 ArchiveStore archiveStore,
+                                 @Value("${audit.partition.months-ahead:3}") int monthsAhead,
+                                 @Value("${audit.partition.retention-months:12}") int retentionMonths,
+                                 @Value("${audit.partition.brin-enabled:true}") boolean brinEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveStore = archiveStore;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.brinEnabled = brinEnabled;
+    }
+
+    /**
+     * 启动时预建分区
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            ensurePartitions();
+        } catch (Exception e) {
+            log.error("审计日志分区预建失败", e);
+        }
+    }
+
+    /**
+     * 定时维护：预建分区并归档过期分区
+     */
+    @Scheduled(cron = "${audit.partition.cron:0 30 2 * * ?}")
+    public void maintain() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!tryAdvisoryLock(connection)) {
+                log.info("其他实例正在维护审计日志分区，本次跳过");
+                return null;
+            }
+            try {
+                createPartitions(connection);
+                if (retentionMonths > 0) {
+                    archiveExpiredPartitions(connection);
+                }
+            } finally {
+                releaseAdvisoryLock(connection);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 预建当前月及未来若干个月的分区（幂等）
+     * <p>审计写入遇到缺失分区时也会调用</p>
+     */
+    public synchronized void ensurePartitions() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            createPartitions(connection);
+            return null;
+        });
+    }
+
+    private void createPartitions(Connection connection) throws SQLException {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String table = partitionName(month);
+            String sql = "CREATE TABLE IF NOT EXISTS " + table + " PARTITION OF " + PARENT_TABLE
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+            executeIgnoringDuplicate(connection, sql);
+            if (brinEnabled) {
+                executeIgnoringDuplicate(connection, "CREATE INDEX IF NOT EXISTS " + table
+                        + "_created_brin ON " + table + " USING BRIN (created_at)");
+            }
+        }
+        log.debug("审计日志分区检查完成: {} ~ {}", current, current.plusMonths(monthsAhead));
+    }
+
+    /**
+     * 分离、归档并删除过期分区
+     */
+    private void archiveExpiredPartitions(Connection connection) throws SQLException {
+        LocalDate cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1);
+
+        for (String table : queryNames(connection, """
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = 'lims_audit_log'
+                """)) {
+            YearMonth month = parseMonth(table);
+            if (month != null && isExpired(month, cutoff)) {
+                execute(connection, "ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + table);
+                log.info("审计日志分区已分离: {}", table);
+            }
+        }
+
+        // 处理已分离（包括上次归档失败遗留）的分区表
+        for (String table : queryNames(connection, """
+                SELECT c.relname FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE c.relkind = 'r' AND n.nspname = current_schema()
+                  AND c.relname ~ '^lims_audit_log_[0-9]{4}_[0-9]{2}$'
+                  AND NOT EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid)
+                """)) {
+            YearMonth month = parseMonth(table);
+            if (month == null) {
+                continue;
+            }
+            if (!isExpired(month, cutoff)) {
+                // 手工分离或恢复中的表，仍在保留期内，不能归档删除
+                log.warn("已分离的审计日志表仍在保留期内，跳过归档: {}", table);
+                continue;
+            }
+            try {
+                long rows = archiveTable(connection, table);
+                execute(connection, "DROP TABLE " + table);
+                log.info("审计日志分区已归档并删除: {}, rows={}", table, rows);
+            } catch (IOException | SQLException e) {
+                log.error("审计日志分区归档失败，保留已分离的表待下次处理: {}", table, e);
+            }
+        }
+    }
+
+    /**
+     * 分区的整月都早于保留截止日期时视为过期
+     */
+    private static boolean isExpired(YearMonth month, LocalDate cutoff) {
+        return !month.plusMonths(1).atDay(1).isAfter(cutoff);
+    }
+
+    /**
+     * 将分区表导出为gzip压缩的JSON Lines并保存到归档存储
+     */
+    private long archiveTable(Connection connection, String table) throws SQLException, IOException {
+        Path tmp = Files.createTempFile(table + "-", ".jsonl.gz");
+        long rows = 0;
+        boolean autoCommit = connection.getAutoCommit();
+        try {
+            // PostgreSQL 仅在非自动提交模式下按 fetchSize 分批拉取
+            connection.setAutoCommit(false);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tmp), 64 * 1024), StandardCharsets.UTF_8));
+                 Statement statement = connection.createStatement()) {
+                statement.setFetchSize(1000);
+                try (ResultSet rs = statement.executeQuery(
+                        "SELECT row_to_json(t)::text FROM " + table + " t ORDER BY t.created_at")) {
+                    while (rs.next()) {
+                        writer.write(rs.getString(1));
+                        writer.write('\n');
+                        rows++;
+                    }
+                }
+            } finally {
+                connection.commit();
+                connection.setAutoCommit(autoCommit);
+            }
+            archiveStore.put("audit/" + table + ".jsonl.gz", tmp);
+            return rows;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private boolean tryAdvisoryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private void releaseAdvisoryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+        }
+    }
+
+    private List<String> queryNames(Connection connection, String sql) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * 并发建表时其他实例可能已创建，忽略"已存在"错误
+     */
+    private void executeIgnoringDuplicate(Connection connection, String sql) throws SQLException {
+        try {
+            execute(connection, sql);
+        } catch (SQLException e) {
+            if (!SQL_STATE_DUPLICATE_TABLE.equals(e.getSQLState())) {
+                throw e;
+            }
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_" + month.format(SUFFIX_FORMAT);
+    }
+
+    static YearMonth parseMonth(String table) {
+        Matcher matcher = PARTITION_PATTERN.matcher(table);
+        if (!matcher.matches()) {
+            return null;
+        }
+        int month = Integer.parseInt(matcher.group(2));
+        return month >= 1 && month <= 12 ? YearMonth.of(Integer.parseInt(matcher.group(1)), month) : null;
+    }
+}
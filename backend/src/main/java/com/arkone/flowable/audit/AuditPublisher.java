@@ -0,0 +1,149 @@
+package com.arkone.flowable.audit;
+
+import com.arkone.flowable.entity.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 审计记录发布器
+ *
+ * <p>业务线程只把审计记录放入无锁环形缓冲区，由 {@link AuditLogWriter} 在后台批量写库。
+ * 缓冲区满时最多等待 {@code audit.offer-timeout-ms} 毫秒（背压），仍无空位则丢弃并计数，
+ * 保证审计不会无限拖慢业务事务。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class AuditPublisher {
+
+    /**
+     * 每丢弃多少条记录输出一次告警日志
+     */
+    private static final long DROP_LOG_INTERVAL = 1000;
+
+    private final BoundedRingBuffer<AuditLog> buffer;
+    private final long offerTimeoutNanos;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder backpressureWaits = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder failedRecords = new LongAdder();
+
+    /**
+     * 后台写入线程，缓冲区积压时唤醒
+     */
+    private volatile Thread writerThread;
+
+    /**
+     * 积压达到该值时唤醒写入线程
+     */
+    private volatile int wakeupThreshold = Integer.MAX_VALUE;
+
+    public AuditPublisher(@Value("${audit.buffer-size:8192}") int bufferSize,
+                          @Value("${audit.offer-timeout-ms:2}") long offerTimeoutMs) {
+        this.buffer = new BoundedRingBuffer<>(bufferSize);
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+    }
+
+    /**
+     * 发布审计记录
+     *
+     * @param record 审计记录
+     * @return 是否成功入队
+     */
+    public boolean publish(AuditLog record) {
+        if (buffer.offer(record)) {
+            published.increment();
+            if (buffer.size() >= wakeupThreshold) {
+                wakeWriter();
+            }
+            return true;
+        }
+
+        // 缓冲区已满：唤醒写入线程并短暂等待
+        backpressureWaits.increment();
+        wakeWriter();
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(50_000L);
+            if (buffer.offer(record)) {
+                published.increment();
+                return true;
+            }
+        }
+
+        dropped.increment();
+        long total = dropped.sum();
+        if (total % DROP_LOG_INTERVAL == 1) {
+            log.warn("审计缓冲区已满，记录被丢弃: entityType={}, entityId={}, 累计丢弃={}",
+                    record.getEntityType(), record.getEntityId(), total);
+        }
+        return false;
+    }
+
+    /**
+     * 取出待写入的记录
+     */
+    int drainTo(Collection<AuditLog> target, int maxElements) {
+        return buffer.drainTo(target, maxElements);
+    }
+
+    boolean hasPending() {
+        return !buffer.isEmpty();
+    }
+
+    /**
+     * 注册后台写入线程
+     */
+    void registerWriter(Thread thread, int batchSize) {
+        this.writerThread = thread;
+        this.wakeupThreshold = Math.max(1, Math.min(batchSize, buffer.capacity() / 2));
+    }
+
+    void recordBatch(int size) {
+        batches.increment();
+        written.add(size);
+    }
+
+    void recordFailure(int size) {
+        failedBatches.increment();
+        failedRecords.add(size);
+    }
+
+    /**
+     * 获取审计管道统计
+     *
+     * @return 统计信息
+     */
+    public AuditStats stats() {
+        return AuditStats.builder()
+                .bufferCapacity(buffer.capacity())
+                .bufferSize(buffer.size())
+                .published(published.sum())
+                .dropped(dropped.sum())
+                .backpressureWaits(backpressureWaits.sum())
+                .written(written.sum())
+                .batches(batches.sum())
+                .failedBatches(failedBatches.sum())
+                .failedRecords(failedRecords.sum())
+                .build();
+    }
+
+    private void wakeWriter() {
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+}
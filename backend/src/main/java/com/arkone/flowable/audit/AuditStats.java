@@ -0,0 +1,64 @@
+package com.arkone.flowable.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 审计管道运行统计
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditStats {
+
+    /**
+     * 缓冲区容量
+     */
+    private int bufferCapacity;
+
+    /**
+     * 缓冲区当前积压数
+     */
+    private int bufferSize;
+
+    /**
+     * 已入队记录数
+     */
+    private long published;
+
+    /**
+     * 缓冲区满等待后仍被丢弃的记录数
+     */
+    private long dropped;
+
+    /**
+     * 因缓冲区满而等待的次数（背压）
+     */
+    private long backpressureWaits;
+
+    /**
+     * 已写入数据库的记录数
+     */
+    private long written;
+
+    /**
+     * 已执行的批量写入次数
+     */
+    private long batches;
+
+    /**
+     * 写入失败的批次数
+     */
+    private long failedBatches;
+
+    /**
+     * 写入失败而丢失的记录数
+     */
+    private long failedRecords;
+}
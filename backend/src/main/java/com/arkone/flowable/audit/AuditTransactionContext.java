@@ -0,0 +1,87 @@
+package com.arkone.flowable.audit;
+
+import com.arkone.flowable.entity.AuditLog;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 事务级审计上下文
+ *
+ * <p>保存当前事务内读取到的实体快照（作为变更前的值）以及待发布的审计记录。
+ * 记录在事务提交后才进入缓冲区，回滚的变更不会产生审计日志。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+final class AuditTransactionContext {
+
+    /**
+     * 每个事务最多保留的快照数，避免批量查询占用过多内存
+     */
+    private static final int MAX_SNAPSHOTS = 1000;
+
+    private final Map<String, Map<String, Object>> snapshots = new HashMap<>();
+    private final List<AuditLog> pending = new ArrayList<>();
+
+    private AuditTransactionContext() {
+    }
+
+    /**
+     * 获取当前写事务的审计上下文，无事务或只读事务时返回null
+     *
+     * @param publisher 事务提交后的发布目标
+     * @return 审计上下文
+     */
+    static AuditTransactionContext current(AuditPublisher publisher) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        AuditTransactionContext context =
+                (AuditTransactionContext) TransactionSynchronizationManager.getResource(AuditTransactionContext.class);
+        if (context == null) {
+            AuditTransactionContext created = new AuditTransactionContext();
+            TransactionSynchronizationManager.bindResource(AuditTransactionContext.class, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    created.pending.forEach(publisher::publish);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AuditTransactionContext.class);
+                }
+            });
+            context = created;
+        }
+        return context;
+    }
+
+    void putSnapshot(String entityType, String id, Map<String, Object> snapshot) {
+        if (snapshots.size() < MAX_SNAPSHOTS || snapshots.containsKey(key(entityType, id))) {
+            snapshots.put(key(entityType, id), snapshot);
+        }
+    }
+
+    Map<String, Object> getSnapshot(String entityType, String id) {
+        return snapshots.get(key(entityType, id));
+    }
+
+    void removeSnapshot(String entityType, String id) {
+        snapshots.remove(key(entityType, id));
+    }
+
+    void addPending(AuditLog record) {
+        pending.add(record);
+    }
+
+    private static String key(String entityType, String id) {
+        return entityType + ':' + id;
+    }
+}
@@ -0,0 +1,64 @@
+package com.arkone.flowable.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 缓存统计信息
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStats {
+
+    /**
+     * 缓存名称
+     */
+    private String name;
+
+    /**
+     * 当前条目数
+     */
+    private Integer size;
+
+    /**
+     * 命中次数
+     */
+    private Long hits;
+
+    /**
+     * 未命中次数
+     */
+    private Long misses;
+
+    /**
+     * 回源加载次数
+     */
+    private Long loads;
+
+    /**
+     * 淘汰次数
+     */
+    private Long evictions;
+
+    /**
+     * 因版本号过旧被拒绝写入的次数
+     */
+    private Long staleRejections;
+
+    /**
+     * 命中率
+     *
+     * @return 命中率（0-1），无访问时返回0
+     */
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0D : (double) hits / total;
+    }
+}
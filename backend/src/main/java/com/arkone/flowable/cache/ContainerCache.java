@@ -0,0 +1,26 @@
+package com.arkone.flowable.cache;
+
+import com.arkone.flowable.entity.Container;
+import com.arkone.flowable.repository.ContainerMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 容器实体缓存
+ * 按容器ID和容器编码缓存；容器使用数变化后由写入方调用 refresh 更新缓存
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Component
+public class ContainerCache extends VersionedEntityCache<Container> {
+
+    public ContainerCache(ContainerMapper containerMapper,
+                          @Value("${entity-cache.container.ttl:PT1M}") Duration ttl,
+                          @Value("${entity-cache.container.max-size:5000}") int maxSize) {
+        super("container", containerMapper::selectById, containerMapper::selectByContainerCode,
+                Container::getContainerCode, ttl, maxSize);
+    }
+}
@@ -0,0 +1,259 @@
+package com.arkone.flowable.cache;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.ProcessDefinitionResponse;
+import com.arkone.flowable.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FormProperty;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 流程定义缓存
+ *
+ * <p>缓存已部署流程定义的元数据和解析后的BPMN摘要（开始表单、用户任务节点），
+ * 避免每次请求都经 RepositoryService 查询和遍历BPMN模型：</p>
+ * <ul>
+ *   <li>按流程定义ID缓存详情；最新版本列表单独缓存一份</li>
+ *   <li>部署、删除、挂起/激活流程定义的事务提交后由 {@link ProcessDefinitionCacheInvalidator} 清空缓存</li>
+ *   <li>TTL兜底其他实例上的部署；失效时递增代数，加载期间发生过失效的结果不写入缓存</li>
+ *   <li>超出容量时先淘汰过期条目，仍超出则淘汰最早加载的条目</li>
+ *   <li>返回的对象为只读共享实例，调用方不得修改</li>
+ * </ul>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ProcessDefinitionCache {
+
+    private final RepositoryService repositoryService;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    /**
+     * 流程定义ID -> 详情
+     */
+    private final Map<String, Entry<ProcessDefinitionResponse>> definitions = new ConcurrentHashMap<>();
+
+    /**
+     * 各流程Key的最新版本
+     */
+    private volatile Entry<List<ProcessDefinitionResponse>> latest;
+
+    /**
+     * 失效代数
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder staleRejections = new LongAdder();
+
+    public ProcessDefinitionCache(RepositoryService repositoryService,
+                                  @Value("${entity-cache.process-definition.ttl:PT10M}") Duration ttl,
+                                  @Value("${entity-cache.process-definition.max-size:500}") int maxSize) {
+        this.repositoryService = repositoryService;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 获取各流程Key的最新版本定义
+     *
+     * @return 流程定义列表（按Key排序）
+     */
+    public List<ProcessDefinitionResponse> getLatest() {
+        Entry<List<ProcessDefinitionResponse>> entry = latest;
+        if (entry != null && System.nanoTime() - entry.expiresAtNanos() < 0) {
+            hits.increment();
+            return entry.value();
+        }
+        misses.increment();
+
+        long startGeneration = generation.get();
+        List<ProcessDefinitionResponse> result = new ArrayList<>();
+        for (ProcessDefinition definition : repositoryService.createProcessDefinitionQuery()
+                .latestVersion()
+                .orderByProcessDefinitionKey().asc()
+                .list()) {
+            result.add(getById(definition.getId()));
+        }
+        List<ProcessDefinitionResponse> value = List.copyOf(result);
+        loads.increment();
+
+        if (generation.get() == startGeneration) {
+            latest = new Entry<>(value, System.nanoTime() + ttlNanos);
+        } else {
+            staleRejections.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 按ID获取流程定义详情
+     *
+     * @param processDefinitionId 流程定义ID
+     * @return 流程定义详情
+     * @throws BusinessException 流程定义不存在
+     */
+    public ProcessDefinitionResponse getById(String processDefinitionId) {
+        Entry<ProcessDefinitionResponse> entry = definitions.get(processDefinitionId);
+        if (entry != null && System.nanoTime() - entry.expiresAtNanos() < 0) {
+            hits.increment();
+            return entry.value();
+        }
+        misses.increment();
+
+        long startGeneration = generation.get();
+        ProcessDefinitionResponse value = load(processDefinitionId);
+        loads.increment();
+
+        if (generation.get() != startGeneration) {
+            staleRejections.increment();
+            return value;
+        }
+        if (definitions.size() >= maxSize) {
+            shrink();
+        }
+        definitions.put(processDefinitionId, new Entry<>(value, System.nanoTime() + ttlNanos));
+        return value;
+    }
+
+    /**
+     * 清空缓存（部署变更后调用）
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        int size = definitions.size() + (latest != null ? 1 : 0);
+        definitions.clear();
+        latest = null;
+        evictions.add(size);
+        log.debug("流程定义缓存已清空: {}条", size);
+    }
+
+    /**
+     * 获取缓存统计信息
+     *
+     * @return 统计信息
+     */
+    public CacheStats stats() {
+        return CacheStats.builder()
+                .name("processDefinition")
+                .size(definitions.size())
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .loads(loads.sum())
+                .evictions(evictions.sum())
+                .staleRejections(staleRejections.sum())
+                .build();
+    }
+
+    /**
+     * 淘汰过期条目，仍超出容量时按加载时间淘汰最早的条目，一次腾出十分之一容量
+     */
+    private void shrink() {
+        long now = System.nanoTime();
+        definitions.entrySet().removeIf(e -> {
+            if (now - e.getValue().expiresAtNanos() >= 0) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+        int target = maxSize - Math.max(1, maxSize / 10);
+        int excess = definitions.size() - target;
+        if (excess > 0) {
+            definitions.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().expiresAtNanos()))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(key -> {
+                        if (definitions.remove(key) != null) {
+                            evictions.increment();
+                        }
+                    });
+        }
+        log.debug("流程定义缓存容量收缩完成: size={}", definitions.size());
+    }
+
+    private ProcessDefinitionResponse load(String processDefinitionId) {
+        ProcessDefinition definition;
+        BpmnModel model;
+        try {
+            definition = repositoryService.getProcessDefinition(processDefinitionId);
+            model = repositoryService.getBpmnModel(processDefinitionId);
+        } catch (FlowableObjectNotFoundException e) {
+            throw new BusinessException(ErrorCode.PROCESS_DEFINITION_NOT_FOUND);
+        }
+
+        String startFormKey = null;
+        List<ProcessDefinitionResponse.FormField> startFormFields = new ArrayList<>();
+        List<ProcessDefinitionResponse.UserTaskNode> userTasks = new ArrayList<>();
+        Process process = model.getProcessById(definition.getKey());
+        if (process == null) {
+            process = model.getMainProcess();
+        }
+        for (FlowElement element : process.getFlowElements()) {
+            if (element instanceof StartEvent startEvent && startFormKey == null && startFormFields.isEmpty()) {
+                startFormKey = startEvent.getFormKey();
+                for (FormProperty property : startEvent.getFormProperties()) {
+                    startFormFields.add(ProcessDefinitionResponse.FormField.builder()
+                            .id(property.getId())
+                            .name(property.getName())
+                            .type(property.getType())
+                            .required(property.isRequired())
+                            .build());
+                }
+            } else if (element instanceof UserTask userTask) {
+                userTasks.add(ProcessDefinitionResponse.UserTaskNode.builder()
+                        .id(userTask.getId())
+                        .name(userTask.getName())
+                        .formKey(userTask.getFormKey())
+                        .assignee(userTask.getAssignee())
+                        .candidateGroups(List.copyOf(userTask.getCandidateGroups()))
+                        .build());
+            }
+        }
+
+        return ProcessDefinitionResponse.builder()
+                .id(definition.getId())
+                .key(definition.getKey())
+                .name(definition.getName())
+                .version(definition.getVersion())
+                .deploymentId(definition.getDeploymentId())
+                .description(definition.getDescription())
+                .suspended(definition.isSuspended())
+                .startFormKey(startFormKey)
+                .startFormFields(List.copyOf(startFormFields))
+                .userTasks(List.copyOf(userTasks))
+                .build();
+    }
+
+    /**
+     * 缓存条目
+     */
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+}
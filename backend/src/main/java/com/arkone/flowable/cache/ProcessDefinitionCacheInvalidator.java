@@ -0,0 +1,53 @@
+package com.arkone.flowable.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 流程定义缓存失效监听器
+ *
+ * <p>监听流程定义、部署的创建、删除、挂起和激活事件，在引擎事务提交后清空 {@link ProcessDefinitionCache}，
+ * 保证失效后重新加载读到的是已提交的部署。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ProcessDefinitionCacheInvalidator implements FlowableEventListener {
+
+    /**
+     * 延迟获取，避免流程引擎初始化时提前创建依赖 RepositoryService 的缓存
+     */
+    private final ObjectProvider<ProcessDefinitionCache> processDefinitionCache;
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (event instanceof FlowableEntityEvent entityEvent
+                && (entityEvent.getEntity() instanceof ProcessDefinition || entityEvent.getEntity() instanceof Deployment)) {
+            processDefinitionCache.getObject().invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+    @Override
+    public boolean isFireOnTransactionLifecycleEvent() {
+        return true;
+    }
+
+    @Override
+    public String getOnTransaction() {
+        return TransactionState.COMMITTED.name();
+    }
+}
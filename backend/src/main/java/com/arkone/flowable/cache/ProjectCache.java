@@ -0,0 +1,26 @@
+package com.arkone.flowable.cache;
+
+import com.arkone.flowable.entity.Project;
+import com.arkone.flowable.repository.ProjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 项目实体缓存
+ * 按项目ID和项目编码缓存，供样本创建、流程启动等热点路径校验项目使用
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Component
+public class ProjectCache extends VersionedEntityCache<Project> {
+
+    public ProjectCache(ProjectMapper projectMapper,
+                        @Value("${entity-cache.project.ttl:PT10M}") Duration ttl,
+                        @Value("${entity-cache.project.max-size:1000}") int maxSize) {
+        super("project", projectMapper::selectById, projectMapper::selectByProjectCode,
+                Project::getProjectCode, ttl, maxSize);
+    }
+}
@@ -0,0 +1,204 @@
+package com.arkone.flowable.cache;
+
+import com.arkone.flowable.dto.SampleLineageNode;
+import com.arkone.flowable.repository.SampleMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 样本谱系缓存
+ *
+ * <p>按起点样本缓存递归查询结果：祖先链与子树（含自身）各一份，均按配置的最大层级一次加载，
+ * 较小层级的请求在内存中截取。</p>
+ *
+ * <p>失效策略：</p>
+ * <ul>
+ *   <li>新增子样本只会改变其父样本及所有祖先的子树，祖先链不受影响（样本创建后父样本不可变更）</li>
+ *   <li>失效时递增代数，加载开始后发生过失效的结果不会写入缓存，避免并发读取回填旧数据</li>
+ *   <li>缓存只用于谱系结构，节点中的状态为加载时的值，由服务层在读取时补齐当前状态</li>
+ *   <li>超出容量时先淘汰过期条目，仍超出则淘汰最早加载的条目</li>
+ *   <li>返回的列表为只读共享实例，调用方不得修改其中的节点</li>
+ * </ul>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class SampleLineageCache {
+
+    private final SampleMapper sampleMapper;
+    private final int maxDepth;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    /**
+     * 样本ID -> 祖先链
+     */
+    private final Map<String, Entry> ancestors = new ConcurrentHashMap<>();
+
+    /**
+     * 样本ID -> 子树（含自身）
+     */
+    private final Map<String, Entry> subtrees = new ConcurrentHashMap<>();
+
+    /**
+     * 失效代数
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder staleRejections = new LongAdder();
+
+    public SampleLineageCache(SampleMapper sampleMapper,
+                              @Value("${entity-cache.lineage.max-depth:32}") int maxDepth,
+                              @Value("${entity-cache.lineage.ttl:PT10M}") Duration ttl,
+                              @Value("${entity-cache.lineage.max-size:2000}") int maxSize) {
+        this.sampleMapper = sampleMapper;
+        this.maxDepth = maxDepth;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 获取样本祖先链（不含自身），由近及远
+     *
+     * @param sampleId 样本ID
+     * @return 祖先列表
+     */
+    public List<SampleLineageNode> getAncestors(String sampleId) {
+        return get(ancestors, sampleId, id -> sampleMapper.selectAncestors(id, maxDepth));
+    }
+
+    /**
+     * 获取样本子树（含自身，自身层级为0）
+     *
+     * @param sampleId 样本ID
+     * @return 子树节点列表，样本不存在时为空列表
+     */
+    public List<SampleLineageNode> getSubtree(String sampleId) {
+        return get(subtrees, sampleId, id -> sampleMapper.selectSubtree(id, maxDepth));
+    }
+
+    /**
+     * 使指定样本的子树缓存失效
+     *
+     * @param sampleIds 样本ID集合
+     */
+    public void evictSubtrees(Collection<String> sampleIds) {
+        generation.incrementAndGet();
+        for (String sampleId : sampleIds) {
+            if (subtrees.remove(sampleId) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        ancestors.clear();
+        subtrees.clear();
+    }
+
+    /**
+     * 获取缓存统计信息
+     *
+     * @return 统计信息
+     */
+    public CacheStats stats() {
+        return CacheStats.builder()
+                .name("sampleLineage")
+                .size(ancestors.size() + subtrees.size())
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .loads(loads.sum())
+                .evictions(evictions.sum())
+                .staleRejections(staleRejections.sum())
+                .build();
+    }
+
+    /**
+     * 缓存加载的最大层级
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    private List<SampleLineageNode> get(Map<String, Entry> map, String sampleId,
+                                        Function<String, List<SampleLineageNode>> loader) {
+        long now = System.nanoTime();
+        Entry entry = map.get(sampleId);
+        if (entry != null && now - entry.expiresAtNanos() < 0) {
+            hits.increment();
+            return entry.nodes();
+        }
+        misses.increment();
+
+        long startGeneration = generation.get();
+        List<SampleLineageNode> nodes = List.copyOf(loader.apply(sampleId));
+        loads.increment();
+
+        if (generation.get() != startGeneration) {
+            // 加载期间发生过失效，结果可能已过时，不写入缓存
+            staleRejections.increment();
+            return nodes;
+        }
+        if (map.size() >= maxSize) {
+            shrink(map);
+        }
+        map.put(sampleId, new Entry(nodes, System.nanoTime() + ttlNanos));
+        return nodes;
+    }
+
+    /**
+     * 淘汰过期条目，仍超出容量时按加载时间淘汰最早的条目，一次腾出十分之一容量
+     */
+    private void shrink(Map<String, Entry> map) {
+        long now = System.nanoTime();
+        map.entrySet().removeIf(e -> {
+            if (now - e.getValue().expiresAtNanos() >= 0) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+        int target = maxSize - Math.max(1, maxSize / 10);
+        int excess = map.size() - target;
+        if (excess > 0) {
+            map.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().expiresAtNanos()))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(key -> {
+                        if (map.remove(key) != null) {
+                            evictions.increment();
+                        }
+                    });
+        }
+        log.debug("样本谱系缓存容量收缩完成: size={}", map.size());
+    }
+
+    /**
+     * 缓存条目
+     */
+    private record Entry(List<SampleLineageNode> nodes, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,263 @@
+package com.arkone.flowable.cache;
+
+import com.arkone.flowable.entity.BaseEntity;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 基于版本号的实体读穿透缓存
+ *
+ * <p>按主键ID和业务编码两个维度缓存实体，未命中时回源数据库加载。
+ * 实体的 {@code version} 字段（乐观锁版本号）用于判断缓存是否过期：
+ * 写入方更新实体后调用 {@link #refresh(BaseEntity)}，只有版本号不低于缓存中版本的实体才会覆盖缓存，
+ * 从而避免并发写入时旧数据覆盖新数据。写入方应在事务提交后再调用 refresh，过期条目不参与版本比较。</p>
+ *
+ * <p>注意：</p>
+ * <ul>
+ *   <li>返回的实体为缓存共享实例，调用方只能读取，需要修改时请通过Mapper重新查询</li>
+ *   <li>回源加载在Map锁之外执行，避免数据库I/O期间持有ConcurrentHashMap的桶锁</li>
+ *   <li>不缓存空结果，不存在的ID每次都会回源</li>
+ *   <li>TTL用于兜底其他节点的修改，本节点的修改通过 refresh/evict 立即生效</li>
+ * </ul>
+ *
+ * @param <T> 实体类型
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class VersionedEntityCache<T extends BaseEntity> {
+
+    /**
+     * 缓存名称
+     */
+    private final String name;
+
+    /**
+     * 按ID回源加载
+     */
+    private final Function<String, T> idLoader;
+
+    /**
+     * 按编码回源加载
+     */
+    private final Function<String, T> codeLoader;
+
+    /**
+     * 从实体中提取业务编码
+     */
+    private final Function<T, String> codeExtractor;
+
+    /**
+     * 缓存有效期（纳秒）
+     */
+    private final long ttlNanos;
+
+    /**
+     * 最大缓存条目数
+     */
+    private final int maxSize;
+
+    /**
+     * ID -> 缓存条目
+     */
+    private final Map<String, CacheEntry<T>> entriesById = new ConcurrentHashMap<>();
+
+    /**
+     * 编码 -> ID
+     */
+    private final Map<String, String> idsByCode = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder staleRejections = new LongAdder();
+
+    public VersionedEntityCache(String name,
+                                Function<String, T> idLoader,
+                                Function<String, T> codeLoader,
+                                Function<T, String> codeExtractor,
+                                Duration ttl,
+                                int maxSize) {
+        this.name = name;
+        this.idLoader = idLoader;
+        this.codeLoader = codeLoader;
+        this.codeExtractor = codeExtractor;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 根据ID获取实体
+     *
+     * @param id 实体ID
+     * @return 实体，不存在时返回null
+     */
+    public T getById(String id) {
+        if (id == null) {
+            return null;
+        }
+        CacheEntry<T> entry = entriesById.get(id);
+        if (entry != null && !entry.isExpired(System.nanoTime())) {
+            hits.increment();
+            return entry.entity();
+        }
+        misses.increment();
+        T loaded = idLoader.apply(id);
+        loads.increment();
+        return store(loaded);
+    }
+
+    /**
+     * 根据业务编码获取实体
+     *
+     * @param code 业务编码
+     * @return 实体，不存在时返回null
+     */
+    public T getByCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        String id = idsByCode.get(code);
+        if (id != null) {
+            CacheEntry<T> entry = entriesById.get(id);
+            if (entry != null && !entry.isExpired(System.nanoTime()) && code.equals(codeExtractor.apply(entry.entity()))) {
+                hits.increment();
+                return entry.entity();
+            }
+        }
+        misses.increment();
+        T loaded = codeLoader.apply(code);
+        loads.increment();
+        return store(loaded);
+    }
+
+    /**
+     * 写入方更新实体后刷新缓存
+     * <p>版本号低于缓存中版本的实体会被丢弃</p>
+     *
+     * @param entity 最新实体
+     */
+    public void refresh(T entity) {
+        if (entity == null || entity.getId() == null) {
+            return;
+        }
+        store(entity);
+    }
+
+    /**
+     * 使指定ID的缓存失效
+     *
+     * @param id 实体ID
+     */
+    public void evict(String id) {
+        if (id == null) {
+            return;
+        }
+        CacheEntry<T> removed = entriesById.remove(id);
+        if (removed != null) {
+            idsByCode.remove(codeExtractor.apply(removed.entity()), id);
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        entriesById.clear();
+        idsByCode.clear();
+    }
+
+    /**
+     * 获取缓存统计信息
+     *
+     * @return 统计信息
+     */
+    public CacheStats stats() {
+        return CacheStats.builder()
+                .name(name)
+                .size(entriesById.size())
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .loads(loads.sum())
+                .evictions(evictions.sum())
+                .staleRejections(staleRejections.sum())
+                .build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 写入缓存（版本号比较）
+     */
+    private T store(T entity) {
+        if (entity == null || Boolean.TRUE.equals(entity.getDeleted())) {
+            return entity;
+        }
+        long now = System.nanoTime();
+        CacheEntry<T> candidate = new CacheEntry<>(entity, now + ttlNanos);
+        CacheEntry<T> result = entriesById.merge(entity.getId(), candidate, (current, fresh) -> {
+            // 过期条目视为不存在，否则一个未能落库的高版本会一直压住数据库中的真实版本
+            if (!current.isExpired(now) && versionOf(fresh.entity()) < versionOf(current.entity())) {
+                staleRejections.increment();
+                return current;
+            }
+            return fresh;
+        });
+        if (result == candidate) {
+            String code = codeExtractor.apply(entity);
+            if (code != null) {
+                idsByCode.put(code, entity.getId());
+            }
+            if (entriesById.size() > maxSize) {
+                shrink();
+            }
+        }
+        return result.entity();
+    }
+
+    /**
+     * 超出容量时淘汰过期条目，仍超出则按迭代顺序淘汰
+     */
+    private void shrink() {
+        long now = System.nanoTime();
+        entriesById.entrySet().removeIf(e -> {
+            if (e.getValue().isExpired(now)) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+        Iterator<Map.Entry<String, CacheEntry<T>>> it = entriesById.entrySet().iterator();
+        while (entriesById.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+        idsByCode.values().removeIf(id -> !entriesById.containsKey(id));
+        log.debug("实体缓存[{}]容量收缩完成: size={}", name, entriesById.size());
+    }
+
+    private static long versionOf(BaseEntity entity) {
+        return entity.getVersion() != null ? entity.getVersion() : -1L;
+    }
+
+    /**
+     * 缓存条目
+     */
+    private record CacheEntry<T>(T entity, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -110,6 +110,33 @@ public enum ErrorCode {
      */
     TASK_NOT_COMPLETED(400, "任务尚未完成"),
 
+    /**
+     * 任务已被其他用户认领
+     */
+    TASK_ALREADY_CLAIMED(409, "任务已被其他用户认领"),
+
+    // ==================== 并发控制相关错误码 ====================
+
+    /**
+     * 相同幂等键的请求正在处理中
+     */
+    IDEMPOTENT_REQUEST_IN_PROGRESS(409, "相同请求正在处理中，请稍后重试"),
+
+    /**
+     * 幂等键已被不同请求使用
+     */
+    IDEMPOTENCY_KEY_REUSED(422, "幂等键已用于不同的请求内容"),
+
+    /**
+     * 样本锁等待超时
+     */
+    SAMPLE_LOCK_TIMEOUT(409, "样本正在被其他操作处理，请稍后重试"),
+
+    /**
+     * 请求准入等待超时（数据库并发已满）
+     */
+    REQUEST_ADMISSION_TIMEOUT(503, "系统繁忙，请稍后重试"),
+
     // ==================== 数据验证相关错误码 ====================
 
     /**
@@ -200,6 +227,11 @@ public enum ErrorCode {
      */
     PROCESS_START_FAILED(500, "流程启动失败"),
 
+    /**
+     * 流程批量操作不存在
+     */
+    PROCESS_BULK_OPERATION_NOT_FOUND(404, "流程批量操作不存在"),
+
     // ==================== 公式计算相关错误码 ====================
 
     /**
@@ -1,69 +1,128 @@
 package com.arkone.flowable.common.typehandler;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.apache.ibatis.type.BaseTypeHandler;
 import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.MappedTypes;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Map;
 
 /**
  * PostgreSQL JSONB类型处理器
  * 用于处理数据库JSONB字段与Java Map对象之间的转换
  *
+ * <p>性能要点：</p>
+ * <ul>
+ *   <li>使用预先构建、线程安全的 ObjectReader/ObjectWriter，避免每次调用查找类型信息</li>
+ *   <li>读取时直接解析JDBC返回的UTF-8字节，不创建中间String</li>
+ *   <li>小数解析为 BigDecimal，公式计算的输入不会丢失精度</li>
+ * </ul>
+ *
+ * <p>启动时通过 {@link #configure(ObjectMapper)} 使用Spring配置的ObjectMapper，
+ * 与接口序列化保持一致的数字、日期处理方式。</p>
+ *
  * @author ArkOne Team
  * @since 1.0.0
  */
 @MappedTypes(Map.class)
 public class JsonbTypeHandler extends BaseTypeHandler<Map<String, Object>> {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private static volatile ObjectReader reader;
+    private static volatile ObjectWriter writer;
+
+    static {
+        configure(new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    /**
+     * 使用指定的ObjectMapper构建读写器
+     * <p>会复制一份再调整小数处理，不影响传入的实例</p>
+     *
+     * @param objectMapper 基础ObjectMapper（通常为Spring容器中的实例）
+     */
+    public static void configure(ObjectMapper objectMapper) {
+        ObjectMapper mapper = objectMapper.copy()
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+        reader = mapper.readerFor(MAP_TYPE);
+        writer = mapper.writerFor(MAP_TYPE);
+    }
 
     @Override
     public void setNonNullParameter(PreparedStatement ps, int i, Map<String, Object> parameter, JdbcType jdbcType) throws SQLException {
-        try {
-            String jsonString = OBJECT_MAPPER.writeValueAsString(parameter);
-            ps.setObject(i, jsonString, java.sql.Types.OTHER);
-        } catch (JsonProcessingException e) {
-            throw new SQLException("Error converting Map to JSONB", e);
-        }
+        ps.setObject(i, serialize(parameter), Types.OTHER);
     }
 
     @Override
     public Map<String, Object> getNullableResult(ResultSet rs, String columnName) throws SQLException {
-        return parseJson(rs.getString(columnName));
+        return parse(rs.getBytes(columnName));
     }
 
     @Override
     public Map<String, Object> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
-        return parseJson(rs.getString(columnIndex));
+        return parse(rs.getBytes(columnIndex));
     }
 
     @Override
     public Map<String, Object> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
-        return parseJson(cs.getString(columnIndex));
+        String json = cs.getString(columnIndex);
+        return json == null ? null : parse(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 序列化Map为JSON字符串
+     *
+     * @param value Map对象
+     * @return JSON字符串
+     * @throws SQLException 序列化异常
+     */
+    public static String serialize(Map<String, Object> value) throws SQLException {
+        if (value instanceof LazyJsonbMap lazy) {
+            // 未解析过的延迟Map内容不可能被修改，直接写回原始JSON
+            String rawJson = lazy.rawJsonIfUnmodified();
+            if (rawJson != null) {
+                return rawJson;
+            }
+        }
+        try {
+            return writer.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new SQLException("Error converting Map to JSONB", e);
+        }
     }
 
     /**
-     * 解析JSON字符串为Map对象
+     * 解析JSON字节为Map对象
      *
-     * @param json JSON字符串
+     * @param json UTF-8编码的JSON字节
      * @return Map对象
      * @throws SQLException 解析异常
      */
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> parseJson(String json) throws SQLException {
-        if (json == null || json.isEmpty()) {
+    public static Map<String, Object> parse(byte[] json) throws SQLException {
+        if (json == null || json.length == 0) {
             return null;
         }
         try {
-            return OBJECT_MAPPER.readValue(json, Map.class);
-        } catch (JsonProcessingException e) {
+            return reader.readValue(json);
+        } catch (IOException e) {
             throw new SQLException("Error parsing JSONB to Map", e);
         }
     }
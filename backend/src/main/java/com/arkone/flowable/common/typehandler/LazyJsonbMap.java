@@ -0,0 +1,164 @@
+package com.arkone.flowable.common.typehandler;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 延迟解析的JSONB Map
+ *
+ * <p>只保存数据库返回的原始UTF-8字节，第一次访问内容时才解析为Map。
+ * 列表查询中调用方往往只读取少数行或直接把数据返回给前端，未访问的行不会产生解析开销和对象分配：</p>
+ * <ul>
+ *   <li>未解析时序列化为JSON（接口响应、写回数据库）直接输出原始字节</li>
+ *   <li>解析后的行为与普通 LinkedHashMap 一致，可修改</li>
+ * </ul>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@JsonSerialize(using = LazyJsonbMap.RawSerializer.class)
+public class LazyJsonbMap extends AbstractMap<String, Object> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] raw;
+    private volatile Map<String, Object> parsed;
+
+    public LazyJsonbMap(byte[] raw) {
+        this.raw = raw;
+    }
+
+    /**
+     * 是否已解析
+     */
+    public boolean isMaterialized() {
+        return parsed != null;
+    }
+
+    /**
+     * 未解析时返回原始JSON，已解析时返回null（内容可能已被修改）
+     */
+    public String rawJsonIfUnmodified() {
+        return parsed == null ? new String(raw, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * 复制当前值：未解析时共享原始字节，已解析时浅拷贝
+     *
+     * @return 副本
+     */
+    public Map<String, Object> copy() {
+        Map<String, Object> current = parsed;
+        return current == null ? new LazyJsonbMap(raw) : new LinkedHashMap<>(current);
+    }
+
+    private Map<String, Object> materialize() {
+        Map<String, Object> current = parsed;
+        if (current == null) {
+            synchronized (this) {
+                current = parsed;
+                if (current == null) {
+                    try {
+                        current = JsonbTypeHandler.parse(raw);
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e.getMessage(), e);
+                    }
+                    if (current == null) {
+                        current = new LinkedHashMap<>();
+                    }
+                    parsed = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return materialize().entrySet();
+    }
+
+    @Override
+    public Object get(Object key) {
+        return materialize().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return materialize().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return materialize().size();
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        materialize().clear();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof LazyJsonbMap other && parsed == null && other.parsed == null
+                && Arrays.equals(raw, other.raw)) {
+            return true;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        String rawJson = rawJsonIfUnmodified();
+        return rawJson != null ? rawJson : super.toString();
+    }
+
+    /**
+     * 未解析时直接输出原始JSON
+     */
+    public static class RawSerializer extends StdSerializer<LazyJsonbMap> {
+
+        public RawSerializer() {
+            super(LazyJsonbMap.class);
+        }
+
+        @Override
+        public void serialize(LazyJsonbMap value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String rawJson = value.rawJsonIfUnmodified();
+            if (rawJson != null) {
+                gen.writeRawValue(rawJson);
+            } else {
+                provider.findValueSerializer(Map.class).serialize(value.parsed, gen, provider);
+            }
+        }
+    }
+}
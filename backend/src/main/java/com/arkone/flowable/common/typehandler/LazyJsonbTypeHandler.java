@@ -0,0 +1,47 @@
+package com.arkone.flowable.common.typehandler;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Map;
+
+/**
+ * 延迟解析的PostgreSQL JSONB类型处理器
+ * 读取时返回 {@link LazyJsonbMap}，用于节点数据等体积较大、列表查询中通常不会全部访问的字段
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public class LazyJsonbTypeHandler extends BaseTypeHandler<Map<String, Object>> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Map<String, Object> parameter, JdbcType jdbcType) throws SQLException {
+        ps.setObject(i, JsonbTypeHandler.serialize(parameter), Types.OTHER);
+    }
+
+    @Override
+    public Map<String, Object> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return wrap(rs.getBytes(columnName));
+    }
+
+    @Override
+    public Map<String, Object> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return wrap(rs.getBytes(columnIndex));
+    }
+
+    @Override
+    public Map<String, Object> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        String json = cs.getString(columnIndex);
+        return json == null ? null : wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Object> wrap(byte[] raw) {
+        return raw == null || raw.length == 0 ? null : new LazyJsonbMap(raw);
+    }
+}
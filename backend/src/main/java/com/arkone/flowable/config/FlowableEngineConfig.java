@@ -0,0 +1,113 @@
+package com.arkone.flowable.config;
+
+import com.arkone.flowable.cache.ProcessDefinitionCacheInvalidator;
+import com.arkone.flowable.history.ProcessHistoryLevelParseHandler;
+import com.arkone.flowable.job.InstrumentedJobTaskExecutor;
+import com.arkone.flowable.job.JobExecutionMetrics;
+import com.arkone.flowable.job.ProcessBulkOperationJobHandler;
+import com.arkone.flowable.messaging.TaskCreatedOutboxListener;
+import com.arkone.flowable.sqlbudget.SqlStatementInterceptor;
+import com.arkone.flowable.variable.ReferencedListVariableType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.plugin.Interceptor;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.parse.BpmnParseHandler;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.JobHandler;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.variable.api.types.VariableType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flowable流程引擎配置类
+ * 注册引擎事件监听器（任务创建事件、流程定义缓存失效）、自定义异步作业处理器（流程批量操作），
+ * 引用型流程变量类型，开启按流程定义设置历史级别，替换异步执行器的作业线程池，
+ * 并将请求SQL统计拦截器注册到引擎的MyBatis会话（引擎表上的语句同样计入SQL预算）
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class FlowableEngineConfig implements EngineConfigurationConfigurer<SpringProcessEngineConfiguration> {
+
+    private final TaskCreatedOutboxListener taskCreatedOutboxListener;
+    private final ProcessDefinitionCacheInvalidator processDefinitionCacheInvalidator;
+    private final ProcessBulkOperationJobHandler processBulkOperationJobHandler;
+    private final ProcessHistoryLevelParseHandler processHistoryLevelParseHandler;
+    private final ReferencedListVariableType referencedListVariableType;
+    private final InstrumentedJobTaskExecutor jobTaskExecutor;
+    private final JobExecutionMetrics jobExecutionMetrics;
+    private final ObjectProvider<SqlStatementInterceptor> sqlStatementInterceptor;
+
+    @Override
+    public void configure(SpringProcessEngineConfiguration engineConfiguration) {
+        Map<String, List<FlowableEventListener>> listeners = engineConfiguration.getTypedEventListeners() != null
+                ? new HashMap<>(engineConfiguration.getTypedEventListeners())
+                : new HashMap<>();
+        listeners.computeIfAbsent(FlowableEngineEventType.TASK_CREATED.name(), key -> new ArrayList<>())
+                .add(taskCreatedOutboxListener);
+        // 部署变更后使流程定义缓存失效
+        for (FlowableEngineEventType type : List.of(FlowableEngineEventType.ENTITY_CREATED,
+                FlowableEngineEventType.ENTITY_DELETED,
+                FlowableEngineEventType.ENTITY_SUSPENDED,
+                FlowableEngineEventType.ENTITY_ACTIVATED)) {
+            listeners.computeIfAbsent(type.name(), key -> new ArrayList<>()).add(processDefinitionCacheInvalidator);
+        }
+        // 作业执行指标
+        for (FlowableEngineEventType type : List.of(FlowableEngineEventType.JOB_EXECUTION_SUCCESS,
+                FlowableEngineEventType.JOB_EXECUTION_FAILURE,
+                FlowableEngineEventType.JOB_RETRIES_DECREMENTED)) {
+            listeners.computeIfAbsent(type.name(), key -> new ArrayList<>()).add(jobExecutionMetrics);
+        }
+        engineConfiguration.setTypedEventListeners(listeners);
+
+        List<JobHandler> jobHandlers = engineConfiguration.getCustomJobHandlers() != null
+                ? new ArrayList<>(engineConfiguration.getCustomJobHandlers())
+                : new ArrayList<>();
+        jobHandlers.add(processBulkOperationJobHandler);
+        engineConfiguration.setCustomJobHandlers(jobHandlers);
+
+        // 流程定义可覆盖全局历史级别（BPMN中声明或 process-history.levels 配置）
+        engineConfiguration.setEnableProcessDefinitionHistoryLevel(true);
+        List<BpmnParseHandler> preParseHandlers = engineConfiguration.getPreBpmnParseHandlers() != null
+                ? new ArrayList<>(engineConfiguration.getPreBpmnParseHandlers())
+                : new ArrayList<>();
+        preParseHandlers.add(processHistoryLevelParseHandler);
+        engineConfiguration.setPreBpmnParseHandlers(preParseHandlers);
+
+        // 前置变量类型先于内置的 serializable/json 类型匹配
+        List<VariableType> preVariableTypes = engineConfiguration.getCustomPreVariableTypes() != null
+                ? new ArrayList<>(engineConfiguration.getCustomPreVariableTypes())
+                : new ArrayList<>();
+        preVariableTypes.add(referencedListVariableType);
+        engineConfiguration.setCustomPreVariableTypes(preVariableTypes);
+
+        // 引擎使用独立的MyBatis配置，需单独注册拦截器，否则任务、变量、历史表上的语句不计入请求统计
+        sqlStatementInterceptor.ifAvailable(interceptor -> {
+            List<Interceptor> interceptors = engineConfiguration.getCustomMybatisInterceptors() != null
+                    ? new ArrayList<>(engineConfiguration.getCustomMybatisInterceptors())
+                    : new ArrayList<>();
+            interceptors.add(interceptor);
+            engineConfiguration.setCustomMybatisInterceptors(interceptors);
+        });
+
+        // 领取批量、等待时间、锁时间由 flowable.process.async.executor.* 配置，这里只替换执行线程池
+        AsyncExecutor asyncExecutor = engineConfiguration.getAsyncExecutor();
+        if (asyncExecutor != null) {
+            asyncExecutor.setTaskExecutor(jobTaskExecutor);
+        } else {
+            log.warn("未找到Flowable异步执行器，作业线程池配置未生效");
+        }
+    }
+}
@@ -72,6 +72,22 @@ public class Knife4jConfig {
                 .build();
     }
 
+    @Bean
+    public GroupedOpenApi systemApi() {
+        return GroupedOpenApi.builder()
+                .group("6. 系统监控")
+                .pathsToMatch("/system/**")
+                .build();
+    }
+
+    @Bean
+    public GroupedOpenApi auditApi() {
+        return GroupedOpenApi.builder()
+                .group("7. 审计日志")
+                .pathsToMatch("/audit/**")
+                .build();
+    }
+
     @Bean
     public GroupedOpenApi allApi() {
         return GroupedOpenApi.builder()
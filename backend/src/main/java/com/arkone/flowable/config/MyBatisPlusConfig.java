@@ -1,10 +1,17 @@
 package com.arkone.flowable.config;
 
+import com.arkone.flowable.audit.AuditInterceptor;
+import com.arkone.flowable.audit.AuditPublisher;
+import com.arkone.flowable.common.typehandler.JsonbTypeHandler;
+import com.arkone.flowable.sqlbudget.SqlStatementInterceptor;
 import com.baomidou.mybatisplus.annotation.DbType;
 import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.OptimisticLockerInnerInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.ibatis.reflection.MetaObject;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,7 +19,7 @@ import java.time.LocalDateTime;
 
 /**
  * MyBatis-Plus配置类
- * 配置字段自动填充
+ * 配置字段自动填充、乐观锁、审计拦截器及请求SQL统计拦截器
  *
  * @author ArkOne Team
  * @since 1.0.0
@@ -28,6 +35,31 @@ public class MyBatisPlusConfig implements MetaObjectHandler {
         return interceptor;
     }
 
+    /**
+     * 审计拦截器（记录样本、容器、项目、节点数据的增删改）
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public AuditInterceptor auditInterceptor(AuditPublisher auditPublisher) {
+        return new AuditInterceptor(auditPublisher);
+    }
+
+    /**
+     * 请求SQL统计拦截器（语句数、耗时、行数，配合 SqlBudgetFilter 检查预算和N+1）
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "sql-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SqlStatementInterceptor sqlStatementInterceptor() {
+        return new SqlStatementInterceptor();
+    }
+
+    /**
+     * JSONB类型处理器改用Spring配置的ObjectMapper
+     */
+    @Bean
+    public SmartInitializingSingleton jsonbTypeHandlerConfigurer(ObjectMapper objectMapper) {
+        return () -> JsonbTypeHandler.configure(objectMapper);
+    }
 
     /**
      * 插入时自动填充
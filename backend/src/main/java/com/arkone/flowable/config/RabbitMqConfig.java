@@ -0,0 +1,94 @@
+package com.arkone.flowable.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ配置类
+ * 异步任务完成通道的队列和批量消费容器、领域事件交换机、消息转换器
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Configuration
+public class RabbitMqConfig {
+
+    /**
+     * 任务完成命令队列
+     */
+    public static final String TASK_COMPLETION_QUEUE = "lims.task.complete";
+
+    /**
+     * 批量消费容器工厂名称
+     */
+    public static final String TASK_COMPLETION_CONTAINER_FACTORY = "taskCompletionContainerFactory";
+
+    /**
+     * 领域事件主题交换机，路由键为事件类型（如 sample.status_changed）
+     */
+    public static final String DOMAIN_EVENT_EXCHANGE = "lims.events";
+
+    @Bean
+    @ConditionalOnProperty(name = "task-completion.async.transport", havingValue = "rabbit", matchIfMissing = true)
+    public Queue taskCompletionQueue() {
+        return QueueBuilder.durable(TASK_COMPLETION_QUEUE).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.transport", havingValue = "rabbit", matchIfMissing = true)
+    public TopicExchange domainEventExchange() {
+        return ExchangeBuilder.topicExchange(DOMAIN_EVENT_EXCHANGE).durable(true).build();
+    }
+
+    /**
+     * JSON消息转换器（RabbitTemplate自动使用该转换器）
+     */
+    @Bean
+    public MessageConverter rabbitMessageConverter(ObjectMapper objectMapper) {
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter(objectMapper);
+        DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+        typeMapper.setTrustedPackages("com.arkone.flowable.messaging", "com.arkone.flowable.dto");
+        converter.setJavaTypeMapper(typeMapper);
+        return converter;
+    }
+
+    /**
+     * 批量消费容器：每个消费者一次取出最多 batch-size 条消息，交给监听方法作为一个列表处理
+     */
+    @Bean(TASK_COMPLETION_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "task-completion.async.transport", havingValue = "rabbit", matchIfMissing = true)
+    public SimpleRabbitListenerContainerFactory taskCompletionContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            MessageConverter rabbitMessageConverter,
+            @Value("${task-completion.async.workers:4}") int workers,
+            @Value("${task-completion.async.batch-size:20}") int batchSize,
+            @Value("${task-completion.async.batch-wait-ms:50}") long batchWaitMs) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setMessageConverter(rabbitMessageConverter);
+        factory.setConcurrentConsumers(workers);
+        factory.setMaxConcurrentConsumers(workers);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(batchWaitMs);
+        factory.setPrefetchCount(batchSize * 2);
+        // 处理结果已写入作业状态，异常消息不重新入队，避免重复完成
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+}
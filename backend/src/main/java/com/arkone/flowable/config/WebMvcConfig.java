@@ -0,0 +1,31 @@
+package com.arkone.flowable.config;
+
+import com.arkone.flowable.web.ConnectionAdmissionInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC配置
+ * 注册请求准入拦截器
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<ConnectionAdmissionInterceptor> connectionAdmissionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 事件流是长连接且不占用数据库连接；系统监控和接口文档在过载时也需要可访问
+        connectionAdmissionInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns("/events/**", "/system/**", "/actuator/**", "/error",
+                        "/doc.html", "/webjars/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-resources/**"));
+    }
+}
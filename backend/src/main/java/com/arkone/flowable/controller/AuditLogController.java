@@ -0,0 +1,70 @@
+package com.arkone.flowable.controller;
+
+import cn.hutool.core.date.DateUtil;
+import com.arkone.flowable.common.Result;
+import com.arkone.flowable.dto.AuditLogQueryRequest;
+import com.arkone.flowable.dto.CursorPage;
+import com.arkone.flowable.entity.AuditLog;
+import com.arkone.flowable.service.AuditLogService;
+import com.arkone.flowable.web.CsvExportResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 审计日志控制器
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Tag(name = "审计日志", description = "审计日志查询与合规导出")
+@Slf4j
+@RestController
+@RequestMapping("/audit")
+@RequiredArgsConstructor
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+
+    /**
+     * 查询审计日志
+     *
+     * @param request 查询条件
+     * @return 游标分页结果
+     */
+    @Operation(summary = "查询审计日志",
+            description = "按时间倒序游标分页；未指定时间范围时默认查询最近30天，翻页时传入上一页返回的nextCursor")
+    @GetMapping("/logs")
+    public Result<CursorPage<AuditLog>> queryAuditLogs(AuditLogQueryRequest request) {
+        log.info("查询审计日志: {}", request);
+        return Result.success(auditLogService.queryAuditLogs(request));
+    }
+
+    /**
+     * 导出审计日志
+     *
+     * @param request      查询条件
+     * @param httpRequest  HTTP请求
+     * @param httpResponse HTTP响应
+     * @throws IOException 写出失败
+     */
+    @Operation(summary = "导出审计日志", description = "按查询条件流式导出审计日志(CSV)，客户端支持时使用gzip压缩")
+    @GetMapping("/logs/export")
+    public void exportAuditLogs(AuditLogQueryRequest request,
+                                HttpServletRequest httpRequest,
+                                HttpServletResponse httpResponse) throws IOException {
+        log.info("导出审计日志: {}", request);
+        String fileName = "audit-logs-" + DateUtil.format(LocalDateTime.now(), "yyyyMMddHHmmss") + ".csv";
+        CsvExportResponses.write(httpRequest, httpResponse, fileName,
+                out -> auditLogService.exportCsv(request, out));
+    }
+}
@@ -4,6 +4,7 @@ import com.arkone.flowable.common.Result;
 import com.arkone.flowable.dto.BatchCreateRequest;
 import com.arkone.flowable.dto.BatchOperationResult;
 import com.arkone.flowable.dto.SampleResponse;
+import com.arkone.flowable.idempotency.IdempotencyService;
 import com.arkone.flowable.service.BatchOperationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 批量操作控制器
@@ -29,37 +31,45 @@ import java.util.List;
 public class BatchOperationController {
 
     private final BatchOperationService batchOperationService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 批量创建样本
      *
-     * @param request 批量创建请求
+     * @param idempotencyKey 幂等键
+     * @param request        批量创建请求
      * @return 批量操作结果
      */
     @Operation(summary = "批量创建样本", description = "批量创建样本，最多支持500条，支持原子模式和部分成功模式")
+    @Parameter(name = IdempotencyService.HEADER, description = "幂等键(可选)，重试时使用相同的值")
     @PostMapping("/samples")
     public Result<BatchOperationResult<SampleResponse>> batchCreateSamples(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody BatchCreateRequest request) {
         log.info("批量创建样本: 数量={}, 模式={}", request.getSamples().size(), request.getFailureMode());
-        BatchOperationResult<SampleResponse> result = batchOperationService.batchCreateSamples(request);
-        return Result.success(result);
+        return idempotencyService.execute(idempotencyKey, "batch-sample-create", request,
+                () -> Result.success(batchOperationService.batchCreateSamples(request)));
     }
 
     /**
      * 批量更新样本状态
      *
-     * @param sampleIds 样本ID列表
-     * @param status    新状态
+     * @param idempotencyKey 幂等键
+     * @param sampleIds      样本ID列表
+     * @param status         新状态
      * @return 批量操作结果
      */
     @Operation(summary = "批量更新样本状态", description = "批量更新样本状态")
     @Parameter(name = "status", description = "新状态(pending/in_progress/completed/failed)", required = true)
+    @Parameter(name = IdempotencyService.HEADER, description = "幂等键(可选)，重试时使用相同的值")
     @PutMapping("/samples/status")
     public Result<BatchOperationResult<SampleResponse>> batchUpdateStatus(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody List<String> sampleIds,
             @RequestParam String status) {
         log.info("批量更新样本状态: 数量={}, 状态={}", sampleIds.size(), status);
-        BatchOperationResult<SampleResponse> result = batchOperationService.batchUpdateStatus(sampleIds, status);
-        return Result.success(result);
+        return idempotencyService.execute(idempotencyKey, "batch-sample-status",
+                Map.of("sampleIds", sampleIds, "status", status),
+                () -> Result.success(batchOperationService.batchUpdateStatus(sampleIds, status)));
     }
 }
@@ -2,7 +2,9 @@ package com.arkone.flowable.controller;
 
 import com.arkone.flowable.common.Result;
 import com.arkone.flowable.dto.ContainerResponse;
+import com.arkone.flowable.dto.SampleCurrentStateResponse;
 import com.arkone.flowable.service.ContainerService;
+import com.arkone.flowable.service.SampleCurrentStateService;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -27,6 +30,7 @@ import java.util.UUID;
 public class ContainerController {
 
     private final ContainerService containerService;
+    private final SampleCurrentStateService sampleCurrentStateService;
 
     /**
      * 分页查询容器列表
@@ -64,4 +68,18 @@ public class ContainerController {
         ContainerResponse response = containerService.getContainerById(id);
         return Result.success(response);
     }
+
+    /**
+     * 获取容器孔位占用情况
+     *
+     * @param id 容器ID
+     * @return 容器内样本的当前状态（按位置排序）
+     */
+    @Operation(summary = "获取容器孔位", description = "返回容器内每个样本的位置、状态、当前节点和关键指标，供板位视图使用")
+    @Parameter(name = "id", description = "容器ID", required = true)
+    @GetMapping("/{id}/positions")
+    public Result<List<SampleCurrentStateResponse>> getContainerPositions(@PathVariable String id) {
+        log.info("获取容器孔位: {}", id);
+        return Result.success(sampleCurrentStateService.listByContainer(id));
+    }
 }
@@ -0,0 +1,69 @@
+package com.arkone.flowable.controller;
+
+import com.arkone.flowable.stream.SseEventSink;
+import com.arkone.flowable.stream.StreamFilter;
+import com.arkone.flowable.stream.StreamSubscriber;
+import com.arkone.flowable.stream.UpdateStreamHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 实时推送控制器
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Tag(name = "实时推送", description = "任务、样本、孔位变更的SSE推送")
+@Slf4j
+@RestController
+@RequestMapping("/events")
+public class EventStreamController {
+
+    private final UpdateStreamHub updateStreamHub;
+    private final long timeoutMs;
+
+    public EventStreamController(UpdateStreamHub updateStreamHub,
+                                 @Value("${event-stream.timeout:PT30M}") Duration timeout) {
+        this.updateStreamHub = updateStreamHub;
+        this.timeoutMs = timeout.toMillis();
+    }
+
+    /**
+     * 订阅变更推送
+     *
+     * @param projectId   项目ID（可选）
+     * @param containerId 容器ID（可选）
+     * @param types       事件类型前缀（可选，如 sample、task.created）
+     * @return SSE连接
+     */
+    @Operation(summary = "订阅变更推送",
+            description = "以Server-Sent Events推送任务创建/完成、样本状态、孔位分配等增量变更，可按项目、容器、事件类型过滤；"
+                    + "收到 resync 事件表示推送积压被丢弃，客户端应重新查询")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @Parameter(description = "项目ID") @RequestParam(required = false) String projectId,
+            @Parameter(description = "容器ID") @RequestParam(required = false) String containerId,
+            @Parameter(description = "事件类型前缀") @RequestParam(required = false) Set<String> types) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        StreamSubscriber subscriber = updateStreamHub.subscribe(
+                new StreamFilter(projectId, containerId, types), new SseEventSink(emitter));
+        emitter.onCompletion(() -> updateStreamHub.unsubscribe(subscriber.getId()));
+        emitter.onTimeout(() -> updateStreamHub.unsubscribe(subscriber.getId()));
+        emitter.onError(e -> updateStreamHub.unsubscribe(subscriber.getId()));
+        log.info("实时推送连接建立: projectId={}, containerId={}, clients={}",
+                projectId, containerId, updateStreamHub.getClientCount());
+        return emitter;
+    }
+}
@@ -1,23 +1,33 @@
 package com.arkone.flowable.controller;
 
 import com.arkone.flowable.common.Result;
+import com.arkone.flowable.dto.ProcessBulkOperationRequest;
+import com.arkone.flowable.dto.ProcessBulkOperationStatus;
+import com.arkone.flowable.dto.ProcessCancelRequest;
+import com.arkone.flowable.dto.ProcessDefinitionResponse;
+import com.arkone.flowable.dto.ProcessInstanceDetailResponse;
 import com.arkone.flowable.dto.ProcessInstanceResponse;
 import com.arkone.flowable.dto.ProcessStartRequest;
+import com.arkone.flowable.idempotency.IdempotencyService;
+import com.arkone.flowable.service.ProcessBulkOperationService;
 import com.arkone.flowable.service.ProcessService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 流程管理控制器
  *
  * @author ArkOne Team
  * @since 1.0.0
  */
-@Tag(name = "流程管理", description = "流程的启动、查询等操作")
+@Tag(name = "流程管理", description = "流程的启动、查询、挂起、激活、取消、批量操作等")
 @Slf4j
 @RestController
 @RequestMapping("/process")
@@ -25,6 +35,8 @@ import org.springframework.web.bind.annotation.*;
 public class ProcessController {
 
     private final ProcessService processService;
+    private final ProcessBulkOperationService processBulkOperationService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 启动全质粒测序流程
@@ -53,4 +65,122 @@ public class ProcessController {
         ProcessInstanceResponse response = processService.startPcrProcess(request);
         return Result.success(response);
     }
+
+    /**
+     * 查询流程定义列表
+     *
+     * @return 各流程的最新版本定义
+     */
+    @Operation(summary = "查询流程定义列表", description = "返回各流程的最新版本，包括开始表单和用户任务节点，结果来自缓存")
+    @GetMapping("/definitions")
+    public Result<List<ProcessDefinitionResponse>> listProcessDefinitions() {
+        return Result.success(processService.listProcessDefinitions());
+    }
+
+    /**
+     * 查询流程定义详情
+     *
+     * @param processDefinitionId 流程定义ID
+     * @return 流程定义详情
+     */
+    @Operation(summary = "查询流程定义详情", description = "返回流程定义的开始表单和用户任务节点，结果来自缓存")
+    @Parameter(name = "processDefinitionId", description = "流程定义ID", required = true)
+    @GetMapping("/definitions/{processDefinitionId}")
+    public Result<ProcessDefinitionResponse> getProcessDefinition(@PathVariable String processDefinitionId) {
+        return Result.success(processService.getProcessDefinition(processDefinitionId));
+    }
+
+    /**
+     * 查询流程实例详情
+     *
+     * @param processInstanceId 流程实例ID
+     * @return 流程实例详情
+     */
+    @Operation(summary = "查询流程实例详情", description = "返回流程状态、待办任务、已执行节点和关联样本，运行中和已结束的实例均可查询")
+    @Parameter(name = "processInstanceId", description = "流程实例ID", required = true)
+    @GetMapping("/instances/{processInstanceId}")
+    public Result<ProcessInstanceDetailResponse> getProcessInstance(@PathVariable String processInstanceId) {
+        return Result.success(processService.getProcessInstance(processInstanceId));
+    }
+
+    /**
+     * 挂起流程实例
+     *
+     * @param processInstanceId 流程实例ID
+     * @return 成功响应
+     */
+    @Operation(summary = "挂起流程实例", description = "挂起后流程的任务不能办理，直到重新激活")
+    @Parameter(name = "processInstanceId", description = "流程实例ID", required = true)
+    @PutMapping("/instances/{processInstanceId}/suspend")
+    public Result<Void> suspendProcessInstance(@PathVariable String processInstanceId) {
+        log.info("挂起流程实例: processInstanceId={}", processInstanceId);
+        processService.suspendProcessInstance(processInstanceId);
+        return Result.success();
+    }
+
+    /**
+     * 激活流程实例
+     *
+     * @param processInstanceId 流程实例ID
+     * @return 成功响应
+     */
+    @Operation(summary = "激活流程实例", description = "恢复已挂起的流程实例")
+    @Parameter(name = "processInstanceId", description = "流程实例ID", required = true)
+    @PutMapping("/instances/{processInstanceId}/activate")
+    public Result<Void> activateProcessInstance(@PathVariable String processInstanceId) {
+        log.info("激活流程实例: processInstanceId={}", processInstanceId);
+        processService.activateProcessInstance(processInstanceId);
+        return Result.success();
+    }
+
+    /**
+     * 取消流程实例
+     *
+     * @param processInstanceId 流程实例ID
+     * @param request           取消请求（可选）
+     * @return 成功响应
+     */
+    @Operation(summary = "取消流程实例", description = "终止流程实例，关联样本回到待处理状态")
+    @Parameter(name = "processInstanceId", description = "流程实例ID", required = true)
+    @DeleteMapping("/instances/{processInstanceId}")
+    public Result<Void> cancelProcessInstance(@PathVariable String processInstanceId,
+                                              @Valid @RequestBody(required = false) ProcessCancelRequest request) {
+        String reason = request != null ? request.getReason() : null;
+        log.info("取消流程实例: processInstanceId={}, reason={}", processInstanceId, reason);
+        processService.cancelProcessInstance(processInstanceId, reason);
+        return Result.success();
+    }
+
+    /**
+     * 提交流程实例批量操作
+     *
+     * @param idempotencyKey 幂等键
+     * @param request        批量操作请求
+     * @return 作业状态
+     */
+    @Operation(summary = "批量挂起/激活/取消流程实例",
+            description = "按项目、业务键前缀或样本集合选择流程实例（如试剂批次召回），立即返回操作ID，由后台按块处理并同步更新样本状态")
+    @Parameter(name = IdempotencyService.HEADER, description = "幂等键(可选)，重试时使用相同的值")
+    @PostMapping("/instances/bulk")
+    public Result<ProcessBulkOperationStatus> submitBulkOperation(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody ProcessBulkOperationRequest request) {
+        log.info("提交流程批量操作: action={}, processDefinitionKey={}, projectId={}, businessKeyPrefix={}",
+                request.getAction(), request.getProcessDefinitionKey(), request.getProjectId(), request.getBusinessKeyPrefix());
+        return idempotencyService.execute(idempotencyKey, "process-bulk-operation", request,
+                () -> Result.success(processBulkOperationService.submit(request)));
+    }
+
+    /**
+     * 查询流程实例批量操作进度
+     *
+     * @param operationId 操作ID
+     * @return 作业状态
+     */
+    @Operation(summary = "查询流程批量操作进度", description = "返回已处理数量、成功数量及失败明细")
+    @Parameter(name = "operationId", description = "操作ID", required = true)
+    @GetMapping("/instances/bulk/{operationId}")
+    public Result<ProcessBulkOperationStatus> getBulkOperation(@PathVariable String operationId) {
+        return Result.success(processBulkOperationService.getOperation(operationId));
+    }
 }
@@ -1,19 +1,34 @@
 package com.arkone.flowable.controller;
 
+import cn.hutool.core.date.DateUtil;
 import com.arkone.flowable.common.Result;
 import com.arkone.flowable.dto.SampleCreateRequest;
+import com.arkone.flowable.dto.SampleCurrentStateResponse;
+import com.arkone.flowable.dto.SampleHistoryItem;
+import com.arkone.flowable.dto.SampleLineageNode;
 import com.arkone.flowable.dto.SampleQueryRequest;
 import com.arkone.flowable.dto.SampleResponse;
+import com.arkone.flowable.service.SampleCurrentStateService;
+import com.arkone.flowable.service.SampleExportService;
+import com.arkone.flowable.service.SampleHistoryService;
+import com.arkone.flowable.service.SampleLineageService;
 import com.arkone.flowable.service.SampleService;
+import com.arkone.flowable.web.CsvExportResponses;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 样本管理控制器
  *
@@ -28,6 +43,10 @@ import org.springframework.web.bind.annotation.*;
 public class SampleController {
 
     private final SampleService sampleService;
+    private final SampleExportService sampleExportService;
+    private final SampleHistoryService sampleHistoryService;
+    private final SampleLineageService sampleLineageService;
+    private final SampleCurrentStateService sampleCurrentStateService;
 
     /**
      * 创建样本
@@ -57,6 +76,35 @@ public class SampleController {
         return Result.success(page);
     }
 
+    /**
+     * 分页查询样本当前状态
+     *
+     * @param request       查询请求
+     * @param currentNodeId 当前节点ID
+     * @return 分页结果
+     */
+    @Operation(summary = "查询样本当前状态", description = "从当前状态投影表分页查询样本，包含当前节点、最新节点数据和关键指标")
+    @Parameter(name = "currentNodeId", description = "当前流程节点ID")
+    @GetMapping("/current-state")
+    public Result<Page<SampleCurrentStateResponse>> queryCurrentStates(
+            SampleQueryRequest request,
+            @RequestParam(required = false) String currentNodeId) {
+        log.info("查询样本当前状态: {}, currentNodeId={}", request, currentNodeId);
+        return Result.success(sampleCurrentStateService.queryCurrentStates(request, currentNodeId));
+    }
+
+    /**
+     * 重建样本当前状态投影
+     *
+     * @return 写入行数
+     */
+    @Operation(summary = "重建样本当前状态", description = "从样本表和节点数据全量重新计算当前状态投影")
+    @PostMapping("/current-state/rebuild")
+    public Result<Integer> rebuildCurrentStates() {
+        log.info("重建样本当前状态投影");
+        return Result.success(sampleCurrentStateService.rebuild());
+    }
+
     /**
      * 获取样本详情
      *
@@ -90,4 +138,96 @@ public class SampleController {
         SampleResponse response = sampleService.updateSampleStatus(id, status);
         return Result.success(response);
     }
+
+    /**
+     * 获取样本历史时间线
+     *
+     * @param id       样本ID
+     * @param pageNum  页码
+     * @param pageSize 每页大小
+     * @return 时间线分页结果
+     */
+    @Operation(summary = "获取样本历史", description = "合并节点数据、流程活动与审计日志，按时间正序分页返回")
+    @Parameter(name = "id", description = "样本ID", required = true)
+    @GetMapping("/{id}/history")
+    public Result<Page<SampleHistoryItem>> getSampleHistory(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "1") Integer pageNum,
+            @RequestParam(defaultValue = "50") Integer pageSize) {
+        log.info("获取样本历史: {}, pageNum={}, pageSize={}", id, pageNum, pageSize);
+        Page<SampleHistoryItem> page = sampleHistoryService.getSampleHistory(id, pageNum, pageSize);
+        return Result.success(page);
+    }
+
+    /**
+     * 查询样本祖先链
+     *
+     * @param id 样本ID
+     * @return 祖先列表
+     */
+    @Operation(summary = "查询样本祖先", description = "沿父样本逐级回溯至源样本(由近及远)")
+    @Parameter(name = "id", description = "样本ID", required = true)
+    @GetMapping("/{id}/lineage/ancestors")
+    public Result<List<SampleLineageNode>> getSampleAncestors(@PathVariable String id) {
+        log.info("查询样本祖先: {}", id);
+        return Result.success(sampleLineageService.getAncestors(id));
+    }
+
+    /**
+     * 查询样本后代
+     *
+     * @param id       样本ID
+     * @param maxDepth 最大层级
+     * @return 后代列表
+     */
+    @Operation(summary = "查询样本后代", description = "按层级返回分装产生的全部后代样本")
+    @Parameter(name = "id", description = "样本ID", required = true)
+    @Parameter(name = "maxDepth", description = "最大层级，为空时使用系统上限")
+    @GetMapping("/{id}/lineage/descendants")
+    public Result<List<SampleLineageNode>> getSampleDescendants(
+            @PathVariable String id,
+            @RequestParam(required = false) Integer maxDepth) {
+        log.info("查询样本后代: {}, maxDepth={}", id, maxDepth);
+        return Result.success(sampleLineageService.getDescendants(id, maxDepth));
+    }
+
+    /**
+     * 查询样本谱系树
+     *
+     * @param id       样本ID
+     * @param maxDepth 最大层级
+     * @return 谱系树根节点
+     */
+    @Operation(summary = "查询样本谱系树", description = "以样本为根返回嵌套的谱系树")
+    @Parameter(name = "id", description = "样本ID", required = true)
+    @Parameter(name = "maxDepth", description = "最大层级，为空时使用系统上限")
+    @GetMapping("/{id}/lineage/tree")
+    public Result<SampleLineageNode> getSampleLineageTree(
+            @PathVariable String id,
+            @RequestParam(required = false) Integer maxDepth) {
+        log.info("查询样本谱系树: {}, maxDepth={}", id, maxDepth);
+        return Result.success(sampleLineageService.getTree(id, maxDepth));
+    }
+
+    /**
+     * 导出样本
+     *
+     * @param request      查询条件
+     * @param fields       导出的节点数据字段(可选)
+     * @param httpRequest  HTTP请求
+     * @param httpResponse HTTP响应
+     * @throws IOException 写出失败
+     */
+    @Operation(summary = "导出样本", description = "按查询条件流式导出样本及最新节点数据(CSV)，客户端支持时使用gzip压缩")
+    @Parameter(name = "fields", description = "导出的节点数据字段名，为空时导出全部已定义字段")
+    @GetMapping("/export")
+    public void exportSamples(SampleQueryRequest request,
+                              @RequestParam(required = false) List<String> fields,
+                              HttpServletRequest httpRequest,
+                              HttpServletResponse httpResponse) throws IOException {
+        log.info("导出样本: {}, fields={}", request, fields);
+        String fileName = "samples-" + DateUtil.format(LocalDateTime.now(), "yyyyMMddHHmmss") + ".csv";
+        CsvExportResponses.write(httpRequest, httpResponse, fileName,
+                out -> sampleExportService.exportCsv(request, fields, out));
+    }
 }
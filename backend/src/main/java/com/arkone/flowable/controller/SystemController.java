@@ -0,0 +1,78 @@
+package com.arkone.flowable.controller;
+
+import com.arkone.flowable.audit.AuditPublisher;
+import com.arkone.flowable.audit.AuditStats;
+import com.arkone.flowable.cache.CacheStats;
+import com.arkone.flowable.cache.ProcessDefinitionCache;
+import com.arkone.flowable.cache.SampleLineageCache;
+import com.arkone.flowable.cache.VersionedEntityCache;
+import com.arkone.flowable.common.Result;
+import com.arkone.flowable.job.AsyncExecutorStats;
+import com.arkone.flowable.job.JobExecutionMetrics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 系统监控控制器
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Tag(name = "系统监控", description = "缓存、审计管道、异步执行器等运行时指标查询")
+@Slf4j
+@RestController
+@RequestMapping("/system")
+@RequiredArgsConstructor
+public class SystemController {
+
+    private final List<VersionedEntityCache<?>> entityCaches;
+    private final SampleLineageCache sampleLineageCache;
+    private final ProcessDefinitionCache processDefinitionCache;
+    private final AuditPublisher auditPublisher;
+    private final JobExecutionMetrics jobExecutionMetrics;
+
+    /**
+     * 查询实体缓存统计
+     *
+     * @return 缓存统计列表
+     */
+    @Operation(summary = "查询实体缓存统计", description = "返回项目、容器、样本谱系、流程定义等缓存的命中率、条目数等指标")
+    @GetMapping("/caches")
+    public Result<List<CacheStats>> getCacheStats() {
+        List<CacheStats> stats = new ArrayList<>();
+        entityCaches.forEach(cache -> stats.add(cache.stats()));
+        stats.add(sampleLineageCache.stats());
+        stats.add(processDefinitionCache.stats());
+        return Result.success(stats);
+    }
+
+    /**
+     * 查询审计管道统计
+     *
+     * @return 审计统计
+     */
+    @Operation(summary = "查询审计管道统计", description = "返回审计缓冲区积压、写入、背压等待及丢弃数量")
+    @GetMapping("/audit")
+    public Result<AuditStats> getAuditStats() {
+        return Result.success(auditPublisher.stats());
+    }
+
+    /**
+     * 查询异步执行器统计
+     *
+     * @return 异步执行器统计
+     */
+    @Operation(summary = "查询异步执行器统计", description = "返回作业线程池排队、拒绝、作业执行延迟及等待重试、死信作业数量")
+    @GetMapping("/async-executor")
+    public Result<AsyncExecutorStats> getAsyncExecutorStats() {
+        return Result.success(jobExecutionMetrics.stats());
+    }
+}
@@ -2,9 +2,18 @@ package com.arkone.flowable.controller;
 
 import com.arkone.flowable.common.Result;
 import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.dto.BatchTaskAssignRequest;
 import com.arkone.flowable.dto.BatchTaskCompleteRequest;
+import com.arkone.flowable.dto.TaskAssignRequest;
 import com.arkone.flowable.dto.TaskCompleteRequest;
+import com.arkone.flowable.dto.TaskCompletionJobStatus;
+import com.arkone.flowable.dto.TaskQueryRequest;
+import com.arkone.flowable.dto.TaskResponse;
+import com.arkone.flowable.idempotency.IdempotencyService;
+import com.arkone.flowable.service.TaskAssignmentService;
+import com.arkone.flowable.service.TaskCompletionJobService;
 import com.arkone.flowable.service.TaskService;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,7 +28,7 @@ import org.springframework.web.bind.annotation.*;
  * @author ArkOne Team
  * @since 1.0.0
  */
-@Tag(name = "任务管理", description = "流程任务的完成、批量完成等操作")
+@Tag(name = "任务管理", description = "流程任务的查询、认领分派、完成、批量完成等操作")
 @Slf4j
 @RestController
 @RequestMapping("/tasks")
@@ -27,38 +36,188 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
     private final TaskService taskService;
+    private final IdempotencyService idempotencyService;
+    private final TaskCompletionJobService taskCompletionJobService;
+    private final TaskAssignmentService taskAssignmentService;
 
     /**
-     * 完成任务
+     * 分页查询待办任务
+     *
+     * @param request 查询请求
+     * @return 分页结果
+     */
+    @Operation(summary = "查询任务列表", description = "按办理人、候选组、流程定义等条件分页查询待办任务，每页的关联样本通过一次批量查询附带返回")
+    @GetMapping
+    public Result<Page<TaskResponse>> queryTasks(TaskQueryRequest request) {
+        log.debug("查询任务列表: {}", request);
+        return Result.success(taskService.queryTasks(request));
+    }
+
+    /**
+     * 查询任务详情
+     *
+     * @param taskId 任务ID
+     * @return 任务详情
+     */
+    @Operation(summary = "查询任务详情", description = "返回任务信息及关联样本")
+    @Parameter(name = "taskId", description = "任务ID", required = true)
+    @GetMapping("/{taskId}")
+    public Result<TaskResponse> getTask(@PathVariable String taskId) {
+        return Result.success(taskService.getTask(taskId));
+    }
+
+    /**
+     * 认领任务
      *
      * @param taskId  任务ID
-     * @param request 任务完成请求
+     * @param request 认领请求
      * @return 成功响应
      */
-    @Operation(summary = "完成任务", description = "完成指定的流程任务，保存节点数据")
+    @Operation(summary = "认领任务", description = "任务未被认领时设置办理人；已被其他用户认领时返回冲突")
     @Parameter(name = "taskId", description = "任务ID", required = true)
+    @PostMapping("/{taskId}/claim")
+    public Result<Void> claimTask(@PathVariable String taskId, @Valid @RequestBody TaskAssignRequest request) {
+        log.info("认领任务: taskId={}, userId={}", taskId, request.getUserId());
+        taskAssignmentService.execute(TaskAssignmentService.Action.CLAIM, taskId, request.getUserId());
+        return Result.success();
+    }
+
+    /**
+     * 取消认领任务
+     *
+     * @param taskId 任务ID
+     * @return 成功响应
+     */
+    @Operation(summary = "取消认领任务", description = "清除任务办理人，任务回到候选人/候选组的待办中")
+    @Parameter(name = "taskId", description = "任务ID", required = true)
+    @PostMapping("/{taskId}/unclaim")
+    public Result<Void> unclaimTask(@PathVariable String taskId) {
+        log.info("取消认领任务: taskId={}", taskId);
+        taskAssignmentService.execute(TaskAssignmentService.Action.UNCLAIM, taskId, null);
+        return Result.success();
+    }
+
+    /**
+     * 委派任务
+     *
+     * @param taskId  任务ID
+     * @param request 委派请求
+     * @return 成功响应
+     */
+    @Operation(summary = "委派任务", description = "将任务委派给其他用户办理，办理后回到原办理人")
+    @Parameter(name = "taskId", description = "任务ID", required = true)
+    @PostMapping("/{taskId}/delegate")
+    public Result<Void> delegateTask(@PathVariable String taskId, @Valid @RequestBody TaskAssignRequest request) {
+        log.info("委派任务: taskId={}, userId={}", taskId, request.getUserId());
+        taskAssignmentService.execute(TaskAssignmentService.Action.DELEGATE, taskId, request.getUserId());
+        return Result.success();
+    }
+
+    /**
+     * 转办任务
+     *
+     * @param taskId  任务ID
+     * @param request 转办请求
+     * @return 成功响应
+     */
+    @Operation(summary = "转办任务", description = "直接将任务办理人更换为指定用户")
+    @Parameter(name = "taskId", description = "任务ID", required = true)
+    @PostMapping("/{taskId}/assign")
+    public Result<Void> assignTask(@PathVariable String taskId, @Valid @RequestBody TaskAssignRequest request) {
+        log.info("转办任务: taskId={}, userId={}", taskId, request.getUserId());
+        taskAssignmentService.execute(TaskAssignmentService.Action.ASSIGN, taskId, request.getUserId());
+        return Result.success();
+    }
+
+    /**
+     * 批量认领/取消认领/委派/转办任务
+     *
+     * @param action  操作: claim, unclaim, delegate, assign
+     * @param request 批量请求
+     * @return 批量操作结果
+     */
+    @Operation(summary = "批量认领/分派任务",
+            description = "在一个事务内处理最多500个任务（如整板认领），逐个报告冲突，成功的任务一次提交")
+    @Parameter(name = "action", description = "操作: claim, unclaim, delegate, assign", required = true)
+    @PostMapping("/batch/{action:claim|unclaim|delegate|assign}")
+    public Result<BatchOperationResult<String>> batchAssignTasks(
+            @PathVariable String action,
+            @Valid @RequestBody BatchTaskAssignRequest request) {
+        log.info("批量{}任务: 数量={}, userId={}", action, request.getTaskIds().size(), request.getUserId());
+        return Result.success(taskAssignmentService.executeBatch(
+                TaskAssignmentService.Action.valueOf(action.toUpperCase()), request.getTaskIds(), request.getUserId()));
+    }
+
+    /**
+     * 完成任务
+     *
+     * @param taskId         任务ID
+     * @param idempotencyKey 幂等键
+     * @param request        任务完成请求
+     * @return 成功响应
+     */
+    @Operation(summary = "完成任务", description = "完成指定的流程任务，保存节点数据；携带Idempotency-Key时重复请求直接返回首次结果")
+    @Parameter(name = "taskId", description = "任务ID", required = true)
+    @Parameter(name = IdempotencyService.HEADER, description = "幂等键(可选)，重试时使用相同的值")
     @PostMapping("/{taskId}/complete")
     public Result<Void> completeTask(
             @PathVariable String taskId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody TaskCompleteRequest request) {
         log.info("完成任务: taskId={}, sampleId={}", taskId, request.getSampleId());
         request.setTaskId(taskId);
-        taskService.completeTask(request);
-        return Result.success();
+        return idempotencyService.execute(idempotencyKey, "task-complete", request, () -> {
+            taskService.completeTask(request);
+            return Result.success();
+        });
     }
 
     /**
      * 批量完成任务
      *
-     * @param request 批量任务完成请求
+     * @param idempotencyKey 幂等键
+     * @param request        批量任务完成请求
      * @return 批量操作结果
      */
     @Operation(summary = "批量完成任务", description = "批量完成流程任务，最多支持100条")
+    @Parameter(name = IdempotencyService.HEADER, description = "幂等键(可选)，重试时使用相同的值")
     @PostMapping("/batch/complete")
     public Result<BatchOperationResult<String>> batchCompleteTasks(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody BatchTaskCompleteRequest request) {
         log.info("批量完成任务: 数量={}, 模式={}", request.getTasks().size(), request.getFailureMode());
-        BatchOperationResult<String> result = taskService.batchCompleteTasks(request);
-        return Result.success(result);
+        return idempotencyService.execute(idempotencyKey, "task-batch-complete", request,
+                () -> Result.success(taskService.batchCompleteTasks(request)));
+    }
+
+    /**
+     * 异步批量完成任务
+     *
+     * @param idempotencyKey 幂等键
+     * @param request        批量任务完成请求
+     * @return 作业状态
+     */
+    @Operation(summary = "异步批量完成任务", description = "任务投递到消息队列后立即返回作业ID，由后台按批合并事务完成，通过作业状态接口查询结果")
+    @Parameter(name = IdempotencyService.HEADER, description = "幂等键(可选)，重试时使用相同的值")
+    @PostMapping("/batch/complete/async")
+    public Result<TaskCompletionJobStatus> submitBatchCompleteTasks(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody BatchTaskCompleteRequest request) {
+        log.info("异步批量完成任务: 数量={}", request.getTasks().size());
+        return idempotencyService.execute(idempotencyKey, "task-batch-complete-async", request,
+                () -> Result.success(taskCompletionJobService.submit(request)));
+    }
+
+    /**
+     * 查询异步批量完成作业状态
+     *
+     * @param jobId 作业ID
+     * @return 作业状态
+     */
+    @Operation(summary = "查询异步完成作业", description = "返回作业进度、成功数量及失败明细")
+    @Parameter(name = "jobId", description = "作业ID", required = true)
+    @GetMapping("/batch/jobs/{jobId}")
+    public Result<TaskCompletionJobStatus> getCompletionJob(@PathVariable String jobId) {
+        return Result.success(taskCompletionJobService.getJob(jobId));
     }
 }
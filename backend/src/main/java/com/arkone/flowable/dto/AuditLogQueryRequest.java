@@ -0,0 +1,66 @@
+package com.arkone.flowable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 审计日志查询请求DTO
+ * 查询总是限定在时间范围内，未指定时由服务端推导，以便PostgreSQL裁剪月分区
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogQueryRequest {
+
+    /**
+     * 实体类型（如 Sample、Container）
+     */
+    private String entityType;
+
+    /**
+     * 实体ID
+     */
+    private String entityId;
+
+    /**
+     * 操作用户ID
+     */
+    private String userId;
+
+    /**
+     * 操作类型（CREATE/UPDATE/DELETE等）
+     */
+    private String action;
+
+    /**
+     * 开始时间（包含），为空时取结束时间前的默认天数
+     */
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startTime;
+
+    /**
+     * 结束时间（不包含），为空时取当前时间
+     */
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endTime;
+
+    /**
+     * 翻页游标（上一页返回的 nextCursor）
+     */
+    private String cursor;
+
+    /**
+     * 每页大小
+     */
+    @Builder.Default
+    private Integer size = 50;
+}
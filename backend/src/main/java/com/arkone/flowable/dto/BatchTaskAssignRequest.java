@@ -0,0 +1,35 @@
+package com.arkone.flowable.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 批量认领/取消认领/委派/转办任务请求DTO
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTaskAssignRequest {
+
+    /**
+     * 任务ID列表（最多500条）
+     */
+    @NotEmpty(message = "任务列表不能为空")
+    @Size(max = 500, message = "批量操作任务最多支持500条")
+    private List<String> taskIds;
+
+    /**
+     * 目标用户ID（取消认领时不需要）
+     */
+    private String userId;
+}
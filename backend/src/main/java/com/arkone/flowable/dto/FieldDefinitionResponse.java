@@ -81,6 +81,11 @@ public class FieldDefinitionResponse {
      */
     private Integer displayOrder;
 
+    /**
+     * 是否可搜索
+     */
+    private Boolean searchable;
+
     /**
      * 创建时间
      */
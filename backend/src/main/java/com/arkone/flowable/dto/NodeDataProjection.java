@@ -0,0 +1,53 @@
+package com.arkone.flowable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 节点数据投影DTO
+ * 只包含调用方指定的数据字段，由数据库端提取，不读取完整的 data / field_snapshot
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NodeDataProjection {
+
+    /**
+     * 节点数据ID
+     */
+    private String id;
+
+    /**
+     * 样本ID
+     */
+    private String sampleId;
+
+    /**
+     * 流程节点ID
+     */
+    private String nodeId;
+
+    /**
+     * 节点数据状态
+     */
+    private String status;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 指定字段的值（字段名 -> 值，不存在的字段值为null）
+     */
+    private Map<String, Object> values;
+}
@@ -0,0 +1,60 @@
+package com.arkone.flowable.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 流程实例批量操作请求DTO
+ * 项目ID、业务键前缀、样本ID列表三选一，可再按流程定义Key过滤
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessBulkOperationRequest {
+
+    /**
+     * 操作类型: suspend-挂起, activate-激活, cancel-取消
+     */
+    @NotBlank(message = "操作类型不能为空")
+    @Pattern(regexp = "suspend|activate|cancel", message = "操作类型只能是 suspend、activate 或 cancel")
+    private String action;
+
+    /**
+     * 流程定义Key（可选，如 plasmid_sequencing）
+     */
+    private String processDefinitionKey;
+
+    /**
+     * 项目ID：该项目下样本关联的流程实例
+     */
+    private String projectId;
+
+    /**
+     * 业务键前缀
+     */
+    @Size(min = 2, max = 100, message = "业务键前缀长度为2-100")
+    private String businessKeyPrefix;
+
+    /**
+     * 样本ID列表：这些样本关联的流程实例
+     */
+    @Size(max = 10000, message = "样本ID最多支持10000条")
+    private List<String> sampleIds;
+
+    /**
+     * 操作原因（如试剂批次召回），取消时作为流程删除原因
+     */
+    @Size(max = 255, message = "原因不能超过255个字符")
+    private String reason;
+}
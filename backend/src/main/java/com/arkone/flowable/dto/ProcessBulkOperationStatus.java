@@ -0,0 +1,72 @@
+package com.arkone.flowable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 流程实例批量操作状态DTO
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessBulkOperationStatus {
+
+    /**
+     * 操作ID
+     */
+    private String operationId;
+
+    /**
+     * 操作类型: suspend, activate, cancel
+     */
+    private String action;
+
+    /**
+     * 作业状态: queued-排队中, running-处理中, completed-全部成功, completed_with_errors-部分失败
+     */
+    private String status;
+
+    /**
+     * 匹配的流程实例总数
+     */
+    private Integer total;
+
+    /**
+     * 已处理数量
+     */
+    private Integer processedCount;
+
+    /**
+     * 成功数量（已是目标状态的实例也计为成功）
+     */
+    private Integer successCount;
+
+    /**
+     * 失败数量
+     */
+    private Integer failureCount;
+
+    /**
+     * 失败明细，index 为实例在清单中的位置，data 为流程实例ID
+     */
+    private List<BatchOperationResult.BatchOperationError> failureList;
+
+    /**
+     * 提交时间
+     */
+    private LocalDateTime submittedAt;
+
+    /**
+     * 完成时间
+     */
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,26 @@
+package com.arkone.flowable.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 取消流程实例请求DTO
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessCancelRequest {
+
+    /**
+     * 取消原因
+     */
+    @Size(max = 255, message = "取消原因不能超过255个字符")
+    private String reason;
+}
@@ -0,0 +1,137 @@
+package com.arkone.flowable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 流程定义响应DTO
+ * 由 ProcessDefinitionCache 缓存，调用方只读，不得修改
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessDefinitionResponse {
+
+    /**
+     * 流程定义ID
+     */
+    private String id;
+
+    /**
+     * 流程定义Key
+     */
+    private String key;
+
+    /**
+     * 流程名称
+     */
+    private String name;
+
+    /**
+     * 版本号
+     */
+    private Integer version;
+
+    /**
+     * 部署ID
+     */
+    private String deploymentId;
+
+    /**
+     * 描述
+     */
+    private String description;
+
+    /**
+     * 是否挂起
+     */
+    private Boolean suspended;
+
+    /**
+     * 开始表单Key
+     */
+    private String startFormKey;
+
+    /**
+     * 开始表单字段
+     */
+    private List<FormField> startFormFields;
+
+    /**
+     * 用户任务节点（按BPMN中的定义顺序）
+     */
+    private List<UserTaskNode> userTasks;
+
+    /**
+     * 表单字段
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FormField {
+
+        /**
+         * 字段ID
+         */
+        private String id;
+
+        /**
+         * 字段名称
+         */
+        private String name;
+
+        /**
+         * 字段类型
+         */
+        private String type;
+
+        /**
+         * 是否必填
+         */
+        private Boolean required;
+    }
+
+    /**
+     * 用户任务节点
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserTaskNode {
+
+        /**
+         * 节点ID
+         */
+        private String id;
+
+        /**
+         * 节点名称
+         */
+        private String name;
+
+        /**
+         * 表单Key
+         */
+        private String formKey;
+
+        /**
+         * 办理人表达式
+         */
+        private String assignee;
+
+        /**
+         * 候选组
+         */
+        private List<String> candidateGroups;
+    }
+}
@@ -0,0 +1,132 @@
+package com.arkone.flowable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 流程实例详情响应DTO
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessInstanceDetailResponse {
+
+    /**
+     * 流程实例ID
+     */
+    private String processInstanceId;
+
+    /**
+     * 流程定义ID
+     */
+    private String processDefinitionId;
+
+    /**
+     * 流程定义Key
+     */
+    private String processDefinitionKey;
+
+    /**
+     * 流程名称
+     */
+    private String processDefinitionName;
+
+    /**
+     * 业务键
+     */
+    private String businessKey;
+
+    /**
+     * 流程状态: running-运行中, suspended-已挂起, completed-已完成, cancelled-已取消
+     */
+    private String status;
+
+    /**
+     * 发起人
+     */
+    private String startUserId;
+
+    /**
+     * 启动时间
+     */
+    private LocalDateTime startTime;
+
+    /**
+     * 结束时间
+     */
+    private LocalDateTime endTime;
+
+    /**
+     * 取消原因
+     */
+    private String deleteReason;
+
+    /**
+     * 当前待办任务
+     */
+    private List<TaskResponse> activeTasks;
+
+    /**
+     * 已执行的节点（按开始时间排序）
+     */
+    private List<ActivityItem> activities;
+
+    /**
+     * 关联样本
+     */
+    private List<TaskSampleSummary> samples;
+
+    /**
+     * 节点执行记录
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActivityItem {
+
+        /**
+         * 节点ID
+         */
+        private String activityId;
+
+        /**
+         * 节点名称
+         */
+        private String activityName;
+
+        /**
+         * 节点类型
+         */
+        private String activityType;
+
+        /**
+         * 办理人
+         */
+        private String assignee;
+
+        /**
+         * 开始时间
+         */
+        private LocalDateTime startTime;
+
+        /**
+         * 结束时间
+         */
+        private LocalDateTime endTime;
+
+        /**
+         * 耗时（毫秒）
+         */
+        private Long durationInMillis;
+    }
+}
@@ -0,0 +1,103 @@
+package com.arkone.flowable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 样本当前状态响应DTO
+ * 样本基础信息 + 当前节点 + 最新节点数据摘要 + 关键指标
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SampleCurrentStateResponse {
+
+    /**
+     * 样本ID
+     */
+    private String sampleId;
+
+    /**
+     * 样本编码
+     */
+    private String sampleCode;
+
+    /**
+     * 样本名称
+     */
+    private String sampleName;
+
+    /**
+     * 样本类型
+     */
+    private String sampleType;
+
+    /**
+     * 样本状态
+     */
+    private String status;
+
+    /**
+     * 项目ID
+     */
+    private String projectId;
+
+    /**
+     * 流程实例ID
+     */
+    private String processInstanceId;
+
+    /**
+     * 当前流程节点ID
+     */
+    private String currentNodeId;
+
+    /**
+     * 容器ID
+     */
+    private String containerId;
+
+    /**
+     * 容器位置
+     */
+    private String position;
+
+    /**
+     * 最新节点ID
+     */
+    private String lastNodeId;
+
+    /**
+     * 最新节点名称
+     */
+    private String lastNodeName;
+
+    /**
+     * 最新节点数据提交时间
+     */
+    private LocalDateTime lastNodeTime;
+
+    /**
+     * 关键指标（可搜索字段的最新值）
+     */
+    private Map<String, Object> metrics;
+
+    /**
+     * 样本创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 投影更新时间
+     */
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,103 @@
+package com.arkone.flowable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 样本导出行DTO
+ * 样本基础信息 + 最新一条节点数据，由游标逐行读取
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SampleExportRow {
+
+    /**
+     * 样本ID
+     */
+    private String id;
+
+    /**
+     * 样本编码
+     */
+    private String sampleCode;
+
+    /**
+     * 样本名称
+     */
+    private String sampleName;
+
+    /**
+     * 样本类型
+     */
+    private String sampleType;
+
+    /**
+     * 样本状态
+     */
+    private String status;
+
+    /**
+     * 项目ID
+     */
+    private String projectId;
+
+    /**
+     * 流程实例ID
+     */
+    private String processInstanceId;
+
+    /**
+     * 当前节点ID
+     */
+    private String currentNodeId;
+
+    /**
+     * 容器ID
+     */
+    private String containerId;
+
+    /**
+     * 容器位置
+     */
+    private String position;
+
+    /**
+     * 父样本ID
+     */
+    private String parentSampleId;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 最新节点ID
+     */
+    private String latestNodeId;
+
+    /**
+     * 最新节点名称
+     */
+    private String latestNodeName;
+
+    /**
+     * 最新节点数据
+     */
+    private Map<String, Object> latestData;
+
+    /**
+     * 最新节点数据时间
+     */
+    private LocalDateTime latestNodeTime;
+}
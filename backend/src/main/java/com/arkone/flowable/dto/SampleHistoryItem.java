@@ -0,0 +1,75 @@
+package com.arkone.flowable.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 样本历史时间线条目DTO
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SampleHistoryItem {
+
+    /**
+     * 来源: NODE_DATA-节点数据, ACTIVITY-流程活动, AUDIT-审计日志
+     */
+    private String source;
+
+    /**
+     * 来源记录ID
+     */
+    private String refId;
+
+    /**
+     * 发生时间
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime time;
+
+    /**
+     * 结束时间（仅流程活动）
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endTime;
+
+    /**
+     * 流程节点ID
+     */
+    private String nodeId;
+
+    /**
+     * 流程节点名称
+     */
+    private String nodeName;
+
+    /**
+     * 动作（节点数据状态、活动类型或审计操作类型）
+     */
+    private String action;
+
+    /**
+     * 操作人
+     */
+    private String operator;
+
+    /**
+     * 数据（节点数据或审计变更后的值）
+     */
+    private Map<String, Object> data;
+
+    /**
+     * 变更前的值（仅审计日志）
+     */
+    private Map<String, Object> oldData;
+}
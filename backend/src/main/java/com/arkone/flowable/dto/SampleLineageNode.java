@@ -0,0 +1,72 @@
+package com.arkone.flowable.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 样本谱系节点DTO
+ * 用于祖先链、后代列表及谱系树的返回
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SampleLineageNode {
+
+    /**
+     * 样本ID
+     */
+    private String id;
+
+    /**
+     * 样本编码
+     */
+    private String sampleCode;
+
+    /**
+     * 样本名称
+     */
+    private String sampleName;
+
+    /**
+     * 样本类型
+     */
+    private String sampleType;
+
+    /**
+     * 样本状态
+     */
+    private String status;
+
+    /**
+     * 父样本ID
+     */
+    private String parentSampleId;
+
+    /**
+     * 相对查询起点的层级（起点为0）
+     */
+    private Integer depth;
+
+    /**
+     * 创建时间
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    /**
+     * 子节点（仅谱系树返回）
+     */
+    private List<SampleLineageNode> children;
+}
@@ -0,0 +1,26 @@
+package com.arkone.flowable.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 任务认领/委派/转办请求DTO
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAssignRequest {
+
+    /**
+     * 目标用户ID
+     */
+    @NotBlank(message = "用户ID不能为空")
+    private String userId;
+}
@@ -0,0 +1,81 @@
+package com.arkone.flowable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 异步任务完成作业状态DTO
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCompletionJobStatus {
+
+    /**
+     * 作业ID
+     */
+    private String jobId;
+
+    /**
+     * 作业状态: queued-排队中, running-处理中, completed-全部成功, completed_with_errors-部分失败
+     */
+    private String status;
+
+    /**
+     * 任务总数
+     */
+    private Integer total;
+
+    /**
+     * 成功数量
+     */
+    private Integer successCount;
+
+    /**
+     * 失败数量
+     */
+    private Integer failureCount;
+
+    /**
+     * 失败明细
+     */
+    private List<BatchOperationResult.BatchOperationError> failureList;
+
+    /**
+     * 提交时间
+     */
+    private LocalDateTime submittedAt;
+
+    /**
+     * 完成时间
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * 根据计数推导作业状态
+     *
+     * @param total        任务总数
+     * @param successCount 成功数量
+     * @param failureCount 失败数量
+     * @return 作业状态
+     */
+    public static String resolveStatus(int total, int successCount, int failureCount) {
+        int processed = successCount + failureCount;
+        if (processed == 0) {
+            return "queued";
+        }
+        if (processed < total) {
+            return "running";
+        }
+        return failureCount == 0 ? "completed" : "completed_with_errors";
+    }
+}
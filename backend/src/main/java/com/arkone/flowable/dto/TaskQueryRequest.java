@@ -0,0 +1,74 @@
+package com.arkone.flowable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 任务查询请求DTO
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskQueryRequest {
+
+    /**
+     * 办理人
+     */
+    private String assignee;
+
+    /**
+     * 候选用户
+     */
+    private String candidateUser;
+
+    /**
+     * 候选组
+     */
+    private String candidateGroup;
+
+    /**
+     * 流程定义Key
+     */
+    private String processDefinitionKey;
+
+    /**
+     * 流程实例ID
+     */
+    private String processInstanceId;
+
+    /**
+     * 任务节点ID
+     */
+    private String taskDefinitionKey;
+
+    /**
+     * 是否附带样本信息
+     */
+    @Builder.Default
+    private Boolean includeSamples = true;
+
+    /**
+     * 样本附带的节点数据字段名（可选），取各样本全部节点数据中该字段的最新值
+     */
+    private List<String> sampleFields;
+
+    /**
+     * 页码（从1开始）
+     */
+    @Builder.Default
+    private Integer pageNum = 1;
+
+    /**
+     * 每页大小
+     */
+    @Builder.Default
+    private Integer pageSize = 20;
+}
@@ -0,0 +1,87 @@
+package com.arkone.flowable.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 任务响应DTO
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskResponse {
+
+    /**
+     * 任务ID
+     */
+    private String id;
+
+    /**
+     * 任务名称
+     */
+    private String name;
+
+    /**
+     * 任务节点ID
+     */
+    private String taskDefinitionKey;
+
+    /**
+     * 流程实例ID
+     */
+    private String processInstanceId;
+
+    /**
+     * 流程定义ID
+     */
+    private String processDefinitionId;
+
+    /**
+     * 办理人
+     */
+    private String assignee;
+
+    /**
+     * 所有人（委派时为原办理人）
+     */
+    private String owner;
+
+    /**
+     * 委派状态: pending, resolved
+     */
+    private String delegationState;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createTime;
+
+    /**
+     * 到期时间
+     */
+    private LocalDateTime dueDate;
+
+    /**
+     * 优先级
+     */
+    private Integer priority;
+
+    /**
+     * 是否挂起
+     */
+    private Boolean suspended;
+
+    /**
+     * 关联样本
+     */
+    private List<TaskSampleSummary> samples;
+}
@@ -0,0 +1,74 @@
+package com.arkone.flowable.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 任务关联样本摘要DTO
+ * 任务列表按流程实例批量查询样本时使用，只包含列表展示需要的列
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSampleSummary {
+
+    /**
+     * 样本ID
+     */
+    private String id;
+
+    /**
+     * 流程实例ID
+     */
+    private String processInstanceId;
+
+    /**
+     * 项目ID
+     */
+    private String projectId;
+
+    /**
+     * 样本编码
+     */
+    private String sampleCode;
+
+    /**
+     * 样本名称
+     */
+    private String sampleName;
+
+    /**
+     * 样本类型
+     */
+    private String sampleType;
+
+    /**
+     * 样本状态
+     */
+    private String status;
+
+    /**
+     * 容器ID
+     */
+    private String containerId;
+
+    /**
+     * 容器位置
+     */
+    private String position;
+
+    /**
+     * 按任务查询请求的 sampleFields 附带的节点数据字段（字段名 -> 最新值），未请求时不返回
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Object> fields;
+}
@@ -27,7 +27,7 @@ import java.util.Map;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@TableName("lims_audit_log")
+@TableName(value = "lims_audit_log", autoResultMap = true)
 public class AuditLog implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -24,7 +24,7 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@TableName("lims_field_definition")
+@TableName(value = "lims_field_definition", autoResultMap = true)
 public class FieldDefinition extends BaseEntity {
 
     private static final long serialVersionUID = 1L;
@@ -104,4 +104,10 @@ public class FieldDefinition extends BaseEntity {
      */
     @TableField("display_order")
     private Integer displayOrder;
+
+    /**
+     * 是否可搜索（启动时为该字段自动创建表达式索引）
+     */
+    @TableField("searchable")
+    private Boolean searchable;
 }
@@ -0,0 +1,87 @@
+package com.arkone.flowable.entity;
+
+import com.arkone.flowable.common.typehandler.JsonbTypeHandler;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 领域事件发件箱实体
+ * 对应数据库表：lims_outbox_event
+ * 与业务变更在同一事务内写入，由 OutboxRelay 投递后标记 published_at
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName(value = "lims_outbox_event", autoResultMap = true)
+public class OutboxEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 自增主键，决定投递顺序
+     */
+    @TableId(value = "id", type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 聚合类型
+     */
+    @TableField("aggregate_type")
+    private String aggregateType;
+
+    /**
+     * 聚合ID（样本ID）
+     */
+    @TableField("aggregate_id")
+    private String aggregateId;
+
+    /**
+     * 事件类型
+     */
+    @TableField("event_type")
+    private String eventType;
+
+    /**
+     * 事件内容
+     */
+    @TableField(value = "payload", typeHandler = JsonbTypeHandler.class)
+    private Map<String, Object> payload;
+
+    /**
+     * 创建时间
+     */
+    @TableField("created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 投递成功时间
+     */
+    @TableField("published_at")
+    private LocalDateTime publishedAt;
+
+    /**
+     * 投递失败次数
+     */
+    @TableField("attempts")
+    private Integer attempts;
+
+    /**
+     * 最近一次投递失败原因
+     */
+    @TableField("last_error")
+    private String lastError;
+}
@@ -0,0 +1,112 @@
+package com.arkone.flowable.entity;
+
+import com.arkone.flowable.common.typehandler.JsonbTypeHandler;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.ibatis.type.ArrayTypeHandler;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 流程批量操作实体
+ * 对应数据库表：lims_process_bulk_operation
+ * 实例清单只在提交时写入，按块处理时通过 {@code ProcessBulkOperationMapper#selectInstanceSlice} 切片读取，不随实体查询
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName(value = "lims_process_bulk_operation", autoResultMap = true)
+public class ProcessBulkOperation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 操作ID
+     */
+    @TableId(value = "id", type = IdType.INPUT)
+    private String id;
+
+    /**
+     * 操作类型: suspend, activate, cancel
+     */
+    @TableField("action")
+    private String action;
+
+    /**
+     * 选择条件
+     */
+    @TableField(value = "selector", typeHandler = JsonbTypeHandler.class)
+    private Map<String, Object> selector;
+
+    /**
+     * 操作原因
+     */
+    @TableField("reason")
+    private String reason;
+
+    /**
+     * 流程实例ID清单
+     */
+    @TableField(value = "process_instance_ids", typeHandler = ArrayTypeHandler.class, select = false)
+    private String[] processInstanceIds;
+
+    /**
+     * 流程实例总数
+     */
+    @TableField("total")
+    private Integer total;
+
+    /**
+     * 已处理数量
+     */
+    @TableField("processed_count")
+    private Integer processedCount;
+
+    /**
+     * 成功数量
+     */
+    @TableField("success_count")
+    private Integer successCount;
+
+    /**
+     * 失败数量
+     */
+    @TableField("failure_count")
+    private Integer failureCount;
+
+    /**
+     * 作业状态: queued, running, completed, completed_with_errors
+     */
+    @TableField("status")
+    private String status;
+
+    /**
+     * 提交人
+     */
+    @TableField("created_by")
+    private String createdBy;
+
+    /**
+     * 提交时间
+     */
+    @TableField("created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 完成时间
+     */
+    @TableField("finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -1,6 +1,6 @@
 package com.arkone.flowable.entity;
 
-import com.arkone.flowable.common.typehandler.JsonbTypeHandler;
+import com.arkone.flowable.common.typehandler.LazyJsonbTypeHandler;
 import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableName;
 import lombok.AllArgsConstructor;
@@ -24,7 +24,7 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@TableName("lims_process_node_data")
+@TableName(value = "lims_process_node_data", autoResultMap = true)
 public class ProcessNodeData extends BaseEntity {
 
     private static final long serialVersionUID = 1L;
@@ -51,15 +51,17 @@ public class ProcessNodeData extends BaseEntity {
      * 节点业务数据（JSONB格式）
      * 存储该节点的所有字段值
      * 例如：{"48深孔板号": "P001", "核酸浓度": 125.5}
+     * 延迟解析，首次访问时才解析JSON
      */
-    @TableField(value = "data", typeHandler = JsonbTypeHandler.class)
+    @TableField(value = "data", typeHandler = LazyJsonbTypeHandler.class)
     private Map<String, Object> data;
 
     /**
      * 字段定义快照（JSONB格式）
      * 记录当时的字段配置，用于历史数据追溯
+     * 延迟解析，首次访问时才解析JSON
      */
-    @TableField(value = "field_snapshot", typeHandler = JsonbTypeHandler.class)
+    @TableField(value = "field_snapshot", typeHandler = LazyJsonbTypeHandler.class)
     private Map<String, Object> fieldSnapshot;
 
     /**
@@ -0,0 +1,135 @@
+package com.arkone.flowable.entity;
+
+import com.arkone.flowable.common.typehandler.JsonbTypeHandler;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 样本当前状态投影实体
+ * 对应数据库表：lims_sample_current_state
+ * 每个样本一行，只由 SampleCurrentStateMapper 的 UPSERT 语句维护，不直接插入或更新
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName(value = "lims_sample_current_state", autoResultMap = true)
+public class SampleCurrentState implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 样本ID
+     */
+    @TableId(value = "sample_id", type = IdType.INPUT)
+    private String sampleId;
+
+    /**
+     * 样本编码
+     */
+    @TableField("sample_code")
+    private String sampleCode;
+
+    /**
+     * 样本名称
+     */
+    @TableField("sample_name")
+    private String sampleName;
+
+    /**
+     * 样本类型
+     */
+    @TableField("sample_type")
+    private String sampleType;
+
+    /**
+     * 样本状态
+     */
+    @TableField("status")
+    private String status;
+
+    /**
+     * 项目ID
+     */
+    @TableField("project_id")
+    private String projectId;
+
+    /**
+     * 流程实例ID
+     */
+    @TableField("process_instance_id")
+    private String processInstanceId;
+
+    /**
+     * 当前流程节点ID
+     */
+    @TableField("current_node_id")
+    private String currentNodeId;
+
+    /**
+     * 容器ID
+     */
+    @TableField("container_id")
+    private String containerId;
+
+    /**
+     * 容器位置
+     */
+    @TableField("position")
+    private String position;
+
+    /**
+     * 最新一条节点数据ID
+     */
+    @TableField("last_node_data_id")
+    private String lastNodeDataId;
+
+    /**
+     * 最新节点数据的节点ID
+     */
+    @TableField("last_node_id")
+    private String lastNodeId;
+
+    /**
+     * 最新节点数据的节点名称
+     */
+    @TableField("last_node_name")
+    private String lastNodeName;
+
+    /**
+     * 最新节点数据的提交时间
+     */
+    @TableField("last_node_time")
+    private LocalDateTime lastNodeTime;
+
+    /**
+     * 关键指标（可搜索字段的最新值）
+     */
+    @TableField(value = "metrics", typeHandler = JsonbTypeHandler.class)
+    private Map<String, Object> metrics;
+
+    /**
+     * 样本创建时间
+     */
+    @TableField("sample_created_at")
+    private LocalDateTime sampleCreatedAt;
+
+    /**
+     * 投影更新时间
+     */
+    @TableField("updated_at")
+    private LocalDateTime updatedAt;
+}
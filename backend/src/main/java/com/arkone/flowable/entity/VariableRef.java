@@ -0,0 +1,61 @@
+package com.arkone.flowable.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 流程变量引用实体
+ * 对应数据库表：lims_variable_ref
+ * payload 为JSONB数组，读写通过 VariableRefMapper 中的SQL显式转换
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("lims_variable_ref")
+public class VariableRef implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 引用ID
+     */
+    @TableId(value = "id", type = IdType.INPUT)
+    private String id;
+
+    /**
+     * 变量名
+     */
+    @TableField("name")
+    private String name;
+
+    /**
+     * 元素个数
+     */
+    @TableField("item_count")
+    private Integer itemCount;
+
+    /**
+     * 变量内容（JSON数组文本）
+     */
+    @TableField("payload")
+    private String payload;
+
+    /**
+     * 创建时间
+     */
+    @TableField("created_at")
+    private LocalDateTime createdAt;
+}
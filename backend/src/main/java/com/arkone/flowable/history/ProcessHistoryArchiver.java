@@ -0,0 +1,270 @@
+package com.arkone.flowable.history;
+
+import com.arkone.flowable.archive.ArchiveStore;
+import com.arkone.flowable.variable.ReferencedListVariableType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 流程历史归档清理
+ *
+ * <p>定时将结束时间早于 {@code process-history.cleanup.retention} 的流程实例历史导出为gzip压缩的JSON Lines
+ * （每行一个流程实例，包含实例、节点、任务和变量的历史行），保存到归档存储后通过
+ * {@link HistoryService#bulkDeleteHistoricProcessInstances} 删除，使 ACT_HI_* 表的规模保持稳定。</p>
+ *
+ * <ul>
+ *   <li>按结束时间从早到晚分批处理，每批先归档后删除；删除失败时下次重新归档该批，归档文件可能重复但不会丢失</li>
+ *   <li>变量只归档文本和数值列，存放在 ACT_GE_BYTEARRAY 中的序列化值不归档</li>
+ *   <li>引用型变量（limsRef）的 TEXT_ 只是引用ID，历史删除后引用内容会被孤立清理删掉，
+ *       因此导出时把 lims_variable_ref 中的内容内联到该变量的 value 字段</li>
+ *   <li>多实例部署时通过PostgreSQL会话级咨询锁保证同一时间只有一个实例执行</li>
+ * </ul>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "process-history.cleanup.enabled", havingValue = "true", matchIfMissing = true)
+public class ProcessHistoryArchiver {
+
+    /**
+     * 咨询锁键（固定值，仅用于流程历史归档）
+     */
+    private static final long ADVISORY_LOCK_KEY = 0x4849535452L;
+
+    private static final DateTimeFormatter KEY_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd/HHmmss");
+
+    private static final String EXPORT_SQL = """
+            SELECT json_build_object(
+                'processInstance', row_to_json(p),
+                'activities', (SELECT COALESCE(json_agg(a ORDER BY a.start_time_, a.id_), '[]'::json)
+                               FROM act_hi_actinst a WHERE a.proc_inst_id_ = p.id_),
+                'tasks', (SELECT COALESCE(json_agg(t ORDER BY t.start_time_, t.id_), '[]'::json)
+                          FROM act_hi_taskinst t WHERE t.proc_inst_id_ = p.id_),
+                'variables', (SELECT COALESCE(json_agg(json_build_object(
+                                  'name', v.name_, 'type', v.var_type_, 'text', v.text_, 'text2', v.text2_,
+                                  'long', v.long_, 'double', v.double_, 'lastUpdatedTime', v.last_updated_time_)
+                                  ORDER BY v.name_), '[]'::json)
+                              FROM act_hi_varinst v WHERE v.proc_inst_id_ = p.id_)
+            )::text
+            FROM act_hi_procinst p
+            WHERE p.id_ = ANY(?)
+            ORDER BY p.end_time_, p.id_
+            """;
+
+    private static final String REF_PAYLOAD_SQL = "SELECT id, payload::text FROM lims_variable_ref WHERE id = ANY(?)";
+
+    private final HistoryService historyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchiveStore archiveStore;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public ProcessHistoryArchiver(HistoryService historyService,
+                                  JdbcTemplate jdbcTemplate,
+                                  ArchiveStore archiveStore,
+                                  ObjectMapper objectMapper,
+                                  @Value("${process-history.cleanup.retention:P180D}") Duration retention,
+                                  @Value("${process-history.cleanup.batch-size:200}") int batchSize,
+                                  @Value("${process-history.cleanup.max-batches:50}") int maxBatches) {
+        this.historyService = historyService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveStore = archiveStore;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    /**
+     * 定时归档清理，每次最多处理 max-batches 批，剩余的下次继续
+     */
+    @Scheduled(cron = "${process-history.cleanup.cron:0 0 3 * * ?}")
+    public void archive() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!tryAdvisoryLock(connection)) {
+                log.info("其他实例正在归档流程历史，本次跳过");
+                return null;
+            }
+            try {
+                archiveExpired(connection);
+            } finally {
+                releaseAdvisoryLock(connection);
+            }
+            return null;
+        });
+    }
+
+    private void archiveExpired(Connection connection) {
+        Date cutoff = Date.from(Instant.now().minus(retention));
+        String runKey = LocalDateTime.now().format(KEY_FORMAT);
+        int archived = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<String> processInstanceIds = historyService.createHistoricProcessInstanceQuery()
+                    .finished()
+                    .finishedBefore(cutoff)
+                    .orderByProcessInstanceEndTime().asc()
+                    .listPage(0, batchSize)
+                    .stream()
+                    .map(HistoricProcessInstance::getId)
+                    .toList();
+            if (processInstanceIds.isEmpty()) {
+                break;
+            }
+            try {
+                long rows = exportBatch(connection, processInstanceIds, "process-history/" + runKey + "-" + batch + ".jsonl.gz");
+                historyService.bulkDeleteHistoricProcessInstances(processInstanceIds);
+                archived += processInstanceIds.size();
+                log.debug("流程历史批次已归档: batch={}, 实例数={}, 行数={}", batch, processInstanceIds.size(), rows);
+            } catch (IOException | SQLException e) {
+                log.error("流程历史归档失败，保留该批历史待下次处理: batch={}", batch, e);
+                break;
+            }
+            if (processInstanceIds.size() < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("流程历史归档完成: 实例数={}, 截止时间={}", archived, cutoff);
+        }
+    }
+
+    /**
+     * 将一批流程实例的历史导出为gzip压缩的JSON Lines并保存到归档存储
+     */
+    private long exportBatch(Connection connection, List<String> processInstanceIds, String key)
+            throws SQLException, IOException {
+        List<ObjectNode> instances = new ArrayList<>(processInstanceIds.size());
+        try (PreparedStatement statement = connection.prepareStatement(EXPORT_SQL)) {
+            statement.setArray(1, connection.createArrayOf("varchar", processInstanceIds.toArray()));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    instances.add((ObjectNode) objectMapper.readTree(rs.getString(1)));
+                }
+            }
+        }
+        Map<String, String> payloads = loadRefPayloads(connection, instances);
+
+        Path tmp = Files.createTempFile("process-history-", ".jsonl.gz");
+        try {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tmp), 64 * 1024), StandardCharsets.UTF_8))) {
+                for (ObjectNode instance : instances) {
+                    inlineReferences(instance, payloads, objectMapper);
+                    writer.write(objectMapper.writeValueAsString(instance));
+                    writer.write('\n');
+                }
+            }
+            archiveStore.put(key, tmp);
+            return instances.size();
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * 一次查询本批所有引用型变量的内容
+     */
+    private Map<String, String> loadRefPayloads(Connection connection, List<ObjectNode> instances) throws SQLException {
+        Set<String> refIds = new LinkedHashSet<>();
+        for (ObjectNode instance : instances) {
+            for (JsonNode variable : instance.path("variables")) {
+                if (isReference(variable)) {
+                    refIds.add(variable.get("text").asText());
+                }
+            }
+        }
+        Map<String, String> payloads = new HashMap<>();
+        if (refIds.isEmpty()) {
+            return payloads;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(REF_PAYLOAD_SQL)) {
+            statement.setArray(1, connection.createArrayOf("varchar", refIds.toArray()));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    payloads.put(rs.getString(1), rs.getString(2));
+                }
+            }
+        }
+        return payloads;
+    }
+
+    /**
+     * 把引用型变量的内容写入 value 字段，归档文件不再依赖 lims_variable_ref
+     *
+     * @param instance 单个流程实例的归档JSON
+     * @param payloads 引用ID -> 内容（JSON数组文本）
+     */
+    static void inlineReferences(ObjectNode instance, Map<String, String> payloads, ObjectMapper objectMapper)
+            throws IOException {
+        for (JsonNode variable : instance.path("variables")) {
+            if (!isReference(variable)) {
+                continue;
+            }
+            String refId = variable.get("text").asText();
+            String payload = payloads.get(refId);
+            if (payload == null) {
+                log.warn("归档时流程变量引用已不存在: processInstanceId={}, name={}, refId={}",
+                        instance.path("processInstance").path("id_").asText(), variable.path("name").asText(), refId);
+                continue;
+            }
+            ((ObjectNode) variable).set("value", objectMapper.readTree(payload));
+        }
+    }
+
+    private static boolean isReference(JsonNode variable) {
+        return ReferencedListVariableType.TYPE_NAME.equals(variable.path("type").asText())
+                && variable.hasNonNull("text");
+    }
+
+    private boolean tryAdvisoryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private void releaseAdvisoryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.arkone.flowable.history;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.bpmn.constants.BpmnXMLConstants;
+import org.flowable.bpmn.model.BaseElement;
+import org.flowable.bpmn.model.ExtensionElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.bpmn.parser.BpmnParse;
+import org.flowable.engine.impl.bpmn.parser.handler.AbstractBpmnParseHandler;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 按流程定义设置历史级别
+ *
+ * <p>全局 {@code flowable.history-level} 作为默认值，{@code process-history.levels} 按流程定义Key覆盖，
+ * 如高通量的 pcr_sequencing 使用 audit，不再为每次变量更新写 ACT_HI_DETAIL。
+ * 解析BPMN时为匹配的流程添加 {@code flowable:historyLevel} 扩展元素，由引擎在
+ * {@code enableProcessDefinitionHistoryLevel} 开启时读取；BPMN中已声明的历史级别优先。</p>
+ *
+ * <p>流程实例详情和样本历史依赖 ACT_HI_ACTINST，覆盖值不应低于 activity。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ProcessHistoryLevelParseHandler extends AbstractBpmnParseHandler<Process> {
+
+    private static final String HISTORY_LEVEL_ELEMENT = "historyLevel";
+
+    private final Map<String, String> levels;
+
+    public ProcessHistoryLevelParseHandler(Environment environment) {
+        Map<String, String> configured = Binder.get(environment)
+                .bind("process-history.levels", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        Map<String, String> validated = new HashMap<>();
+        configured.forEach((processKey, level) -> {
+            // 启动时校验，避免拼写错误在部署时才暴露
+            validated.put(processKey, HistoryLevel.getHistoryLevelForKey(level.trim()).getKey());
+        });
+        this.levels = Map.copyOf(validated);
+        if (!levels.isEmpty()) {
+            log.info("流程历史级别覆盖: {}", levels);
+        }
+    }
+
+    @Override
+    protected Class<? extends BaseElement> getHandledType() {
+        return Process.class;
+    }
+
+    @Override
+    protected void executeParse(BpmnParse bpmnParse, Process process) {
+        String level = levels.get(process.getId());
+        if (level == null || process.getExtensionElements().containsKey(HISTORY_LEVEL_ELEMENT)) {
+            return;
+        }
+        ExtensionElement element = new ExtensionElement();
+        element.setNamespace(BpmnXMLConstants.FLOWABLE_EXTENSIONS_NAMESPACE);
+        element.setNamespacePrefix(BpmnXMLConstants.FLOWABLE_EXTENSIONS_PREFIX);
+        element.setName(HISTORY_LEVEL_ELEMENT);
+        element.setElementText(level);
+        process.addExtensionElement(element);
+    }
+
+    /**
+     * 已配置的历史级别覆盖
+     *
+     * @return 流程定义Key到历史级别的映射
+     */
+    public Map<String, String> getLevels() {
+        return levels;
+    }
+}
@@ -0,0 +1,82 @@
+package com.arkone.flowable.idempotency;
+
+/**
+ * 幂等键记录
+ *
+ * <p>存储格式为单个字符串，便于Redis和内存实现共用：</p>
+ * <ul>
+ *   <li>处理中：{@code P:<指纹>}</li>
+ *   <li>已完成：{@code C:<指纹>:<响应JSON>}</li>
+ * </ul>
+ * 指纹为请求内容的SHA-256十六进制串，不含分隔符。
+ *
+ * @param state       状态
+ * @param fingerprint 请求指纹
+ * @param response    已完成时缓存的响应JSON
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public record IdempotencyRecord(State state, String fingerprint, String response) {
+
+    /**
+     * 幂等键状态
+     */
+    public enum State {
+        /**
+         * 本次调用成功占用幂等键，应执行业务逻辑
+         */
+        ACQUIRED,
+        /**
+         * 相同幂等键的请求正在处理
+         */
+        PROCESSING,
+        /**
+         * 相同幂等键的请求已完成，可直接返回缓存的响应
+         */
+        COMPLETED
+    }
+
+    private static final String PROCESSING_PREFIX = "P:";
+    private static final String COMPLETED_PREFIX = "C:";
+
+    public static IdempotencyRecord acquired(String fingerprint) {
+        return new IdempotencyRecord(State.ACQUIRED, fingerprint, null);
+    }
+
+    /**
+     * 编码处理中标记
+     */
+    public static String encodeProcessing(String fingerprint) {
+        return PROCESSING_PREFIX + fingerprint;
+    }
+
+    /**
+     * 编码已完成记录
+     */
+    public static String encodeCompleted(String fingerprint, String response) {
+        return COMPLETED_PREFIX + fingerprint + ":" + response;
+    }
+
+    /**
+     * 解码存储值
+     *
+     * @param value 存储值
+     * @return 记录，无法识别时返回null
+     */
+    public static IdempotencyRecord decode(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.startsWith(PROCESSING_PREFIX)) {
+            return new IdempotencyRecord(State.PROCESSING, value.substring(PROCESSING_PREFIX.length()), null);
+        }
+        if (value.startsWith(COMPLETED_PREFIX)) {
+            int separator = value.indexOf(':', COMPLETED_PREFIX.length());
+            if (separator > 0) {
+                return new IdempotencyRecord(State.COMPLETED,
+                        value.substring(COMPLETED_PREFIX.length(), separator), value.substring(separator + 1));
+            }
+        }
+        return null;
+    }
+}
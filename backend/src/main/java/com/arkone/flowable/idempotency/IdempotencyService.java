@@ -0,0 +1,145 @@
+package com.arkone.flowable.idempotency;
+
+import cn.hutool.crypto.digest.DigestUtil;
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.common.Result;
+import com.arkone.flowable.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 幂等请求执行器
+ *
+ * <p>客户端通过请求头 {@code Idempotency-Key} 标识一次业务操作，重试时携带相同的键：</p>
+ * <ul>
+ *   <li>首次请求：占用幂等键后执行，成功时缓存 {@link Result}，失败时释放幂等键允许重试</li>
+ *   <li>已完成的重复请求：不再执行，直接返回缓存的 {@link Result}</li>
+ *   <li>处理中的重复请求（如双击）：返回 {@link ErrorCode#IDEMPOTENT_REQUEST_IN_PROGRESS}</li>
+ *   <li>相同键但请求内容不同：返回 {@link ErrorCode#IDEMPOTENCY_KEY_REUSED}</li>
+ * </ul>
+ *
+ * <p>应在控制器层调用，保证缓存响应时业务事务已经提交。
+ * 幂等存储不可用时降级为直接执行，由样本锁和任务状态校验兜底防止重复写入。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    /**
+     * 幂等键请求头
+     */
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final String KEY_PREFIX = "idem:";
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader responseReader;
+    private final Duration ttl;
+    private final Duration processingTtl;
+
+    public IdempotencyService(IdempotencyStore store,
+                              ObjectMapper objectMapper,
+                              @Value("${idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${idempotency.processing-ttl:PT5M}") Duration processingTtl) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        // Result序列化时带有只读的success等派生属性，还原时忽略，不依赖容器ObjectMapper的全局配置
+        this.responseReader = objectMapper.readerFor(Result.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.ttl = ttl;
+        this.processingTtl = processingTtl;
+    }
+
+    /**
+     * 幂等执行
+     *
+     * @param idempotencyKey 客户端幂等键，为空时直接执行
+     * @param scope          操作范围（如 task-complete），不同操作的相同键互不影响
+     * @param request        请求内容，用于识别同键不同请求
+     * @param action         业务操作
+     * @param <T>            响应数据类型
+     * @return 本次或缓存的响应
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> execute(String idempotencyKey, String scope, Object request, Supplier<Result<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "幂等键长度不能超过" + MAX_KEY_LENGTH);
+        }
+
+        String key = KEY_PREFIX + scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(scope, request);
+
+        IdempotencyRecord record;
+        try {
+            record = store.begin(key, fingerprint, processingTtl);
+        } catch (RuntimeException e) {
+            log.warn("幂等存储不可用，直接执行: key={}, error={}", key, e.getMessage());
+            return action.get();
+        }
+
+        if (record.state() != IdempotencyRecord.State.ACQUIRED) {
+            if (!fingerprint.equals(record.fingerprint())) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            if (record.state() == IdempotencyRecord.State.PROCESSING) {
+                throw new BusinessException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            }
+            log.info("幂等请求命中缓存: key={}", key);
+            try {
+                // 缓存的data按通用JSON结构还原，序列化输出与首次响应一致
+                return responseReader.readValue(record.response());
+            } catch (JsonProcessingException e) {
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "幂等响应解析失败");
+            }
+        }
+
+        Result<T> result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            releaseQuietly(key, fingerprint);
+            throw e;
+        }
+
+        try {
+            store.complete(key, fingerprint, objectMapper.writeValueAsString(result), ttl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 业务已提交，缓存失败只影响后续重试的短路
+            log.warn("幂等响应缓存失败: key={}, error={}", key, e.getMessage());
+            releaseQuietly(key, fingerprint);
+        }
+        return result;
+    }
+
+    private String fingerprint(String scope, Object request) {
+        try {
+            return DigestUtil.sha256Hex(scope + "\n" + objectMapper.writeValueAsString(request));
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "请求内容无法序列化");
+        }
+    }
+
+    private void releaseQuietly(String key, String fingerprint) {
+        try {
+            store.release(key, fingerprint);
+        } catch (RuntimeException e) {
+            log.warn("幂等键释放失败: key={}, error={}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.arkone.flowable.idempotency;
+
+import java.time.Duration;
+
+/**
+ * 幂等键存储
+ *
+ * <p>通过 {@code idempotency.store} 选择实现：redis（默认，多实例共享）、memory（单实例/测试）。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 尝试占用幂等键
+     * <p>键不存在时原子地写入处理中标记并返回 ACQUIRED；已存在时返回当前记录</p>
+     *
+     * @param key           幂等键
+     * @param fingerprint   请求指纹
+     * @param processingTtl 处理中标记的有效期（进程崩溃时自动释放）
+     * @return 记录
+     */
+    IdempotencyRecord begin(String key, String fingerprint, Duration processingTtl);
+
+    /**
+     * 保存已完成请求的响应
+     *
+     * @param key         幂等键
+     * @param fingerprint 请求指纹
+     * @param response    响应JSON
+     * @param ttl         保留时长
+     */
+    void complete(String key, String fingerprint, String response, Duration ttl);
+
+    /**
+     * 释放处理中的幂等键（业务失败时调用，允许客户端重试）
+     *
+     * @param key         幂等键
+     * @param fingerprint 请求指纹，只删除本请求写入的处理中标记
+     */
+    void release(String key, String fingerprint);
+}
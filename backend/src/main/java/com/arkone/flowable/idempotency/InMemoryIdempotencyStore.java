@@ -0,0 +1,75 @@
+package com.arkone.flowable.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 基于内存的幂等键存储
+ * <p>仅适用于单实例部署和测试，重启后记录丢失</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory")
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    /**
+     * 每多少次占用清理一次过期记录
+     */
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger operations = new AtomicInteger();
+
+    @Override
+    public IdempotencyRecord begin(String key, String fingerprint, Duration processingTtl) {
+        if (operations.incrementAndGet() % PURGE_INTERVAL == 0) {
+            purgeExpired();
+        }
+        long now = System.nanoTime();
+        Entry candidate = new Entry(IdempotencyRecord.encodeProcessing(fingerprint), now + processingTtl.toNanos());
+        Entry current = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired(now) ? candidate : existing);
+        if (current == candidate) {
+            return IdempotencyRecord.acquired(fingerprint);
+        }
+        return IdempotencyRecord.decode(current.value());
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, String response, Duration ttl) {
+        entries.put(key, new Entry(IdempotencyRecord.encodeCompleted(fingerprint, response),
+                System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void release(String key, String fingerprint) {
+        String marker = IdempotencyRecord.encodeProcessing(fingerprint);
+        entries.computeIfPresent(key, (k, existing) -> marker.equals(existing.value()) ? null : existing);
+    }
+
+    /**
+     * 当前记录数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private record Entry(String value, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.arkone.flowable.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 基于Redis的幂等键存储
+ *
+ * <p>占用使用 {@code SET NX PX}，释放使用比较后删除的Lua脚本，
+ * 避免误删其他请求在本请求标记过期后写入的记录。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "redis", matchIfMissing = true)
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final RedisScript<Long> COMPARE_AND_DELETE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public IdempotencyRecord begin(String key, String fingerprint, Duration processingTtl) {
+        String marker = IdempotencyRecord.encodeProcessing(fingerprint);
+        // 读取与占用之间记录可能恰好过期，重试一次
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, marker, processingTtl))) {
+                return IdempotencyRecord.acquired(fingerprint);
+            }
+            IdempotencyRecord existing = IdempotencyRecord.decode(redisTemplate.opsForValue().get(key));
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return new IdempotencyRecord(IdempotencyRecord.State.PROCESSING, fingerprint, null);
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, String response, Duration ttl) {
+        redisTemplate.opsForValue().set(key, IdempotencyRecord.encodeCompleted(fingerprint, response), ttl);
+    }
+
+    @Override
+    public void release(String key, String fingerprint) {
+        redisTemplate.execute(COMPARE_AND_DELETE, List.of(key), IdempotencyRecord.encodeProcessing(fingerprint));
+    }
+}
@@ -0,0 +1,109 @@
+package com.arkone.flowable.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Flowable异步执行器运行统计
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsyncExecutorStats {
+
+    /**
+     * 是否使用虚拟线程
+     */
+    private boolean virtualThreads;
+
+    /**
+     * 最大并发数（平台线程模式为最大线程数）
+     */
+    private int maxConcurrency;
+
+    /**
+     * 已领取、等待线程执行的作业数
+     */
+    private int queueDepth;
+
+    /**
+     * 正在执行的作业数
+     */
+    private int activeCount;
+
+    /**
+     * 剩余容量，执行器据此决定每轮领取的作业数
+     */
+    private int remainingCapacity;
+
+    /**
+     * 已提交执行的作业数
+     */
+    private long submitted;
+
+    /**
+     * 已执行结束的作业数
+     */
+    private long completed;
+
+    /**
+     * 容量满被拒绝的次数（作业释放锁后下一轮重新领取）
+     */
+    private long rejected;
+
+    /**
+     * 执行线程上未被引擎处理的异常数
+     */
+    private long uncaughtFailures;
+
+    /**
+     * 平均排队等待时间（毫秒）
+     */
+    private double avgQueueWaitMillis;
+
+    /**
+     * 最大排队等待时间（毫秒）
+     */
+    private double maxQueueWaitMillis;
+
+    /**
+     * 执行成功的作业数
+     */
+    private long jobSucceeded;
+
+    /**
+     * 执行失败的作业数（每次失败都计入，包括随后重试成功的）
+     */
+    private long jobFailed;
+
+    /**
+     * 重试次数被扣减的次数
+     */
+    private long retriesDecremented;
+
+    /**
+     * 作业从到期到执行完成的平均延迟（毫秒），反映领取是否跟得上
+     */
+    private double avgJobLatencyMillis;
+
+    /**
+     * 作业从到期到执行完成的最大延迟（毫秒）
+     */
+    private double maxJobLatencyMillis;
+
+    /**
+     * 当前等待重试的失败作业数
+     */
+    private long retryingJobs;
+
+    /**
+     * 重试耗尽进入死信的作业数
+     */
+    private long deadLetterJobs;
+}
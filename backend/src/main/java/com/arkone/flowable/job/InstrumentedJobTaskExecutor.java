@@ -0,0 +1,194 @@
+package com.arkone.flowable.job;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Flowable异步作业执行线程池
+ *
+ * <p>替换异步执行器默认的线程池，线程数和队列长度由 {@code flowable-async.*} 配置，并统计排队深度、
+ * 排队等待时间和拒绝次数。两种模式：</p>
+ * <ul>
+ *   <li>平台线程（默认）：core/max 线程 + 有界队列，适合CPU密集或数据库操作为主的作业</li>
+ *   <li>虚拟线程（{@code flowable-async.virtual-threads=true}）：每个作业一个虚拟线程，以信号量限制并发数，
+ *       适合调用外部系统等I/O密集的服务任务；并发上限不应超过数据库连接池大小太多，否则作业会在等待连接时阻塞</li>
+ * </ul>
+ *
+ * <p>执行器领取作业前会按 {@link #getRemainingCapacity()} 控制领取数量，容量满时返回的拒绝由执行器释放作业锁，
+ * 作业留在表中等待下一轮领取。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class InstrumentedJobTaskExecutor implements AsyncTaskExecutor {
+
+    private final boolean virtualThreads;
+    private final ExecutorService executor;
+    private final BlockingQueue<Runnable> queue;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+    public InstrumentedJobTaskExecutor(@Value("${flowable-async.virtual-threads:false}") boolean virtualThreads,
+                                       @Value("${flowable-async.core-pool-size:8}") int corePoolSize,
+                                       @Value("${flowable-async.max-pool-size:16}") int maxPoolSize,
+                                       @Value("${flowable-async.queue-size:2048}") int queueSize,
+                                       @Value("${flowable-async.max-concurrency:64}") int maxConcurrency) {
+        this.virtualThreads = virtualThreads;
+        if (virtualThreads) {
+            this.queue = null;
+            this.permits = new Semaphore(maxConcurrency);
+            this.maxConcurrency = maxConcurrency;
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("flowable-job-vt-", 0).factory());
+            log.info("Flowable异步作业使用虚拟线程: maxConcurrency={}", maxConcurrency);
+        } else {
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+            this.permits = null;
+            this.maxConcurrency = maxPoolSize;
+            AtomicInteger threadIndex = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(corePoolSize, maxPoolSize, 60, TimeUnit.SECONDS, queue,
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "flowable-job-" + threadIndex.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+            log.info("Flowable异步作业线程池: core={}, max={}, queue={}", corePoolSize, maxPoolSize, queueSize);
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submit(task);
+    }
+
+    @Override
+    public CompletableFuture<?> submit(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        if (permits != null && !permits.tryAcquire()) {
+            rejected.increment();
+            throw new RejectedExecutionException("Flowable异步作业并发已达上限: " + maxConcurrency);
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        queued.incrementAndGet();
+        try {
+            executor.execute(() -> run(task, future, submittedAt));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            rejected.increment();
+            if (permits != null) {
+                permits.release();
+            }
+            throw e;
+        }
+        submitted.increment();
+        return future;
+    }
+
+    private <T> void run(Callable<T> task, CompletableFuture<T> future, long submittedAt) {
+        long waited = System.nanoTime() - submittedAt;
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        queueWaitNanos.add(waited);
+        maxQueueWaitNanos.accumulateAndGet(waited, Math::max);
+        T result = null;
+        Throwable error = null;
+        try {
+            result = task.call();
+        } catch (Throwable e) {
+            failed.increment();
+            error = e;
+        } finally {
+            active.decrementAndGet();
+            completed.increment();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+        // 先归还容量再通知调用方，调用方看到结果时统计已更新
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(result);
+        }
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        return permits != null ? permits.availablePermits() : queue.remainingCapacity();
+    }
+
+    @Override
+    @PreDestroy
+    public void shutdown() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Flowable异步作业线程池关闭超时，剩余作业由作业锁过期后重新领取");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 当前统计快照（作业结果和重试由 {@link JobExecutionMetrics} 补充）
+     */
+    AsyncExecutorStats.AsyncExecutorStatsBuilder snapshot() {
+        long done = completed.sum();
+        return AsyncExecutorStats.builder()
+                .virtualThreads(virtualThreads)
+                .maxConcurrency(maxConcurrency)
+                .queueDepth(queued.get())
+                .activeCount(active.get())
+                .remainingCapacity(getRemainingCapacity())
+                .submitted(submitted.sum())
+                .completed(done)
+                .rejected(rejected.sum())
+                .uncaughtFailures(failed.sum())
+                .avgQueueWaitMillis(done > 0 ? queueWaitNanos.sum() / done / 1_000_000.0 : 0)
+                .maxQueueWaitMillis(maxQueueWaitNanos.get() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,136 @@
+package com.arkone.flowable.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.ManagementService;
+import org.flowable.job.api.Job;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Flowable作业执行指标
+ *
+ * <p>监听作业成功、失败和重试扣减事件，统计作业从到期（异步延续为创建时间）到执行完成的延迟，
+ * 延迟持续升高说明领取批量或线程数跟不上；结合 {@link InstrumentedJobTaskExecutor} 的排队统计
+ * 和作业表中等待重试、死信的数量，组成异步执行器统计。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobExecutionMetrics implements FlowableEventListener {
+
+    private final InstrumentedJobTaskExecutor jobTaskExecutor;
+    /**
+     * 延迟获取，避免流程引擎初始化时的循环依赖
+     */
+    private final ObjectProvider<ManagementService> managementService;
+
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retriesDecremented = new LongAdder();
+    private final LongAdder latencyMillis = new LongAdder();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (event.getType() == FlowableEngineEventType.JOB_RETRIES_DECREMENTED) {
+            retriesDecremented.increment();
+        } else if (event.getType() == FlowableEngineEventType.JOB_EXECUTION_FAILURE) {
+            failed.increment();
+        } else if (event.getType() == FlowableEngineEventType.JOB_EXECUTION_SUCCESS) {
+            succeeded.increment();
+            if (event instanceof FlowableEngineEntityEvent entityEvent && entityEvent.getEntity() instanceof Job job) {
+                long latency = latencyMillis(job, System.currentTimeMillis());
+                if (latency >= 0) {
+                    latencyMillis.add(latency);
+                    maxLatencyMillis.accumulateAndGet(latency, Math::max);
+                }
+            }
+        }
+    }
+
+    /**
+     * 作业从可执行（到期时间与创建时间中较晚者）到执行完成的延迟，无法确定起点时返回-1
+     */
+    static long latencyMillis(Job job, long now) {
+        Date dueDate = job.getDuedate();
+        Date createTime = job.getCreateTime();
+        Date start = dueDate == null || (createTime != null && createTime.after(dueDate)) ? createTime : dueDate;
+        return start != null ? Math.max(0, now - start.getTime()) : -1;
+    }
+
+    /**
+     * 异步执行器统计
+     *
+     * @return 统计快照
+     */
+    public AsyncExecutorStats stats() {
+        AsyncExecutorStats stats = executorStats();
+        try {
+            stats.setRetryingJobs(retryingJobCount());
+            stats.setDeadLetterJobs(deadLetterJobCount());
+        } catch (Exception e) {
+            log.warn("查询失败作业数量异常: {}", e.getMessage());
+        }
+        return stats;
+    }
+
+    /**
+     * 线程池和作业执行统计（不查询作业表）
+     *
+     * @return 统计快照，等待重试和死信数量为0
+     */
+    public AsyncExecutorStats executorStats() {
+        long success = succeeded.sum();
+        return jobTaskExecutor.snapshot()
+                .jobSucceeded(success)
+                .jobFailed(failed.sum())
+                .retriesDecremented(retriesDecremented.sum())
+                .avgJobLatencyMillis(success > 0 ? (double) latencyMillis.sum() / success : 0)
+                .maxJobLatencyMillis(maxLatencyMillis.get())
+                .build();
+    }
+
+    /**
+     * 执行失败、等待重试的作业数
+     */
+    public long retryingJobCount() {
+        ManagementService management = managementService.getObject();
+        // 失败后还有重试次数的异步作业会移到定时作业表，等重试间隔到期后再执行
+        return management.createTimerJobQuery().withException().count()
+                + management.createJobQuery().withException().count();
+    }
+
+    /**
+     * 重试耗尽的死信作业数
+     */
+    public long deadLetterJobCount() {
+        return managementService.getObject().createDeadLetterJobQuery().count();
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+    @Override
+    public boolean isFireOnTransactionLifecycleEvent() {
+        return false;
+    }
+
+    @Override
+    public String getOnTransaction() {
+        return null;
+    }
+}
@@ -0,0 +1,224 @@
+package com.arkone.flowable.job;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.entity.ProcessBulkOperation;
+import com.arkone.flowable.repository.ProcessBulkOperationMapper;
+import com.arkone.flowable.service.SampleService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cmd.ActivateProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.DeleteProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.SuspendProcessInstanceCmd;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 流程批量操作作业处理器
+ *
+ * <p>批量挂起/激活/取消由 Flowable 异步执行器按块执行，每块是一个异步作业、一个事务：
+ * 一次查询取回本块全部流程实例，在作业的命令上下文中直接执行挂起/激活/删除命令，
+ * 一条集合更新修改关联样本状态，再累加进度；当前块提交时才创建下一块的作业，
+ * 数千个实例也不会持有长事务或占满异步执行器。</p>
+ *
+ * <p>块内任何异常都会使整块回滚，由 Flowable 按作业重试策略重新执行；进度以
+ * {@code processed_count = offset} 为条件累加，同一块不会重复计数。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ProcessBulkOperationJobHandler implements JobHandler {
+
+    public static final String TYPE = "lims-process-bulk-operation";
+
+    public static final String ACTION_SUSPEND = "suspend";
+    public static final String ACTION_ACTIVATE = "activate";
+    public static final String ACTION_CANCEL = "cancel";
+
+    private final ProcessBulkOperationMapper processBulkOperationMapper;
+    /**
+     * 延迟获取，避免流程引擎初始化时提前创建业务服务Bean
+     */
+    private final ObjectProvider<SampleService> sampleService;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ProcessBulkOperationJobHandler(ProcessBulkOperationMapper processBulkOperationMapper,
+                                          ObjectProvider<SampleService> sampleService,
+                                          ObjectMapper objectMapper,
+                                          @Value("${process-bulk.chunk-size:100}") int chunkSize) {
+        this.processBulkOperationMapper = processBulkOperationMapper;
+        this.sampleService = sampleService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    /**
+     * 创建一块的异步作业
+     * <p>作业随当前事务提交，提交后由异步执行器领取</p>
+     *
+     * @param commandContext 当前命令上下文
+     * @param operationId    操作ID
+     * @param offset         本块起始偏移
+     */
+    public static void schedule(CommandContext commandContext, String operationId, int offset) {
+        JobService jobService = CommandContextUtil.getProcessEngineConfiguration(commandContext)
+                .getJobServiceConfiguration()
+                .getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(TYPE);
+        job.setJobHandlerConfiguration(operationId + ":" + offset);
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        int separator = configuration.lastIndexOf(':');
+        String operationId = configuration.substring(0, separator);
+        int offset = Integer.parseInt(configuration.substring(separator + 1));
+
+        ProcessBulkOperation operation = processBulkOperationMapper.selectById(operationId);
+        if (operation == null) {
+            log.warn("流程批量操作不存在，忽略作业: operationId={}", operationId);
+            return;
+        }
+        if (operation.getProcessedCount() != offset) {
+            log.warn("流程批量操作的该块已处理，跳过: operationId={}, offset={}, processed={}",
+                    operationId, offset, operation.getProcessedCount());
+            return;
+        }
+
+        List<String> processInstanceIds = processBulkOperationMapper.selectInstanceSlice(operationId, offset, chunkSize);
+        Map<String, Boolean> suspendedById = processInstanceIds.isEmpty()
+                ? Map.of()
+                : CommandContextUtil.getProcessEngineConfiguration(commandContext).getRuntimeService()
+                .createProcessInstanceQuery()
+                .processInstanceIds(new HashSet<>(processInstanceIds))
+                .list()
+                .stream()
+                .collect(Collectors.toMap(ProcessInstance::getId, ProcessInstance::isSuspended));
+
+        ChunkPlan plan = plan(operation.getAction(), processInstanceIds, offset, suspendedById);
+        String deleteReason = operation.getReason() != null && !operation.getReason().isBlank()
+                ? operation.getReason() : "cancelled";
+        // 直接在作业的命令上下文中执行命令，不经过拦截器链开启嵌套事务
+        for (String processInstanceId : plan.toApply()) {
+            switch (operation.getAction()) {
+                case ACTION_SUSPEND -> new SuspendProcessInstanceCmd(processInstanceId).execute(commandContext);
+                case ACTION_ACTIVATE -> new ActivateProcessInstanceCmd(processInstanceId).execute(commandContext);
+                case ACTION_CANCEL -> new DeleteProcessInstanceCmd(processInstanceId, deleteReason).execute(commandContext);
+                default -> throw new FlowableException("未知的批量操作类型: " + operation.getAction());
+            }
+        }
+        int sampleCount = sampleService.getObject().updateStatusByProcessInstances(plan.toApply(),
+                sampleStatusOf(operation.getAction()), operation.getReason());
+
+        int successCount = plan.toApply().size() + plan.unchanged();
+        int updated = processBulkOperationMapper.recordChunk(operationId, offset, processInstanceIds.size(),
+                successCount, plan.failures().size(), toJson(plan.failures()));
+        if (updated == 0) {
+            // 并发执行了同一块，回滚本块，以先提交的为准
+            throw new FlowableException("流程批量操作进度已变化，放弃本块: " + configuration);
+        }
+
+        int next = offset + processInstanceIds.size();
+        if (!processInstanceIds.isEmpty() && next < operation.getTotal()) {
+            schedule(commandContext, operationId, next);
+        }
+        log.info("流程批量操作块完成: operationId={}, action={}, offset={}, 成功={}, 失败={}, 样本数={}",
+                operationId, operation.getAction(), offset, successCount, plan.failures().size(), sampleCount);
+    }
+
+    /**
+     * 根据流程实例当前状态确定本块需要执行的实例
+     *
+     * @param action            操作类型
+     * @param processInstanceIds 本块流程实例ID
+     * @param offset            本块起始偏移，用于计算失败明细的索引
+     * @param suspendedById     运行中的流程实例及其挂起状态（已结束的实例不在其中）
+     * @return 执行计划
+     */
+    static ChunkPlan plan(String action, List<String> processInstanceIds, int offset, Map<String, Boolean> suspendedById) {
+        List<String> toApply = new ArrayList<>();
+        List<BatchOperationResult.BatchOperationError> failures = new ArrayList<>();
+        int unchanged = 0;
+        for (int i = 0; i < processInstanceIds.size(); i++) {
+            String processInstanceId = processInstanceIds.get(i);
+            Boolean suspended = suspendedById.get(processInstanceId);
+            if (suspended == null) {
+                failures.add(BatchOperationResult.BatchOperationError.builder()
+                        .index(offset + i)
+                        .errorCode(ErrorCode.PROCESS_INSTANCE_NOT_FOUND.name())
+                        .errorMessage("流程实例不存在或已结束")
+                        .data(processInstanceId)
+                        .build());
+                continue;
+            }
+            boolean alreadyDone = switch (action) {
+                case ACTION_SUSPEND -> suspended;
+                case ACTION_ACTIVATE -> !suspended;
+                default -> false;
+            };
+            if (alreadyDone) {
+                unchanged++;
+            } else {
+                toApply.add(processInstanceId);
+            }
+        }
+        return new ChunkPlan(toApply, unchanged, failures);
+    }
+
+    /**
+     * 操作对应的样本状态
+     */
+    static String sampleStatusOf(String action) {
+        return switch (action) {
+            case ACTION_SUSPEND -> "suspended";
+            case ACTION_ACTIVATE -> "in_progress";
+            case ACTION_CANCEL -> "pending";
+            default -> throw new IllegalArgumentException("未知的批量操作类型: " + action);
+        };
+    }
+
+    private String toJson(List<BatchOperationResult.BatchOperationError> failures) {
+        try {
+            return objectMapper.writeValueAsString(failures);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("失败明细序列化失败", e);
+        }
+    }
+
+    /**
+     * 块执行计划
+     *
+     * @param toApply   需要执行的流程实例
+     * @param unchanged 已是目标状态的实例数
+     * @param failures  失败明细
+     */
+    record ChunkPlan(List<String> toApply, int unchanged, List<BatchOperationResult.BatchOperationError> failures) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.arkone.flowable.lock;
+
+import java.time.Duration;
+
+/**
+ * 按键加锁的锁提供者
+ *
+ * <p>通过 {@code sample-lock.provider} 选择实现：redis（默认，多实例互斥）、local（单实例分段锁）。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface KeyedLockProvider {
+
+    /**
+     * 将业务键映射为实际加锁的键
+     * <p>调用方按该键排序后依次加锁，避免不同请求以不同顺序加锁造成死锁；
+     * 分段锁实现中多个业务键可能映射到同一个锁</p>
+     *
+     * @param key 业务键
+     * @return 锁键
+     */
+    String lockKey(String key);
+
+    /**
+     * 尝试加锁
+     *
+     * @param lockKey 锁键
+     * @param token   持有者令牌
+     * @param wait    最长等待时间
+     * @param lease   锁租期（持有者异常退出时自动释放，本地实现忽略）
+     * @return 是否成功
+     * @throws InterruptedException 等待被中断
+     */
+    boolean tryLock(String lockKey, String token, Duration wait, Duration lease) throws InterruptedException;
+
+    /**
+     * 释放锁
+     *
+     * @param lockKey 锁键
+     * @param token   持有者令牌
+     */
+    void unlock(String lockKey, String token);
+}
@@ -0,0 +1,147 @@
+package com.arkone.flowable.lock;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * 样本锁服务
+ *
+ * <p>在事务内对样本加锁，锁一直持有到事务提交或回滚之后才释放，
+ * 保证同一样本的任务完成等写操作串行执行，后到的请求能看到先前事务已提交的结果。</p>
+ *
+ * <ul>
+ *   <li>多个样本按锁键排序后依次加锁，不同请求之间不会因加锁顺序相反而死锁</li>
+ *   <li>同一事务内重复加锁直接跳过（批量操作先整体加锁，内部单条操作再次调用时无额外开销）</li>
+ *   <li>等待超时抛出 {@link ErrorCode#SAMPLE_LOCK_TIMEOUT}，已获取的锁随事务结束释放</li>
+ * </ul>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class SampleLockService {
+
+    private final KeyedLockProvider lockProvider;
+    private final Duration waitTimeout;
+    private final Duration lease;
+
+    public SampleLockService(KeyedLockProvider lockProvider,
+                             @Value("${sample-lock.wait-timeout:PT5S}") Duration waitTimeout,
+                             @Value("${sample-lock.lease:PT2M}") Duration lease) {
+        this.lockProvider = lockProvider;
+        this.waitTimeout = waitTimeout;
+        this.lease = lease;
+    }
+
+    /**
+     * 锁定样本直到当前事务结束
+     *
+     * @param sampleIds 样本ID
+     */
+    public void lockForTransaction(Collection<String> sampleIds) {
+        if (sampleIds == null || sampleIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("样本锁必须在事务内获取");
+        }
+
+        HeldLocks held = currentHeldLocks();
+        TreeSet<String> lockKeys = new TreeSet<>();
+        sampleIds.stream()
+                .filter(Objects::nonNull)
+                .map(lockProvider::lockKey)
+                .filter(lockKey -> !held.locks.containsKey(lockKey))
+                .forEach(lockKeys::add);
+
+        for (String lockKey : lockKeys) {
+            boolean acquired;
+            try {
+                acquired = lockProvider.tryLock(lockKey, held.token, waitTimeout, lease);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.SAMPLE_LOCK_TIMEOUT, "样本锁等待被中断");
+            }
+            if (!acquired) {
+                log.warn("样本锁等待超时: lockKey={}, waited={}", lockKey, waitTimeout);
+                throw new BusinessException(ErrorCode.SAMPLE_LOCK_TIMEOUT);
+            }
+            held.locks.put(lockKey, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 锁定单个样本直到当前事务结束
+     *
+     * @param sampleId 样本ID
+     */
+    public void lockForTransaction(String sampleId) {
+        lockForTransaction(List.of(sampleId));
+    }
+
+    private HeldLocks currentHeldLocks() {
+        HeldLocks held = (HeldLocks) TransactionSynchronizationManager.getResource(this);
+        if (held == null) {
+            held = new HeldLocks(UUID.randomUUID().toString());
+            TransactionSynchronizationManager.bindResource(this, held);
+            TransactionSynchronizationManager.registerSynchronization(new ReleaseOnCompletion(held));
+        }
+        return held;
+    }
+
+    /**
+     * 当前事务持有的锁
+     */
+    private static final class HeldLocks {
+
+        private final String token;
+        private final Map<String, Boolean> locks = new LinkedHashMap<>();
+
+        private HeldLocks(String token) {
+            this.token = token;
+        }
+    }
+
+    /**
+     * 事务结束后按加锁的逆序释放
+     */
+    private final class ReleaseOnCompletion implements TransactionSynchronization {
+
+        private final HeldLocks held;
+
+        private ReleaseOnCompletion(HeldLocks held) {
+            this.held = held;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SampleLockService.this);
+            List<String> lockKeys = new ArrayList<>(held.locks.keySet());
+            for (int i = lockKeys.size() - 1; i >= 0; i--) {
+                try {
+                    lockProvider.unlock(lockKeys.get(i), held.token);
+                } catch (RuntimeException e) {
+                    // 租期到期后锁会自动释放
+                    log.warn("样本锁释放失败: lockKey={}, error={}", lockKeys.get(i), e.getMessage());
+                }
+            }
+            held.locks.clear();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.arkone.flowable.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 本地分段锁
+ *
+ * <p>固定数量的 {@link ReentrantLock}，业务键按哈希映射到分段，内存占用与键数量无关。
+ * 只在当前JVM内互斥，适用于单实例部署和测试。锁与线程绑定，必须在加锁线程中释放。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "sample-lock.provider", havingValue = "local")
+public class StripedLockProvider implements KeyedLockProvider {
+
+    private final ReentrantLock[] stripes;
+
+    public StripedLockProvider(@Value("${sample-lock.stripes:1024}") int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(16, stripeCount - 1) << 1);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public String lockKey(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return String.format("stripe-%05d", h & (stripes.length - 1));
+    }
+
+    @Override
+    public boolean tryLock(String lockKey, String token, Duration wait, Duration lease) throws InterruptedException {
+        return stripe(lockKey).tryLock(wait.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void unlock(String lockKey, String token) {
+        ReentrantLock lock = stripe(lockKey);
+        if (lock.isHeldByCurrentThread()) {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripe(String lockKey) {
+        return stripes[Integer.parseInt(lockKey.substring("stripe-".length()))];
+    }
+}
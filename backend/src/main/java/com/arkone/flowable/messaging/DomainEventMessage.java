@@ -0,0 +1,111 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.entity.OutboxEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 领域事件消息
+ * 由 OutboxRelay 从发件箱读出后投递给RabbitMQ或进程内监听器，消费方按 eventId 去重
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainEventMessage {
+
+    /**
+     * 聚合类型：样本
+     */
+    public static final String AGGREGATE_SAMPLE = "Sample";
+
+    /**
+     * 聚合类型：流程实例
+     */
+    public static final String AGGREGATE_PROCESS_INSTANCE = "ProcessInstance";
+
+    /**
+     * 样本创建（含孔位分配）
+     */
+    public static final String SAMPLE_CREATED = "sample.created";
+
+    /**
+     * 样本状态变更
+     */
+    public static final String SAMPLE_STATUS_CHANGED = "sample.status_changed";
+
+    /**
+     * 样本启动流程
+     */
+    public static final String SAMPLE_PROCESS_STARTED = "sample.process_started";
+
+    /**
+     * 样本完成流程节点任务
+     */
+    public static final String SAMPLE_TASK_COMPLETED = "sample.task_completed";
+
+    /**
+     * 流程产生新的用户任务
+     */
+    public static final String TASK_CREATED = "task.created";
+
+    /**
+     * 任务认领、取消认领、委派或转办
+     */
+    public static final String TASK_ASSIGNED = "task.assigned";
+
+    /**
+     * 事件ID（发件箱自增主键，同一聚合内单调递增）
+     */
+    private Long eventId;
+
+    /**
+     * 聚合类型
+     */
+    private String aggregateType;
+
+    /**
+     * 聚合ID
+     */
+    private String aggregateId;
+
+    /**
+     * 事件类型
+     */
+    private String eventType;
+
+    /**
+     * 事件内容
+     */
+    private Map<String, Object> payload;
+
+    /**
+     * 事件发生时间
+     */
+    private LocalDateTime occurredAt;
+
+    /**
+     * 由发件箱记录构建消息
+     *
+     * @param event 发件箱记录
+     * @return 领域事件消息
+     */
+    public static DomainEventMessage from(OutboxEvent event) {
+        return DomainEventMessage.builder()
+                .eventId(event.getId())
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .eventType(event.getEventType())
+                .payload(event.getPayload())
+                .occurredAt(event.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.arkone.flowable.messaging;
+
+import java.util.List;
+
+/**
+ * 领域事件投递通道
+ *
+ * <p>通过 {@code outbox.transport} 选择实现：rabbit（默认）、local（进程内监听器，本地开发与测试）。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface DomainEventPublisher {
+
+    /**
+     * 按顺序投递一批事件，全部被接收后才返回，任一失败时抛出异常
+     *
+     * @param messages 事件列表
+     */
+    void publish(List<DomainEventMessage> messages);
+}
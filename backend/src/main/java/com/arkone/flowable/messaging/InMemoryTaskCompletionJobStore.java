@@ -0,0 +1,109 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.dto.TaskCompletionJobStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 进程内作业状态存储（local 通道）
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "task-completion.async.transport", havingValue = "local")
+public class InMemoryTaskCompletionJobStore implements TaskCompletionJobStore {
+
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+    private final Duration ttl;
+
+    public InMemoryTaskCompletionJobStore(@Value("${task-completion.async.job-ttl:PT24H}") Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    @Override
+    public TaskCompletionJobStatus create(String jobId, int total) {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(ttl);
+        jobs.values().removeIf(job -> job.submittedAt.isBefore(expiredBefore));
+        JobState state = new JobState(total, LocalDateTime.now());
+        jobs.put(jobId, state);
+        return state.snapshot(jobId);
+    }
+
+    @Override
+    public void recordSuccess(String jobId, int count) {
+        JobState state = jobs.get(jobId);
+        if (state != null) {
+            synchronized (state) {
+                state.successCount += count;
+                state.markFinishedIfDone();
+            }
+        }
+    }
+
+    @Override
+    public void recordFailure(String jobId, BatchOperationResult.BatchOperationError error) {
+        JobState state = jobs.get(jobId);
+        if (state != null) {
+            synchronized (state) {
+                state.failureCount++;
+                state.failures.add(error);
+                state.markFinishedIfDone();
+            }
+        }
+    }
+
+    @Override
+    public TaskCompletionJobStatus get(String jobId) {
+        JobState state = jobs.get(jobId);
+        if (state == null) {
+            return null;
+        }
+        synchronized (state) {
+            return state.snapshot(jobId);
+        }
+    }
+
+    private static final class JobState {
+
+        private final int total;
+        private final LocalDateTime submittedAt;
+        private final List<BatchOperationResult.BatchOperationError> failures = new ArrayList<>();
+        private int successCount;
+        private int failureCount;
+        private LocalDateTime finishedAt;
+
+        private JobState(int total, LocalDateTime submittedAt) {
+            this.total = total;
+            this.submittedAt = submittedAt;
+        }
+
+        private void markFinishedIfDone() {
+            if (finishedAt == null && successCount + failureCount >= total) {
+                finishedAt = LocalDateTime.now();
+            }
+        }
+
+        private TaskCompletionJobStatus snapshot(String jobId) {
+            return TaskCompletionJobStatus.builder()
+                    .jobId(jobId)
+                    .status(TaskCompletionJobStatus.resolveStatus(total, successCount, failureCount))
+                    .total(total)
+                    .successCount(successCount)
+                    .failureCount(failureCount)
+                    .failureList(new ArrayList<>(failures))
+                    .submittedAt(submittedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.arkone.flowable.messaging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 进程内领域事件通道（local）
+ *
+ * <p>没有消息中间件时，以Spring应用事件的形式同步分发给 {@code @EventListener(DomainEventMessage.class)} 监听器。
+ * 监听器抛出的异常视为投递失败，该事件会被重试。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.transport", havingValue = "local")
+public class LocalDomainEventPublisher implements DomainEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(List<DomainEventMessage> messages) {
+        for (DomainEventMessage message : messages) {
+            applicationEventPublisher.publishEvent(message);
+        }
+    }
+}
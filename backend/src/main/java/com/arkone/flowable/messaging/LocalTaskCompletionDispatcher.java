@@ -0,0 +1,139 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 进程内任务完成通道（local）
+ *
+ * <p>用有界队列代替消息中间件，供本地开发和测试使用，语义与RabbitMQ通道一致：
+ * 提交方只负责入队，固定数量的工作线程按批取出命令交给 {@link TaskCompletionWorker}。
+ * 队列满时拒绝提交，应用关闭时处理完队列中的剩余命令。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task-completion.async.transport", havingValue = "local")
+public class LocalTaskCompletionDispatcher implements TaskCompletionDispatcher, SmartLifecycle {
+
+    private final TaskCompletionWorker worker;
+    private final BlockingQueue<TaskCompletionCommand> queue;
+    private final int workerCount;
+    private final int batchSize;
+    private final long batchWaitNanos;
+    private final List<Thread> threads = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public LocalTaskCompletionDispatcher(TaskCompletionWorker worker,
+                                         @Value("${task-completion.async.queue-capacity:10000}") int queueCapacity,
+                                         @Value("${task-completion.async.workers:4}") int workerCount,
+                                         @Value("${task-completion.async.batch-size:20}") int batchSize,
+                                         @Value("${task-completion.async.batch-wait-ms:50}") long batchWaitMs) {
+        this.worker = worker;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.batchWaitNanos = TimeUnit.MILLISECONDS.toNanos(batchWaitMs);
+    }
+
+    @Override
+    public void dispatch(List<TaskCompletionCommand> commands) {
+        if (queue.remainingCapacity() < commands.size()) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "任务完成队列已满，请稍后重试");
+        }
+        for (TaskCompletionCommand command : commands) {
+            if (!queue.offer(command)) {
+                throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "任务完成队列已满，请稍后重试");
+            }
+        }
+    }
+
+    /**
+     * 当前排队的命令数
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread thread = new Thread(this::runLoop, "task-completion-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        log.info("进程内任务完成通道已启动: workers={}, batchSize={}", workerCount, batchSize);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        threads.clear();
+        log.info("进程内任务完成通道已停止: 剩余{}条", queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        List<TaskCompletionCommand> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                TaskCompletionCommand first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 短暂等待凑满一批，突发流量下每批都能合并为一次提交
+                long deadline = System.nanoTime() + batchWaitNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    TaskCompletionCommand next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                worker.process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("任务完成命令处理异常: size={}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.entity.OutboxEvent;
+import com.arkone.flowable.repository.OutboxEventMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 发件箱事件记录器
+ *
+ * <p>在调用方的事务内写入 lims_outbox_event，业务变更回滚时事件随之回滚；
+ * 事务提交后唤醒 {@link OutboxRelay} 立即投递，而不必等到下一次轮询。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    private final OutboxEventMapper outboxEventMapper;
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * 记录样本领域事件
+     *
+     * @param sampleId  样本ID
+     * @param eventType 事件类型，见 {@link DomainEventMessage} 常量
+     * @param payload   事件内容
+     */
+    public void recordSampleEvent(String sampleId, String eventType, Map<String, Object> payload) {
+        record(DomainEventMessage.AGGREGATE_SAMPLE, sampleId, eventType, payload);
+    }
+
+    /**
+     * 记录领域事件
+     *
+     * @param aggregateType 聚合类型
+     * @param aggregateId   聚合ID
+     * @param eventType     事件类型
+     * @param payload       事件内容
+     */
+    public void record(String aggregateType, String aggregateId, String eventType, Map<String, Object> payload) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.warn("在事务外记录领域事件，无法与业务变更保持原子性: {} {}", eventType, aggregateId);
+        }
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .attempts(0)
+                .build();
+        outboxEventMapper.insert(event);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.wakeUp();
+                }
+            });
+        } else {
+            outboxRelay.wakeUp();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.entity.OutboxEvent;
+import com.arkone.flowable.repository.OutboxEventMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 发件箱中继
+ *
+ * <p>单线程按id顺序批量读取未投递的事件，交给 {@link DomainEventPublisher} 投递，成功后在同一事务内标记 published_at：</p>
+ * <ul>
+ *   <li>至少一次：投递成功但标记前进程退出时，事件会被再次投递，消费方按 eventId 去重</li>
+ *   <li>同一样本有序：整批投递失败时逐条重试，某条失败后同一样本的后续事件本轮不再投递</li>
+ *   <li>多实例部署时通过事务级咨询锁保证同一时间只有一个中继在投递</li>
+ * </ul>
+ *
+ * <p>空闲时休眠 {@code outbox.poll-interval-ms}，业务事务提交后由 {@link OutboxEventRecorder} 提前唤醒。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    /**
+     * 咨询锁键（固定值，仅用于发件箱投递）
+     */
+    private static final long ADVISORY_LOCK_KEY = 0x4F5554424F58L;
+
+    /**
+     * 失败原因最大长度（与 last_error 列一致）
+     */
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventMapper outboxEventMapper;
+    private final DomainEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final Duration retention;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public OutboxRelay(OutboxEventMapper outboxEventMapper,
+                       DomainEventPublisher publisher,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${outbox.batch-size:100}") int batchSize,
+                       @Value("${outbox.poll-interval-ms:1000}") long pollIntervalMs,
+                       @Value("${outbox.retention:PT72H}") Duration retention) {
+        this.outboxEventMapper = outboxEventMapper;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMs);
+        this.retention = retention;
+    }
+
+    /**
+     * 唤醒中继立即投递（业务事务提交后调用）
+     */
+    public void wakeUp() {
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::runLoop, "outbox-relay");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("发件箱中继已启动: batchSize={}", batchSize);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("发件箱中继已停止");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runLoop() {
+        while (running) {
+            int published = 0;
+            try {
+                published = relayOnce();
+            } catch (Exception e) {
+                log.error("发件箱投递失败", e);
+            }
+            // 积压未清空时立即处理下一批
+            if (published < batchSize) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * 投递一批待发送事件
+     *
+     * @return 本轮成功投递的事件数（未获得咨询锁时为0）
+     */
+    public int relayOnce() {
+        Integer published = transactionTemplate.execute(status -> {
+            if (!outboxEventMapper.tryXactLock(ADVISORY_LOCK_KEY)) {
+                return 0;
+            }
+            List<OutboxEvent> events = outboxEventMapper.selectPending(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            RelayResult result = publishInOrder(events, publisher);
+            if (!result.publishedIds().isEmpty()) {
+                outboxEventMapper.markPublished(result.publishedIds());
+            }
+            result.failures().forEach(outboxEventMapper::recordFailure);
+            if (!result.failures().isEmpty()) {
+                log.warn("发件箱部分事件投递失败，将在下一轮重试: published={}, failed={}, skipped={}",
+                        result.publishedIds().size(), result.failures().size(), result.skipped());
+            }
+            return result.publishedIds().size();
+        });
+        return published != null ? published : 0;
+    }
+
+    /**
+     * 定时清理已投递的历史事件
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 15 3 * * ?}")
+    public void cleanup() {
+        int deleted = outboxEventMapper.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("已清理发件箱历史事件: {}条", deleted);
+        }
+    }
+
+    /**
+     * 按顺序投递一批事件
+     * <p>先整批投递；失败时逐条投递，某个聚合的事件失败后，同一聚合的后续事件跳过，保证同一样本的事件不乱序</p>
+     *
+     * @param events    待投递事件（按id升序）
+     * @param publisher 投递通道
+     * @return 投递结果
+     */
+    static RelayResult publishInOrder(List<OutboxEvent> events, DomainEventPublisher publisher) {
+        List<DomainEventMessage> messages = events.stream().map(DomainEventMessage::from).toList();
+        try {
+            publisher.publish(messages);
+            return new RelayResult(events.stream().map(OutboxEvent::getId).toList(), Map.of(), 0);
+        } catch (Exception e) {
+            log.warn("发件箱整批投递失败，改为逐条投递: size={}, error={}", events.size(), e.getMessage());
+        }
+
+        List<Long> publishedIds = new ArrayList<>();
+        Map<Long, String> failures = new LinkedHashMap<>();
+        Set<String> blockedAggregates = new HashSet<>();
+        int skipped = 0;
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            String aggregateKey = event.getAggregateType() + ":" + event.getAggregateId();
+            if (blockedAggregates.contains(aggregateKey)) {
+                skipped++;
+                continue;
+            }
+            try {
+                publisher.publish(List.of(messages.get(i)));
+                publishedIds.add(event.getId());
+            } catch (Exception e) {
+                failures.put(event.getId(), truncate(String.valueOf(e.getMessage())));
+                blockedAggregates.add(aggregateKey);
+            }
+        }
+        return new RelayResult(publishedIds, failures, skipped);
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    /**
+     * 一轮投递的结果
+     *
+     * @param publishedIds 投递成功的事件ID
+     * @param failures     投递失败的事件ID及原因
+     * @param skipped      因同一聚合前序事件失败而跳过的事件数
+     */
+    record RelayResult(List<Long> publishedIds, Map<Long, String> failures, int skipped) {
+    }
+}
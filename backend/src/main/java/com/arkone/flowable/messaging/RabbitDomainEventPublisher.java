@@ -0,0 +1,55 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.config.RabbitMqConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * RabbitMQ领域事件通道（rabbit，默认）
+ *
+ * <p>事件发布到主题交换机 {@link RabbitMqConfig#DOMAIN_EVENT_EXCHANGE}，路由键为事件类型，
+ * 消息ID为 {@code outbox-<eventId>}。一批消息在同一信道上发送后等待发布确认，
+ * 未全部确认时抛出异常，由中继保留发件箱记录重试。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.transport", havingValue = "rabbit", matchIfMissing = true)
+public class RabbitDomainEventPublisher implements DomainEventPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final long confirmTimeoutMs;
+
+    public RabbitDomainEventPublisher(RabbitTemplate rabbitTemplate,
+                                      @Value("${outbox.confirm-timeout:PT10S}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeoutMs = confirmTimeout.toMillis();
+    }
+
+    @Override
+    public void publish(List<DomainEventMessage> messages) {
+        rabbitTemplate.invoke(operations -> {
+            for (DomainEventMessage message : messages) {
+                operations.convertAndSend(RabbitMqConfig.DOMAIN_EVENT_EXCHANGE, message.getEventType(), message, m -> {
+                    m.getMessageProperties().setMessageId("outbox-" + message.getEventId());
+                    m.getMessageProperties().setHeader("aggregateId", message.getAggregateId());
+                    m.getMessageProperties().setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+                    return m;
+                });
+            }
+            // 需要 spring.rabbitmq.publisher-confirm-type=simple
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+        log.debug("领域事件已投递到RabbitMQ: size={}", messages.size());
+    }
+}
@@ -0,0 +1,79 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.config.RabbitMqConfig;
+import com.arkone.flowable.dto.BatchOperationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * RabbitMQ任务完成通道（rabbit，默认）
+ *
+ * <p>提交方把每条命令发布到 {@link RabbitMqConfig#TASK_COMPLETION_QUEUE}，立即返回；
+ * 任意实例上的批量消费者一次取出一批命令交给 {@link TaskCompletionWorker}，
+ * 结果写入共享的作业状态存储。</p>
+ *
+ * <p>发布失败时不再继续发布，本条及之后尚未发布的命令直接记为失败，作业仍能正常结束；
+ * 已发布的命令照常由消费者处理。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "task-completion.async.transport", havingValue = "rabbit", matchIfMissing = true)
+public class RabbitTaskCompletionDispatcher implements TaskCompletionDispatcher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final TaskCompletionWorker worker;
+    private final TaskCompletionJobStore jobStore;
+
+    @Override
+    public void dispatch(List<TaskCompletionCommand> commands) {
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                rabbitTemplate.convertAndSend(RabbitMqConfig.TASK_COMPLETION_QUEUE, commands.get(i));
+            } catch (AmqpException e) {
+                log.warn("任务完成命令发布失败，未发布的命令记为失败: jobId={}, 未发布={}, error={}",
+                        commands.get(i).getJobId(), commands.size() - i, e.getMessage());
+                markUnpublished(commands.subList(i, commands.size()), e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 批量消费任务完成命令
+     *
+     * @param commands 命令列表
+     */
+    @RabbitListener(queues = RabbitMqConfig.TASK_COMPLETION_QUEUE,
+            containerFactory = RabbitMqConfig.TASK_COMPLETION_CONTAINER_FACTORY)
+    public void onCommands(List<TaskCompletionCommand> commands) {
+        log.debug("收到任务完成命令: size={}", commands.size());
+        worker.process(commands);
+    }
+
+    private void markUnpublished(List<TaskCompletionCommand> commands, AmqpException cause) {
+        for (TaskCompletionCommand command : commands) {
+            try {
+                jobStore.recordFailure(command.getJobId(), BatchOperationResult.BatchOperationError.builder()
+                        .index(command.getIndex())
+                        .errorCode(ErrorCode.SERVICE_UNAVAILABLE.name())
+                        .errorMessage("任务完成命令发布失败: " + cause.getMessage())
+                        .data(command.getRequest().getTaskId())
+                        .build());
+            } catch (RuntimeException e) {
+                log.warn("任务完成作业状态更新失败: jobId={}, error={}", command.getJobId(), e.getMessage());
+            }
+        }
+    }
+}
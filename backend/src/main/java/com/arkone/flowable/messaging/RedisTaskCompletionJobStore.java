@@ -0,0 +1,147 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.dto.TaskCompletionJobStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于Redis的作业状态存储（rabbit 通道）
+ *
+ * <p>计数保存在Hash中，通过 HINCRBY 原子累加，任意实例上的消费者都可更新；失败明细保存在List中。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task-completion.async.transport", havingValue = "rabbit", matchIfMissing = true)
+public class RedisTaskCompletionJobStore implements TaskCompletionJobStore {
+
+    private static final String KEY_PREFIX = "task-job:";
+    private static final String FAILURES_SUFFIX = ":failures";
+    private static final String TOTAL = "total";
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final String SUBMITTED_AT = "submittedAt";
+    private static final String FINISHED_AT = "finishedAt";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public RedisTaskCompletionJobStore(StringRedisTemplate redisTemplate,
+                                       ObjectMapper objectMapper,
+                                       @Value("${task-completion.async.job-ttl:PT24H}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public TaskCompletionJobStatus create(String jobId, int total) {
+        String key = KEY_PREFIX + jobId;
+        LocalDateTime now = LocalDateTime.now();
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                TOTAL, String.valueOf(total),
+                SUCCESS, "0",
+                FAILURE, "0",
+                SUBMITTED_AT, now.toString()));
+        redisTemplate.expire(key, ttl);
+        return TaskCompletionJobStatus.builder()
+                .jobId(jobId)
+                .status(TaskCompletionJobStatus.resolveStatus(total, 0, 0))
+                .total(total)
+                .successCount(0)
+                .failureCount(0)
+                .failureList(List.of())
+                .submittedAt(now)
+                .build();
+    }
+
+    @Override
+    public void recordSuccess(String jobId, int count) {
+        String key = KEY_PREFIX + jobId;
+        redisTemplate.opsForHash().increment(key, SUCCESS, count);
+        markFinishedIfDone(key);
+    }
+
+    @Override
+    public void recordFailure(String jobId, BatchOperationResult.BatchOperationError error) {
+        String key = KEY_PREFIX + jobId;
+        try {
+            String failuresKey = key + FAILURES_SUFFIX;
+            redisTemplate.opsForList().rightPush(failuresKey, objectMapper.writeValueAsString(error));
+            redisTemplate.expire(failuresKey, ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("任务完成失败明细序列化失败: jobId={}, index={}", jobId, error.getIndex());
+        }
+        redisTemplate.opsForHash().increment(key, FAILURE, 1);
+        markFinishedIfDone(key);
+    }
+
+    @Override
+    public TaskCompletionJobStatus get(String jobId) {
+        String key = KEY_PREFIX + jobId;
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        Map<String, String> fields = hash.entries(key);
+        if (fields.isEmpty()) {
+            return null;
+        }
+        int total = Integer.parseInt(fields.get(TOTAL));
+        int success = Integer.parseInt(fields.getOrDefault(SUCCESS, "0"));
+        int failure = Integer.parseInt(fields.getOrDefault(FAILURE, "0"));
+
+        List<BatchOperationResult.BatchOperationError> failures = new ArrayList<>();
+        List<String> rawFailures = redisTemplate.opsForList().range(key + FAILURES_SUFFIX, 0, -1);
+        if (rawFailures != null) {
+            for (String raw : rawFailures) {
+                try {
+                    failures.add(objectMapper.readValue(raw, BatchOperationResult.BatchOperationError.class));
+                } catch (JsonProcessingException e) {
+                    log.warn("任务完成失败明细解析失败: jobId={}", jobId);
+                }
+            }
+        }
+
+        return TaskCompletionJobStatus.builder()
+                .jobId(jobId)
+                .status(TaskCompletionJobStatus.resolveStatus(total, success, failure))
+                .total(total)
+                .successCount(success)
+                .failureCount(failure)
+                .failureList(failures)
+                .submittedAt(parseTime(fields.get(SUBMITTED_AT)))
+                .finishedAt(parseTime(fields.get(FINISHED_AT)))
+                .build();
+    }
+
+    private void markFinishedIfDone(String key) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        List<String> values = hash.multiGet(key, List.of(TOTAL, SUCCESS, FAILURE));
+        if (values.get(0) == null) {
+            return;
+        }
+        int total = Integer.parseInt(values.get(0));
+        int processed = Integer.parseInt(values.get(1)) + Integer.parseInt(values.get(2));
+        if (processed >= total) {
+            hash.putIfAbsent(key, FINISHED_AT, LocalDateTime.now().toString());
+        }
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+}
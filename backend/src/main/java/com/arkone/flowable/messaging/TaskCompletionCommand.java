@@ -0,0 +1,36 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.dto.TaskCompleteRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 任务完成命令
+ * 异步批量完成任务时，每条任务对应一条命令，经消息通道投递给后台工作线程
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCompletionCommand {
+
+    /**
+     * 所属作业ID
+     */
+    private String jobId;
+
+    /**
+     * 在原始请求中的索引
+     */
+    private Integer index;
+
+    /**
+     * 任务完成请求
+     */
+    private TaskCompleteRequest request;
+}
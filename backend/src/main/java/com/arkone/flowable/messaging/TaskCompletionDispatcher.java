@@ -0,0 +1,21 @@
+package com.arkone.flowable.messaging;
+
+import java.util.List;
+
+/**
+ * 任务完成命令投递通道
+ *
+ * <p>通过 {@code task-completion.async.transport} 选择实现：rabbit（默认）、local（进程内队列，本地开发与测试）。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface TaskCompletionDispatcher {
+
+    /**
+     * 投递命令，不等待执行
+     *
+     * @param commands 命令列表
+     */
+    void dispatch(List<TaskCompletionCommand> commands);
+}
@@ -0,0 +1,48 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.dto.TaskCompletionJobStatus;
+
+/**
+ * 异步任务完成作业状态存储
+ *
+ * <p>rabbit 通道下使用Redis保存（消费者可能运行在其他实例上），local 通道下保存在进程内存。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface TaskCompletionJobStore {
+
+    /**
+     * 创建作业
+     *
+     * @param jobId 作业ID
+     * @param total 任务总数
+     * @return 初始状态
+     */
+    TaskCompletionJobStatus create(String jobId, int total);
+
+    /**
+     * 记录成功
+     *
+     * @param jobId 作业ID
+     * @param count 成功条数
+     */
+    void recordSuccess(String jobId, int count);
+
+    /**
+     * 记录失败
+     *
+     * @param jobId 作业ID
+     * @param error 失败明细
+     */
+    void recordFailure(String jobId, BatchOperationResult.BatchOperationError error);
+
+    /**
+     * 查询作业状态
+     *
+     * @param jobId 作业ID
+     * @return 状态，不存在或已过期时返回null
+     */
+    TaskCompletionJobStatus get(String jobId);
+}
@@ -0,0 +1,131 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.lock.SampleLockService;
+import com.arkone.flowable.service.TaskService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 任务完成命令处理器
+ *
+ * <p>消息通道（RabbitMQ 或进程内队列）把一批命令交给本处理器，整批在一个事务内执行：</p>
+ * <ul>
+ *   <li>事务开始时按排序顺序锁定本批涉及的全部样本</li>
+ *   <li>每条命令在独立的保存点（NESTED）中执行，单条失败只回滚到保存点，不影响同批其他命令</li>
+ *   <li>整批只提交一次，几十条完成操作只占用一个数据库连接和一次提交</li>
+ *   <li>整批事务失败（如加锁超时、提交失败）时退化为逐条独立事务执行</li>
+ * </ul>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class TaskCompletionWorker {
+
+    private final TaskService taskService;
+    private final SampleLockService sampleLockService;
+    private final TaskCompletionJobStore jobStore;
+    private final TransactionTemplate groupTransaction;
+    private final TransactionTemplate savepoint;
+    private final TransactionTemplate singleTransaction;
+
+    public TaskCompletionWorker(TaskService taskService,
+                                SampleLockService sampleLockService,
+                                TaskCompletionJobStore jobStore,
+                                PlatformTransactionManager transactionManager) {
+        this.taskService = taskService;
+        this.sampleLockService = sampleLockService;
+        this.jobStore = jobStore;
+        this.groupTransaction = new TransactionTemplate(transactionManager);
+        this.savepoint = new TransactionTemplate(transactionManager);
+        this.savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.singleTransaction = new TransactionTemplate(transactionManager);
+        this.singleTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 处理一批命令并记录结果
+     *
+     * @param commands 命令列表
+     */
+    public void process(List<TaskCompletionCommand> commands) {
+        if (commands == null || commands.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<Outcome> outcomes;
+        try {
+            outcomes = groupTransaction.execute(status -> runGroup(commands));
+        } catch (RuntimeException e) {
+            log.warn("任务完成分组事务失败，逐条重试: size={}, error={}", commands.size(), e.getMessage());
+            outcomes = new ArrayList<>(commands.size());
+            for (TaskCompletionCommand command : commands) {
+                outcomes.add(runSingle(command));
+            }
+        }
+        record(outcomes);
+        log.debug("任务完成命令处理完成: size={}, {}ms", commands.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<Outcome> runGroup(List<TaskCompletionCommand> commands) {
+        sampleLockService.lockForTransaction(commands.stream()
+                .map(command -> command.getRequest().getSampleId())
+                .toList());
+        List<Outcome> outcomes = new ArrayList<>(commands.size());
+        for (TaskCompletionCommand command : commands) {
+            outcomes.add(execute(savepoint, command));
+        }
+        return outcomes;
+    }
+
+    private Outcome runSingle(TaskCompletionCommand command) {
+        return execute(singleTransaction, command);
+    }
+
+    private Outcome execute(TransactionTemplate template, TaskCompletionCommand command) {
+        try {
+            template.executeWithoutResult(status -> taskService.completeTask(command.getRequest()));
+            return new Outcome(command, null, null);
+        } catch (BusinessException e) {
+            return new Outcome(command, e.getErrorCode() != null ? e.getErrorCode().name() : "BUSINESS_ERROR", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("异步完成任务异常: jobId={}, taskId={}", command.getJobId(), command.getRequest().getTaskId(), e);
+            return new Outcome(command, "INTERNAL_ERROR", e.getMessage());
+        }
+    }
+
+    private void record(List<Outcome> outcomes) {
+        for (Outcome outcome : outcomes) {
+            TaskCompletionCommand command = outcome.command();
+            try {
+                if (outcome.errorCode() == null) {
+                    jobStore.recordSuccess(command.getJobId(), 1);
+                } else {
+                    jobStore.recordFailure(command.getJobId(), BatchOperationResult.BatchOperationError.builder()
+                            .index(command.getIndex())
+                            .errorCode(outcome.errorCode())
+                            .errorMessage(outcome.errorMessage())
+                            .data(command.getRequest().getTaskId())
+                            .build());
+                }
+            } catch (RuntimeException e) {
+                log.warn("任务完成作业状态更新失败: jobId={}, error={}", command.getJobId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 单条命令的处理结果（errorCode为null表示成功）
+     */
+    private record Outcome(TaskCompletionCommand command, String errorCode, String errorMessage) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.arkone.flowable.messaging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 流程任务创建监听器
+ *
+ * <p>Flowable 产生新的用户任务时，在引擎所在的同一事务内写入 {@code task.created} 发件箱事件，
+ * 流程启动或任务完成回滚时事件随之回滚。项目ID和样本数量取自启动流程时设置的流程变量，
+ * 事件只带样本数量，不复制样本ID列表。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCreatedOutboxListener implements FlowableEventListener {
+
+    /**
+     * 延迟获取，避免流程引擎初始化时提前创建发件箱相关的Bean
+     */
+    private final ObjectProvider<OutboxEventRecorder> outboxEventRecorder;
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (!(event instanceof FlowableEngineEntityEvent entityEvent)
+                || !(entityEvent.getEntity() instanceof TaskEntity task)) {
+            return;
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskId", task.getId());
+        payload.put("taskName", task.getName());
+        payload.put("nodeId", task.getTaskDefinitionKey());
+        payload.put("assignee", task.getAssignee());
+        payload.put("processInstanceId", task.getProcessInstanceId());
+        payload.put("processDefinitionId", task.getProcessDefinitionId());
+        if (task.getProcessInstanceId() != null) {
+            payload.put("projectId", task.getVariable("projectId"));
+            // 样本ID列表按引用保存，size() 不会加载内容；需要明细时客户端通过任务接口查询关联样本
+            if (task.getVariable("sampleIds") instanceof Collection<?> sampleIds) {
+                payload.put("sampleCount", sampleIds.size());
+            }
+        }
+        String aggregateId = task.getProcessInstanceId() != null ? task.getProcessInstanceId() : task.getId();
+        outboxEventRecorder.getObject().record(DomainEventMessage.AGGREGATE_PROCESS_INSTANCE, aggregateId,
+                DomainEventMessage.TASK_CREATED, payload);
+    }
+
+    /**
+     * 写入失败时让引擎操作失败回滚，避免业务成功而事件丢失
+     */
+    @Override
+    public boolean isFailOnException() {
+        return true;
+    }
+
+    @Override
+    public boolean isFireOnTransactionLifecycleEvent() {
+        return false;
+    }
+
+    @Override
+    public String getOnTransaction() {
+        return null;
+    }
+}
@@ -0,0 +1,157 @@
+package com.arkone.flowable.metrics;
+
+import com.arkone.flowable.audit.AuditPublisher;
+import com.arkone.flowable.cache.CacheStats;
+import com.arkone.flowable.cache.ProcessDefinitionCache;
+import com.arkone.flowable.cache.SampleLineageCache;
+import com.arkone.flowable.cache.VersionedEntityCache;
+import com.arkone.flowable.job.JobExecutionMetrics;
+import com.arkone.flowable.util.FormulaEngine;
+import com.arkone.flowable.web.ConnectionAdmissionInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 运行时统计指标绑定
+ *
+ * <p>把已有的 stats() 统计（实体缓存、审计管道、异步执行器、请求准入、公式引擎）注册为 Micrometer 计数器和仪表，
+ * 抓取时读取当前值，不改变各组件的计数方式。数据库连接池指标由 Actuator 自动注册（hikaricp_*）。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RuntimeStatsMeterBinder implements MeterBinder {
+
+    private final List<VersionedEntityCache<?>> entityCaches;
+    private final SampleLineageCache sampleLineageCache;
+    private final ProcessDefinitionCache processDefinitionCache;
+    private final AuditPublisher auditPublisher;
+    private final JobExecutionMetrics jobExecutionMetrics;
+    private final FormulaEngine formulaEngine;
+    private final ObjectProvider<ConnectionAdmissionInterceptor> connectionAdmissionInterceptor;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        entityCaches.forEach(cache -> bindCache(registry, cache, c -> c.stats()));
+        bindCache(registry, sampleLineageCache, SampleLineageCache::stats);
+        bindCache(registry, processDefinitionCache, ProcessDefinitionCache::stats);
+        bindAudit(registry);
+        bindAsyncExecutor(registry);
+        connectionAdmissionInterceptor.ifAvailable(interceptor -> bindAdmission(registry, interceptor));
+
+        FunctionCounter.builder("lims.formula.timeouts", formulaEngine, FormulaEngine::getTimeoutCount)
+                .description("公式执行超时次数")
+                .register(registry);
+    }
+
+    private <C> void bindCache(MeterRegistry registry, C cache, Function<C, CacheStats> stats) {
+        String name = stats.apply(cache).getName();
+        FunctionCounter.builder("cache.gets", cache, c -> stats.apply(c).getHits())
+                .tag("cache", name)
+                .tag("result", "hit")
+                .description("缓存命中次数")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> stats.apply(c).getMisses())
+                .tag("cache", name)
+                .tag("result", "miss")
+                .description("缓存未命中次数")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> stats.apply(c).getEvictions())
+                .tag("cache", name)
+                .description("缓存淘汰次数")
+                .register(registry);
+        Gauge.builder("cache.size", cache, c -> stats.apply(c).getSize())
+                .tag("cache", name)
+                .description("缓存条目数")
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", cache, c -> stats.apply(c).getHitRatio())
+                .tag("cache", name)
+                .description("缓存命中率")
+                .register(registry);
+    }
+
+    private void bindAudit(MeterRegistry registry) {
+        Gauge.builder("lims.audit.buffer.size", auditPublisher, p -> p.stats().getBufferSize())
+                .description("审计缓冲区积压条数")
+                .register(registry);
+        FunctionCounter.builder("lims.audit.published", auditPublisher, p -> p.stats().getPublished())
+                .description("审计记录发布条数")
+                .register(registry);
+        FunctionCounter.builder("lims.audit.dropped", auditPublisher, p -> p.stats().getDropped())
+                .description("审计缓冲区满被丢弃的条数")
+                .register(registry);
+        FunctionCounter.builder("lims.audit.written", auditPublisher, p -> p.stats().getWritten())
+                .description("审计记录写库条数")
+                .register(registry);
+    }
+
+    private void bindAsyncExecutor(MeterRegistry registry) {
+        Gauge.builder("lims.job.queue.depth", jobExecutionMetrics, m -> m.executorStats().getQueueDepth())
+                .description("作业线程池排队数")
+                .register(registry);
+        Gauge.builder("lims.job.active", jobExecutionMetrics, m -> m.executorStats().getActiveCount())
+                .description("正在执行的作业数")
+                .register(registry);
+        Gauge.builder("lims.job.remaining.capacity", jobExecutionMetrics,
+                        m -> m.executorStats().getRemainingCapacity())
+                .description("作业线程池剩余容量")
+                .register(registry);
+        FunctionCounter.builder("lims.job.rejected", jobExecutionMetrics, m -> m.executorStats().getRejected())
+                .description("作业线程池拒绝次数")
+                .register(registry);
+        FunctionCounter.builder("lims.job.executions", jobExecutionMetrics, m -> m.executorStats().getJobSucceeded())
+                .tag("result", "success")
+                .description("作业执行次数")
+                .register(registry);
+        FunctionCounter.builder("lims.job.executions", jobExecutionMetrics, m -> m.executorStats().getJobFailed())
+                .tag("result", "failure")
+                .description("作业执行次数")
+                .register(registry);
+        Gauge.builder("lims.job.latency.avg", jobExecutionMetrics, m -> m.executorStats().getAvgJobLatencyMillis())
+                .baseUnit("milliseconds")
+                .description("作业从到期到执行完成的平均延迟")
+                .register(registry);
+        Gauge.builder("lims.job.retrying", jobExecutionMetrics, safely(JobExecutionMetrics::retryingJobCount))
+                .description("等待重试的失败作业数")
+                .register(registry);
+        Gauge.builder("lims.job.dead.letter", jobExecutionMetrics, safely(JobExecutionMetrics::deadLetterJobCount))
+                .description("死信作业数")
+                .register(registry);
+    }
+
+    private void bindAdmission(MeterRegistry registry, ConnectionAdmissionInterceptor interceptor) {
+        Gauge.builder("lims.admission.available", interceptor, ConnectionAdmissionInterceptor::availablePermits)
+                .description("请求准入剩余许可数")
+                .register(registry);
+        FunctionCounter.builder("lims.admission.rejected", interceptor, ConnectionAdmissionInterceptor::rejectedCount)
+                .description("请求准入等待超时次数")
+                .register(registry);
+    }
+
+    /**
+     * 作业表查询失败时返回NaN（Prometheus中表现为缺失值），不影响其他指标抓取
+     */
+    private static ToDoubleFunction<JobExecutionMetrics> safely(ToDoubleFunction<JobExecutionMetrics> query) {
+        return metrics -> {
+            try {
+                return query.applyAsDouble(metrics);
+            } catch (Exception e) {
+                log.warn("查询作业数量指标异常: {}", e.getMessage());
+                return Double.NaN;
+            }
+        };
+    }
+}
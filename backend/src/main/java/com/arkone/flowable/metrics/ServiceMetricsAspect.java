@@ -0,0 +1,99 @@
+package com.arkone.flowable.metrics;
+
+import com.arkone.flowable.dto.BatchOperationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 服务方法计时切面
+ *
+ * <p>对 service.impl 包下所有服务的公开方法及公式计算记录耗时（{@code lims.service}、{@code lims.formula.evaluate}），
+ * 按类、方法、异常类型打标签，直方图分桶由 management.metrics.distribution 配置。
+ * 返回 {@link BatchOperationResult} 的批量方法另按成功/失败条数累加 {@code lims.batch.items}。</p>
+ *
+ * <p>切面排在事务之外，耗时包含事务提交。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String SERVICE_TIMER = "lims.service";
+    static final String FORMULA_TIMER = "lims.formula.evaluate";
+    static final String BATCH_ITEMS = "lims.batch.items";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.arkone.flowable.service.impl..*) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof BatchOperationResult<?> batch) {
+                recordBatch(className + "." + methodName, batch);
+            }
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(SERVICE_TIMER)
+                    .description("服务方法耗时")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("execution(public * com.arkone.flowable.util.FormulaEngine.evaluate(..))")
+    public Object timeFormula(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(FORMULA_TIMER)
+                    .description("公式计算耗时")
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    void recordBatch(String operation, BatchOperationResult<?> batch) {
+        increment(operation, "success", batch.getSuccessCount());
+        increment(operation, "failure", batch.getFailureCount());
+    }
+
+    private void increment(String operation, String outcome, Integer count) {
+        if (count != null && count > 0) {
+            Counter.builder(BATCH_ITEMS)
+                    .description("批量操作处理条数")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .increment(count);
+        }
+    }
+}
@@ -1,8 +1,21 @@
 package com.arkone.flowable.repository;
 
+import com.arkone.flowable.common.typehandler.JsonbTypeHandler;
+import com.arkone.flowable.dto.AuditLogQueryRequest;
 import com.arkone.flowable.entity.AuditLog;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.ResultMap;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
+
+import java.time.LocalDateTime;
 
 /**
  * 审计日志数据访问层
@@ -12,4 +25,102 @@ import org.apache.ibatis.annotations.Mapper;
  */
 @Mapper
 public interface AuditLogMapper extends BaseMapper<AuditLog> {
+
+    /**
+     * 查询实体在指定时间之后的审计日志
+     * <p>携带 created_at 下界以便分区裁剪，命中 idx_audit_entity_time</p>
+     *
+     * @param entityType 实体类型
+     * @param entityId   实体ID
+     * @param since      起始时间（包含）
+     * @return 审计日志列表（按时间正序）
+     */
+    default java.util.List<AuditLog> selectByEntitySince(String entityType, String entityId, LocalDateTime since) {
+        return selectList(new com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper<AuditLog>()
+                .eq(AuditLog::getEntityType, entityType)
+                .eq(AuditLog::getEntityId, entityId)
+                .ge(since != null, AuditLog::getCreatedAt, since)
+                .orderByAsc(AuditLog::getCreatedAt));
+    }
+
+    /**
+     * 多行批量插入审计日志
+     * <p>由后台写入线程调用，ID和创建时间由调用方预先设置</p>
+     *
+     * @param records 审计日志列表
+     * @return 插入行数
+     */
+    @Insert("""
+            <script>
+            INSERT INTO lims_audit_log
+                (id, user_id, user_name, action, entity_type, entity_id, old_value, new_value, ip_address, user_agent, created_at)
+            VALUES
+            <foreach collection="records" item="r" separator=",">
+                (CAST(#{r.id} AS uuid), #{r.userId}, #{r.userName}, #{r.action}, #{r.entityType},
+                 CAST(#{r.entityId} AS uuid),
+                 CAST(#{r.oldValue, typeHandler=com.arkone.flowable.common.typehandler.JsonbTypeHandler} AS jsonb),
+                 CAST(#{r.newValue, typeHandler=com.arkone.flowable.common.typehandler.JsonbTypeHandler} AS jsonb),
+                 #{r.ipAddress}, #{r.userAgent}, #{r.createdAt})
+            </foreach>
+            </script>
+            """)
+    int insertBatch(@Param("records") java.util.List<AuditLog> records);
+
+    /**
+     * 按时间范围和键集游标查询审计日志（created_at, id 倒序）
+     * <p>时间范围条件用于分区裁剪；游标条件替代OFFSET，翻页代价与深度无关</p>
+     *
+     * @param query      查询条件（startTime、endTime 必须已设置）
+     * @param cursorTime 上一页最后一条的创建时间，首页为null
+     * @param cursorId   上一页最后一条的ID，首页为null
+     * @param limit      返回条数
+     * @return 审计日志列表
+     */
+    @Select("""
+            <script>
+            SELECT id, user_id, user_name, action, entity_type, entity_id, old_value, new_value,
+                   ip_address, user_agent, created_at
+            FROM lims_audit_log
+            WHERE created_at &gt;= #{q.startTime} AND created_at &lt; #{q.endTime}
+            <if test="q.entityType != null">AND entity_type = #{q.entityType}</if>
+            <if test="q.entityId != null">AND entity_id = CAST(#{q.entityId} AS uuid)</if>
+            <if test="q.userId != null">AND user_id = #{q.userId}</if>
+            <if test="q.action != null">AND action = #{q.action}</if>
+            <if test="cursorTime != null">AND (created_at, id) &lt; (#{cursorTime}, CAST(#{cursorId} AS uuid))</if>
+            ORDER BY created_at DESC, id DESC
+            LIMIT #{limit}
+            </script>
+            """)
+    @Results(id = "auditLogRow", value = {
+            @Result(column = "old_value", property = "oldValue", typeHandler = JsonbTypeHandler.class),
+            @Result(column = "new_value", property = "newValue", typeHandler = JsonbTypeHandler.class)
+    })
+    java.util.List<AuditLog> selectByKeyset(@Param("q") AuditLogQueryRequest query,
+                                            @Param("cursorTime") LocalDateTime cursorTime,
+                                            @Param("cursorId") String cursorId,
+                                            @Param("limit") int limit);
+
+    /**
+     * 游标方式读取审计日志（合规导出）
+     * <p>必须在事务内调用，PostgreSQL 仅在非自动提交模式下按 fetchSize 分批拉取</p>
+     *
+     * @param query 查询条件（startTime、endTime 必须已设置）
+     * @return 审计日志游标
+     */
+    @Select("""
+            <script>
+            SELECT id, user_id, user_name, action, entity_type, entity_id, old_value, new_value,
+                   ip_address, user_agent, created_at
+            FROM lims_audit_log
+            WHERE created_at &gt;= #{q.startTime} AND created_at &lt; #{q.endTime}
+            <if test="q.entityType != null">AND entity_type = #{q.entityType}</if>
+            <if test="q.entityId != null">AND entity_id = CAST(#{q.entityId} AS uuid)</if>
+            <if test="q.userId != null">AND user_id = #{q.userId}</if>
+            <if test="q.action != null">AND action = #{q.action}</if>
+            ORDER BY created_at, id
+            </script>
+            """)
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = 1000)
+    @ResultMap("auditLogRow")
+    Cursor<AuditLog> selectExportCursor(@Param("q") AuditLogQueryRequest query);
 }
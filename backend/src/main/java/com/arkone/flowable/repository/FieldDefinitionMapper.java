@@ -76,4 +76,16 @@ public interface FieldDefinitionMapper extends BaseMapper<FieldDefinition> {
                 .isNotNull(FieldDefinition::getFormula)
                 .orderByAsc(FieldDefinition::getDisplayOrder));
     }
+
+    /**
+     * 查询全部可搜索字段
+     *
+     * @return 可搜索字段列表
+     */
+    default java.util.List<FieldDefinition> selectSearchableFields() {
+        return selectList(new com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper<FieldDefinition>()
+                .eq(FieldDefinition::getSearchable, true)
+                .orderByAsc(FieldDefinition::getNodeId)
+                .orderByAsc(FieldDefinition::getDisplayOrder));
+    }
 }
@@ -0,0 +1,76 @@
+package com.arkone.flowable.repository;
+
+import com.arkone.flowable.entity.OutboxEvent;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.time.LocalDateTime;
+
+/**
+ * 领域事件发件箱数据访问层
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Mapper
+public interface OutboxEventMapper extends BaseMapper<OutboxEvent> {
+
+    /**
+     * 按写入顺序查询待投递事件
+     *
+     * @param limit 最大条数
+     * @return 待投递事件列表（按id升序）
+     */
+    default java.util.List<OutboxEvent> selectPending(int limit) {
+        return selectList(new com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper<OutboxEvent>()
+                .isNull(OutboxEvent::getPublishedAt)
+                .orderByAsc(OutboxEvent::getId)
+                .last("LIMIT " + limit));
+    }
+
+    /**
+     * 获取事务级咨询锁（事务结束时自动释放），保证同一时间只有一个中继在投递
+     *
+     * @param key 锁键
+     * @return 是否获取成功
+     */
+    @Select("SELECT pg_try_advisory_xact_lock(#{key})")
+    boolean tryXactLock(@Param("key") long key);
+
+    /**
+     * 标记事件已投递
+     *
+     * @param ids 事件ID列表（不能为空）
+     * @return 更新行数
+     */
+    @Update("""
+            <script>
+            UPDATE lims_outbox_event SET published_at = CURRENT_TIMESTAMP
+            WHERE id IN <foreach collection="ids" item="id" open="(" separator="," close=")">#{id}</foreach>
+            </script>
+            """)
+    int markPublished(@Param("ids") java.util.List<Long> ids);
+
+    /**
+     * 记录一次投递失败
+     *
+     * @param id    事件ID
+     * @param error 失败原因
+     * @return 更新行数
+     */
+    @Update("UPDATE lims_outbox_event SET attempts = attempts + 1, last_error = #{error} WHERE id = #{id}")
+    int recordFailure(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * 删除早于指定时间已投递的事件
+     *
+     * @param cutoff 截止时间
+     * @return 删除行数
+     */
+    @Delete("DELETE FROM lims_outbox_event WHERE published_at IS NOT NULL AND published_at < #{cutoff}")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
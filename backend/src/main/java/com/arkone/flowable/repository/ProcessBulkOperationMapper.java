@@ -0,0 +1,77 @@
+package com.arkone.flowable.repository;
+
+import com.arkone.flowable.entity.ProcessBulkOperation;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+/**
+ * 流程批量操作数据访问层
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Mapper
+public interface ProcessBulkOperationMapper extends BaseMapper<ProcessBulkOperation> {
+
+    /**
+     * 读取实例清单的一个切片
+     *
+     * @param id     操作ID
+     * @param offset 起始偏移（从0开始）
+     * @param limit  最大条数
+     * @return 流程实例ID列表（保持清单顺序）
+     */
+    @Select("""
+            SELECT u.process_instance_id
+            FROM lims_process_bulk_operation o,
+                 unnest(o.process_instance_ids[#{offset} + 1 : #{offset} + #{limit}]) WITH ORDINALITY AS u(process_instance_id, seq)
+            WHERE o.id = #{id}
+            ORDER BY u.seq
+            """)
+    java.util.List<String> selectInstanceSlice(@Param("id") String id, @Param("offset") int offset, @Param("limit") int limit);
+
+    /**
+     * 查询失败明细
+     *
+     * @param id 操作ID
+     * @return 失败明细JSON数组文本
+     */
+    @Select("SELECT failures::text FROM lims_process_bulk_operation WHERE id = #{id}")
+    String selectFailures(@Param("id") String id);
+
+    /**
+     * 记录一块的处理结果
+     * <p>以 processed_count = offset 作为条件，同一块重复执行时不会重复计数；最后一块提交时写入完成状态</p>
+     *
+     * @param id           操作ID
+     * @param offset       本块起始偏移
+     * @param processed    本块处理数量
+     * @param successCount 本块成功数量
+     * @param failureCount 本块失败数量
+     * @param failures     本块失败明细（JSON数组）
+     * @return 更新行数，0表示该块已被处理过
+     */
+    @Update("""
+            UPDATE lims_process_bulk_operation
+            SET processed_count = processed_count + #{processed},
+                success_count = success_count + #{successCount},
+                failure_count = failure_count + #{failureCount},
+                failures = failures || CAST(#{failures} AS jsonb),
+                status = CASE
+                    WHEN processed_count + #{processed} < total THEN 'running'
+                    WHEN failure_count + #{failureCount} = 0 THEN 'completed'
+                    ELSE 'completed_with_errors'
+                END,
+                finished_at = CASE WHEN processed_count + #{processed} >= total THEN CURRENT_TIMESTAMP END
+            WHERE id = #{id} AND processed_count = #{offset}
+            """)
+    int recordChunk(@Param("id") String id,
+                    @Param("offset") int offset,
+                    @Param("processed") int processed,
+                    @Param("successCount") int successCount,
+                    @Param("failureCount") int failureCount,
+                    @Param("failures") String failures);
+}
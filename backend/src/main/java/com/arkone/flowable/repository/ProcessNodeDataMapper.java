@@ -1,8 +1,17 @@
 package com.arkone.flowable.repository;
 
+import com.arkone.flowable.common.typehandler.JsonbTypeHandler;
+import com.arkone.flowable.dto.NodeDataProjection;
 import com.arkone.flowable.entity.ProcessNodeData;
+import com.arkone.flowable.repository.query.NodeDataFieldQuery;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
 
 /**
  * 流程节点数据访问层
@@ -19,7 +28,7 @@ public interface ProcessNodeDataMapper extends BaseMapper<ProcessNodeData> {
      * @param sampleId 样本ID
      * @return 节点数据列表
      */
-    default java.util.List<ProcessNodeData> selectBySampleId(String sampleId) {
+    default List<ProcessNodeData> selectBySampleId(String sampleId) {
         return selectList(new com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper<ProcessNodeData>()
                 .eq(ProcessNodeData::getSampleId, sampleId)
                 .orderByAsc(ProcessNodeData::getCreatedAt));
@@ -46,7 +55,7 @@ public interface ProcessNodeDataMapper extends BaseMapper<ProcessNodeData> {
      * @param nodeId 节点ID
      * @return 节点数据列表
      */
-    default java.util.List<ProcessNodeData> selectByNodeId(String nodeId) {
+    default List<ProcessNodeData> selectByNodeId(String nodeId) {
         return selectList(new com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper<ProcessNodeData>()
                 .eq(ProcessNodeData::getNodeId, nodeId)
                 .orderByDesc(ProcessNodeData::getCreatedAt));
@@ -58,7 +67,7 @@ public interface ProcessNodeDataMapper extends BaseMapper<ProcessNodeData> {
      * @param status 节点数据状态
      * @return 节点数据列表
      */
-    default java.util.List<ProcessNodeData> selectByStatus(String status) {
+    default List<ProcessNodeData> selectByStatus(String status) {
         return selectList(new com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper<ProcessNodeData>()
                 .eq(ProcessNodeData::getStatus, status)
                 .orderByDesc(ProcessNodeData::getCreatedAt));
@@ -70,10 +79,56 @@ public interface ProcessNodeDataMapper extends BaseMapper<ProcessNodeData> {
      * @param sampleIds 样本ID列表
      * @return 节点数据列表
      */
-    default java.util.List<ProcessNodeData> selectBySampleIds(java.util.List<String> sampleIds) {
+    default List<ProcessNodeData> selectBySampleIds(List<String> sampleIds) {
         return selectList(new com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper<ProcessNodeData>()
                 .in(ProcessNodeData::getSampleId, sampleIds)
                 .orderByAsc(ProcessNodeData::getSampleId)
                 .orderByAsc(ProcessNodeData::getCreatedAt));
     }
+
+    /**
+     * 按动态字段条件查询节点数据
+     * <p>等值条件走GIN索引(data @&gt; ...)，数值范围条件走可搜索字段的表达式索引</p>
+     *
+     * @param query 字段查询条件
+     * @return 节点数据列表（按创建时间倒序，受 limit 限制）
+     */
+    default List<ProcessNodeData> selectByFieldQuery(NodeDataFieldQuery query) {
+        return selectList(query.applyTo(new com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper<>()));
+    }
+
+    /**
+     * 按样本批量查询节点数据的指定字段
+     * <p>由数据库用 jsonb_build_object 提取所需字段，不传输、不解析完整的 data 和 field_snapshot</p>
+     *
+     * @param sampleIds 样本ID列表（为空时不返回任何行）
+     * @param nodeId    节点ID（可选）
+     * @param keys      需要的数据字段名
+     * @return 投影列表
+     */
+    @Select("""
+            <script>
+            SELECT d.id, d.sample_id, d.node_id, d.status, d.created_at,
+                   jsonb_build_object(
+                   <foreach collection="keys" item="k" separator=",">CAST(#{k} AS text), d.data -> CAST(#{k} AS text)</foreach>
+                   ) AS "values"
+            FROM lims_process_node_data d
+            WHERE d.deleted = false
+            <choose>
+                <when test="sampleIds != null and sampleIds.size() > 0">
+                AND d.sample_id IN
+                <foreach collection="sampleIds" item="sid" open="(" separator="," close=")">CAST(#{sid} AS uuid)</foreach>
+                </when>
+                <otherwise>AND false</otherwise>
+            </choose>
+            <if test="nodeId != null">AND d.node_id = #{nodeId}</if>
+            ORDER BY d.sample_id, d.created_at
+            </script>
+            """)
+    @Results({
+            @Result(column = "values", property = "values", typeHandler = JsonbTypeHandler.class)
+    })
+    List<NodeDataProjection> selectProjection(@Param("sampleIds") List<String> sampleIds,
+                                                        @Param("nodeId") String nodeId,
+                                                        @Param("keys") List<String> keys);
 }
@@ -0,0 +1,109 @@
+package com.arkone.flowable.repository;
+
+import com.arkone.flowable.entity.SampleCurrentState;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 样本当前状态投影数据访问层
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Mapper
+public interface SampleCurrentStateMapper extends BaseMapper<SampleCurrentState> {
+
+    /**
+     * 从样本表和节点数据重新计算投影行并UPSERT
+     * <p>最新节点数据通过 LATERAL 子查询按 (sample_id, created_at) 取一条；
+     * metrics 为每个可搜索字段在该样本全部节点数据中的最新值。
+     * 只在写入路径调用，每次只涉及本次变更的样本。</p>
+     *
+     * @param sampleIds 样本ID列表，为null时重建全部样本
+     * @return 影响行数
+     */
+    @Insert("""
+            <script>
+            INSERT INTO lims_sample_current_state (
+                sample_id, sample_code, sample_name, sample_type, status, project_id,
+                process_instance_id, current_node_id, container_id, position,
+                last_node_data_id, last_node_id, last_node_name, last_node_time,
+                metrics, sample_created_at, updated_at)
+            SELECT s.id, s.sample_code, s.sample_name, s.sample_type, s.status, s.project_id,
+                   s.process_instance_id, s.current_node_id, s.container_id, s.position,
+                   d.id, d.node_id, d.node_name, d.created_at,
+                   COALESCE((
+                       SELECT jsonb_object_agg(m.key, m.value)
+                       FROM (
+                           SELECT DISTINCT ON (e.key) e.key, e.value
+                           FROM lims_process_node_data nd
+                           CROSS JOIN LATERAL jsonb_each(nd.data) e
+                           WHERE nd.sample_id = s.id
+                             AND nd.deleted = false
+                             AND e.key IN (SELECT f.field_name FROM lims_field_definition f
+                                           WHERE f.searchable = true AND f.deleted = false)
+                           ORDER BY e.key, nd.created_at DESC
+                       ) m
+                   ), '{}'::jsonb),
+                   s.created_at, CURRENT_TIMESTAMP
+            FROM lims_sample s
+            LEFT JOIN LATERAL (
+                SELECT nd.id, nd.node_id, nd.node_name, nd.created_at
+                FROM lims_process_node_data nd
+                WHERE nd.sample_id = s.id AND nd.deleted = false
+                ORDER BY nd.created_at DESC
+                LIMIT 1
+            ) d ON true
+            WHERE s.deleted = false
+            <if test="sampleIds != null">
+              AND s.id IN
+              <foreach collection="sampleIds" item="sid" open="(" separator="," close=")">CAST(#{sid} AS uuid)</foreach>
+            </if>
+            ON CONFLICT (sample_id) DO UPDATE SET
+                sample_code = EXCLUDED.sample_code,
+                sample_name = EXCLUDED.sample_name,
+                sample_type = EXCLUDED.sample_type,
+                status = EXCLUDED.status,
+                project_id = EXCLUDED.project_id,
+                process_instance_id = EXCLUDED.process_instance_id,
+                current_node_id = EXCLUDED.current_node_id,
+                container_id = EXCLUDED.container_id,
+                position = EXCLUDED.position,
+                last_node_data_id = EXCLUDED.last_node_data_id,
+                last_node_id = EXCLUDED.last_node_id,
+                last_node_name = EXCLUDED.last_node_name,
+                last_node_time = EXCLUDED.last_node_time,
+                metrics = EXCLUDED.metrics,
+                sample_created_at = EXCLUDED.sample_created_at,
+                updated_at = EXCLUDED.updated_at
+            </script>
+            """)
+    int upsertFromSource(@Param("sampleIds") java.util.List<String> sampleIds);
+
+    /**
+     * 删除已逻辑删除样本的投影行
+     *
+     * @return 删除行数
+     */
+    @Delete("""
+            DELETE FROM lims_sample_current_state c
+            USING lims_sample s
+            WHERE s.id = c.sample_id AND s.deleted = true
+            """)
+    int deleteStale();
+
+    /**
+     * 按容器查询投影（板位视图）
+     *
+     * @param containerId 容器ID
+     * @return 投影列表（按位置排序）
+     */
+    default java.util.List<SampleCurrentState> selectByContainerId(String containerId) {
+        return selectList(new com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper<SampleCurrentState>()
+                .eq(SampleCurrentState::getContainerId, containerId)
+                .orderByAsc(SampleCurrentState::getPosition));
+    }
+}
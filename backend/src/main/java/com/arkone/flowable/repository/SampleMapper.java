@@ -1,8 +1,20 @@
 package com.arkone.flowable.repository;
 
+import com.arkone.flowable.common.typehandler.JsonbTypeHandler;
+import com.arkone.flowable.dto.SampleExportRow;
+import com.arkone.flowable.dto.SampleLineageNode;
+import com.arkone.flowable.dto.SampleQueryRequest;
+import com.arkone.flowable.dto.TaskSampleSummary;
 import com.arkone.flowable.entity.Sample;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /**
  * 样本数据访问层
@@ -94,4 +106,201 @@ public interface SampleMapper extends BaseMapper<Sample> {
                 .eq(Sample::getParentSampleId, parentSampleId)
                 .orderByDesc(Sample::getCreatedAt));
     }
+
+    /**
+     * 递归查询样本的祖先链（不含自身），按层级由近及远排列
+     * <p>单条 WITH RECURSIVE 语句沿 parent_sample_id 逐级回溯，每级命中主键索引</p>
+     *
+     * @param sampleId 样本ID
+     * @param maxDepth 最大回溯层级
+     * @return 祖先列表
+     */
+    @Select("""
+            WITH RECURSIVE lineage AS (
+                SELECT s.id, s.sample_code, s.sample_name, s.sample_type, s.status,
+                       s.parent_sample_id, s.created_at, 0 AS depth, ARRAY[s.id] AS path
+                FROM lims_sample s
+                WHERE s.id = CAST(#{sampleId} AS uuid) AND s.deleted = false
+                UNION ALL
+                SELECT p.id, p.sample_code, p.sample_name, p.sample_type, p.status,
+                       p.parent_sample_id, p.created_at, l.depth + 1, l.path || p.id
+                FROM lims_sample p
+                JOIN lineage l ON p.id = l.parent_sample_id
+                WHERE p.deleted = false AND l.depth < #{maxDepth} AND NOT p.id = ANY(l.path)
+            )
+            SELECT id, sample_code, sample_name, sample_type, status, parent_sample_id, created_at, depth
+            FROM lineage
+            WHERE depth > 0
+            ORDER BY depth
+            """)
+    java.util.List<SampleLineageNode> selectAncestors(@Param("sampleId") String sampleId,
+                                                      @Param("maxDepth") int maxDepth);
+
+    /**
+     * 递归查询样本的全部后代（含自身，层级为0），按层级、创建时间排列
+     * <p>单条 WITH RECURSIVE 语句逐级展开子样本，每级命中 idx_sample_parent</p>
+     *
+     * @param sampleId 样本ID
+     * @param maxDepth 最大展开层级
+     * @return 样本自身及后代列表
+     */
+    @Select("""
+            WITH RECURSIVE lineage AS (
+                SELECT s.id, s.sample_code, s.sample_name, s.sample_type, s.status,
+                       s.parent_sample_id, s.created_at, 0 AS depth, ARRAY[s.id] AS path
+                FROM lims_sample s
+                WHERE s.id = CAST(#{sampleId} AS uuid) AND s.deleted = false
+                UNION ALL
+                SELECT c.id, c.sample_code, c.sample_name, c.sample_type, c.status,
+                       c.parent_sample_id, c.created_at, l.depth + 1, l.path || c.id
+                FROM lims_sample c
+                JOIN lineage l ON c.parent_sample_id = l.id
+                WHERE c.deleted = false AND l.depth < #{maxDepth} AND NOT c.id = ANY(l.path)
+            )
+            SELECT id, sample_code, sample_name, sample_type, status, parent_sample_id, created_at, depth
+            FROM lineage
+            ORDER BY depth, created_at
+            """)
+    java.util.List<SampleLineageNode> selectSubtree(@Param("sampleId") String sampleId,
+                                                    @Param("maxDepth") int maxDepth);
+
+    /**
+     * 批量查询样本当前状态
+     * <p>谱系缓存只保存结构，状态在读取时按主键补齐</p>
+     *
+     * @param sampleIds 样本ID数组
+     * @return 只含 id、status 的节点列表
+     */
+    @Select("""
+            SELECT id, status
+            FROM lims_sample
+            WHERE id = ANY(CAST(#{sampleIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler} AS uuid[]))
+            """)
+    java.util.List<SampleLineageNode> selectStatuses(@Param("sampleIds") String[] sampleIds);
+
+    /**
+     * 游标方式读取导出数据（样本 + 最新节点数据）
+     * <p>必须在事务内调用，PostgreSQL 仅在非自动提交模式下按 fetchSize 分批拉取</p>
+     *
+     * @param query  查询条件（分页参数忽略）
+     * @param fields 只提取的节点数据字段，为空时读取完整 data
+     * @return 导出行游标
+     */
+    @Select("""
+            <script>
+            SELECT s.id, s.sample_code, s.sample_name, s.sample_type, s.status, s.project_id,
+                   s.process_instance_id, s.current_node_id, s.container_id, s.position,
+                   s.parent_sample_id, s.created_at,
+                   nd.node_id AS latest_node_id, nd.node_name AS latest_node_name,
+                   nd.data AS latest_data, nd.created_at AS latest_node_time
+            FROM lims_sample s
+            LEFT JOIN LATERAL (
+                SELECT d.node_id, d.node_name, d.created_at,
+                <choose>
+                    <when test="fields != null and fields.size() > 0">
+                    jsonb_build_object(
+                    <foreach collection="fields" item="k" separator=",">CAST(#{k} AS text), d.data -> CAST(#{k} AS text)</foreach>
+                    ) AS data
+                    </when>
+                    <otherwise>d.data</otherwise>
+                </choose>
+                FROM lims_process_node_data d
+                WHERE d.sample_id = s.id AND d.deleted = false
+                ORDER BY d.created_at DESC
+                LIMIT 1
+            ) nd ON TRUE
+            WHERE s.deleted = false
+            <if test="q.sampleCode != null">AND s.sample_code LIKE CONCAT('%', #{q.sampleCode}, '%')</if>
+            <if test="q.sampleName != null">AND s.sample_name LIKE CONCAT('%', #{q.sampleName}, '%')</if>
+            <if test="q.sampleType != null">AND s.sample_type = #{q.sampleType}</if>
+            <if test="q.status != null">AND s.status = #{q.status}</if>
+            <if test="q.projectId != null">AND s.project_id = CAST(#{q.projectId} AS uuid)</if>
+            <if test="q.containerId != null">AND s.container_id = CAST(#{q.containerId} AS uuid)</if>
+            ORDER BY s.created_at DESC
+            </script>
+            """)
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = 1000)
+    @Results(id = "sampleExportRow", value = {
+            @Result(column = "latest_data", property = "latestData", typeHandler = JsonbTypeHandler.class)
+    })
+    Cursor<SampleExportRow> selectExportCursor(@Param("q") SampleQueryRequest query,
+                                               @Param("fields") java.util.List<String> fields);
+
+    /**
+     * 按流程实例批量查询样本摘要
+     * <p>以数组参数执行 process_instance_id = ANY(?)，无论一页有多少任务都是同一条语句，命中 idx_sample_process_instance</p>
+     *
+     * @param processInstanceIds 流程实例ID数组
+     * @return 样本摘要列表
+     */
+    @Select("""
+            SELECT id, process_instance_id, project_id, sample_code, sample_name, sample_type, status, container_id, position
+            FROM lims_sample
+            WHERE process_instance_id = ANY(#{processInstanceIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})
+              AND deleted = false
+            ORDER BY process_instance_id, position, sample_code
+            """)
+    java.util.List<TaskSampleSummary> selectTaskSamples(@Param("processInstanceIds") String[] processInstanceIds);
+
+    /**
+     * 按流程实例集合更新样本状态
+     * <p>一条语句完成加锁和更新，并递增乐观锁版本号；返回实际变更的样本，其中 status 为变更前的状态</p>
+     *
+     * @param processInstanceIds 流程实例ID数组
+     * @param status             新状态
+     * @param updatedBy          更新人
+     * @return 变更前的样本摘要
+     */
+    @Select("""
+            WITH target AS (
+                SELECT id, status
+                FROM lims_sample
+                WHERE process_instance_id = ANY(#{processInstanceIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler})
+                  AND deleted = false
+                  AND status IS DISTINCT FROM #{status}
+                FOR UPDATE
+            )
+            UPDATE lims_sample s
+            SET status = #{status}, updated_by = #{updatedBy}, updated_at = CURRENT_TIMESTAMP, version = s.version + 1
+            FROM target t
+            WHERE s.id = t.id
+            RETURNING s.id, s.process_instance_id, s.project_id, s.sample_code, s.sample_name, s.sample_type,
+                      t.status, s.container_id, s.position
+            """)
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    java.util.List<TaskSampleSummary> updateStatusByProcessInstances(@Param("processInstanceIds") String[] processInstanceIds,
+                                                                     @Param("status") String status,
+                                                                     @Param("updatedBy") String updatedBy);
+
+    /**
+     * 查询项目下关联了流程的流程实例ID
+     *
+     * @param projectId 项目ID
+     * @return 流程实例ID列表
+     */
+    @Select("""
+            SELECT DISTINCT process_instance_id
+            FROM lims_sample
+            WHERE project_id = CAST(#{projectId} AS uuid)
+              AND process_instance_id IS NOT NULL
+              AND deleted = false
+            ORDER BY process_instance_id
+            """)
+    java.util.List<String> selectProcessInstanceIdsByProject(@Param("projectId") String projectId);
+
+    /**
+     * 查询样本集合关联的流程实例ID
+     *
+     * @param sampleIds 样本ID数组
+     * @return 流程实例ID列表
+     */
+    @Select("""
+            SELECT DISTINCT process_instance_id
+            FROM lims_sample
+            WHERE id = ANY(CAST(#{sampleIds, typeHandler=org.apache.ibatis.type.ArrayTypeHandler} AS uuid[]))
+              AND process_instance_id IS NOT NULL
+              AND deleted = false
+            ORDER BY process_instance_id
+            """)
+    java.util.List<String> selectProcessInstanceIdsBySamples(@Param("sampleIds") String[] sampleIds);
 }
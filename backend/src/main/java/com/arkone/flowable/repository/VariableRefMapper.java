@@ -0,0 +1,68 @@
+package com.arkone.flowable.repository;
+
+import com.arkone.flowable.entity.VariableRef;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.LocalDateTime;
+
+/**
+ * 流程变量引用数据访问层
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Mapper
+public interface VariableRefMapper extends BaseMapper<VariableRef> {
+
+    /**
+     * 写入变量引用
+     *
+     * @param ref 变量引用（payload 为JSON数组文本）
+     * @return 插入行数
+     */
+    @Insert("""
+            INSERT INTO lims_variable_ref (id, name, item_count, payload, created_at)
+            VALUES (#{ref.id}, #{ref.name}, #{ref.itemCount}, CAST(#{ref.payload} AS jsonb), CURRENT_TIMESTAMP)
+            """)
+    int insertRef(@Param("ref") VariableRef ref);
+
+    /**
+     * 查询变量内容
+     *
+     * @param id 引用ID
+     * @return JSON数组文本，不存在时返回null
+     */
+    @Select("SELECT payload::text FROM lims_variable_ref WHERE id = #{id}")
+    String selectPayload(@Param("id") String id);
+
+    /**
+     * 删除运行时变量和历史变量都不再引用的变量引用（按创建时间从早到晚，每次最多 limit 条）
+     *
+     * <p>三个 NOT EXISTS 依赖 ACT_RU_VARIABLE / ACT_HI_VARINST / ACT_HI_DETAIL 上 TEXT_ 的部分索引，
+     * 由 {@code ReferencedListVariableType} 在首次清理前创建。</p>
+     *
+     * @param typeName 变量类型名
+     * @param before   只删除早于该时间创建的引用（留出未提交事务的宽限期）
+     * @param limit    本批最多删除条数
+     * @return 删除行数
+     */
+    @Delete("""
+            DELETE FROM lims_variable_ref
+            WHERE id IN (
+                SELECT r.id FROM lims_variable_ref r
+                WHERE r.created_at < #{before}
+                  AND NOT EXISTS (SELECT 1 FROM act_ru_variable v WHERE v.type_ = #{typeName} AND v.text_ = r.id)
+                  AND NOT EXISTS (SELECT 1 FROM act_hi_varinst h WHERE h.var_type_ = #{typeName} AND h.text_ = r.id)
+                  AND NOT EXISTS (SELECT 1 FROM act_hi_detail d WHERE d.var_type_ = #{typeName} AND d.text_ = r.id)
+                ORDER BY r.created_at
+                LIMIT #{limit}
+            )
+            """)
+    int deleteOrphans(@Param("typeName") String typeName, @Param("before") LocalDateTime before,
+                      @Param("limit") int limit);
+}
@@ -0,0 +1,226 @@
+package com.arkone.flowable.repository.query;
+
+import com.arkone.flowable.common.typehandler.JsonbTypeHandler;
+import com.arkone.flowable.entity.ProcessNodeData;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 节点数据动态字段查询条件
+ *
+ * <p>生成可命中索引的SQL片段：</p>
+ * <ul>
+ *   <li>等值：{@code data @> '{"k": v}'}，命中GIN索引 idx_node_data_gin</li>
+ *   <li>数值范围：{@code data ? 'k' AND CASE WHEN jsonb_typeof(data->'k') = 'number' THEN (data->>'k')::numeric END >= v}，
+ *       命中 {@link NodeDataIndexProvisioner} 建立的表达式索引</li>
+ *   <li>存在：{@code data ? 'k'}，命中GIN索引</li>
+ * </ul>
+ *
+ * <p>表达式索引只在查询表达式与索引表达式字面一致时生效，因此字段名以字面量拼入SQL，
+ * 字段名只允许字母、数字、下划线和汉字，值始终使用参数绑定。</p>
+ *
+ * <pre>
+ * NodeDataFieldQuery query = NodeDataFieldQuery.create()
+ *         .nodeId("task_preprocess")
+ *         .ge("nucleic_acid_concentration", new BigDecimal("100"))
+ *         .eq("plate_48_code", "P001")
+ *         .limit(200);
+ * List&lt;ProcessNodeData&gt; rows = processNodeDataMapper.selectByFieldQuery(query);
+ * </pre>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public class NodeDataFieldQuery {
+
+    private static final Pattern FIELD_NAME_PATTERN = Pattern.compile("^[\\p{L}\\p{N}_]{1,100}$");
+
+    private static final int DEFAULT_LIMIT = 500;
+    private static final int MAX_LIMIT = 5000;
+
+    private final List<Condition> conditions = new ArrayList<>();
+    private String nodeId;
+    private List<String> sampleIds;
+    private int limit = DEFAULT_LIMIT;
+
+    private NodeDataFieldQuery() {
+    }
+
+    public static NodeDataFieldQuery create() {
+        return new NodeDataFieldQuery();
+    }
+
+    /**
+     * 限定流程节点
+     */
+    public NodeDataFieldQuery nodeId(String nodeId) {
+        this.nodeId = nodeId;
+        return this;
+    }
+
+    /**
+     * 限定样本范围
+     */
+    public NodeDataFieldQuery sampleIds(List<String> sampleIds) {
+        this.sampleIds = sampleIds;
+        return this;
+    }
+
+    /**
+     * 等值（字符串、数值、布尔）
+     */
+    public NodeDataFieldQuery eq(String field, Object value) {
+        String key = checkField(field);
+        if (value == null) {
+            throw new IllegalArgumentException("等值条件的值不能为空: " + field);
+        }
+        try {
+            String json = JsonbTypeHandler.serialize(Map.of(key, value));
+            conditions.add(new Condition("data @> CAST({0} AS jsonb)", json));
+        } catch (SQLException e) {
+            throw new IllegalArgumentException("无法序列化查询值: " + field, e);
+        }
+        return this;
+    }
+
+    /**
+     * 字段存在
+     */
+    public NodeDataFieldQuery exists(String field) {
+        conditions.add(new Condition("data ?? " + literal(checkField(field))));
+        return this;
+    }
+
+    /**
+     * 大于
+     */
+    public NodeDataFieldQuery gt(String field, Number value) {
+        return numeric(field, ">", value);
+    }
+
+    /**
+     * 大于等于
+     */
+    public NodeDataFieldQuery ge(String field, Number value) {
+        return numeric(field, ">=", value);
+    }
+
+    /**
+     * 小于
+     */
+    public NodeDataFieldQuery lt(String field, Number value) {
+        return numeric(field, "<", value);
+    }
+
+    /**
+     * 小于等于
+     */
+    public NodeDataFieldQuery le(String field, Number value) {
+        return numeric(field, "<=", value);
+    }
+
+    /**
+     * 闭区间，任一端为null时忽略该端
+     */
+    public NodeDataFieldQuery between(String field, Number min, Number max) {
+        if (min != null) {
+            ge(field, min);
+        }
+        if (max != null) {
+            le(field, max);
+        }
+        return this;
+    }
+
+    /**
+     * 最多返回条数
+     */
+    public NodeDataFieldQuery limit(int limit) {
+        this.limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return this;
+    }
+
+    /**
+     * 应用到查询包装器
+     *
+     * @param wrapper 查询包装器
+     * @return 同一个包装器
+     */
+    public LambdaQueryWrapper<ProcessNodeData> applyTo(LambdaQueryWrapper<ProcessNodeData> wrapper) {
+        wrapper.eq(nodeId != null, ProcessNodeData::getNodeId, nodeId)
+                .in(sampleIds != null && !sampleIds.isEmpty(), ProcessNodeData::getSampleId, sampleIds);
+        for (Condition condition : conditions) {
+            wrapper.apply(condition.sql(), condition.params());
+        }
+        return wrapper.orderByDesc(ProcessNodeData::getCreatedAt)
+                .last("LIMIT " + limit);
+    }
+
+    /**
+     * 已添加的条件（只读）
+     */
+    public List<Condition> getConditions() {
+        return Collections.unmodifiableList(conditions);
+    }
+
+    /**
+     * 数值类字段的索引表达式，与 {@link NodeDataIndexProvisioner} 创建的索引保持一致
+     * <p>写入时不校验值类型，且PostgreSQL不保证先判断 {@code data ? 'k'} 再做类型转换，
+     * 因此只对JSON数值做转换，其他值（如 "" 或 "N/A"）视为NULL，不会使查询或建索引报错。</p>
+     *
+     * @param field 字段名
+     * @return 索引表达式
+     */
+    public static String numericExpression(String field) {
+        String key = literal(checkField(field));
+        return "CASE WHEN jsonb_typeof(data->" + key + ") = 'number' THEN (data->>" + key + ")::numeric END";
+    }
+
+    /**
+     * 校验字段名
+     *
+     * @param field 字段名
+     * @return 字段名
+     */
+    public static String checkField(String field) {
+        if (field == null || !FIELD_NAME_PATTERN.matcher(field).matches()) {
+            throw new IllegalArgumentException("非法的字段名: " + field);
+        }
+        return field;
+    }
+
+    private NodeDataFieldQuery numeric(String field, String operator, Number value) {
+        String key = checkField(field);
+        if (value == null) {
+            throw new IllegalArgumentException("范围条件的值不能为空: " + field);
+        }
+        BigDecimal decimal = value instanceof BigDecimal bd ? bd : new BigDecimal(value.toString());
+        // 存在性条件与部分索引的谓词一致，同时避免对缺少该字段的行做类型转换
+        conditions.add(new Condition("data ?? " + literal(key) + " AND "
+                + numericExpression(key) + " " + operator + " {0}", decimal));
+        return this;
+    }
+
+    /**
+     * 字段名已通过白名单校验，这里仍按SQL规则转义单引号
+     */
+    private static String literal(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+
+    /**
+     * SQL条件片段
+     *
+     * @param sql    条件SQL，参数占位为 {0}
+     * @param params 参数
+     */
+    public record Condition(String sql, Object... params) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.arkone.flowable.repository.query;
+
+import com.arkone.flowable.entity.FieldDefinition;
+import com.arkone.flowable.repository.FieldDefinitionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * 节点数据表达式索引自动创建器
+ *
+ * <p>为 {@code searchable = true} 的 number 类型字段在 lims_process_node_data 上创建部分表达式索引，
+ * 索引表达式与 {@link NodeDataFieldQuery} 生成的范围条件保持一致：
+ * {@code ((CASE WHEN jsonb_typeof(data->'k') = 'number' THEN (data->>'k')::numeric END)) WHERE deleted = false AND data ? 'k'}，
+ * 非数值的值不参与转换，个别脏数据不会导致建索引失败。
+ * 等值条件使用 {@code data @> ...}，由 data 列上的GIN索引支持，不需要单独的文本表达式索引。</p>
+ *
+ * <p>启动后在专用后台线程中执行，使用 {@code CREATE INDEX CONCURRENTLY} 不阻塞写入。
+ * 并发建索引失败会留下无效索引，执行前先删除同名前缀下的无效索引再重建；
+ * 字段不再可搜索或不再是数值类型时，其遗留索引同样删除。
+ * 索引名由字段名和表达式版本的CRC32生成，字段名含中文时也不会超出标识符长度；
+ * 表达式变化时索引名随之变化，旧表达式的索引作为遗留索引删除。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class NodeDataIndexProvisioner {
+
+    private static final String TABLE = "lims_process_node_data";
+    private static final String INDEX_PREFIX = "idx_nd_f_";
+
+    /**
+     * 索引表达式版本，修改 {@link NodeDataFieldQuery#numericExpression} 时同步修改，使旧索引按新名称重建
+     */
+    private static final String EXPRESSION_VERSION = "numeric-v2";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FieldDefinitionMapper fieldDefinitionMapper;
+    private final boolean autoProvision;
+
+    public NodeDataIndexProvisioner(JdbcTemplate jdbcTemplate,
+                                    FieldDefinitionMapper fieldDefinitionMapper,
+                                    @Value("${node-data.index.auto-provision:true}") boolean autoProvision) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fieldDefinitionMapper = fieldDefinitionMapper;
+        this.autoProvision = autoProvision;
+    }
+
+    /**
+     * 启动完成后在后台创建索引，不阻塞应用就绪
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!autoProvision) {
+            return;
+        }
+        // 建索引可能持续数分钟，使用独立线程，不占用公共线程池
+        Thread thread = new Thread(() -> {
+            try {
+                provision();
+            } catch (Exception e) {
+                log.error("节点数据表达式索引创建失败", e);
+            }
+        }, "node-data-index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 为全部可搜索字段创建索引（幂等）
+     *
+     * @return 本次执行的建索引语句数
+     */
+    public int provision() {
+        dropInvalidIndexes();
+
+        // 同一字段名可能在多个节点定义，任一定义为数值类型即建索引
+        Set<String> fields = new LinkedHashSet<>();
+        for (FieldDefinition definition : fieldDefinitionMapper.selectSearchableFields()) {
+            if ("number".equals(definition.getFieldType())) {
+                fields.add(definition.getFieldName());
+            }
+        }
+
+        Set<String> expected = new HashSet<>();
+        int executed = 0;
+        for (String field : fields) {
+            String ddl;
+            try {
+                ddl = buildIndexDdl(field);
+            } catch (IllegalArgumentException e) {
+                log.warn("跳过可搜索字段: {}", e.getMessage());
+                continue;
+            }
+            expected.add(indexName(field));
+            long start = System.currentTimeMillis();
+            jdbcTemplate.execute(ddl);
+            executed++;
+            log.debug("节点数据表达式索引就绪: field={}, {}ms", field, System.currentTimeMillis() - start);
+        }
+        dropObsoleteIndexes(expected);
+        log.info("节点数据表达式索引检查完成: 可搜索字段{}个", executed);
+        return executed;
+    }
+
+    /**
+     * 生成数值字段的建索引语句
+     *
+     * @param field 字段名
+     * @return DDL
+     */
+    static String buildIndexDdl(String field) {
+        String expression = NodeDataFieldQuery.numericExpression(field);
+        String literal = "'" + NodeDataFieldQuery.checkField(field).replace("'", "''") + "'";
+        return "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + indexName(field)
+                + " ON " + TABLE + " ((" + expression + "))"
+                + " WHERE deleted = false AND data ? " + literal;
+    }
+
+    /**
+     * 索引名：前缀 + CRC32(字段名:表达式版本)
+     */
+    static String indexName(String field) {
+        CRC32 crc = new CRC32();
+        crc.update((field + ":" + EXPRESSION_VERSION).getBytes(StandardCharsets.UTF_8));
+        return INDEX_PREFIX + String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * 删除之前并发创建失败遗留的无效索引
+     */
+    private void dropInvalidIndexes() {
+        List<String> invalid = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_index i
+                JOIN pg_class c ON c.oid = i.indexrelid
+                JOIN pg_class t ON t.oid = i.indrelid
+                WHERE t.relname = ?
+                  AND c.relname LIKE 'idx\\_nd\\_f\\_%'
+                  AND NOT i.indisvalid
+                """, String.class, TABLE);
+        for (String index : invalid) {
+            log.warn("删除无效的节点数据索引: {}", index);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index);
+        }
+    }
+
+    /**
+     * 删除不再对应可搜索数值字段的索引（包括早期创建的文本表达式索引）
+     */
+    private void dropObsoleteIndexes(Set<String> expected) {
+        List<String> existing = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_index i
+                JOIN pg_class c ON c.oid = i.indexrelid
+                JOIN pg_class t ON t.oid = i.indrelid
+                WHERE t.relname = ?
+                  AND c.relname LIKE 'idx\\_nd\\_f\\_%'
+                """, String.class, TABLE);
+        for (String index : existing) {
+            if (!expected.contains(index)) {
+                log.info("删除不再使用的节点数据索引: {}", index);
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.arkone.flowable.service;
+
+import com.arkone.flowable.dto.AuditLogQueryRequest;
+import com.arkone.flowable.dto.CursorPage;
+import com.arkone.flowable.entity.AuditLog;
+
+import java.io.OutputStream;
+
+/**
+ * 审计日志服务接口
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface AuditLogService {
+
+    /**
+     * 按键集游标分页查询审计日志（按时间倒序）
+     *
+     * @param request 查询条件
+     * @return 游标分页结果
+     */
+    CursorPage<AuditLog> queryAuditLogs(AuditLogQueryRequest request);
+
+    /**
+     * 流式导出审计日志（CSV，按时间正序）
+     *
+     * @param request 查询条件（游标、分页参数忽略）
+     * @param out     输出流
+     * @return 导出行数
+     */
+    long exportCsv(AuditLogQueryRequest request, OutputStream out);
+}
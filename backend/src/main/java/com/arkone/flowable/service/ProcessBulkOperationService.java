@@ -0,0 +1,30 @@
+package com.arkone.flowable.service;
+
+import com.arkone.flowable.dto.ProcessBulkOperationRequest;
+import com.arkone.flowable.dto.ProcessBulkOperationStatus;
+
+/**
+ * 流程实例批量操作服务接口
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface ProcessBulkOperationService {
+
+    /**
+     * 提交批量挂起/激活/取消作业
+     * <p>只负责确定实例清单并调度第一块，立即返回；由Flowable异步执行器按块在各自的事务中处理</p>
+     *
+     * @param request 批量操作请求
+     * @return 初始作业状态
+     */
+    ProcessBulkOperationStatus submit(ProcessBulkOperationRequest request);
+
+    /**
+     * 查询作业进度
+     *
+     * @param operationId 操作ID
+     * @return 作业状态
+     */
+    ProcessBulkOperationStatus getOperation(String operationId);
+}
@@ -1,8 +1,12 @@
 package com.arkone.flowable.service;
 
+import com.arkone.flowable.dto.ProcessDefinitionResponse;
+import com.arkone.flowable.dto.ProcessInstanceDetailResponse;
 import com.arkone.flowable.dto.ProcessInstanceResponse;
 import com.arkone.flowable.dto.ProcessStartRequest;
 
+import java.util.List;
+
 /**
  * 流程管理服务接口
  *
@@ -26,4 +30,49 @@ public interface ProcessService {
      * @return 流程实例响应
      */
     ProcessInstanceResponse startPcrProcess(ProcessStartRequest request);
+
+    /**
+     * 查询各流程的最新版本定义（缓存）
+     *
+     * @return 流程定义列表
+     */
+    List<ProcessDefinitionResponse> listProcessDefinitions();
+
+    /**
+     * 查询流程定义详情（缓存）
+     *
+     * @param processDefinitionId 流程定义ID
+     * @return 流程定义详情
+     */
+    ProcessDefinitionResponse getProcessDefinition(String processDefinitionId);
+
+    /**
+     * 查询流程实例详情
+     *
+     * @param processInstanceId 流程实例ID
+     * @return 流程实例详情（状态、待办任务、已执行节点、关联样本）
+     */
+    ProcessInstanceDetailResponse getProcessInstance(String processInstanceId);
+
+    /**
+     * 挂起流程实例
+     *
+     * @param processInstanceId 流程实例ID
+     */
+    void suspendProcessInstance(String processInstanceId);
+
+    /**
+     * 激活流程实例
+     *
+     * @param processInstanceId 流程实例ID
+     */
+    void activateProcessInstance(String processInstanceId);
+
+    /**
+     * 取消流程实例，关联样本回到待处理状态
+     *
+     * @param processInstanceId 流程实例ID
+     * @param reason            取消原因
+     */
+    void cancelProcessInstance(String processInstanceId, String reason);
 }
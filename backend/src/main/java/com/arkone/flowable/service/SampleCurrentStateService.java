@@ -0,0 +1,55 @@
+package com.arkone.flowable.service;
+
+import com.arkone.flowable.dto.SampleCurrentStateResponse;
+import com.arkone.flowable.dto.SampleQueryRequest;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+
+import java.util.List;
+
+/**
+ * 样本当前状态投影服务接口
+ * 维护并查询每个样本一行的当前状态投影（lims_sample_current_state）
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface SampleCurrentStateService {
+
+    /**
+     * 刷新单个样本的投影（在调用方事务内执行）
+     *
+     * @param sampleId 样本ID
+     */
+    void refresh(String sampleId);
+
+    /**
+     * 批量刷新样本投影（在调用方事务内执行）
+     *
+     * @param sampleIds 样本ID列表
+     */
+    void refresh(List<String> sampleIds);
+
+    /**
+     * 全量重建投影
+     *
+     * @return 写入行数
+     */
+    int rebuild();
+
+    /**
+     * 分页查询样本当前状态
+     *
+     * @param request       查询条件
+     * @param currentNodeId 当前节点ID（可选）
+     * @return 分页结果
+     */
+    Page<SampleCurrentStateResponse> queryCurrentStates(SampleQueryRequest request, String currentNodeId);
+
+    /**
+     * 查询容器内全部样本的当前状态
+     *
+     * @param containerId 容器ID
+     * @return 按位置排序的列表
+     */
+    List<SampleCurrentStateResponse> listByContainer(String containerId);
+}
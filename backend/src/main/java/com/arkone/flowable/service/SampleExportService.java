@@ -0,0 +1,25 @@
+package com.arkone.flowable.service;
+
+import com.arkone.flowable.dto.SampleQueryRequest;
+
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 样本导出服务接口
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface SampleExportService {
+
+    /**
+     * 以CSV格式流式导出样本及其最新节点数据
+     *
+     * @param request 查询条件（分页参数忽略）
+     * @param fields  需要导出的节点数据字段名，为空时导出全部已定义字段
+     * @param out     输出流
+     * @return 导出行数
+     */
+    long exportCsv(SampleQueryRequest request, List<String> fields, OutputStream out);
+}
@@ -0,0 +1,24 @@
+package com.arkone.flowable.service;
+
+import com.arkone.flowable.dto.SampleHistoryItem;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+
+/**
+ * 样本历史服务接口
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface SampleHistoryService {
+
+    /**
+     * 获取样本历史时间线
+     * <p>合并节点数据、流程活动历史和审计日志，按时间正序分页</p>
+     *
+     * @param sampleId 样本ID
+     * @param pageNum  页码
+     * @param pageSize 每页大小
+     * @return 分页结果
+     */
+    Page<SampleHistoryItem> getSampleHistory(String sampleId, Integer pageNum, Integer pageSize);
+}
@@ -0,0 +1,49 @@
+package com.arkone.flowable.service;
+
+import com.arkone.flowable.dto.SampleLineageNode;
+
+import java.util.List;
+
+/**
+ * 样本谱系服务接口
+ * 基于递归查询追溯样本分装、混合关系
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface SampleLineageService {
+
+    /**
+     * 查询样本的祖先链
+     *
+     * @param sampleId 样本ID
+     * @return 祖先列表（由近及远，不含自身）
+     */
+    List<SampleLineageNode> getAncestors(String sampleId);
+
+    /**
+     * 查询样本的后代
+     *
+     * @param sampleId 样本ID
+     * @param maxDepth 最大层级（为空时使用配置上限）
+     * @return 后代列表（按层级排列，不含自身）
+     */
+    List<SampleLineageNode> getDescendants(String sampleId, Integer maxDepth);
+
+    /**
+     * 查询以样本为根的谱系树
+     *
+     * @param sampleId 样本ID
+     * @param maxDepth 最大层级（为空时使用配置上限）
+     * @return 根节点（children 逐级嵌套）
+     */
+    SampleLineageNode getTree(String sampleId, Integer maxDepth);
+
+    /**
+     * 子样本创建后使相关谱系缓存失效
+     * <p>存在事务时在提交后执行</p>
+     *
+     * @param parentSampleId 父样本ID
+     */
+    void onChildCreated(String parentSampleId);
+}
@@ -5,6 +5,8 @@ import com.arkone.flowable.dto.SampleQueryRequest;
 import com.arkone.flowable.dto.SampleResponse;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 
+import java.util.List;
+
 /**
  * 样本服务接口
  *
@@ -45,4 +47,15 @@ public interface SampleService {
      * @return 样本响应
      */
     SampleResponse updateSampleStatus(String id, String status);
+
+    /**
+     * 按流程实例批量更新样本状态
+     * <p>一条集合更新语句完成，随后刷新当前状态投影并为每个变更的样本写入状态变更事件</p>
+     *
+     * @param processInstanceIds 流程实例ID列表
+     * @param status             新状态
+     * @param reason             变更原因（写入事件内容，可为空）
+     * @return 实际变更的样本数
+     */
+    int updateStatusByProcessInstances(List<String> processInstanceIds, String status, String reason);
 }
@@ -0,0 +1,64 @@
+package com.arkone.flowable.service;
+
+import com.arkone.flowable.dto.BatchOperationResult;
+
+import java.util.List;
+
+/**
+ * 任务认领与分派服务接口
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface TaskAssignmentService {
+
+    /**
+     * 分派操作
+     */
+    enum Action {
+        /**
+         * 认领（任务未被他人认领时设置办理人）
+         */
+        CLAIM,
+        /**
+         * 取消认领
+         */
+        UNCLAIM,
+        /**
+         * 委派（办理后回到原办理人）
+         */
+        DELEGATE,
+        /**
+         * 转办（直接更换办理人）
+         */
+        ASSIGN;
+
+        /**
+         * 是否需要目标用户
+         */
+        public boolean requiresUser() {
+            return this != UNCLAIM;
+        }
+    }
+
+    /**
+     * 对单个任务执行分派操作，失败时抛出业务异常
+     *
+     * @param action 操作
+     * @param taskId 任务ID
+     * @param userId 目标用户ID（取消认领时为空）
+     */
+    void execute(Action action, String taskId, String userId);
+
+    /**
+     * 批量执行分派操作
+     * <p>全部任务在同一个流程引擎命令上下文和同一个事务内处理，只提交一次；
+     * 单个任务的冲突（已被他人认领、已挂起、不存在等）记录在失败列表中，不影响其他任务</p>
+     *
+     * @param action  操作
+     * @param taskIds 任务ID列表
+     * @param userId  目标用户ID（取消认领时为空）
+     * @return 批量操作结果，成功列表为任务ID
+     */
+    BatchOperationResult<String> executeBatch(Action action, List<String> taskIds, String userId);
+}
@@ -0,0 +1,30 @@
+package com.arkone.flowable.service;
+
+import com.arkone.flowable.dto.BatchTaskCompleteRequest;
+import com.arkone.flowable.dto.TaskCompletionJobStatus;
+
+/**
+ * 异步任务完成作业服务接口
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface TaskCompletionJobService {
+
+    /**
+     * 提交异步批量完成任务作业
+     * <p>只负责投递命令，立即返回作业状态；由后台工作线程分批在分组事务中完成任务</p>
+     *
+     * @param request 批量任务完成请求（仅支持 partial 模式）
+     * @return 初始作业状态
+     */
+    TaskCompletionJobStatus submit(BatchTaskCompleteRequest request);
+
+    /**
+     * 查询作业状态
+     *
+     * @param jobId 作业ID
+     * @return 作业状态
+     */
+    TaskCompletionJobStatus getJob(String jobId);
+}
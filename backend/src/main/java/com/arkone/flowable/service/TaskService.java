@@ -3,6 +3,9 @@ package com.arkone.flowable.service;
 import com.arkone.flowable.dto.BatchOperationResult;
 import com.arkone.flowable.dto.BatchTaskCompleteRequest;
 import com.arkone.flowable.dto.TaskCompleteRequest;
+import com.arkone.flowable.dto.TaskQueryRequest;
+import com.arkone.flowable.dto.TaskResponse;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 
 /**
  * 任务管理服务接口
@@ -26,4 +29,20 @@ public interface TaskService {
      * @return 批量操作结果
      */
     BatchOperationResult<String> batchCompleteTasks(BatchTaskCompleteRequest request);
+
+    /**
+     * 分页查询待办任务
+     *
+     * @param request 查询请求
+     * @return 分页结果（附带关联样本）
+     */
+    Page<TaskResponse> queryTasks(TaskQueryRequest request);
+
+    /**
+     * 查询任务详情
+     *
+     * @param taskId 任务ID
+     * @return 任务详情（附带关联样本）
+     */
+    TaskResponse getTask(String taskId);
 }
@@ -0,0 +1,191 @@
+package com.arkone.flowable.service.impl;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.text.csv.CsvWriter;
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.AuditLogQueryRequest;
+import com.arkone.flowable.dto.CursorPage;
+import com.arkone.flowable.entity.AuditLog;
+import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.repository.AuditLogMapper;
+import com.arkone.flowable.service.AuditLogService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 审计日志服务实现类
+ *
+ * <p>所有查询都带有 created_at 范围条件：未指定时结束时间取当前时间、开始时间取结束时间前
+ * {@code audit.query.default-range-days} 天，范围不得超过 {@code audit.query.max-range-days} 天，
+ * 确保只扫描相关的月分区。分页使用 (created_at, id) 键集游标，不使用OFFSET。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class AuditLogServiceImpl implements AuditLogService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int FLUSH_INTERVAL = 1000;
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final char CURSOR_SEPARATOR = '|';
+
+    private static final String[] HEADERS = {
+            "时间", "操作类型", "实体类型", "实体ID", "用户ID", "用户名", "IP地址", "变更前", "变更后", "记录ID"
+    };
+
+    private final AuditLogMapper auditLogMapper;
+    private final ObjectMapper objectMapper;
+    private final int defaultRangeDays;
+    private final int maxRangeDays;
+
+    public AuditLogServiceImpl(AuditLogMapper auditLogMapper,
+                               ObjectMapper objectMapper,
+                               @Value("${audit.query.default-range-days:30}") int defaultRangeDays,
+                               @Value("${audit.query.max-range-days:366}") int maxRangeDays) {
+        this.auditLogMapper = auditLogMapper;
+        this.objectMapper = objectMapper;
+        this.defaultRangeDays = defaultRangeDays;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    @Override
+    public CursorPage<AuditLog> queryAuditLogs(AuditLogQueryRequest request) {
+        resolveTimeRange(request);
+        int size = request.getSize() == null || request.getSize() <= 0
+                ? 50 : Math.min(request.getSize(), MAX_PAGE_SIZE);
+
+        LocalDateTime cursorTime = null;
+        String cursorId = null;
+        if (request.getCursor() != null && !request.getCursor().isEmpty()) {
+            String decoded = decodeCursor(request.getCursor());
+            int index = decoded.indexOf(CURSOR_SEPARATOR);
+            try {
+                cursorTime = LocalDateTime.parse(decoded.substring(0, index));
+                cursorId = decoded.substring(index + 1);
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.BAD_REQUEST, "无效的翻页游标");
+            }
+        }
+
+        // 多取一条判断是否还有下一页
+        List<AuditLog> rows = auditLogMapper.selectByKeyset(request, cursorTime, cursorId, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<AuditLog> records = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            AuditLog last = records.get(records.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt() + String.valueOf(CURSOR_SEPARATOR) + last.getId());
+        }
+        return CursorPage.<AuditLog>builder()
+                .records(records)
+                .size(size)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = Exception.class)
+    public long exportCsv(AuditLogQueryRequest request, OutputStream out) {
+        resolveTimeRange(request);
+
+        long rowCount = 0;
+        try (Cursor<AuditLog> cursor = auditLogMapper.selectExportCursor(request)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(UTF8_BOM);
+            CsvWriter csvWriter = new CsvWriter(writer);
+            csvWriter.write(HEADERS);
+
+            String[] line = new String[HEADERS.length];
+            for (AuditLog auditLog : cursor) {
+                line[0] = auditLog.getCreatedAt() != null
+                        ? DateUtil.format(auditLog.getCreatedAt(), "yyyy-MM-dd HH:mm:ss.SSS") : null;
+                line[1] = auditLog.getAction();
+                line[2] = auditLog.getEntityType();
+                line[3] = auditLog.getEntityId();
+                line[4] = auditLog.getUserId();
+                line[5] = auditLog.getUserName();
+                line[6] = auditLog.getIpAddress();
+                line[7] = toJson(auditLog.getOldValue());
+                line[8] = toJson(auditLog.getNewValue());
+                line[9] = auditLog.getId();
+                csvWriter.write(line);
+                if (++rowCount % FLUSH_INTERVAL == 0) {
+                    csvWriter.flush();
+                }
+            }
+            csvWriter.flush();
+        } catch (IOException e) {
+            log.error("审计日志导出失败: 已写入{}行", rowCount, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "审计日志导出失败: " + e.getMessage());
+        }
+
+        log.info("审计日志导出完成: rows={}, range=[{}, {})", rowCount, request.getStartTime(), request.getEndTime());
+        return rowCount;
+    }
+
+    /**
+     * 补全并校验时间范围
+     */
+    private void resolveTimeRange(AuditLogQueryRequest request) {
+        if (request.getEndTime() == null) {
+            request.setEndTime(LocalDateTime.now());
+        }
+        if (request.getStartTime() == null) {
+            request.setStartTime(request.getEndTime().minusDays(defaultRangeDays));
+        }
+        if (!request.getStartTime().isBefore(request.getEndTime())) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "开始时间必须早于结束时间");
+        }
+        if (Duration.between(request.getStartTime(), request.getEndTime()).toDays() > maxRangeDays) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "查询时间范围不能超过" + maxRangeDays + "天");
+        }
+    }
+
+    private String toJson(Map<String, Object> value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(value);
+        }
+    }
+
+    private static String encodeCursor(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.indexOf(CURSOR_SEPARATOR) <= 0) {
+                throw new IllegalArgumentException();
+            }
+            return decoded;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "无效的翻页游标");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.arkone.flowable.service.impl;
 
+import com.arkone.flowable.cache.ContainerCache;
 import com.arkone.flowable.common.ErrorCode;
 import com.arkone.flowable.dto.ContainerResponse;
 import com.arkone.flowable.entity.Container;
@@ -26,6 +27,7 @@ import java.util.UUID;
 public class ContainerServiceImpl implements ContainerService {
 
     private final ContainerMapper containerMapper;
+    private final ContainerCache containerCache;
 
     @Override
     public Page<ContainerResponse> queryContainers(Integer pageNum, Integer pageSize, String containerType, String status) {
@@ -52,7 +54,7 @@ public class ContainerServiceImpl implements ContainerService {
 
     @Override
     public ContainerResponse getContainerById(String id) {
-        Container container = containerMapper.selectById(id);
+        Container container = containerCache.getById(id);
         if (container == null || container.getDeleted()) {
             throw new BusinessException(ErrorCode.CONTAINER_NOT_FOUND);
         }
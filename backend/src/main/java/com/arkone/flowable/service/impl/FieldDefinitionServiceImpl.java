@@ -64,6 +64,7 @@ public class FieldDefinitionServiceImpl implements FieldDefinitionService {
                 .formula(fieldDefinition.getFormula())
                 .options(fieldDefinition.getOptions())
                 .displayOrder(fieldDefinition.getDisplayOrder())
+                .searchable(fieldDefinition.getSearchable())
                 .createdAt(fieldDefinition.getCreatedAt())
                 .updatedAt(fieldDefinition.getUpdatedAt())
                 .build();
@@ -0,0 +1,195 @@
+package com.arkone.flowable.service.impl;
+
+import cn.hutool.core.util.IdUtil;
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.dto.ProcessBulkOperationRequest;
+import com.arkone.flowable.dto.ProcessBulkOperationStatus;
+import com.arkone.flowable.entity.ProcessBulkOperation;
+import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.job.ProcessBulkOperationJobHandler;
+import com.arkone.flowable.repository.ProcessBulkOperationMapper;
+import com.arkone.flowable.repository.SampleMapper;
+import com.arkone.flowable.service.ProcessBulkOperationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 流程实例批量操作服务实现类
+ *
+ * <p>提交时一次性解析出流程实例清单并写入 lims_process_bulk_operation，与第一块的异步作业在同一事务内提交；
+ * 之后的处理见 {@link ProcessBulkOperationJobHandler}。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class ProcessBulkOperationServiceImpl implements ProcessBulkOperationService {
+
+    private static final TypeReference<List<BatchOperationResult.BatchOperationError>> FAILURE_LIST_TYPE =
+            new TypeReference<>() {
+            };
+
+    private final RuntimeService runtimeService;
+    private final ManagementService managementService;
+    private final SampleMapper sampleMapper;
+    private final ProcessBulkOperationMapper processBulkOperationMapper;
+    private final ObjectMapper objectMapper;
+    private final int maxInstances;
+
+    public ProcessBulkOperationServiceImpl(RuntimeService runtimeService,
+                                           ManagementService managementService,
+                                           SampleMapper sampleMapper,
+                                           ProcessBulkOperationMapper processBulkOperationMapper,
+                                           ObjectMapper objectMapper,
+                                           @Value("${process-bulk.max-instances:20000}") int maxInstances) {
+        this.runtimeService = runtimeService;
+        this.managementService = managementService;
+        this.sampleMapper = sampleMapper;
+        this.processBulkOperationMapper = processBulkOperationMapper;
+        this.objectMapper = objectMapper;
+        this.maxInstances = maxInstances;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ProcessBulkOperationStatus submit(ProcessBulkOperationRequest request) {
+        List<String> processInstanceIds = resolveProcessInstanceIds(request);
+        if (processInstanceIds.size() > maxInstances) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST,
+                    "匹配的流程实例数" + processInstanceIds.size() + "超过上限" + maxInstances + "，请缩小选择范围");
+        }
+
+        Map<String, Object> selector = new HashMap<>();
+        selector.put("processDefinitionKey", request.getProcessDefinitionKey());
+        selector.put("projectId", request.getProjectId());
+        selector.put("businessKeyPrefix", request.getBusinessKeyPrefix());
+        selector.put("sampleCount", request.getSampleIds() != null ? request.getSampleIds().size() : null);
+
+        boolean empty = processInstanceIds.isEmpty();
+        LocalDateTime now = LocalDateTime.now();
+        ProcessBulkOperation operation = ProcessBulkOperation.builder()
+                .id(IdUtil.fastSimpleUUID())
+                .action(request.getAction())
+                .selector(selector)
+                .reason(request.getReason())
+                .processInstanceIds(processInstanceIds.toArray(String[]::new))
+                .total(processInstanceIds.size())
+                .processedCount(0)
+                .successCount(0)
+                .failureCount(0)
+                .status(empty ? "completed" : "queued")
+                .createdBy("system") // TODO: 从上下文获取当前用户
+                .createdAt(now)
+                .finishedAt(empty ? now : null)
+                .build();
+        processBulkOperationMapper.insert(operation);
+
+        if (!empty) {
+            // 作业与操作记录同一事务提交，提交后异步执行器才能领取
+            managementService.executeCommand(commandContext -> {
+                ProcessBulkOperationJobHandler.schedule(commandContext, operation.getId(), 0);
+                return null;
+            });
+        }
+
+        log.info("流程批量操作已提交: operationId={}, action={}, 实例数={}, selector={}",
+                operation.getId(), operation.getAction(), operation.getTotal(), selector);
+        return toStatus(operation, List.of());
+    }
+
+    @Override
+    public ProcessBulkOperationStatus getOperation(String operationId) {
+        ProcessBulkOperation operation = processBulkOperationMapper.selectById(operationId);
+        if (operation == null) {
+            throw new BusinessException(ErrorCode.PROCESS_BULK_OPERATION_NOT_FOUND);
+        }
+        List<BatchOperationResult.BatchOperationError> failures = List.of();
+        if (operation.getFailureCount() != null && operation.getFailureCount() > 0) {
+            try {
+                failures = objectMapper.readValue(processBulkOperationMapper.selectFailures(operationId), FAILURE_LIST_TYPE);
+            } catch (JsonProcessingException e) {
+                log.warn("失败明细解析失败: operationId={}", operationId, e);
+            }
+        }
+        return toStatus(operation, failures);
+    }
+
+    /**
+     * 解析选择条件对应的运行中流程实例
+     * <p>挂起只选择活动实例，激活只选择已挂起实例；处理时仍会按实例当前状态再判断一次</p>
+     */
+    private List<String> resolveProcessInstanceIds(ProcessBulkOperationRequest request) {
+        boolean hasProject = request.getProjectId() != null && !request.getProjectId().isBlank();
+        boolean hasPrefix = request.getBusinessKeyPrefix() != null && !request.getBusinessKeyPrefix().isBlank();
+        boolean hasSamples = request.getSampleIds() != null && !request.getSampleIds().isEmpty();
+        int selectorCount = (hasProject ? 1 : 0) + (hasPrefix ? 1 : 0) + (hasSamples ? 1 : 0);
+        if (selectorCount != 1) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "项目ID、业务键前缀、样本ID列表必须且只能指定一个");
+        }
+
+        ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery();
+        if (hasPrefix) {
+            query.processInstanceBusinessKeyLike(request.getBusinessKeyPrefix() + "%");
+        } else {
+            List<String> candidates = hasProject
+                    ? sampleMapper.selectProcessInstanceIdsByProject(request.getProjectId())
+                    : sampleMapper.selectProcessInstanceIdsBySamples(
+                    new LinkedHashSet<>(request.getSampleIds()).toArray(String[]::new));
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+            if (candidates.size() > maxInstances) {
+                throw new BusinessException(ErrorCode.BAD_REQUEST,
+                        "关联的流程实例数" + candidates.size() + "超过上限" + maxInstances + "，请缩小选择范围");
+            }
+            query.processInstanceIds(new LinkedHashSet<>(candidates));
+        }
+        if (request.getProcessDefinitionKey() != null && !request.getProcessDefinitionKey().isBlank()) {
+            query.processDefinitionKey(request.getProcessDefinitionKey());
+        }
+        switch (request.getAction()) {
+            case ProcessBulkOperationJobHandler.ACTION_SUSPEND -> query.active();
+            case ProcessBulkOperationJobHandler.ACTION_ACTIVATE -> query.suspended();
+            default -> {
+            }
+        }
+        return query.orderByProcessInstanceId().asc()
+                .list()
+                .stream()
+                .map(ProcessInstance::getId)
+                .toList();
+    }
+
+    private ProcessBulkOperationStatus toStatus(ProcessBulkOperation operation,
+                                                List<BatchOperationResult.BatchOperationError> failures) {
+        return ProcessBulkOperationStatus.builder()
+                .operationId(operation.getId())
+                .action(operation.getAction())
+                .status(operation.getStatus())
+                .total(operation.getTotal())
+                .processedCount(operation.getProcessedCount())
+                .successCount(operation.getSuccessCount())
+                .failureCount(operation.getFailureCount())
+                .failureList(failures)
+                .submittedAt(operation.getCreatedAt())
+                .finishedAt(operation.getFinishedAt())
+                .build();
+    }
+}
@@ -1,19 +1,35 @@
 package com.arkone.flowable.service.impl;
 
+import com.arkone.flowable.cache.ProcessDefinitionCache;
+import com.arkone.flowable.cache.ProjectCache;
 import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.ProcessDefinitionResponse;
+import com.arkone.flowable.dto.ProcessInstanceDetailResponse;
 import com.arkone.flowable.dto.ProcessInstanceResponse;
 import com.arkone.flowable.dto.ProcessStartRequest;
 import com.arkone.flowable.dto.SampleResponse;
+import com.arkone.flowable.dto.TaskResponse;
+import com.arkone.flowable.dto.TaskSampleSummary;
 import com.arkone.flowable.entity.Project;
 import com.arkone.flowable.entity.Sample;
 import com.arkone.flowable.exception.BusinessException;
-import com.arkone.flowable.repository.ProjectMapper;
+import com.arkone.flowable.messaging.DomainEventMessage;
+import com.arkone.flowable.messaging.OutboxEventRecorder;
 import com.arkone.flowable.repository.SampleMapper;
 import com.arkone.flowable.service.ProcessService;
+import com.arkone.flowable.service.SampleCurrentStateService;
+import com.arkone.flowable.service.SampleService;
+import com.arkone.flowable.variable.ReferencedList;
+import com.arkone.flowable.variable.ReferencedListVariableType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.HistoryService;
 import org.flowable.engine.RuntimeService;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,12 +49,24 @@ import java.util.*;
 public class ProcessServiceImpl implements ProcessService {
 
     private final RuntimeService runtimeService;
-    private final ProjectMapper projectMapper;
+    private final HistoryService historyService;
+    private final org.flowable.engine.TaskService flowableTaskService;
+    private final ProcessDefinitionCache processDefinitionCache;
+    private final ProjectCache projectCache;
     private final SampleMapper sampleMapper;
+    private final SampleCurrentStateService sampleCurrentStateService;
+    private final SampleService sampleService;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final ReferencedListVariableType referencedListVariableType;
 
     private static final String PLASMID_PROCESS_KEY = "plasmid_sequencing";
     private static final String PCR_PROCESS_KEY = "pcr_sequencing";
 
+    /**
+     * 详情中不展示的连线类节点
+     */
+    private static final Set<String> HIDDEN_ACTIVITY_TYPES = Set.of("sequenceFlow");
+
     @Override
     @Transactional(rollbackFor = Exception.class)
     public ProcessInstanceResponse startPlasmidProcess(ProcessStartRequest request) {
@@ -56,7 +84,7 @@ public class ProcessServiceImpl implements ProcessService {
      */
     private ProcessInstanceResponse startProcess(ProcessStartRequest request, String processKey, String processName) {
         // 验证项目是否存在
-        Project project = projectMapper.selectById(request.getProjectId());
+        Project project = projectCache.getById(request.getProjectId());
         if (project == null || project.getDeleted()) {
             throw new BusinessException(ErrorCode.PROJECT_NOT_FOUND);
         }
@@ -75,13 +103,13 @@ public class ProcessServiceImpl implements ProcessService {
             samples.add(sample);
         }
 
-        // 准备流程变量
+        // 准备流程变量：样本ID列表及客户端传入的大集合按引用保存，变量行只记录引用ID
         Map<String, Object> variables = new HashMap<>();
         if (request.getVariables() != null) {
-            variables.putAll(request.getVariables());
+            variables.putAll(referencedListVariableType.toReferences(request.getVariables()));
         }
         variables.put("projectId", request.getProjectId());
-        variables.put("sampleIds", request.getSampleIds());
+        variables.put("sampleIds", ReferencedList.of(request.getSampleIds()));
         variables.put("sampleCount", samples.size());
 
         // 启动流程实例
@@ -103,12 +131,26 @@ public class ProcessServiceImpl implements ProcessService {
 
         // 更新样本的流程实例ID
         for (Sample sample : samples) {
+            String oldStatus = sample.getStatus();
             sample.setProcessInstanceId(processInstance.getId());
             sample.setStatus("in_progress");
             sample.setUpdatedBy("system");
             sample.setUpdatedAt(LocalDateTime.now());
             sampleMapper.updateById(sample);
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("sampleId", sample.getId());
+            payload.put("sampleCode", sample.getSampleCode());
+            payload.put("projectId", sample.getProjectId());
+            payload.put("containerId", sample.getContainerId());
+            payload.put("processKey", processKey);
+            payload.put("processInstanceId", processInstance.getId());
+            payload.put("businessKey", businessKey);
+            payload.put("oldStatus", oldStatus);
+            payload.put("newStatus", sample.getStatus());
+            outboxEventRecorder.recordSampleEvent(sample.getId(), DomainEventMessage.SAMPLE_PROCESS_STARTED, payload);
         }
+        sampleCurrentStateService.refresh(request.getSampleIds());
 
         log.info("{}启动成功: processInstanceId={}, businessKey={}, sampleCount={}",
                 processName, processInstance.getId(), businessKey, samples.size());
@@ -130,6 +172,169 @@ public class ProcessServiceImpl implements ProcessService {
                 .build();
     }
 
+    @Override
+    public List<ProcessDefinitionResponse> listProcessDefinitions() {
+        return processDefinitionCache.getLatest();
+    }
+
+    @Override
+    public ProcessDefinitionResponse getProcessDefinition(String processDefinitionId) {
+        return processDefinitionCache.getById(processDefinitionId);
+    }
+
+    @Override
+    public ProcessInstanceDetailResponse getProcessInstance(String processInstanceId) {
+        // 历史实例同时覆盖运行中和已结束的流程；流程定义信息取自缓存，不额外查询
+        HistoricProcessInstance historic = historyService.createHistoricProcessInstanceQuery()
+                .processInstanceId(processInstanceId)
+                .singleResult();
+        ProcessInstance runtime = historic == null || historic.getEndTime() == null
+                ? runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).singleResult()
+                : null;
+        if (historic == null && runtime == null) {
+            throw new BusinessException(ErrorCode.PROCESS_INSTANCE_NOT_FOUND);
+        }
+
+        String processDefinitionId = historic != null ? historic.getProcessDefinitionId() : runtime.getProcessDefinitionId();
+        ProcessDefinitionResponse definition = processDefinitionCache.getById(processDefinitionId);
+
+        String status;
+        if (runtime != null) {
+            status = runtime.isSuspended() ? "suspended" : "running";
+        } else {
+            status = historic.getDeleteReason() != null ? "cancelled" : "completed";
+        }
+
+        List<TaskResponse> activeTasks = runtime != null
+                ? flowableTaskService.createTaskQuery()
+                .processInstanceId(processInstanceId)
+                .orderByTaskCreateTime().asc()
+                .list()
+                .stream()
+                .map(this::convertToTaskResponse)
+                .toList()
+                : List.of();
+
+        List<ProcessInstanceDetailResponse.ActivityItem> activities = historyService.createHistoricActivityInstanceQuery()
+                .processInstanceId(processInstanceId)
+                .orderByHistoricActivityInstanceStartTime().asc()
+                .list()
+                .stream()
+                .filter(activity -> !HIDDEN_ACTIVITY_TYPES.contains(activity.getActivityType()))
+                .map(this::convertToActivityItem)
+                .toList();
+
+        List<TaskSampleSummary> samples = sampleMapper.selectTaskSamples(new String[]{processInstanceId});
+
+        return ProcessInstanceDetailResponse.builder()
+                .processInstanceId(processInstanceId)
+                .processDefinitionId(processDefinitionId)
+                .processDefinitionKey(definition.getKey())
+                .processDefinitionName(definition.getName())
+                .businessKey(historic != null ? historic.getBusinessKey() : runtime.getBusinessKey())
+                .status(status)
+                .startUserId(historic != null ? historic.getStartUserId() : runtime.getStartUserId())
+                .startTime(toLocalDateTime(historic != null ? historic.getStartTime() : runtime.getStartTime()))
+                .endTime(historic != null ? toLocalDateTime(historic.getEndTime()) : null)
+                .deleteReason(historic != null ? historic.getDeleteReason() : null)
+                .activeTasks(activeTasks)
+                .activities(activities)
+                .samples(samples)
+                .build();
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void suspendProcessInstance(String processInstanceId) {
+        requireRunningInstance(processInstanceId);
+        try {
+            runtimeService.suspendProcessInstanceById(processInstanceId);
+        } catch (FlowableException e) {
+            throw new BusinessException(ErrorCode.OPERATION_NOT_ALLOWED, "流程实例挂起失败: " + e.getMessage());
+        }
+        sampleService.updateStatusByProcessInstances(List.of(processInstanceId), "suspended", null);
+        log.info("流程实例已挂起: processInstanceId={}", processInstanceId);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void activateProcessInstance(String processInstanceId) {
+        requireRunningInstance(processInstanceId);
+        try {
+            runtimeService.activateProcessInstanceById(processInstanceId);
+        } catch (FlowableException e) {
+            throw new BusinessException(ErrorCode.OPERATION_NOT_ALLOWED, "流程实例激活失败: " + e.getMessage());
+        }
+        sampleService.updateStatusByProcessInstances(List.of(processInstanceId), "in_progress", null);
+        log.info("流程实例已激活: processInstanceId={}", processInstanceId);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void cancelProcessInstance(String processInstanceId, String reason) {
+        requireRunningInstance(processInstanceId);
+        String deleteReason = reason != null && !reason.isBlank() ? reason : "cancelled";
+        runtimeService.deleteProcessInstance(processInstanceId, deleteReason);
+
+        // 关联样本回到待处理状态，可重新启动流程
+        int sampleCount = sampleService.updateStatusByProcessInstances(List.of(processInstanceId), "pending", deleteReason);
+        log.info("流程实例已取消: processInstanceId={}, reason={}, sampleCount={}",
+                processInstanceId, deleteReason, sampleCount);
+    }
+
+    /**
+     * 校验流程实例存在且未结束
+     */
+    private void requireRunningInstance(String processInstanceId) {
+        long count = runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count();
+        if (count == 0) {
+            boolean ended = historyService.createHistoricProcessInstanceQuery()
+                    .processInstanceId(processInstanceId)
+                    .finished()
+                    .count() > 0;
+            throw new BusinessException(ended ? ErrorCode.PROCESS_ALREADY_ENDED : ErrorCode.PROCESS_INSTANCE_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 转换为任务响应DTO（样本信息在实例层面返回）
+     */
+    private TaskResponse convertToTaskResponse(Task task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .name(task.getName())
+                .taskDefinitionKey(task.getTaskDefinitionKey())
+                .processInstanceId(task.getProcessInstanceId())
+                .processDefinitionId(task.getProcessDefinitionId())
+                .assignee(task.getAssignee())
+                .owner(task.getOwner())
+                .delegationState(task.getDelegationState() != null ? task.getDelegationState().name().toLowerCase() : null)
+                .createTime(toLocalDateTime(task.getCreateTime()))
+                .dueDate(toLocalDateTime(task.getDueDate()))
+                .priority(task.getPriority())
+                .suspended(task.isSuspended())
+                .build();
+    }
+
+    /**
+     * 转换为节点执行记录
+     */
+    private ProcessInstanceDetailResponse.ActivityItem convertToActivityItem(HistoricActivityInstance activity) {
+        return ProcessInstanceDetailResponse.ActivityItem.builder()
+                .activityId(activity.getActivityId())
+                .activityName(activity.getActivityName())
+                .activityType(activity.getActivityType())
+                .assignee(activity.getAssignee())
+                .startTime(toLocalDateTime(activity.getStartTime()))
+                .endTime(toLocalDateTime(activity.getEndTime()))
+                .durationInMillis(activity.getDurationInMillis())
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
+
     /**
      * 转换为样本响应DTO
      */
@@ -1,5 +1,6 @@
 package com.arkone.flowable.service.impl;
 
+import com.arkone.flowable.cache.ProjectCache;
 import com.arkone.flowable.common.ErrorCode;
 import com.arkone.flowable.dto.ProjectResponse;
 import com.arkone.flowable.entity.Project;
@@ -26,6 +27,7 @@ import java.util.UUID;
 public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectMapper projectMapper;
+    private final ProjectCache projectCache;
 
     @Override
     public Page<ProjectResponse> queryProjects(Integer pageNum, Integer pageSize, String status) {
@@ -51,7 +53,7 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public ProjectResponse getProjectById(String id) {
-        Project project = projectMapper.selectById(id);
+        Project project = projectCache.getById(id);
         if (project == null || project.getDeleted()) {
             throw new BusinessException(ErrorCode.PROJECT_NOT_FOUND);
         }
@@ -0,0 +1,114 @@
+package com.arkone.flowable.service.impl;
+
+import com.arkone.flowable.dto.SampleCurrentStateResponse;
+import com.arkone.flowable.dto.SampleQueryRequest;
+import com.arkone.flowable.entity.SampleCurrentState;
+import com.arkone.flowable.repository.SampleCurrentStateMapper;
+import com.arkone.flowable.service.SampleCurrentStateService;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 样本当前状态投影服务实现类
+ *
+ * <p>写入方在自身事务内调用 {@link #refresh(String)}，投影与样本、节点数据同时提交或回滚，
+ * 读取方只查询投影表，不再逐个样本查询最新节点数据。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SampleCurrentStateServiceImpl implements SampleCurrentStateService {
+
+    private final SampleCurrentStateMapper sampleCurrentStateMapper;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void refresh(String sampleId) {
+        if (sampleId == null) {
+            return;
+        }
+        sampleCurrentStateMapper.upsertFromSource(List.of(sampleId));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void refresh(List<String> sampleIds) {
+        if (sampleIds == null || sampleIds.isEmpty()) {
+            return;
+        }
+        sampleCurrentStateMapper.upsertFromSource(sampleIds);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public int rebuild() {
+        int removed = sampleCurrentStateMapper.deleteStale();
+        int rows = sampleCurrentStateMapper.upsertFromSource(null);
+        log.info("样本当前状态投影重建完成: upserted={}, removed={}", rows, removed);
+        return rows;
+    }
+
+    @Override
+    public Page<SampleCurrentStateResponse> queryCurrentStates(SampleQueryRequest request, String currentNodeId) {
+        Page<SampleCurrentState> page = new Page<>(request.getPageNum(), request.getPageSize());
+
+        LambdaQueryWrapper<SampleCurrentState> wrapper = new LambdaQueryWrapper<>();
+        wrapper.like(request.getSampleCode() != null, SampleCurrentState::getSampleCode, request.getSampleCode())
+                .like(request.getSampleName() != null, SampleCurrentState::getSampleName, request.getSampleName())
+                .eq(request.getSampleType() != null, SampleCurrentState::getSampleType, request.getSampleType())
+                .eq(request.getStatus() != null, SampleCurrentState::getStatus, request.getStatus())
+                .eq(request.getProjectId() != null, SampleCurrentState::getProjectId, request.getProjectId())
+                .eq(request.getContainerId() != null, SampleCurrentState::getContainerId, request.getContainerId())
+                .eq(currentNodeId != null, SampleCurrentState::getCurrentNodeId, currentNodeId)
+                .orderByDesc(SampleCurrentState::getSampleCreatedAt);
+
+        Page<SampleCurrentState> statePage = sampleCurrentStateMapper.selectPage(page, wrapper);
+
+        Page<SampleCurrentStateResponse> responsePage =
+                new Page<>(statePage.getCurrent(), statePage.getSize(), statePage.getTotal());
+        responsePage.setRecords(statePage.getRecords().stream()
+                .map(this::convertToResponse)
+                .toList());
+        return responsePage;
+    }
+
+    @Override
+    public List<SampleCurrentStateResponse> listByContainer(String containerId) {
+        return sampleCurrentStateMapper.selectByContainerId(containerId).stream()
+                .map(this::convertToResponse)
+                .toList();
+    }
+
+    /**
+     * 转换为响应DTO
+     */
+    private SampleCurrentStateResponse convertToResponse(SampleCurrentState state) {
+        return SampleCurrentStateResponse.builder()
+                .sampleId(state.getSampleId())
+                .sampleCode(state.getSampleCode())
+                .sampleName(state.getSampleName())
+                .sampleType(state.getSampleType())
+                .status(state.getStatus())
+                .projectId(state.getProjectId())
+                .processInstanceId(state.getProcessInstanceId())
+                .currentNodeId(state.getCurrentNodeId())
+                .containerId(state.getContainerId())
+                .position(state.getPosition())
+                .lastNodeId(state.getLastNodeId())
+                .lastNodeName(state.getLastNodeName())
+                .lastNodeTime(state.getLastNodeTime())
+                .metrics(state.getMetrics())
+                .createdAt(state.getSampleCreatedAt())
+                .updatedAt(state.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,178 @@
+package com.arkone.flowable.service.impl;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.text.csv.CsvWriter;
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.SampleExportRow;
+import com.arkone.flowable.dto.SampleQueryRequest;
+import com.arkone.flowable.entity.FieldDefinition;
+import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.repository.FieldDefinitionMapper;
+import com.arkone.flowable.repository.SampleMapper;
+import com.arkone.flowable.service.SampleExportService;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 样本导出服务实现类
+ *
+ * <p>通过MyBatis游标逐行读取样本及最新节点数据并直接写入响应流，
+ * 内存占用与导出行数无关，可导出整个项目的全部样本。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SampleExportServiceImpl implements SampleExportService {
+
+    /**
+     * 每写入多少行刷新一次输出流
+     */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    /**
+     * UTF-8 BOM，便于Excel直接打开CSV时正确识别中文
+     */
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private static final String[] BASE_HEADERS = {
+            "样本编码", "样本名称", "样本类型", "样本状态", "项目ID", "流程实例ID", "当前节点",
+            "容器ID", "容器位置", "父样本ID", "创建时间", "最新节点", "最新节点名称", "最新节点时间"
+    };
+
+    private final SampleMapper sampleMapper;
+    private final FieldDefinitionMapper fieldDefinitionMapper;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = Exception.class)
+    public long exportCsv(SampleQueryRequest request, List<String> fields, OutputStream out) {
+        Map<String, String> dataColumns = resolveDataColumns(fields);
+
+        long rowCount = 0;
+        try (Cursor<SampleExportRow> cursor = sampleMapper.selectExportCursor(request, fields)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(UTF8_BOM);
+            CsvWriter csvWriter = new CsvWriter(writer);
+
+            // 表头：基础列 + 节点数据列（使用字段标签）
+            List<String> header = new ArrayList<>(BASE_HEADERS.length + dataColumns.size());
+            header.addAll(List.of(BASE_HEADERS));
+            header.addAll(dataColumns.values());
+            csvWriter.write(header.toArray(new String[0]));
+
+            String[] line = new String[BASE_HEADERS.length + dataColumns.size()];
+            for (SampleExportRow row : cursor) {
+                fillLine(line, row, dataColumns);
+                csvWriter.write(line);
+                if (++rowCount % FLUSH_INTERVAL == 0) {
+                    csvWriter.flush();
+                }
+            }
+            csvWriter.flush();
+        } catch (IOException e) {
+            log.error("样本导出失败: 已写入{}行", rowCount, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "样本导出失败: " + e.getMessage());
+        }
+
+        log.info("样本导出完成: rows={}, dataColumns={}", rowCount, dataColumns.size());
+        return rowCount;
+    }
+
+    /**
+     * 解析需要导出的节点数据列（字段名 -> 表头）
+     */
+    private Map<String, String> resolveDataColumns(List<String> fields) {
+        LambdaQueryWrapper<FieldDefinition> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(FieldDefinition::getFieldName, FieldDefinition::getFieldLabel)
+                .in(fields != null && !fields.isEmpty(), FieldDefinition::getFieldName, fields)
+                .orderByAsc(FieldDefinition::getNodeId)
+                .orderByAsc(FieldDefinition::getDisplayOrder);
+        List<FieldDefinition> definitions = fieldDefinitionMapper.selectList(wrapper);
+
+        Map<String, String> columns = new LinkedHashMap<>();
+        if (fields != null && !fields.isEmpty()) {
+            // 按请求顺序输出，未定义的字段直接使用字段名作为表头
+            for (String field : fields) {
+                columns.put(field, field);
+            }
+        }
+        for (FieldDefinition definition : definitions) {
+            String label = definition.getFieldLabel() != null ? definition.getFieldLabel() : definition.getFieldName();
+            if (fields == null || fields.isEmpty()) {
+                columns.putIfAbsent(definition.getFieldName(), label);
+            } else {
+                columns.replace(definition.getFieldName(), label);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 填充一行导出数据（复用同一个数组，避免每行分配）
+     */
+    private void fillLine(String[] line, SampleExportRow row, Map<String, String> dataColumns) {
+        int i = 0;
+        line[i++] = row.getSampleCode();
+        line[i++] = row.getSampleName();
+        line[i++] = row.getSampleType();
+        line[i++] = row.getStatus();
+        line[i++] = row.getProjectId();
+        line[i++] = row.getProcessInstanceId();
+        line[i++] = row.getCurrentNodeId();
+        line[i++] = row.getContainerId();
+        line[i++] = row.getPosition();
+        line[i++] = row.getParentSampleId();
+        line[i++] = formatTime(row.getCreatedAt());
+        line[i++] = row.getLatestNodeId();
+        line[i++] = row.getLatestNodeName();
+        line[i++] = formatTime(row.getLatestNodeTime());
+
+        Map<String, Object> data = row.getLatestData();
+        for (String field : dataColumns.keySet()) {
+            line[i++] = data != null ? formatValue(data.get(field)) : null;
+        }
+    }
+
+    private String formatTime(LocalDateTime time) {
+        return time != null ? DateUtil.format(time, "yyyy-MM-dd HH:mm:ss") : null;
+    }
+
+    private String formatValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Map || value instanceof List) {
+            try {
+                return objectMapper.writeValueAsString(value);
+            } catch (JsonProcessingException e) {
+                return String.valueOf(value);
+            }
+        }
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,139 @@
+package com.arkone.flowable.service.impl;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.SampleHistoryItem;
+import com.arkone.flowable.entity.AuditLog;
+import com.arkone.flowable.entity.ProcessNodeData;
+import com.arkone.flowable.entity.Sample;
+import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.repository.AuditLogMapper;
+import com.arkone.flowable.repository.ProcessNodeDataMapper;
+import com.arkone.flowable.repository.SampleMapper;
+import com.arkone.flowable.service.SampleHistoryService;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 样本历史服务实现类
+ *
+ * <p>时间线由三次索引查询组成：节点数据（idx_node_data_sample）、
+ * Flowable历史活动（按流程实例ID）以及审计日志（idx_audit_entity_time，携带样本创建时间作为下界以裁剪分区），
+ * 在内存中按时间归并后分页返回。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SampleHistoryServiceImpl implements SampleHistoryService {
+
+    public static final String SOURCE_NODE_DATA = "NODE_DATA";
+    public static final String SOURCE_ACTIVITY = "ACTIVITY";
+    public static final String SOURCE_AUDIT = "AUDIT";
+
+    /**
+     * 不纳入时间线的活动类型（连线没有业务含义）
+     */
+    private static final String SEQUENCE_FLOW = "sequenceFlow";
+
+    private final SampleMapper sampleMapper;
+    private final ProcessNodeDataMapper processNodeDataMapper;
+    private final AuditLogMapper auditLogMapper;
+    private final HistoryService historyService;
+
+    @Override
+    @Transactional(readOnly = true, rollbackFor = Exception.class)
+    public Page<SampleHistoryItem> getSampleHistory(String sampleId, Integer pageNum, Integer pageSize) {
+        Sample sample = sampleMapper.selectById(sampleId);
+        if (sample == null) {
+            throw new BusinessException(ErrorCode.SAMPLE_NOT_FOUND);
+        }
+
+        List<SampleHistoryItem> items = new ArrayList<>();
+
+        // 1. 节点数据
+        for (ProcessNodeData nodeData : processNodeDataMapper.selectBySampleId(sampleId)) {
+            items.add(SampleHistoryItem.builder()
+                    .source(SOURCE_NODE_DATA)
+                    .refId(nodeData.getId())
+                    .time(nodeData.getCreatedAt())
+                    .nodeId(nodeData.getNodeId())
+                    .nodeName(nodeData.getNodeName())
+                    .action(nodeData.getStatus())
+                    .operator(nodeData.getCreatedBy())
+                    .data(nodeData.getData())
+                    .build());
+        }
+
+        // 2. 流程历史活动
+        if (sample.getProcessInstanceId() != null) {
+            List<HistoricActivityInstance> activities = historyService.createHistoricActivityInstanceQuery()
+                    .processInstanceId(sample.getProcessInstanceId())
+                    .list();
+            for (HistoricActivityInstance activity : activities) {
+                if (SEQUENCE_FLOW.equals(activity.getActivityType())) {
+                    continue;
+                }
+                items.add(SampleHistoryItem.builder()
+                        .source(SOURCE_ACTIVITY)
+                        .refId(activity.getId())
+                        .time(toLocalDateTime(activity.getStartTime()))
+                        .endTime(toLocalDateTime(activity.getEndTime()))
+                        .nodeId(activity.getActivityId())
+                        .nodeName(activity.getActivityName())
+                        .action(activity.getActivityType())
+                        .operator(activity.getAssignee())
+                        .build());
+            }
+        }
+
+        // 3. 审计日志（审计记录不会早于样本创建时间）
+        List<AuditLog> auditLogs = auditLogMapper.selectByEntitySince(
+                Sample.class.getSimpleName(), sampleId, sample.getCreatedAt());
+        for (AuditLog auditLog : auditLogs) {
+            items.add(SampleHistoryItem.builder()
+                    .source(SOURCE_AUDIT)
+                    .refId(auditLog.getId())
+                    .time(auditLog.getCreatedAt())
+                    .action(auditLog.getAction())
+                    .operator(auditLog.getUserName() != null ? auditLog.getUserName() : auditLog.getUserId())
+                    .data(auditLog.getNewValue())
+                    .oldData(auditLog.getOldValue())
+                    .build());
+        }
+
+        // 稳定排序：时间相同时保持来源顺序
+        items.sort(Comparator.comparing(SampleHistoryItem::getTime, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        long current = pageNum != null && pageNum > 0 ? pageNum : 1;
+        long size = pageSize != null && pageSize > 0 ? pageSize : 20;
+        Page<SampleHistoryItem> page = new Page<>(current, size, items.size());
+        long from = (current - 1) * size;
+        if (from >= items.size()) {
+            page.setRecords(Collections.emptyList());
+        } else {
+            page.setRecords(new ArrayList<>(items.subList((int) from, (int) Math.min(from + size, items.size()))));
+        }
+
+        log.debug("样本历史时间线: sampleId={}, total={}", sampleId, items.size());
+        return page;
+    }
+
+    private LocalDateTime toLocalDateTime(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
+}
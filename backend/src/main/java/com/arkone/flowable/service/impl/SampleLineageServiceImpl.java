@@ -0,0 +1,163 @@
+package com.arkone.flowable.service.impl;
+
+import com.arkone.flowable.cache.SampleLineageCache;
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.SampleLineageNode;
+import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.repository.SampleMapper;
+import com.arkone.flowable.service.SampleLineageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 样本谱系服务实现类
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SampleLineageServiceImpl implements SampleLineageService {
+
+    private final SampleMapper sampleMapper;
+    private final SampleLineageCache sampleLineageCache;
+
+    @Override
+    public List<SampleLineageNode> getAncestors(String sampleId) {
+        List<SampleLineageNode> ancestors = sampleLineageCache.getAncestors(sampleId);
+        if (ancestors.isEmpty()) {
+            // 根样本与不存在的样本都返回空结果，此时按主键确认样本是否存在
+            if (sampleMapper.selectById(sampleId) == null) {
+                throw new BusinessException(ErrorCode.SAMPLE_NOT_FOUND);
+            }
+            return List.of();
+        }
+        return copyWithStatus(ancestors);
+    }
+
+    @Override
+    public List<SampleLineageNode> getDescendants(String sampleId, Integer maxDepth) {
+        int depth = resolveDepth(maxDepth);
+        return copyWithStatus(requireSubtree(sampleId).stream()
+                .filter(node -> node.getDepth() > 0 && node.getDepth() <= depth)
+                .toList());
+    }
+
+    @Override
+    public SampleLineageNode getTree(String sampleId, Integer maxDepth) {
+        int depth = resolveDepth(maxDepth);
+        List<SampleLineageNode> subtree = requireSubtree(sampleId);
+
+        // 结果按层级排序，父节点总是先于子节点出现
+        List<SampleLineageNode> nodes = copyWithStatus(subtree.stream()
+                .takeWhile(node -> node.getDepth() <= depth)
+                .toList());
+        Map<String, SampleLineageNode> nodesById = new HashMap<>(nodes.size() * 2);
+        SampleLineageNode root = null;
+        for (SampleLineageNode node : nodes) {
+            node.setChildren(new ArrayList<>());
+            nodesById.put(node.getId(), node);
+            if (node.getDepth() == 0) {
+                root = node;
+            } else {
+                SampleLineageNode parent = nodesById.get(node.getParentSampleId());
+                if (parent != null) {
+                    parent.getChildren().add(node);
+                }
+            }
+        }
+        return root;
+    }
+
+    @Override
+    public void onChildCreated(String parentSampleId) {
+        if (parentSampleId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLineageOf(parentSampleId);
+                }
+            });
+        } else {
+            evictLineageOf(parentSampleId);
+        }
+    }
+
+    /**
+     * 新增子样本影响父样本及其所有祖先的子树
+     */
+    private void evictLineageOf(String parentSampleId) {
+        List<String> affected = new ArrayList<>();
+        affected.add(parentSampleId);
+        for (SampleLineageNode ancestor : sampleLineageCache.getAncestors(parentSampleId)) {
+            affected.add(ancestor.getId());
+        }
+        sampleLineageCache.evictSubtrees(affected);
+        log.debug("样本谱系缓存失效: parent={}, affected={}", parentSampleId, affected.size());
+    }
+
+    private List<SampleLineageNode> requireSubtree(String sampleId) {
+        List<SampleLineageNode> subtree = sampleLineageCache.getSubtree(sampleId);
+        if (subtree.isEmpty()) {
+            throw new BusinessException(ErrorCode.SAMPLE_NOT_FOUND);
+        }
+        return subtree;
+    }
+
+    private int resolveDepth(Integer maxDepth) {
+        if (maxDepth == null || maxDepth <= 0) {
+            return sampleLineageCache.getMaxDepth();
+        }
+        return Math.min(maxDepth, sampleLineageCache.getMaxDepth());
+    }
+
+    /**
+     * 复制缓存节点并补齐当前状态
+     * <p>缓存只反映谱系结构，状态随流程频繁变化，每次读取时按主键批量查询</p>
+     */
+    private List<SampleLineageNode> copyWithStatus(List<SampleLineageNode> cached) {
+        if (cached.isEmpty()) {
+            return List.of();
+        }
+        String[] ids = cached.stream().map(SampleLineageNode::getId).toArray(String[]::new);
+        Map<String, String> statuses = new HashMap<>(ids.length * 2);
+        for (SampleLineageNode current : sampleMapper.selectStatuses(ids)) {
+            statuses.put(current.getId(), current.getStatus());
+        }
+        List<SampleLineageNode> nodes = new ArrayList<>(cached.size());
+        for (SampleLineageNode node : cached) {
+            SampleLineageNode copy = copyOf(node);
+            copy.setStatus(statuses.getOrDefault(node.getId(), node.getStatus()));
+            nodes.add(copy);
+        }
+        return nodes;
+    }
+
+    /**
+     * 复制缓存节点，避免调用方修改共享实例
+     */
+    private SampleLineageNode copyOf(SampleLineageNode node) {
+        return SampleLineageNode.builder()
+                .id(node.getId())
+                .sampleCode(node.getSampleCode())
+                .sampleName(node.getSampleName())
+                .sampleType(node.getSampleType())
+                .status(node.getStatus())
+                .parentSampleId(node.getParentSampleId())
+                .depth(node.getDepth())
+                .createdAt(node.getCreatedAt())
+                .build();
+    }
+}
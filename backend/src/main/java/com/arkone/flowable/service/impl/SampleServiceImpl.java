@@ -1,17 +1,23 @@
 package com.arkone.flowable.service.impl;
 
 import cn.hutool.core.date.DateUtil;
+import com.arkone.flowable.cache.ContainerCache;
+import com.arkone.flowable.cache.ProjectCache;
 import com.arkone.flowable.common.ErrorCode;
 import com.arkone.flowable.dto.SampleCreateRequest;
 import com.arkone.flowable.dto.SampleQueryRequest;
 import com.arkone.flowable.dto.SampleResponse;
+import com.arkone.flowable.dto.TaskSampleSummary;
 import com.arkone.flowable.entity.Container;
 import com.arkone.flowable.entity.Project;
 import com.arkone.flowable.entity.Sample;
 import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.messaging.DomainEventMessage;
+import com.arkone.flowable.messaging.OutboxEventRecorder;
 import com.arkone.flowable.repository.ContainerMapper;
-import com.arkone.flowable.repository.ProjectMapper;
 import com.arkone.flowable.repository.SampleMapper;
+import com.arkone.flowable.service.SampleCurrentStateService;
+import com.arkone.flowable.service.SampleLineageService;
 import com.arkone.flowable.service.SampleService;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
@@ -19,8 +25,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 样本服务实现类
@@ -34,14 +45,18 @@ import java.time.LocalDateTime;
 public class SampleServiceImpl implements SampleService {
 
     private final SampleMapper sampleMapper;
-    private final ProjectMapper projectMapper;
     private final ContainerMapper containerMapper;
+    private final ProjectCache projectCache;
+    private final ContainerCache containerCache;
+    private final SampleLineageService sampleLineageService;
+    private final SampleCurrentStateService sampleCurrentStateService;
+    private final OutboxEventRecorder outboxEventRecorder;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public SampleResponse createSample(SampleCreateRequest request) {
         // 验证项目是否存在
-        Project project = projectMapper.selectById(request.getProjectId());
+        Project project = projectCache.getById(request.getProjectId());
         if (project == null || project.getDeleted()) {
             throw new BusinessException(ErrorCode.PROJECT_NOT_FOUND);
         }
@@ -77,6 +92,24 @@ public class SampleServiceImpl implements SampleService {
             updateContainerUsedCount(request.getContainerId(), 1);
         }
 
+        // 维护样本当前状态投影
+        sampleCurrentStateService.refresh(sample.getId());
+
+        // 样本创建（及孔位分配）事件
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("sampleId", sample.getId());
+        payload.put("sampleCode", sampleCode);
+        payload.put("projectId", sample.getProjectId());
+        payload.put("containerId", sample.getContainerId());
+        payload.put("position", sample.getPosition());
+        payload.put("status", sample.getStatus());
+        outboxEventRecorder.recordSampleEvent(sample.getId(), DomainEventMessage.SAMPLE_CREATED, payload);
+
+        // 分装子样本,使父样本谱系缓存失效
+        if (request.getParentSampleId() != null) {
+            sampleLineageService.onChildCreated(request.getParentSampleId());
+        }
+
         log.info("样本创建成功: {}", sampleCode);
         return convertToResponse(sample);
     }
@@ -132,22 +165,72 @@ public class SampleServiceImpl implements SampleService {
         }
 
         // 更新状态
+        String oldStatus = sample.getStatus();
         sample.setStatus(status);
         sample.setUpdatedBy("system"); // TODO: 从上下文获取当前用户
         sample.setUpdatedAt(LocalDateTime.now());
 
         sampleMapper.updateById(sample);
+        sampleCurrentStateService.refresh(sample.getId());
+
+        // 同一事务内写入发件箱，由中继投递给下游系统
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("sampleId", sample.getId());
+        payload.put("sampleCode", sample.getSampleCode());
+        payload.put("projectId", sample.getProjectId());
+        payload.put("containerId", sample.getContainerId());
+        payload.put("oldStatus", oldStatus);
+        payload.put("newStatus", status);
+        outboxEventRecorder.recordSampleEvent(sample.getId(), DomainEventMessage.SAMPLE_STATUS_CHANGED, payload);
 
         log.info("样本状态更新成功: {} -> {}", sample.getSampleCode(), status);
         return convertToResponse(sample);
     }
 
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public int updateStatusByProcessInstances(List<String> processInstanceIds, String status, String reason) {
+        if (!isValidStatus(status)) {
+            throw new BusinessException(ErrorCode.INVALID_SAMPLE_STATUS);
+        }
+        if (processInstanceIds.isEmpty()) {
+            return 0;
+        }
+
+        // 返回值中的 status 为变更前的状态
+        List<TaskSampleSummary> changed = sampleMapper.updateStatusByProcessInstances(
+                processInstanceIds.toArray(String[]::new), status, "system"); // TODO: 从上下文获取当前用户
+        if (changed.isEmpty()) {
+            return 0;
+        }
+        sampleCurrentStateService.refresh(changed.stream().map(TaskSampleSummary::getId).toList());
+
+        for (TaskSampleSummary sample : changed) {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("sampleId", sample.getId());
+            payload.put("sampleCode", sample.getSampleCode());
+            payload.put("projectId", sample.getProjectId());
+            payload.put("containerId", sample.getContainerId());
+            payload.put("processInstanceId", sample.getProcessInstanceId());
+            payload.put("oldStatus", sample.getStatus());
+            payload.put("newStatus", status);
+            if (reason != null) {
+                payload.put("reason", reason);
+            }
+            outboxEventRecorder.recordSampleEvent(sample.getId(), DomainEventMessage.SAMPLE_STATUS_CHANGED, payload);
+        }
+
+        log.info("按流程实例批量更新样本状态: 流程实例数={}, 样本数={}, status={}",
+                processInstanceIds.size(), changed.size(), status);
+        return changed.size();
+    }
+
     /**
      * 验证容器和位置
      */
     private void validateContainerAndPosition(String containerId, String position) {
         // 验证容器是否存在
-        Container container = containerMapper.selectById(containerId);
+        Container container = containerCache.getById(containerId);
         if (container == null || container.getDeleted()) {
             throw new BusinessException(ErrorCode.CONTAINER_NOT_FOUND);
         }
@@ -181,6 +264,17 @@ public class SampleServiceImpl implements SampleService {
                 container.setStatus("full");
             }
             containerMapper.updateById(container);
+            // 乐观锁插件更新成功后会回写新版本号；提交后再刷新缓存，回滚时缓存中不会留下未提交的版本
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        containerCache.refresh(container);
+                    }
+                });
+            } else {
+                containerCache.refresh(container);
+            }
         }
     }
 
@@ -216,6 +310,7 @@ public class SampleServiceImpl implements SampleService {
     private boolean isValidStatus(String status) {
         return "pending".equals(status) ||
                 "in_progress".equals(status) ||
+                "suspended".equals(status) ||
                 "completed".equals(status) ||
                 "failed".equals(status);
     }
@@ -0,0 +1,204 @@
+package com.arkone.flowable.service.impl;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.messaging.DomainEventMessage;
+import com.arkone.flowable.messaging.OutboxEventRecorder;
+import com.arkone.flowable.service.TaskAssignmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.engine.ManagementService;
+import org.flowable.task.api.DelegationState;
+import org.flowable.task.api.Task;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 任务认领与分派服务实现类
+ *
+ * <p>批量操作先按任务ID顺序对 ACT_RU_TASK 行加锁，再用一次查询取回全部任务，
+ * 然后在同一个 Flowable 命令上下文中逐个处理：嵌套的 TaskService 调用复用该上下文，
+ * 所有变更在命令结束时一次性刷新，随事务一次提交。行锁保证并发认领同一批任务时后到的请求看到最新办理人，
+ * 以冲突形式报告，而不是在提交时因乐观锁失败导致整批回滚。</p>
+ *
+ * <p>可预期的失败（任务不存在、已挂起、已被他人认领等）都在调用引擎之前校验，作为单条失败返回。
+ * 引擎抛出的异常已将事务标记为仅回滚，无法再按单条失败继续，因此直接抛出，整批回滚。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskAssignmentServiceImpl implements TaskAssignmentService {
+
+    private final org.flowable.engine.TaskService flowableTaskService;
+    private final ManagementService managementService;
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxEventRecorder outboxEventRecorder;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void execute(Action action, String taskId, String userId) {
+        BatchOperationResult<String> result = executeBatch(action, List.of(taskId), userId);
+        if (!result.getFailureList().isEmpty()) {
+            BatchOperationResult.BatchOperationError error = result.getFailureList().get(0);
+            throw new BusinessException(resolveErrorCode(error.getErrorCode()), error.getErrorMessage());
+        }
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BatchOperationResult<String> executeBatch(Action action, List<String> taskIds, String userId) {
+        if (action.requiresUser() && (userId == null || userId.isBlank())) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "用户ID不能为空");
+        }
+
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(taskIds));
+        lockTasks(distinctIds);
+
+        BatchOperationResult<String> result = managementService.executeCommand(
+                commandContext -> apply(action, taskIds, distinctIds, userId));
+
+        log.info("批量{}任务完成: 总数={}, 成功={}, 失败={}, userId={}",
+                action, result.getTotal(), result.getSuccessCount(), result.getFailureCount(), userId);
+        return result;
+    }
+
+    /**
+     * 在同一个命令上下文中处理全部任务
+     */
+    private BatchOperationResult<String> apply(Action action, List<String> taskIds, List<String> distinctIds,
+                                               String userId) {
+        Map<String, Task> tasks = flowableTaskService.createTaskQuery()
+                .taskIds(distinctIds)
+                .list()
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<String> successList = new ArrayList<>();
+        List<BatchOperationResult.BatchOperationError> failureList = new ArrayList<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            String taskId = taskIds.get(i);
+            Task task = tasks.get(taskId);
+            // 任务实体由命令上下文缓存，操作后会被原地修改，先记下原办理人
+            String previousAssignee = task != null ? task.getAssignee() : null;
+            try {
+                if (applyOne(action, task, taskId, userId)) {
+                    recordEvent(action, task, userId, previousAssignee);
+                }
+                successList.add(taskId);
+            } catch (BusinessException e) {
+                failureList.add(error(i, taskId, e.getErrorCode().name(), e.getMessage()));
+            }
+        }
+
+        return BatchOperationResult.<String>builder()
+                .total(taskIds.size())
+                .successCount(successList.size())
+                .failureCount(failureList.size())
+                .successList(successList)
+                .failureList(failureList)
+                .build();
+    }
+
+    /**
+     * 处理单个任务
+     * <p>所有校验以 {@link BusinessException} 抛出，且必须发生在调用 TaskService 之前</p>
+     *
+     * @return 是否产生了变更（已是目标状态时为false）
+     */
+    private boolean applyOne(Action action, Task task, String taskId, String userId) {
+        if (task == null) {
+            throw new BusinessException(ErrorCode.TASK_NOT_FOUND, "任务不存在: " + taskId);
+        }
+        if (task.isSuspended()) {
+            throw new BusinessException(ErrorCode.OPERATION_NOT_ALLOWED, "任务已挂起: " + taskId);
+        }
+        String assignee = task.getAssignee();
+        switch (action) {
+            case CLAIM -> {
+                if (userId.equals(assignee)) {
+                    return false;
+                }
+                if (assignee != null) {
+                    throw new BusinessException(ErrorCode.TASK_ALREADY_CLAIMED, "任务已被 " + assignee + " 认领");
+                }
+                flowableTaskService.claim(taskId, userId);
+            }
+            case UNCLAIM -> {
+                if (assignee == null) {
+                    return false;
+                }
+                flowableTaskService.unclaim(taskId);
+            }
+            case DELEGATE -> {
+                if (task.getDelegationState() == DelegationState.PENDING) {
+                    throw new BusinessException(ErrorCode.OPERATION_NOT_ALLOWED, "任务已委派给 " + assignee + "，尚未办理");
+                }
+                flowableTaskService.delegateTask(taskId, userId);
+            }
+            case ASSIGN -> {
+                if (userId.equals(assignee)) {
+                    return false;
+                }
+                flowableTaskService.setAssignee(taskId, userId);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 按ID顺序锁定任务行，直到事务结束
+     */
+    private void lockTasks(List<String> taskIds) {
+        String[] ids = taskIds.stream().sorted().toArray(String[]::new);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "SELECT id_ FROM act_ru_task WHERE id_ = ANY(?) ORDER BY id_ FOR UPDATE");
+            ps.setArray(1, connection.createArrayOf("varchar", ids));
+            return ps;
+        }, rs -> {
+        });
+    }
+
+    private void recordEvent(Action action, Task task, String userId, String previousAssignee) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskId", task.getId());
+        payload.put("taskName", task.getName());
+        payload.put("action", action.name().toLowerCase());
+        payload.put("userId", userId);
+        payload.put("previousAssignee", previousAssignee);
+        payload.put("processInstanceId", task.getProcessInstanceId());
+        outboxEventRecorder.record(DomainEventMessage.AGGREGATE_PROCESS_INSTANCE, task.getProcessInstanceId(),
+                DomainEventMessage.TASK_ASSIGNED, payload);
+    }
+
+    private static BatchOperationResult.BatchOperationError error(int index, String taskId, String code, String message) {
+        return BatchOperationResult.BatchOperationError.builder()
+                .index(index)
+                .errorCode(code)
+                .errorMessage(message)
+                .data(taskId)
+                .build();
+    }
+
+    private static ErrorCode resolveErrorCode(String name) {
+        try {
+            return ErrorCode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return ErrorCode.INTERNAL_SERVER_ERROR;
+        }
+    }
+}
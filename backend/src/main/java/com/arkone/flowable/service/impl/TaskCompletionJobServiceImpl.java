@@ -0,0 +1,65 @@
+package com.arkone.flowable.service.impl;
+
+import cn.hutool.core.util.IdUtil;
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.BatchTaskCompleteRequest;
+import com.arkone.flowable.dto.TaskCompletionJobStatus;
+import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.messaging.TaskCompletionCommand;
+import com.arkone.flowable.messaging.TaskCompletionDispatcher;
+import com.arkone.flowable.messaging.TaskCompletionJobStore;
+import com.arkone.flowable.service.TaskCompletionJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 异步任务完成作业服务实现类
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskCompletionJobServiceImpl implements TaskCompletionJobService {
+
+    private final TaskCompletionDispatcher taskCompletionDispatcher;
+    private final TaskCompletionJobStore taskCompletionJobStore;
+
+    @Override
+    public TaskCompletionJobStatus submit(BatchTaskCompleteRequest request) {
+        if ("atomic".equals(request.getFailureMode())) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "异步模式不支持原子提交，请使用同步批量完成接口");
+        }
+
+        String jobId = IdUtil.fastSimpleUUID();
+        List<TaskCompletionCommand> commands = new ArrayList<>(request.getTasks().size());
+        for (int i = 0; i < request.getTasks().size(); i++) {
+            commands.add(TaskCompletionCommand.builder()
+                    .jobId(jobId)
+                    .index(i)
+                    .request(request.getTasks().get(i))
+                    .build());
+        }
+
+        // 先创建作业状态再投递，避免消费者先于状态创建完成
+        TaskCompletionJobStatus status = taskCompletionJobStore.create(jobId, commands.size());
+        taskCompletionDispatcher.dispatch(commands);
+
+        log.info("异步批量完成任务已提交: jobId={}, 数量={}", jobId, commands.size());
+        return status;
+    }
+
+    @Override
+    public TaskCompletionJobStatus getJob(String jobId) {
+        TaskCompletionJobStatus status = taskCompletionJobStore.get(jobId);
+        if (status == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "作业不存在或已过期: " + jobId);
+        }
+        return status;
+    }
+}
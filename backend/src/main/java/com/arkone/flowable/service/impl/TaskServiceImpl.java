@@ -3,23 +3,37 @@ package com.arkone.flowable.service.impl;
 import com.arkone.flowable.common.ErrorCode;
 import com.arkone.flowable.dto.BatchOperationResult;
 import com.arkone.flowable.dto.BatchTaskCompleteRequest;
+import com.arkone.flowable.dto.NodeDataProjection;
 import com.arkone.flowable.dto.TaskCompleteRequest;
+import com.arkone.flowable.dto.TaskQueryRequest;
+import com.arkone.flowable.dto.TaskResponse;
+import com.arkone.flowable.dto.TaskSampleSummary;
 import com.arkone.flowable.entity.FieldDefinition;
 import com.arkone.flowable.entity.ProcessNodeData;
 import com.arkone.flowable.entity.Sample;
 import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.lock.SampleLockService;
+import com.arkone.flowable.messaging.DomainEventMessage;
+import com.arkone.flowable.messaging.OutboxEventRecorder;
 import com.arkone.flowable.repository.FieldDefinitionMapper;
 import com.arkone.flowable.repository.ProcessNodeDataMapper;
 import com.arkone.flowable.repository.SampleMapper;
+import com.arkone.flowable.repository.query.NodeDataFieldQuery;
+import com.arkone.flowable.service.SampleCurrentStateService;
+import com.arkone.flowable.variable.ReferencedListVariableType;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskQuery;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 任务管理服务实现类
@@ -32,14 +46,31 @@ import java.util.*;
 @RequiredArgsConstructor
 public class TaskServiceImpl implements com.arkone.flowable.service.TaskService {
 
+    /**
+     * 任务列表每页最大条数
+     */
+    private static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * 任务列表样本附带的节点数据字段最大个数
+     */
+    private static final int MAX_SAMPLE_FIELDS = 20;
+
     private final org.flowable.engine.TaskService flowableTaskService;
     private final SampleMapper sampleMapper;
     private final ProcessNodeDataMapper processNodeDataMapper;
     private final FieldDefinitionMapper fieldDefinitionMapper;
+    private final SampleCurrentStateService sampleCurrentStateService;
+    private final SampleLockService sampleLockService;
+    private final OutboxEventRecorder outboxEventRecorder;
+    private final ReferencedListVariableType referencedListVariableType;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void completeTask(TaskCompleteRequest request) {
+        // 锁定样本直到事务结束：重复提交的请求在锁上等待，拿到锁时前一个事务已提交，任务已不存在
+        sampleLockService.lockForTransaction(request.getSampleId());
+
         // 验证任务是否存在
         Task task = flowableTaskService.createTaskQuery()
                 .taskId(request.getTaskId())
@@ -90,8 +121,9 @@ public class TaskServiceImpl implements com.arkone.flowable.service.TaskService
         processNodeDataMapper.insert(nodeData);
 
         // 完成任务
+        // 大集合变量按引用保存，不序列化进 ACT_GE_BYTEARRAY
         Map<String, Object> variables = request.getVariables() != null ?
-                request.getVariables() : new HashMap<>();
+                referencedListVariableType.toReferences(request.getVariables()) : new HashMap<>();
 
         try {
             flowableTaskService.complete(request.getTaskId(), variables);
@@ -106,6 +138,21 @@ public class TaskServiceImpl implements com.arkone.flowable.service.TaskService
         sample.setUpdatedAt(LocalDateTime.now());
         sampleMapper.updateById(sample);
 
+        // 增量维护样本当前状态投影（当前节点、最新节点数据、关键指标）
+        sampleCurrentStateService.refresh(sample.getId());
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("sampleId", sample.getId());
+        payload.put("sampleCode", sample.getSampleCode());
+        payload.put("projectId", sample.getProjectId());
+        payload.put("containerId", sample.getContainerId());
+        payload.put("taskId", request.getTaskId());
+        payload.put("processInstanceId", task.getProcessInstanceId());
+        payload.put("nodeId", nodeId);
+        payload.put("nodeName", nodeName);
+        payload.put("nodeDataId", nodeData.getId());
+        outboxEventRecorder.recordSampleEvent(sample.getId(), DomainEventMessage.SAMPLE_TASK_COMPLETED, payload);
+
         log.info("任务完成成功: taskId={}, sampleId={}, nodeId={}", request.getTaskId(), request.getSampleId(), nodeId);
     }
 
@@ -117,6 +164,11 @@ public class TaskServiceImpl implements com.arkone.flowable.service.TaskService
 
         boolean isAtomicMode = "atomic".equals(request.getFailureMode());
 
+        // 按排序后的顺序一次性锁定全部样本，避免与其他批量请求交叉加锁
+        sampleLockService.lockForTransaction(request.getTasks().stream()
+                .map(TaskCompleteRequest::getSampleId)
+                .toList());
+
         for (int i = 0; i < request.getTasks().size(); i++) {
             TaskCompleteRequest taskRequest = request.getTasks().get(i);
             try {
@@ -166,4 +218,135 @@ public class TaskServiceImpl implements com.arkone.flowable.service.TaskService
         log.info("批量完成任务完成: 总数={}, 成功={}, 失败={}", result.getTotal(), result.getSuccessCount(), result.getFailureCount());
         return result;
     }
+
+    @Override
+    public Page<TaskResponse> queryTasks(TaskQueryRequest request) {
+        int pageNum = Math.max(request.getPageNum() != null ? request.getPageNum() : 1, 1);
+        int pageSize = Math.min(Math.max(request.getPageSize() != null ? request.getPageSize() : 20, 1), MAX_PAGE_SIZE);
+
+        TaskQuery query = flowableTaskService.createTaskQuery();
+        if (request.getAssignee() != null) {
+            query.taskAssignee(request.getAssignee());
+        }
+        if (request.getCandidateUser() != null) {
+            query.taskCandidateUser(request.getCandidateUser());
+        }
+        if (request.getCandidateGroup() != null) {
+            query.taskCandidateGroup(request.getCandidateGroup());
+        }
+        if (request.getProcessDefinitionKey() != null) {
+            query.processDefinitionKey(request.getProcessDefinitionKey());
+        }
+        if (request.getProcessInstanceId() != null) {
+            query.processInstanceId(request.getProcessInstanceId());
+        }
+        if (request.getTaskDefinitionKey() != null) {
+            query.taskDefinitionKey(request.getTaskDefinitionKey());
+        }
+
+        long total = query.count();
+        List<Task> tasks = total > 0
+                ? query.orderByTaskCreateTime().desc().orderByTaskId().asc().listPage((pageNum - 1) * pageSize, pageSize)
+                : List.of();
+
+        // 一页任务的样本通过一条 ANY(数组) 查询取回，不按任务逐个查询
+        Map<String, List<TaskSampleSummary>> samplesByInstance = !Boolean.FALSE.equals(request.getIncludeSamples())
+                ? loadSamplesByProcessInstance(tasks)
+                : Map.of();
+        if (request.getSampleFields() != null && !request.getSampleFields().isEmpty()) {
+            attachNodeDataFields(samplesByInstance.values(), request.getSampleFields());
+        }
+
+        Page<TaskResponse> page = new Page<>(pageNum, pageSize, total);
+        page.setRecords(tasks.stream()
+                .map(task -> convertToTaskResponse(task, samplesByInstance.get(task.getProcessInstanceId())))
+                .toList());
+        return page;
+    }
+
+    @Override
+    public TaskResponse getTask(String taskId) {
+        Task task = flowableTaskService.createTaskQuery()
+                .taskId(taskId)
+                .singleResult();
+        if (task == null) {
+            throw new BusinessException(ErrorCode.TASK_NOT_FOUND);
+        }
+        return convertToTaskResponse(task, loadSamplesByProcessInstance(List.of(task)).get(task.getProcessInstanceId()));
+    }
+
+    /**
+     * 批量查询任务所属流程实例的样本，按流程实例分组
+     */
+    private Map<String, List<TaskSampleSummary>> loadSamplesByProcessInstance(List<Task> tasks) {
+        String[] processInstanceIds = tasks.stream()
+                .map(Task::getProcessInstanceId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray(String[]::new);
+        if (processInstanceIds.length == 0) {
+            return Map.of();
+        }
+        return sampleMapper.selectTaskSamples(processInstanceIds).stream()
+                .collect(Collectors.groupingBy(TaskSampleSummary::getProcessInstanceId));
+    }
+
+    /**
+     * 为一页任务的样本附带指定的节点数据字段
+     * <p>一条投影查询取回全部样本的节点数据，数据库端只提取所需字段；结果按创建时间正序，后写入的值覆盖先前的值</p>
+     */
+    private void attachNodeDataFields(Collection<List<TaskSampleSummary>> samplesByInstance, List<String> fields) {
+        if (fields.size() > MAX_SAMPLE_FIELDS) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "样本附带字段不能超过" + MAX_SAMPLE_FIELDS + "个");
+        }
+        List<String> keys;
+        try {
+            keys = fields.stream().map(NodeDataFieldQuery::checkField).distinct().toList();
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, e.getMessage());
+        }
+        List<TaskSampleSummary> samples = samplesByInstance.stream().flatMap(List::stream).toList();
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        List<String> sampleIds = samples.stream().map(TaskSampleSummary::getId).distinct().toList();
+        Map<String, Map<String, Object>> valuesBySample = new HashMap<>(sampleIds.size() * 2);
+        for (NodeDataProjection row : processNodeDataMapper.selectProjection(sampleIds, null, keys)) {
+            Map<String, Object> values = valuesBySample.computeIfAbsent(row.getSampleId(), id -> new LinkedHashMap<>());
+            row.getValues().forEach((key, value) -> {
+                if (value != null) {
+                    values.put(key, value);
+                }
+            });
+        }
+        for (TaskSampleSummary sample : samples) {
+            sample.setFields(valuesBySample.getOrDefault(sample.getId(), Map.of()));
+        }
+    }
+
+    /**
+     * 转换为任务响应DTO
+     */
+    private TaskResponse convertToTaskResponse(Task task, List<TaskSampleSummary> samples) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .name(task.getName())
+                .taskDefinitionKey(task.getTaskDefinitionKey())
+                .processInstanceId(task.getProcessInstanceId())
+                .processDefinitionId(task.getProcessDefinitionId())
+                .assignee(task.getAssignee())
+                .owner(task.getOwner())
+                .delegationState(task.getDelegationState() != null ? task.getDelegationState().name().toLowerCase() : null)
+                .createTime(toLocalDateTime(task.getCreateTime()))
+                .dueDate(toLocalDateTime(task.getDueDate()))
+                .priority(task.getPriority())
+                .suspended(task.isSuspended())
+                .samples(samples != null ? samples : List.of())
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
 }
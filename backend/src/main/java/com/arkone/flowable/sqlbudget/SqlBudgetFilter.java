@@ -0,0 +1,113 @@
+package com.arkone.flowable.sqlbudget;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 请求SQL预算过滤器
+ *
+ * <p>请求开始时绑定 {@link SqlRequestStats}，结束后按接口记录语句数分布（{@code lims.sql.request.statements}），
+ * 并在以下情况打印告警、累加 {@code lims.sql.budget.exceeded}：</p>
+ * <ul>
+ *   <li>语句数超过 {@code sql-budget.max-statements}</li>
+ *   <li>数据库耗时超过 {@code sql-budget.max-db-time}</li>
+ *   <li>同一语句形态执行次数超过 {@code sql-budget.repeat-threshold}（疑似N+1）</li>
+ * </ul>
+ * <p>开启 {@code sql-budget.response-headers}（dev 配置默认开启）时，统计值同时由 {@link SqlBudgetResponseAdvice}
+ * 写入响应头，便于在浏览器或压测工具中直接查看。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sql-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final long maxDbTimeMillis;
+    private final int repeatThreshold;
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry,
+                           @Value("${sql-budget.max-statements:50}") int maxStatements,
+                           @Value("${sql-budget.max-db-time:PT1S}") Duration maxDbTime,
+                           @Value("${sql-budget.repeat-threshold:10}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxDbTimeMillis = maxDbTime.toMillis();
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            check(request, stats);
+        }
+    }
+
+    private void check(HttpServletRequest request, SqlRequestStats stats) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String endpoint = request.getMethod() + " " + uri;
+
+        DistributionSummary.builder("lims.sql.request.statements")
+                .description("单个请求执行的SQL语句数")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+
+        if (stats.getStatements() > maxStatements) {
+            exceeded(request, uri, "statements");
+            log.warn("请求SQL语句数超出预算: {}, statements={}, budget={}, dbTime={}ms, rows={}",
+                    endpoint, stats.getStatements(), maxStatements, stats.getElapsedMillis(), stats.getRows());
+        }
+        if (stats.getElapsedMillis() > maxDbTimeMillis) {
+            exceeded(request, uri, "db_time");
+            log.warn("请求数据库耗时超出预算: {}, dbTime={}ms, budget={}ms, statements={}",
+                    endpoint, stats.getElapsedMillis(), maxDbTimeMillis, stats.getStatements());
+        }
+        List<Map.Entry<String, Integer>> repeated = stats.repeatedStatements(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            exceeded(request, uri, "repeated");
+            log.warn("疑似N+1查询: {}, 同一语句执行次数超过{}: {}", endpoint, repeatThreshold, repeated);
+        }
+    }
+
+    private void exceeded(HttpServletRequest request, String uri, String reason) {
+        Counter.builder("lims.sql.budget.exceeded")
+                .description("超出SQL预算的请求数")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,52 @@
+package com.arkone.flowable.sqlbudget;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 将请求SQL统计写入响应头
+ *
+ * <p>响应体写出前控制器和事务都已结束，此时的统计即本次请求的完整值：</p>
+ * <ul>
+ *   <li>X-Sql-Count: 语句数</li>
+ *   <li>X-Sql-Time-Ms: 数据库耗时（毫秒）</li>
+ *   <li>X-Sql-Rows: 返回及影响的行数</li>
+ * </ul>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "sql-budget", name = "response-headers", havingValue = "true")
+public class SqlBudgetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_SQL_COUNT = "X-Sql-Count";
+    public static final String HEADER_SQL_TIME = "X-Sql-Time-Ms";
+    public static final String HEADER_SQL_ROWS = "X-Sql-Rows";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(HEADER_SQL_COUNT, String.valueOf(stats.getStatements()));
+            headers.set(HEADER_SQL_TIME, String.valueOf(stats.getElapsedMillis()));
+            headers.set(HEADER_SQL_ROWS, String.valueOf(stats.getRows()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,91 @@
+package com.arkone.flowable.sqlbudget;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 单个HTTP请求内的SQL执行统计
+ *
+ * <p>由 {@link SqlBudgetFilter} 在请求开始时绑定到当前线程，{@link SqlStatementInterceptor} 每执行一条语句累加一次。
+ * 语句形态以 MappedStatement ID 区分（同一 Mapper 方法参数不同视为同一形态），同一形态反复执行是N+1查询的典型特征。
+ * 统计请求线程上执行的应用 Mapper 语句和 Flowable 引擎语句（引擎语句以其 statement ID 区分），异步线程上的语句不在其中。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int statements;
+    private long elapsedNanos;
+    private long rows;
+
+    /**
+     * 为当前线程开始统计
+     *
+     * @return 统计对象
+     */
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 结束当前线程的统计
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 当前线程的统计，不在HTTP请求内时为null
+     */
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 记录一条语句
+     *
+     * @param statementId  MappedStatement ID
+     * @param elapsedNanos 执行耗时（纳秒）
+     * @param rows         返回或影响的行数
+     */
+    void record(String statementId, long elapsedNanos, long rows) {
+        statements++;
+        this.elapsedNanos += elapsedNanos;
+        this.rows += rows;
+        statementCounts.merge(statementId, 1, Integer::sum);
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * 执行次数超过阈值的语句形态，按次数倒序
+     *
+     * @param threshold 次数阈值
+     * @return 语句ID及执行次数
+     */
+    public List<Map.Entry<String, Integer>> repeatedStatements(int threshold) {
+        return statementCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() > threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
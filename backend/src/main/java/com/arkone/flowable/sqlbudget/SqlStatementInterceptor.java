@@ -0,0 +1,63 @@
+package com.arkone.flowable.sqlbudget;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.Collection;
+
+/**
+ * SQL执行统计拦截器
+ *
+ * <p>在HTTP请求线程上执行的每条 Mapper 语句计入 {@link SqlRequestStats}：次数、耗时、行数（查询为返回条数，
+ * 增删改为影响行数）。请求之外（定时任务、后台线程）直接放行，不做任何统计。</p>
+ *
+ * <p>同一实例同时注册到 MyBatis-Plus 和 Flowable 引擎的 MyBatis 配置，引擎语句按其 statement ID 统计。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class SqlStatementInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats == null) {
+            return invocation.proceed();
+        }
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            stats.record(ms.getId(), System.nanoTime() - start, rows(result));
+        }
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.arkone.flowable.stream;
+
+import com.arkone.flowable.messaging.DomainEventMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 领域事件到实时推送的桥接
+ *
+ * <p>发件箱中继投递的领域事件（样本状态、流程启动、任务创建/完成、孔位分配）转换为推送事件交给 {@link UpdateStreamHub}。
+ * local 通道下直接监听进程内事件；rabbit 通道下由 {@link RabbitDomainEventStreamListener} 转发，
+ * 每个实例各自消费一份，连接在任意实例上的客户端都能收到。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventStreamBridge {
+
+    private final UpdateStreamHub updateStreamHub;
+
+    /**
+     * 转发领域事件
+     *
+     * @param message 领域事件
+     */
+    @EventListener
+    public void onDomainEvent(DomainEventMessage message) {
+        updateStreamHub.publish(toStreamEvent(message));
+    }
+
+    /**
+     * 领域事件转换为推送事件
+     *
+     * @param message 领域事件
+     * @return 推送事件
+     */
+    static StreamEvent toStreamEvent(DomainEventMessage message) {
+        Map<String, Object> payload = message.getPayload() != null ? message.getPayload() : Map.of();
+        String sampleId = DomainEventMessage.AGGREGATE_SAMPLE.equals(message.getAggregateType())
+                ? message.getAggregateId() : null;
+        return StreamEvent.builder()
+                .id(message.getEventId() != null ? String.valueOf(message.getEventId()) : null)
+                .type(message.getEventType())
+                .projectId(asString(payload.get("projectId")))
+                .containerId(asString(payload.get("containerId")))
+                .sampleId(sampleId)
+                .data(payload)
+                .timestamp(message.getOccurredAt())
+                .build();
+    }
+
+    private static String asString(Object value) {
+        return value != null ? String.valueOf(value) : null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.arkone.flowable.stream;
+
+import java.io.IOException;
+
+/**
+ * 推送目标（一个客户端连接）
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public interface EventSink {
+
+    /**
+     * 发送事件，连接已断开时抛出 IOException
+     *
+     * @param event 事件
+     * @throws IOException 发送失败
+     */
+    void send(StreamEvent event) throws IOException;
+
+    /**
+     * 关闭连接
+     */
+    void close();
+}
@@ -0,0 +1,40 @@
+package com.arkone.flowable.stream;
+
+import com.arkone.flowable.config.RabbitMqConfig;
+import com.arkone.flowable.messaging.DomainEventMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 从RabbitMQ接收领域事件并转发给本实例的推送客户端（outbox.transport=rabbit）
+ * <p>每个实例声明一个独占的临时队列绑定到领域事件交换机，实例停止后队列自动删除</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.transport", havingValue = "rabbit", matchIfMissing = true)
+public class RabbitDomainEventStreamListener {
+
+    private final DomainEventStreamBridge bridge;
+
+    /**
+     * 接收领域事件
+     *
+     * @param message 领域事件
+     */
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = RabbitMqConfig.DOMAIN_EVENT_EXCHANGE, type = ExchangeTypes.TOPIC),
+            key = {"sample.#", "task.#"}))
+    public void onDomainEvent(DomainEventMessage message) {
+        bridge.onDomainEvent(message);
+    }
+}
@@ -0,0 +1,42 @@
+package com.arkone.flowable.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * 基于 {@link SseEmitter} 的推送目标
+ * <p>事件名为事件类型，数据为JSON；心跳以注释行发送，只用于保持连接和探测断开</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public class SseEventSink implements EventSink {
+
+    private final SseEmitter emitter;
+
+    public SseEventSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(StreamEvent event) throws IOException {
+        if (StreamEvent.TYPE_HEARTBEAT.equals(event.getType())) {
+            emitter.send(SseEmitter.event().comment("ping"));
+            return;
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name(event.getType())
+                .data(event, MediaType.APPLICATION_JSON);
+        if (event.getId() != null) {
+            builder.id(event.getId());
+        }
+        emitter.send(builder);
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
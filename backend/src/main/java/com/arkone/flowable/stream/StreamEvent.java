@@ -0,0 +1,68 @@
+package com.arkone.flowable.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 实时推送事件
+ * 通过 SSE 推送给前端的增量变更，前端按 type 决定刷新哪一部分数据
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamEvent {
+
+    /**
+     * 推送缓冲区溢出，客户端需要重新查询
+     */
+    public static final String TYPE_RESYNC = "resync";
+
+    /**
+     * 心跳（以SSE注释发送，不触发前端事件）
+     */
+    public static final String TYPE_HEARTBEAT = "heartbeat";
+
+    /**
+     * 事件ID（发件箱事件ID）
+     */
+    private String id;
+
+    /**
+     * 事件类型，如 sample.status_changed、task.created
+     */
+    private String type;
+
+    /**
+     * 项目ID
+     */
+    private String projectId;
+
+    /**
+     * 容器ID
+     */
+    private String containerId;
+
+    /**
+     * 样本ID
+     */
+    private String sampleId;
+
+    /**
+     * 事件内容
+     */
+    private Map<String, Object> data;
+
+    /**
+     * 事件发生时间
+     */
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,43 @@
+package com.arkone.flowable.stream;
+
+import java.util.Set;
+
+/**
+ * 订阅过滤条件，各条件为空时不限制
+ *
+ * @param projectId   项目ID
+ * @param containerId 容器ID
+ * @param types       事件类型前缀（如 sample、task.created）
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public record StreamFilter(String projectId, String containerId, Set<String> types) {
+
+    /**
+     * 判断事件是否需要推送给该订阅
+     * <p>缓冲区溢出和心跳等控制事件总是推送</p>
+     *
+     * @param event 事件
+     * @return 是否匹配
+     */
+    public boolean matches(StreamEvent event) {
+        if (StreamEvent.TYPE_RESYNC.equals(event.getType()) || StreamEvent.TYPE_HEARTBEAT.equals(event.getType())) {
+            return true;
+        }
+        if (projectId != null && !projectId.equals(event.getProjectId())) {
+            return false;
+        }
+        if (containerId != null && !containerId.equals(event.getContainerId())) {
+            return false;
+        }
+        if (types == null || types.isEmpty()) {
+            return true;
+        }
+        for (String type : types) {
+            if (event.getType().equals(type) || event.getType().startsWith(type + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,128 @@
+package com.arkone.flowable.stream;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 单个推送订阅
+ *
+ * <p>每个客户端持有一个有界缓冲区，发布方只入队不发送，从不阻塞；
+ * 同一时刻最多一个发送线程在排空该缓冲区，保证事件按入队顺序送达。
+ * 缓冲区满（客户端过慢或网络阻塞）时清空积压并补发一条 {@code resync} 事件，由客户端重新查询全量数据。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public class StreamSubscriber {
+
+    @Getter
+    private final String id;
+
+    @Getter
+    private final StreamFilter filter;
+
+    private final EventSink sink;
+    private final int capacity;
+    private final Executor executor;
+    private final Consumer<StreamSubscriber> onFailure;
+    private final ArrayDeque<StreamEvent> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private boolean resyncPending;
+
+    @Getter
+    private volatile long droppedCount;
+
+    StreamSubscriber(String id, StreamFilter filter, EventSink sink, int capacity,
+                     Executor executor, Consumer<StreamSubscriber> onFailure) {
+        this.id = id;
+        this.filter = filter;
+        this.sink = sink;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.onFailure = onFailure;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 64));
+    }
+
+    /**
+     * 入队事件并触发排空（不阻塞）
+     *
+     * @param event 事件
+     */
+    void offer(StreamEvent event) {
+        synchronized (buffer) {
+            if (StreamEvent.TYPE_HEARTBEAT.equals(event.getType()) && (!buffer.isEmpty() || resyncPending)) {
+                // 有待发送的数据时不需要心跳
+                return;
+            }
+            if (buffer.size() >= capacity) {
+                droppedCount += buffer.size() + 1;
+                buffer.clear();
+                resyncPending = true;
+            } else {
+                buffer.addLast(event);
+            }
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * 当前缓冲的事件数
+     */
+    int bufferedCount() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+
+    void close() {
+        sink.close();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            try {
+                StreamEvent event;
+                while ((event = poll()) != null) {
+                    sink.send(event);
+                }
+            } catch (Exception e) {
+                draining.set(false);
+                onFailure.accept(this);
+                return;
+            }
+            draining.set(false);
+            // 释放标记后再检查一次，避免与并发入队的事件错过
+        } while (hasPending() && draining.compareAndSet(false, true));
+    }
+
+    private StreamEvent poll() {
+        synchronized (buffer) {
+            if (resyncPending) {
+                resyncPending = false;
+                return StreamEvent.builder()
+                        .type(StreamEvent.TYPE_RESYNC)
+                        .timestamp(LocalDateTime.now())
+                        .build();
+            }
+            return buffer.pollFirst();
+        }
+    }
+
+    private boolean hasPending() {
+        synchronized (buffer) {
+            return resyncPending || !buffer.isEmpty();
+        }
+    }
+}
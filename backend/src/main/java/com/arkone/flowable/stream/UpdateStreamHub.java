@@ -0,0 +1,150 @@
+package com.arkone.flowable.stream;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 实时推送分发中心
+ *
+ * <p>把任务、样本的增量变更扇出给所有匹配过滤条件的订阅。发布只做过滤和入队，
+ * 实际发送由固定大小的发送线程池完成，单个慢客户端只会填满自己的缓冲区，不影响发布方和其他客户端。
+ * 定时向空闲连接发送心跳，及时发现并清理已断开的连接。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class UpdateStreamHub {
+
+    private final Map<String, StreamSubscriber> subscribers = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final int bufferSize;
+    private final int maxClients;
+
+    @Autowired
+    public UpdateStreamHub(@Value("${event-stream.sender-threads:4}") int senderThreads,
+                           @Value("${event-stream.buffer-size:256}") int bufferSize,
+                           @Value("${event-stream.max-clients:500}") int maxClients) {
+        this(newSenderPool(senderThreads), bufferSize, maxClients);
+    }
+
+    UpdateStreamHub(Executor executor, int bufferSize, int maxClients) {
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.maxClients = maxClients;
+    }
+
+    /**
+     * 新增订阅
+     *
+     * @param filter 过滤条件
+     * @param sink   推送目标
+     * @return 订阅
+     */
+    public StreamSubscriber subscribe(StreamFilter filter, EventSink sink) {
+        if (subscribers.size() >= maxClients) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "实时推送连接数已达上限，请稍后重试");
+        }
+        StreamSubscriber subscriber = new StreamSubscriber(UUID.randomUUID().toString(), filter, sink,
+                bufferSize, executor, this::onSendFailure);
+        subscribers.put(subscriber.getId(), subscriber);
+        log.debug("实时推送订阅: id={}, filter={}, clients={}", subscriber.getId(), filter, subscribers.size());
+        return subscriber;
+    }
+
+    /**
+     * 取消订阅（连接完成、超时或出错时调用）
+     *
+     * @param subscriberId 订阅ID
+     */
+    public void unsubscribe(String subscriberId) {
+        StreamSubscriber removed = subscribers.remove(subscriberId);
+        if (removed != null) {
+            log.debug("实时推送取消订阅: id={}, dropped={}, clients={}",
+                    subscriberId, removed.getDroppedCount(), subscribers.size());
+        }
+    }
+
+    /**
+     * 发布事件给所有匹配的订阅（不阻塞）
+     *
+     * @param event 事件
+     */
+    public void publish(StreamEvent event) {
+        for (StreamSubscriber subscriber : subscribers.values()) {
+            if (subscriber.getFilter().matches(event)) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    /**
+     * 当前连接数
+     */
+    public int getClientCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 定时心跳
+     */
+    @Scheduled(fixedDelayString = "${event-stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        publish(StreamEvent.builder()
+                .type(StreamEvent.TYPE_HEARTBEAT)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(subscriber -> {
+            try {
+                subscriber.close();
+            } catch (Exception e) {
+                log.debug("关闭推送连接失败: {}", subscriber.getId(), e);
+            }
+        });
+        subscribers.clear();
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void onSendFailure(StreamSubscriber subscriber) {
+        unsubscribe(subscriber.getId());
+        try {
+            subscriber.close();
+        } catch (Exception e) {
+            log.debug("关闭推送连接失败: {}", subscriber.getId(), e);
+        }
+    }
+
+    private static ExecutorService newSenderPool(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "event-stream-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
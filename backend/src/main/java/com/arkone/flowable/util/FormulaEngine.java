@@ -17,6 +17,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 公式计算引擎 - 基于Aviator实现
@@ -78,6 +79,11 @@ public class FormulaEngine {
         return thread;
     });
 
+    /**
+     * 执行超时次数
+     */
+    private final LongAdder timeoutCount = new LongAdder();
+
     static {
         // 配置安全选项
         evaluator.setOption(Options.ALWAYS_PARSE_FLOATING_POINT_NUMBER_INTO_DECIMAL, true);
@@ -133,6 +139,7 @@ public class FormulaEngine {
                 return result;
             } catch (TimeoutException e) {
                 future.cancel(true);
+                timeoutCount.increment();
                 throw new FormulaException("公式执行超时（超过 " + EVAL_TIMEOUT_MS + "ms）");
             } catch (ExecutionException e) {
                 Throwable cause = e.getCause();
@@ -154,6 +161,15 @@ public class FormulaEngine {
         }
     }
 
+    /**
+     * 获取执行超时次数
+     *
+     * @return 自启动以来的超时次数
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
     /**
      * 验证公式安全性
      *
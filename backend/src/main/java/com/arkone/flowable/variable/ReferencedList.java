@@ -0,0 +1,118 @@
+package com.arkone.flowable.variable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 按引用保存的只读列表型流程变量
+ *
+ * <p>由 {@link ReferencedListVariableType} 持久化：内容写入 lims_variable_ref 一次，流程变量只保存引用ID和元素个数。
+ * 从引擎读取时得到的是未加载的实例，{@link #size()} 直接返回元素个数，首次访问元素时才查询内容。
+ * 列表不可修改，需要变更时以新列表重新设置变量。</p>
+ *
+ * <p>加载时会访问数据库，用 {@link ReentrantLock} 而不是 synchronized 互斥，虚拟线程等待查询时不会占住载体线程。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public final class ReferencedList extends AbstractList<Object> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int size;
+    private volatile String refId;
+    private volatile List<Object> elements;
+    private transient Function<String, List<Object>> loader;
+    private final transient ReentrantLock loadLock = new ReentrantLock();
+
+    private ReferencedList(String refId, int size, List<Object> elements, Function<String, List<Object>> loader) {
+        this.refId = refId;
+        this.size = size;
+        this.elements = elements;
+        this.loader = loader;
+    }
+
+    /**
+     * 包装新的列表，设置为流程变量时写入引用表
+     *
+     * @param values 列表内容
+     * @return 引用列表
+     */
+    public static ReferencedList of(Collection<?> values) {
+        List<Object> copy = Collections.unmodifiableList(new ArrayList<>(values));
+        return new ReferencedList(null, copy.size(), copy, null);
+    }
+
+    /**
+     * 已持久化的引用，首次访问元素时通过 loader 加载
+     *
+     * @param refId  引用ID
+     * @param size   元素个数
+     * @param loader 按引用ID加载内容
+     * @return 引用列表
+     */
+    static ReferencedList lazy(String refId, int size, Function<String, List<Object>> loader) {
+        return new ReferencedList(refId, size, null, loader);
+    }
+
+    @Override
+    public Object get(int index) {
+        return load().get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 是否已加载内容
+     */
+    public boolean isLoaded() {
+        return elements != null;
+    }
+
+    String getRefId() {
+        return refId;
+    }
+
+    void setRefId(String refId) {
+        this.refId = refId;
+    }
+
+    List<Object> load() {
+        List<Object> loaded = elements;
+        if (loaded == null) {
+            loadLock.lock();
+            try {
+                loaded = elements;
+                if (loaded == null) {
+                    if (loader == null) {
+                        throw new IllegalStateException("流程变量引用无法加载: " + refId);
+                    }
+                    loaded = Collections.unmodifiableList(loader.apply(refId));
+                    elements = loaded;
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 序列化时写出完整内容，反序列化后不再依赖引用表
+     */
+    @Serial
+    private Object writeReplace() {
+        return new ArrayList<>(load());
+    }
+}
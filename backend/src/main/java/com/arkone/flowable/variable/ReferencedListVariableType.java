@@ -0,0 +1,198 @@
+package com.arkone.flowable.variable;
+
+import cn.hutool.core.util.IdUtil;
+import com.arkone.flowable.entity.VariableRef;
+import com.arkone.flowable.repository.VariableRefMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 引用型流程变量类型（limsRef）
+ *
+ * <p>样本ID列表等大集合如果按普通变量保存，会序列化进 ACT_GE_BYTEARRAY，每次变量更新都整体改写，
+ * full/audit 历史级别下还会再复制到历史表。本类型把 {@link ReferencedList} 的内容写入 lims_variable_ref 一次，
+ * 变量行只在 TEXT_ 保存引用ID、在 LONG_ 保存元素个数；读取时返回懒加载的列表。</p>
+ *
+ * <p>作为前置变量类型注册（先于引擎内置的 serializable/json 类型匹配），只处理 {@link ReferencedList}，
+ * 其他值不受影响。写入在引擎命令所在的事务内完成，回滚时引用行随之回滚。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ReferencedListVariableType implements VariableType {
+
+    public static final String TYPE_NAME = "limsRef";
+
+    /**
+     * 孤立清理用到的 TEXT_ 部分索引（引擎表由Flowable建表，不在初始化脚本中）
+     */
+    private static final List<String> REFERENCE_INDEX_DDL = List.of(
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_lims_ref_ru_variable ON act_ru_variable (text_)"
+                    + " WHERE type_ = '" + TYPE_NAME + "'",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_lims_ref_hi_varinst ON act_hi_varinst (text_)"
+                    + " WHERE var_type_ = '" + TYPE_NAME + "'",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_lims_ref_hi_detail ON act_hi_detail (text_)"
+                    + " WHERE var_type_ = '" + TYPE_NAME + "'");
+
+    private static final TypeReference<List<Object>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final VariableRefMapper variableRefMapper;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final int referenceThreshold;
+    private final Duration orphanGrace;
+    private final int orphanBatchSize;
+    private final AtomicBoolean indexesEnsured = new AtomicBoolean();
+
+    public ReferencedListVariableType(VariableRefMapper variableRefMapper,
+                                      ObjectMapper objectMapper,
+                                      JdbcTemplate jdbcTemplate,
+                                      @Value("${process-variable.reference-threshold:20}") int referenceThreshold,
+                                      @Value("${process-variable.orphan-grace:PT1H}") Duration orphanGrace,
+                                      @Value("${process-variable.orphan-batch-size:500}") int orphanBatchSize) {
+        this.variableRefMapper = variableRefMapper;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.referenceThreshold = referenceThreshold;
+        this.orphanGrace = orphanGrace;
+        this.orphanBatchSize = orphanBatchSize;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        return value instanceof ReferencedList;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        if (value == null) {
+            valueFields.setTextValue(null);
+            valueFields.setLongValue(null);
+            return;
+        }
+        ReferencedList list = (ReferencedList) value;
+        // 同一个引用再次设置（如复制到其他执行或历史）时只写引用ID，不重复写入内容
+        if (list.getRefId() == null) {
+            String refId = IdUtil.fastSimpleUUID();
+            variableRefMapper.insertRef(VariableRef.builder()
+                    .id(refId)
+                    .name(valueFields.getName())
+                    .itemCount(list.size())
+                    .payload(toJson(list.load()))
+                    .build());
+            list.setRefId(refId);
+        }
+        valueFields.setTextValue(list.getRefId());
+        valueFields.setLongValue((long) list.size());
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        String refId = valueFields.getTextValue();
+        if (refId == null) {
+            return null;
+        }
+        Long size = valueFields.getLongValue();
+        return ReferencedList.lazy(refId, size != null ? size.intValue() : 0, this::loadElements);
+    }
+
+    /**
+     * 将元素个数超过阈值的集合型变量改为按引用保存，其他变量原样返回
+     *
+     * @param variables 流程变量
+     * @return 替换后的新变量表
+     */
+    public Map<String, Object> toReferences(Map<String, Object> variables) {
+        Map<String, Object> result = new LinkedHashMap<>(variables);
+        result.replaceAll((name, value) -> value instanceof Collection<?> collection
+                && !(value instanceof ReferencedList)
+                && collection.size() > referenceThreshold
+                ? ReferencedList.of(collection) : value);
+        return result;
+    }
+
+    /**
+     * 定时删除运行时变量和历史变量都不再引用的内容（流程变量被覆盖或删除、历史归档后产生）
+     *
+     * <p>分批删除，每批一个短事务；历史归档在删除历史前已把引用内容内联进归档文件。</p>
+     */
+    @Scheduled(cron = "${process-variable.orphan-cleanup-cron:0 45 3 * * ?}")
+    public void deleteOrphans() {
+        ensureReferenceIndexes();
+        LocalDateTime before = LocalDateTime.now().minus(orphanGrace);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = variableRefMapper.deleteOrphans(TYPE_NAME, before, orphanBatchSize);
+            total += deleted;
+        } while (deleted == orphanBatchSize);
+        if (total > 0) {
+            log.info("已清理孤立的流程变量引用: {}条", total);
+        }
+    }
+
+    /**
+     * 首次清理前在引擎变量表的 TEXT_ 上建立部分索引，失败时下次清理重试
+     */
+    private void ensureReferenceIndexes() {
+        if (indexesEnsured.get()) {
+            return;
+        }
+        try {
+            REFERENCE_INDEX_DDL.forEach(jdbcTemplate::execute);
+            indexesEnsured.set(true);
+        } catch (Exception e) {
+            log.warn("创建流程变量引用索引失败，本次清理仍按批执行: {}", e.getMessage());
+        }
+    }
+
+    private List<Object> loadElements(String refId) {
+        String payload = variableRefMapper.selectPayload(refId);
+        if (payload == null) {
+            throw new FlowableException("流程变量引用不存在: " + refId);
+        }
+        try {
+            return objectMapper.readValue(payload, LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("流程变量引用解析失败: " + refId, e);
+        }
+    }
+
+    private String toJson(List<Object> elements) {
+        try {
+            return objectMapper.writeValueAsString(elements);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("流程变量序列化失败", e);
+        }
+    }
+}
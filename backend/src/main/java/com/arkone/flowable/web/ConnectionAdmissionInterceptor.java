@@ -0,0 +1,106 @@
+package com.arkone.flowable.web;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.exception.BusinessException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 请求准入拦截器
+ *
+ * <p>平台线程模式下 Tomcat 工作线程数天然限制了同时访问数据库的请求数；开启虚拟线程后每个请求一个线程，
+ * 突发的上千个请求会全部排到 Hikari 的连接等待队列上，直到 connection-timeout 才失败，期间占用内存并拖慢所有请求。
+ * 这里用信号量在进入控制器前限制并发请求数（{@code db-admission.max-concurrent}，一般为连接池大小的1~2倍），
+ * 超过 {@code db-admission.acquire-timeout} 仍未获得许可的请求快速返回"系统繁忙"。</p>
+ *
+ * <p>异步请求（SSE等）在异步处理开始时即归还许可，异步派发不再重复获取。</p>
+ *
+ * <p>平台线程模式下不需要这层限制，默认随 {@code spring.threads.virtual.enabled} 开启；
+ * 需要单独开关时设置 {@code db-admission.enabled}。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "db-admission", name = "enabled", havingValue = "true")
+public class ConnectionAdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConnectionAdmissionInterceptor.class.getName() + ".PERMIT";
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMillis;
+    private final LongAdder rejected = new LongAdder();
+
+    public ConnectionAdmissionInterceptor(@Value("${db-admission.max-concurrent:40}") int maxConcurrent,
+                                          @Value("${db-admission.acquire-timeout:PT3S}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        log.info("请求准入限制: maxConcurrent={}, acquireTimeout={}", maxConcurrent, acquireTimeout);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+        if (!acquired) {
+            rejected.increment();
+            log.warn("请求准入等待超时: uri={}, maxConcurrent={}", request.getRequestURI(), maxConcurrent);
+            throw new BusinessException(ErrorCode.REQUEST_ADMISSION_TIMEOUT);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    /**
+     * 当前可用许可数
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 等待超时被拒绝的请求数
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.arkone.flowable.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CSV流式导出响应
+ *
+ * <p>设置下载响应头，客户端声明支持 gzip 时压缩输出，再由调用方把CSV内容直接写入响应流，
+ * 导出数据不在内存中整体缓存。</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public final class CsvExportResponses {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private CsvExportResponses() {
+    }
+
+    /**
+     * CSV内容写出
+     */
+    @FunctionalInterface
+    public interface Body {
+
+        /**
+         * 将CSV内容写入输出流
+         *
+         * @param out 输出流（可能经过gzip压缩，调用方不得关闭）
+         * @throws IOException 写出失败
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * 写出CSV下载响应
+     *
+     * @param request  HTTP请求
+     * @param response HTTP响应
+     * @param fileName 下载文件名
+     * @param body     CSV内容
+     * @throws IOException 写出失败
+     */
+    public static void write(HttpServletRequest request, HttpServletResponse response, String fileName, Body body)
+            throws IOException {
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName);
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+            body.writeTo(gzipOut);
+            gzipOut.finish();
+        } else {
+            body.writeTo(out);
+        }
+        out.flush();
+    }
+}
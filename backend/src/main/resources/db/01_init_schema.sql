@@ -19,6 +19,7 @@ CREATE TABLE lims_project (
     description TEXT,
     process_definition_id VARCHAR(64),
     status VARCHAR(20) DEFAULT 'active',
+    version INT DEFAULT 0,
     created_by VARCHAR(100),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_by VARCHAR(100),
@@ -33,6 +34,7 @@ COMMENT ON COLUMN lims_project.project_name IS '项目名称';
 COMMENT ON COLUMN lims_project.description IS '项目描述';
 COMMENT ON COLUMN lims_project.process_definition_id IS 'Flowable流程定义ID';
 COMMENT ON COLUMN lims_project.status IS '项目状态: active-启用, inactive-停用';
+COMMENT ON COLUMN lims_project.version IS '乐观锁版本号';
 COMMENT ON COLUMN lims_project.created_by IS '创建人';
 COMMENT ON COLUMN lims_project.created_at IS '创建时间';
 COMMENT ON COLUMN lims_project.updated_by IS '更新人';
@@ -50,6 +52,7 @@ CREATE TABLE lims_container (
     capacity INT NOT NULL,
     used_count INT DEFAULT 0,
     status VARCHAR(20) DEFAULT 'active',
+    version INT DEFAULT 0,
     created_by VARCHAR(100),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_by VARCHAR(100),
@@ -64,6 +67,7 @@ COMMENT ON COLUMN lims_container.container_type IS '容器类型: 96-well-plate,
 COMMENT ON COLUMN lims_container.capacity IS '容器容量（孔位数）';
 COMMENT ON COLUMN lims_container.used_count IS '已使用孔位数';
 COMMENT ON COLUMN lims_container.status IS '容器状态: active-使用中, full-已满, archived-已归档';
+COMMENT ON COLUMN lims_container.version IS '乐观锁版本号';
 COMMENT ON COLUMN lims_container.created_by IS '创建人';
 COMMENT ON COLUMN lims_container.created_at IS '创建时间';
 COMMENT ON COLUMN lims_container.updated_by IS '更新人';
@@ -104,7 +108,7 @@ COMMENT ON COLUMN lims_sample.sample_code IS '样本编码，格式: AKYYYYMMDDn
 COMMENT ON COLUMN lims_sample.sample_name IS '样本名称';
 COMMENT ON COLUMN lims_sample.project_id IS '所属项目ID';
 COMMENT ON COLUMN lims_sample.sample_type IS '样本类型: plate-平板样本, liquid-直抽菌液, plasmid-质粒核酸';
-COMMENT ON COLUMN lims_sample.status IS '样本状态: pending-待处理, in_progress-处理中, completed-已完成, failed-失败';
+COMMENT ON COLUMN lims_sample.status IS '样本状态: pending-待处理, in_progress-处理中, suspended-已挂起, completed-已完成, failed-失败';
 COMMENT ON COLUMN lims_sample.process_instance_id IS 'Flowable流程实例ID';
 COMMENT ON COLUMN lims_sample.current_node_id IS '当前所在流程节点ID';
 COMMENT ON COLUMN lims_sample.container_id IS '所在容器ID';
@@ -171,6 +175,7 @@ CREATE TABLE lims_field_definition (
     formula VARCHAR(500),
     options JSONB,
     display_order INT DEFAULT 0,
+    searchable BOOLEAN DEFAULT FALSE,
     version INT DEFAULT 0,
     created_by VARCHAR(100),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -194,6 +199,7 @@ COMMENT ON COLUMN lims_field_definition.validation_rule IS '验证规则，JSONB
 COMMENT ON COLUMN lims_field_definition.formula IS '计算公式，用于自动计算字段';
 COMMENT ON COLUMN lims_field_definition.options IS '选项配置，JSONB格式: {items: [{label, value}]}';
 COMMENT ON COLUMN lims_field_definition.display_order IS '显示顺序';
+COMMENT ON COLUMN lims_field_definition.searchable IS '是否可搜索，可搜索字段启动时自动创建表达式索引';
 COMMENT ON COLUMN lims_field_definition.version IS '乐观锁版本号';
 COMMENT ON COLUMN lims_field_definition.created_by IS '创建人';
 COMMENT ON COLUMN lims_field_definition.created_at IS '创建时间';
@@ -225,7 +231,7 @@ COMMENT ON COLUMN lims_audit_log.id IS '主键UUID';
 COMMENT ON COLUMN lims_audit_log.user_id IS '操作用户ID';
 COMMENT ON COLUMN lims_audit_log.user_name IS '操作用户名';
 COMMENT ON COLUMN lims_audit_log.action IS '操作类型: CREATE, UPDATE, DELETE, LOGIN, LOGOUT等';
-COMMENT ON COLUMN lims_audit_log.entity_type IS '实体类型: SAMPLE, PROJECT, CONTAINER等';
+COMMENT ON COLUMN lims_audit_log.entity_type IS '实体类型(实体类名): Sample, Project, Container, ProcessNodeData等';
 COMMENT ON COLUMN lims_audit_log.entity_id IS '实体ID';
 COMMENT ON COLUMN lims_audit_log.old_value IS '变更前的值，JSONB格式';
 COMMENT ON COLUMN lims_audit_log.new_value IS '变更后的值，JSONB格式';
@@ -234,6 +240,7 @@ COMMENT ON COLUMN lims_audit_log.user_agent IS '用户代理信息';
 COMMENT ON COLUMN lims_audit_log.created_at IS '操作时间';
 
 -- 创建审计日志分区表（2026年2月-12月）
+-- 后续月份由应用 AuditPartitionManager 自动预建，过期分区归档后删除
 CREATE TABLE lims_audit_log_2026_02 PARTITION OF lims_audit_log
     FOR VALUES FROM ('2026-02-01') TO ('2026-03-01');
 
@@ -268,7 +275,139 @@ CREATE TABLE lims_audit_log_2026_12 PARTITION OF lims_audit_log
     FOR VALUES FROM ('2026-12-01') TO ('2027-01-01');
 
 -- ============================================================================
--- 7. 更新时间触发器函数
+-- 7. 样本当前状态投影表 (lims_sample_current_state)
+-- 描述: 每个样本一行，由应用在样本创建、状态变更、流程启动、任务完成时增量维护，
+--       列表与板位视图直接读取本表，无需关联不断增长的节点数据历史
+-- ============================================================================
+CREATE TABLE lims_sample_current_state (
+    sample_id UUID PRIMARY KEY,
+    sample_code VARCHAR(50) NOT NULL,
+    sample_name VARCHAR(200),
+    sample_type VARCHAR(50),
+    status VARCHAR(20),
+    project_id UUID,
+    process_instance_id VARCHAR(64),
+    current_node_id VARCHAR(100),
+    container_id UUID,
+    position VARCHAR(20),
+    last_node_data_id UUID,
+    last_node_id VARCHAR(100),
+    last_node_name VARCHAR(200),
+    last_node_time TIMESTAMP,
+    metrics JSONB NOT NULL DEFAULT '{}'::jsonb,
+    sample_created_at TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_current_state_sample FOREIGN KEY (sample_id) REFERENCES lims_sample(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE lims_sample_current_state IS '样本当前状态投影表';
+COMMENT ON COLUMN lims_sample_current_state.sample_id IS '样本ID';
+COMMENT ON COLUMN lims_sample_current_state.sample_code IS '样本编码';
+COMMENT ON COLUMN lims_sample_current_state.sample_name IS '样本名称';
+COMMENT ON COLUMN lims_sample_current_state.sample_type IS '样本类型';
+COMMENT ON COLUMN lims_sample_current_state.status IS '样本状态';
+COMMENT ON COLUMN lims_sample_current_state.project_id IS '项目ID';
+COMMENT ON COLUMN lims_sample_current_state.process_instance_id IS '流程实例ID';
+COMMENT ON COLUMN lims_sample_current_state.current_node_id IS '当前流程节点ID';
+COMMENT ON COLUMN lims_sample_current_state.container_id IS '容器ID';
+COMMENT ON COLUMN lims_sample_current_state.position IS '容器位置';
+COMMENT ON COLUMN lims_sample_current_state.last_node_data_id IS '最新一条节点数据ID';
+COMMENT ON COLUMN lims_sample_current_state.last_node_id IS '最新节点数据的节点ID';
+COMMENT ON COLUMN lims_sample_current_state.last_node_name IS '最新节点数据的节点名称';
+COMMENT ON COLUMN lims_sample_current_state.last_node_time IS '最新节点数据的提交时间';
+COMMENT ON COLUMN lims_sample_current_state.metrics IS '关键指标：各可搜索字段(searchable)的最新值';
+COMMENT ON COLUMN lims_sample_current_state.sample_created_at IS '样本创建时间';
+COMMENT ON COLUMN lims_sample_current_state.updated_at IS '投影更新时间';
+
+-- ============================================================================
+-- 8. 领域事件发件箱表 (lims_outbox_event)
+-- 描述: 与业务变更在同一事务内写入，由应用内中继按顺序批量投递到RabbitMQ或进程内监听器，
+--       投递成功后标记 published_at（至少一次语义，消费方按 id 去重）
+-- ============================================================================
+CREATE TABLE lims_outbox_event (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(64) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP,
+    attempts INT DEFAULT 0,
+    last_error VARCHAR(1000)
+);
+
+COMMENT ON TABLE lims_outbox_event IS '领域事件发件箱表';
+COMMENT ON COLUMN lims_outbox_event.id IS '自增主键，决定投递顺序';
+COMMENT ON COLUMN lims_outbox_event.aggregate_type IS '聚合类型: Sample, ProcessInstance';
+COMMENT ON COLUMN lims_outbox_event.aggregate_id IS '聚合ID（样本ID或流程实例ID），同一聚合的事件按id顺序投递';
+COMMENT ON COLUMN lims_outbox_event.event_type IS '事件类型: sample.created, sample.status_changed, sample.process_started, sample.task_completed, task.created, task.assigned';
+COMMENT ON COLUMN lims_outbox_event.payload IS '事件内容，JSONB格式';
+COMMENT ON COLUMN lims_outbox_event.created_at IS '创建时间';
+COMMENT ON COLUMN lims_outbox_event.published_at IS '投递成功时间，为空表示待投递';
+COMMENT ON COLUMN lims_outbox_event.attempts IS '投递失败次数';
+COMMENT ON COLUMN lims_outbox_event.last_error IS '最近一次投递失败原因';
+
+-- ============================================================================
+-- 9. 流程批量操作表 (lims_process_bulk_operation)
+-- 描述: 批量挂起/激活/取消流程实例的后台作业，提交时确定实例清单，
+--       由Flowable异步执行器按块依次处理，每块一个事务，进度随块一起提交
+-- ============================================================================
+CREATE TABLE lims_process_bulk_operation (
+    id VARCHAR(32) PRIMARY KEY,
+    action VARCHAR(20) NOT NULL,
+    selector JSONB NOT NULL,
+    reason VARCHAR(255),
+    process_instance_ids TEXT[] NOT NULL,
+    total INT NOT NULL,
+    processed_count INT DEFAULT 0,
+    success_count INT DEFAULT 0,
+    failure_count INT DEFAULT 0,
+    failures JSONB DEFAULT '[]'::jsonb,
+    status VARCHAR(30) DEFAULT 'queued',
+    created_by VARCHAR(100),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+COMMENT ON TABLE lims_process_bulk_operation IS '流程批量操作表';
+COMMENT ON COLUMN lims_process_bulk_operation.id IS '操作ID';
+COMMENT ON COLUMN lims_process_bulk_operation.action IS '操作类型: suspend-挂起, activate-激活, cancel-取消';
+COMMENT ON COLUMN lims_process_bulk_operation.selector IS '选择条件（流程定义、项目、业务键前缀或样本集合）';
+COMMENT ON COLUMN lims_process_bulk_operation.reason IS '操作原因（如试剂批次召回）';
+COMMENT ON COLUMN lims_process_bulk_operation.process_instance_ids IS '提交时匹配的流程实例ID清单，按块切片处理';
+COMMENT ON COLUMN lims_process_bulk_operation.total IS '流程实例总数';
+COMMENT ON COLUMN lims_process_bulk_operation.processed_count IS '已处理数量，即下一块的起始偏移';
+COMMENT ON COLUMN lims_process_bulk_operation.success_count IS '成功数量';
+COMMENT ON COLUMN lims_process_bulk_operation.failure_count IS '失败数量';
+COMMENT ON COLUMN lims_process_bulk_operation.failures IS '失败明细，JSONB数组';
+COMMENT ON COLUMN lims_process_bulk_operation.status IS '作业状态: queued-排队中, running-处理中, completed-全部成功, completed_with_errors-部分失败';
+COMMENT ON COLUMN lims_process_bulk_operation.created_by IS '提交人';
+COMMENT ON COLUMN lims_process_bulk_operation.created_at IS '提交时间';
+COMMENT ON COLUMN lims_process_bulk_operation.finished_at IS '完成时间';
+
+-- ============================================================================
+-- 10. 流程变量引用表 (lims_variable_ref)
+-- 描述: 样本ID列表等大集合型流程变量的实际内容，ACT_RU_VARIABLE 中只保存引用ID和元素个数，
+--       内容写入一次后不再改写，读取时按需加载
+-- ============================================================================
+CREATE TABLE lims_variable_ref (
+    id VARCHAR(32) PRIMARY KEY,
+    name VARCHAR(255),
+    item_count INT NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE lims_variable_ref IS '流程变量引用表';
+COMMENT ON COLUMN lims_variable_ref.id IS '引用ID，保存在 ACT_RU_VARIABLE/ACT_HI_VARINST 的 TEXT_ 列（TYPE_ = limsRef）';
+COMMENT ON COLUMN lims_variable_ref.name IS '变量名';
+COMMENT ON COLUMN lims_variable_ref.item_count IS '元素个数';
+COMMENT ON COLUMN lims_variable_ref.payload IS '变量内容，JSONB数组';
+COMMENT ON COLUMN lims_variable_ref.created_at IS '创建时间';
+
+-- ============================================================================
+-- 11. 更新时间触发器函数
 -- 描述: 自动更新 updated_at 字段
 -- ============================================================================
 CREATE OR REPLACE FUNCTION update_updated_at_column()
@@ -76,6 +76,12 @@ CREATE INDEX idx_node_data_barcode ON lims_process_node_data ((data->>'barcode')
 CREATE INDEX idx_node_data_plate_code ON lims_process_node_data ((data->>'48深孔板号'))
     WHERE deleted = false AND data ? '48深孔板号';
 
+-- 可搜索字段（lims_field_definition.searchable = true）的表达式索引由应用启动时自动创建：
+--   数值字段: idx_nd_f_<hash> ON ((CASE WHEN jsonb_typeof(data->'字段') = 'number' THEN (data->>'字段')::numeric END))
+--            WHERE deleted = false AND data ? '字段'
+--   其他字段的等值查询使用 data @> ...，由 idx_node_data_gin 支持，不单独建索引
+-- 使用 CREATE INDEX CONCURRENTLY，不阻塞写入；可通过 node-data.index.auto-provision=false 关闭
+
 -- ============================================================================
 -- 5. lims_field_definition 表索引
 -- ============================================================================
@@ -107,6 +113,39 @@ CREATE INDEX idx_audit_entity_time ON lims_audit_log(entity_type, entity_id, cre
 CREATE INDEX idx_audit_old_value_gin ON lims_audit_log USING GIN (old_value);
 CREATE INDEX idx_audit_new_value_gin ON lims_audit_log USING GIN (new_value);
 
+-- ============================================================================
+-- 7. lims_sample_current_state 表索引
+-- ============================================================================
+-- 样本列表：按项目/状态筛选，按样本创建时间倒序
+CREATE INDEX idx_current_state_project_status ON lims_sample_current_state(project_id, status, sample_created_at DESC);
+CREATE INDEX idx_current_state_created_at ON lims_sample_current_state(sample_created_at DESC);
+
+-- 节点看板：按当前节点筛选
+CREATE INDEX idx_current_state_node ON lims_sample_current_state(current_node_id);
+
+-- 板位视图：按容器读取全部位置
+CREATE INDEX idx_current_state_container ON lims_sample_current_state(container_id, position);
+
+-- ============================================================================
+-- 8. lims_outbox_event 表索引
+-- ============================================================================
+-- 待投递事件（部分索引，只包含未投递的少量行）
+CREATE INDEX idx_outbox_pending ON lims_outbox_event(id) WHERE published_at IS NULL;
+
+-- 已投递事件清理
+CREATE INDEX idx_outbox_published_at ON lims_outbox_event(published_at) WHERE published_at IS NOT NULL;
+
+-- ============================================================================
+-- 9. lims_process_bulk_operation 表索引
+-- ============================================================================
+CREATE INDEX idx_bulk_operation_created_at ON lims_process_bulk_operation(created_at DESC);
+
+-- ============================================================================
+-- 10. lims_variable_ref 表索引
+-- ============================================================================
+-- 孤立引用清理：按创建时间筛选
+CREATE INDEX idx_variable_ref_created_at ON lims_variable_ref(created_at);
+
 -- ============================================================================
 -- 索引使用说明
 -- ============================================================================
@@ -237,6 +237,11 @@ SET options = '{
 }'::jsonb
 WHERE node_id = 'task_sequencing' AND field_name = 'sequencing_mode';
 
+-- 可搜索字段（应用启动时自动为其创建表达式索引，见 NodeDataIndexProvisioner）
+UPDATE lims_field_definition
+SET searchable = true
+WHERE field_name IN ('plate_48_code', 'nucleic_acid_concentration', 'library_concentration', 'run_id');
+
 -- ============================================================================
 -- 8. 插入默认容器
 -- ============================================================================
@@ -0,0 +1,219 @@
+package com.arkone.flowable.audit;
+
+import com.arkone.flowable.entity.AuditLog;
+import com.arkone.flowable.entity.Sample;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AuditInterceptor单元测试
+ * <p>通过 {@link Invocation} 驱动拦截器，覆盖快照捕获、变更比对与快照移除</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("审计拦截器测试")
+class AuditInterceptorTest {
+
+    private static final String SAMPLE_MAPPER = "com.arkone.flowable.repository.SampleMapper.";
+
+    private final List<AuditLog> published = new ArrayList<>();
+    private AuditInterceptor interceptor;
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Sample.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new AuditInterceptor(new AuditPublisher(16, 0) {
+            @Override
+            public boolean publish(AuditLog record) {
+                published.add(record);
+                return true;
+            }
+        });
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    @Test
+    @DisplayName("测试新增记录非空字段作为新值")
+    void testCreate() throws Throwable {
+        update("insert", sample("s1", "AK001", "pending"));
+        assertTrue(published.isEmpty(), "事务提交前不发布");
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        AuditLog log = single();
+        assertEquals(AuditInterceptor.ACTION_CREATE, log.getAction());
+        assertEquals("Sample", log.getEntityType());
+        assertEquals("s1", log.getEntityId());
+        assertNull(log.getOldValue());
+        assertEquals("AK001", log.getNewValue().get("sampleCode"));
+        assertEquals("pending", log.getNewValue().get("status"));
+        assertFalse(log.getNewValue().containsKey("sampleName"));
+    }
+
+    @Test
+    @DisplayName("测试有快照时更新只记录变化的字段")
+    void testUpdateDiffAgainstSnapshot() throws Throwable {
+        query(sample("s1", "AK001", "pending"));
+
+        Sample changed = sample("s1", "AK001", "in_progress");
+        changed.setUpdatedAt(LocalDateTime.now());
+        update("updateById", Map.of(Constants.ENTITY, changed));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        AuditLog log = single();
+        assertEquals(AuditInterceptor.ACTION_UPDATE, log.getAction());
+        // updatedAt 每次更新都会变化，不参与比较
+        assertEquals(Map.of("status", "pending"), log.getOldValue());
+        assertEquals(Map.of("status", "in_progress"), log.getNewValue());
+    }
+
+    @Test
+    @DisplayName("测试连续更新以上一次更新后的值作为变更前值")
+    void testSnapshotMergedAfterUpdate() throws Throwable {
+        query(sample("s1", "AK001", "pending"));
+
+        update("updateById", Map.of(Constants.ENTITY, sample("s1", "AK001", "in_progress")));
+        update("updateById", Map.of(Constants.ENTITY, sample("s1", "AK001", "in_progress")));
+        update("updateById", Map.of(Constants.ENTITY, sample("s1", "AK001", "completed")));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // 第二次更新没有实际变化，不产生记录
+        assertEquals(2, published.size());
+        assertEquals(Map.of("status", "in_progress"), published.get(1).getOldValue());
+        assertEquals(Map.of("status", "completed"), published.get(1).getNewValue());
+    }
+
+    @Test
+    @DisplayName("测试无快照时更新记录非空字段")
+    void testUpdateWithoutSnapshot() throws Throwable {
+        update("updateById", Map.of(Constants.ENTITY, sample("s1", null, "in_progress")));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        AuditLog log = single();
+        assertNull(log.getOldValue());
+        assertEquals(Map.of("id", "s1", "status", "in_progress"), log.getNewValue());
+    }
+
+    @Test
+    @DisplayName("测试删除记录快照后移除快照")
+    void testDeleteRemovesSnapshot() throws Throwable {
+        query(sample("s1", "AK001", "pending"));
+
+        update("deleteById", "s1");
+        update("deleteById", "s1");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(2, published.size());
+        assertEquals(AuditInterceptor.ACTION_DELETE, published.get(0).getAction());
+        assertEquals("AK001", published.get(0).getOldValue().get("sampleCode"));
+        assertNull(published.get(0).getNewValue());
+        // 快照已随第一次删除移除
+        assertNull(published.get(1).getOldValue());
+    }
+
+    @Test
+    @DisplayName("测试事务回滚不发布审计记录")
+    void testRollbackDiscards() throws Throwable {
+        update("insert", sample("s1", "AK001", "pending"));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    @DisplayName("测试未影响任何行时不记录")
+    void testNoRowsAffected() throws Throwable {
+        interceptor.intercept(new Invocation(executor(0),
+                Executor.class.getMethod("update", MappedStatement.class, Object.class),
+                new Object[]{mappedStatement("deleteById", SqlCommandType.DELETE), "s1"}));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertTrue(published.isEmpty());
+    }
+
+    private AuditLog single() {
+        assertEquals(1, published.size());
+        return published.get(0);
+    }
+
+    private void query(Sample... rows) throws Throwable {
+        interceptor.intercept(new Invocation(executor(List.of(rows)),
+                Executor.class.getMethod("query", MappedStatement.class, Object.class, RowBounds.class,
+                        ResultHandler.class),
+                new Object[]{mappedStatement("selectById", SqlCommandType.SELECT), null, RowBounds.DEFAULT, null}));
+    }
+
+    private void update(String method, Object parameter) throws Throwable {
+        SqlCommandType type = method.startsWith("insert") ? SqlCommandType.INSERT
+                : method.startsWith("delete") ? SqlCommandType.DELETE : SqlCommandType.UPDATE;
+        interceptor.intercept(new Invocation(executor(1),
+                Executor.class.getMethod("update", MappedStatement.class, Object.class),
+                new Object[]{mappedStatement(method, type), parameter}));
+    }
+
+    /**
+     * 模拟事务结束，依次回调已注册的同步器
+     */
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(s -> s.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static Sample sample(String id, String sampleCode, String status) {
+        Sample sample = Sample.builder().sampleCode(sampleCode).status(status).build();
+        sample.setId(id);
+        return sample;
+    }
+
+    private static Executor executor(Object result) {
+        return (Executor) Proxy.newProxyInstance(Executor.class.getClassLoader(), new Class<?>[]{Executor.class},
+                (proxy, method, args) -> result);
+    }
+
+    private static MappedStatement mappedStatement(String method, SqlCommandType type) {
+        Configuration configuration = new Configuration();
+        return new MappedStatement.Builder(configuration, SAMPLE_MAPPER + method,
+                new StaticSqlSource(configuration, "SELECT 1"), type).build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.arkone.flowable.cache;
+
+import com.arkone.flowable.entity.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VersionedEntityCache单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("实体版本缓存测试")
+class VersionedEntityCacheTest {
+
+    private final Map<String, Project> database = new HashMap<>();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private VersionedEntityCache<Project> cache;
+
+    @BeforeEach
+    void setUp() {
+        database.put("p1", project("p1", "PROJ_A", 0));
+        cache = newCache(Duration.ofMinutes(10), 100);
+    }
+
+    @Test
+    @DisplayName("测试按ID读穿透并命中缓存")
+    void testGetByIdReadThrough() {
+        assertEquals("PROJ_A", cache.getById("p1").getProjectCode());
+        assertEquals("PROJ_A", cache.getById("p1").getProjectCode());
+
+        assertEquals(1, loadCount.get());
+        CacheStats stats = cache.stats();
+        assertEquals(1L, stats.getHits());
+        assertEquals(1L, stats.getMisses());
+        assertEquals(0.5D, stats.getHitRatio(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("测试按ID加载后按编码命中")
+    void testGetByCodeSharesEntries() {
+        cache.getById("p1");
+        assertEquals("p1", cache.getByCode("PROJ_A").getId());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("测试不缓存空结果")
+    void testMissingEntityNotCached() {
+        assertNull(cache.getById("missing"));
+        assertNull(cache.getById("missing"));
+        assertEquals(2, loadCount.get());
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    @Test
+    @DisplayName("测试新版本覆盖、旧版本被拒绝")
+    void testRefreshComparesVersion() {
+        cache.getById("p1");
+
+        cache.refresh(project("p1", "PROJ_A", 2));
+        assertEquals(2, cache.getById("p1").getVersion());
+
+        cache.refresh(project("p1", "PROJ_A", 1));
+        assertEquals(2, cache.getById("p1").getVersion());
+        assertEquals(1L, cache.stats().getStaleRejections());
+    }
+
+    @Test
+    @DisplayName("测试过期的高版本条目不阻止数据库加载")
+    void testExpiredHigherVersionReplacedByLoad() {
+        VersionedEntityCache<Project> expiring = newCache(Duration.ZERO, 100);
+        // 未提交成功的高版本写入缓存后已过期，数据库中仍是版本0
+        expiring.refresh(project("p1", "PROJ_A", 5));
+
+        assertEquals(0, expiring.getById("p1").getVersion());
+        assertEquals(1, loadCount.get());
+        assertEquals(0L, expiring.stats().getStaleRejections());
+    }
+
+    @Test
+    @DisplayName("测试编码变更后旧编码不再命中")
+    void testCodeChange() {
+        cache.getById("p1");
+        Project renamed = project("p1", "PROJ_B", 1);
+        database.put("p1", renamed);
+        cache.refresh(renamed);
+
+        assertEquals("PROJ_B", cache.getByCode("PROJ_B").getProjectCode());
+        assertNull(cache.getByCode("PROJ_A"));
+    }
+
+    @Test
+    @DisplayName("测试失效与过期")
+    void testEvictAndExpire() {
+        cache.getById("p1");
+        cache.evict("p1");
+        cache.getById("p1");
+        assertEquals(2, loadCount.get());
+
+        VersionedEntityCache<Project> expiring = newCache(Duration.ZERO, 100);
+        expiring.getById("p1");
+        expiring.getById("p1");
+        assertEquals(4, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("测试容量上限")
+    void testMaxSize() {
+        VersionedEntityCache<Project> small = newCache(Duration.ofMinutes(10), 2);
+        for (int i = 0; i < 5; i++) {
+            database.put("id" + i, project("id" + i, "CODE" + i, 0));
+            small.getById("id" + i);
+        }
+        assertTrue(small.stats().getSize() <= 2);
+        assertTrue(small.stats().getEvictions() >= 3);
+    }
+
+    private VersionedEntityCache<Project> newCache(Duration ttl, int maxSize) {
+        return new VersionedEntityCache<>("project",
+                id -> {
+                    loadCount.incrementAndGet();
+                    return database.get(id);
+                },
+                code -> {
+                    loadCount.incrementAndGet();
+                    return database.values().stream()
+                            .filter(p -> code.equals(p.getProjectCode()))
+                            .findFirst()
+                            .orElse(null);
+                },
+                Project::getProjectCode, ttl, maxSize);
+    }
+
+    private static Project project(String id, String code, int version) {
+        Project project = Project.builder().projectCode(code).projectName(code).status("active").build();
+        project.setId(id);
+        project.setVersion(version);
+        project.setDeleted(false);
+        return project;
+    }
+}
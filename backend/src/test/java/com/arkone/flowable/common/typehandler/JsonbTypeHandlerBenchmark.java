@@ -0,0 +1,130 @@
+package com.arkone.flowable.common.typehandler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonbTypeHandler JMH基准测试
+ *
+ * <p>对比旧实现（每次 {@code readValue(String, Map.class)} / {@code writeValueAsString}）
+ * 与当前实现（预构建ObjectReader/ObjectWriter、直接解析字节）在典型节点数据上的读写耗时。</p>
+ *
+ * <p>运行方式：</p>
+ * <pre>
+ * mvn test-compile
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.arkone.flowable.common.typehandler.JsonbTypeHandlerBenchmark
+ * </pre>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonbTypeHandlerBenchmark {
+
+    /**
+     * small: 单个节点的常规字段；large: 带48孔板孔位明细的节点数据
+     */
+    @Param({"small", "large"})
+    public String payload;
+
+    private final ObjectMapper legacyMapper = new ObjectMapper();
+
+    private Map<String, Object> data;
+    private String json;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        data = "large".equals(payload) ? largePayload() : smallPayload();
+        json = JsonbTypeHandler.serialize(data);
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object readLegacy() throws Exception {
+        return legacyMapper.readValue(json, Map.class);
+    }
+
+    @Benchmark
+    public Object readHandler() throws Exception {
+        return JsonbTypeHandler.parse(jsonBytes);
+    }
+
+    @Benchmark
+    public Object writeLegacy() throws Exception {
+        return legacyMapper.writeValueAsString(data);
+    }
+
+    @Benchmark
+    public Object writeHandler() throws Exception {
+        return JsonbTypeHandler.serialize(data);
+    }
+
+    private static Map<String, Object> smallPayload() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("plate_48_code", "P48-20260219-001");
+        data.put("well_position", "C07");
+        data.put("shake_speed", 220);
+        data.put("shake_time", new BigDecimal("16.5"));
+        data.put("temperature", new BigDecimal("37.0"));
+        data.put("concentration", new BigDecimal("152.38"));
+        data.put("od260_280", new BigDecimal("1.86"));
+        data.put("od260_230", new BigDecimal("2.11"));
+        data.put("volume", new BigDecimal("50.0"));
+        data.put("operator", "张三");
+        data.put("remark", "菌液浑浊度正常");
+        data.put("qc_passed", true);
+        return data;
+    }
+
+    private static Map<String, Object> largePayload() {
+        Map<String, Object> data = smallPayload();
+        List<Map<String, Object>> wells = new ArrayList<>(48);
+        for (int row = 0; row < 6; row++) {
+            for (int col = 1; col <= 8; col++) {
+                Map<String, Object> well = new LinkedHashMap<>();
+                well.put("position", (char) ('A' + row) + String.format("%02d", col));
+                well.put("sample_code", "AK20260219" + String.format("%03d", row * 8 + col));
+                well.put("concentration", new BigDecimal("100.25").add(BigDecimal.valueOf(row * 8L + col)));
+                well.put("od260_280", new BigDecimal("1.85"));
+                well.put("status", "completed");
+                wells.add(well);
+            }
+        }
+        data.put("wells", wells);
+        return data;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonbTypeHandlerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,68 @@
+package com.arkone.flowable.common.typehandler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonbTypeHandler单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("JSONB类型处理器测试")
+class JsonbTypeHandlerTest {
+
+    @Test
+    @DisplayName("测试小数解析为BigDecimal且保留精度")
+    void testDecimalPrecision() throws SQLException {
+        Map<String, Object> data = JsonbTypeHandler.parse(
+                "{\"concentration\": 0.1, \"od260_280\": 1.8500000000000001, \"count\": 3}"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(new BigDecimal("0.1"), data.get("concentration"));
+        assertEquals(new BigDecimal("1.8500000000000001"), data.get("od260_280"));
+        assertEquals(3, data.get("count"));
+    }
+
+    @Test
+    @DisplayName("测试序列化与解析往返")
+    void testRoundTrip() throws SQLException {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("plate_48_code", "P48-001");
+        data.put("volume", new BigDecimal("12.50"));
+        data.put("wells", List.of("A01", "B02"));
+        data.put("extra", Map.of("operator", "张三"));
+
+        String json = JsonbTypeHandler.serialize(data);
+        Map<String, Object> parsed = JsonbTypeHandler.parse(json.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("P48-001", parsed.get("plate_48_code"));
+        assertEquals(new BigDecimal("12.50"), parsed.get("volume"));
+        assertEquals(List.of("A01", "B02"), parsed.get("wells"));
+        assertEquals("张三", ((Map<?, ?>) parsed.get("extra")).get("operator"));
+    }
+
+    @Test
+    @DisplayName("测试大数以非科学计数法输出")
+    void testPlainBigDecimal() throws SQLException {
+        String json = JsonbTypeHandler.serialize(Map.of("value", new BigDecimal("1E+3")));
+        assertEquals("{\"value\":1000}", json);
+    }
+
+    @Test
+    @DisplayName("测试空值与非法JSON")
+    void testNullAndInvalid() throws SQLException {
+        assertNull(JsonbTypeHandler.parse(null));
+        assertNull(JsonbTypeHandler.parse(new byte[0]));
+        assertThrows(SQLException.class, () -> JsonbTypeHandler.parse("{bad".getBytes(StandardCharsets.UTF_8)));
+    }
+}
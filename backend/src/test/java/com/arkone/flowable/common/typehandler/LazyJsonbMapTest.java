@@ -0,0 +1,73 @@
+package com.arkone.flowable.common.typehandler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LazyJsonbMap单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("延迟解析JSONB测试")
+class LazyJsonbMapTest {
+
+    private static final String JSON = "{\"barcode\":\"BC001\",\"concentration\":125.5}";
+
+    @Test
+    @DisplayName("测试首次访问时才解析")
+    void testParseOnFirstAccess() {
+        LazyJsonbMap map = lazy();
+        assertFalse(map.isMaterialized());
+
+        assertEquals("BC001", map.get("barcode"));
+        assertTrue(map.isMaterialized());
+        assertEquals(new BigDecimal("125.5"), map.get("concentration"));
+    }
+
+    @Test
+    @DisplayName("测试未解析时直接输出原始JSON")
+    void testRawSerialization() throws Exception {
+        LazyJsonbMap map = lazy();
+
+        assertEquals(JSON, JsonbTypeHandler.serialize(map));
+        assertEquals("{\"data\":" + JSON + "}", new ObjectMapper().writeValueAsString(Map.of("data", map)));
+        assertFalse(map.isMaterialized());
+    }
+
+    @Test
+    @DisplayName("测试修改后按解析结果序列化")
+    void testModifiedSerialization() throws SQLException {
+        LazyJsonbMap map = lazy();
+        map.put("barcode", "BC002");
+
+        Map<String, Object> reparsed = JsonbTypeHandler.parse(
+                JsonbTypeHandler.serialize(map).getBytes(StandardCharsets.UTF_8));
+        assertEquals("BC002", reparsed.get("barcode"));
+    }
+
+    @Test
+    @DisplayName("测试副本不受原值修改影响")
+    void testCopy() {
+        LazyJsonbMap map = lazy();
+        Map<String, Object> unparsedCopy = map.copy();
+        map.put("barcode", "BC002");
+        Map<String, Object> parsedCopy = map.copy();
+        map.put("barcode", "BC003");
+
+        assertEquals("BC001", unparsedCopy.get("barcode"));
+        assertEquals("BC002", parsedCopy.get("barcode"));
+    }
+
+    private static LazyJsonbMap lazy() {
+        return new LazyJsonbMap(JSON.getBytes(StandardCharsets.UTF_8));
+    }
+}
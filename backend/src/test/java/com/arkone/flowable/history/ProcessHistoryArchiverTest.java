@@ -0,0 +1,74 @@
+package com.arkone.flowable.history;
+
+import com.arkone.flowable.variable.ReferencedListVariableType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProcessHistoryArchiver单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("流程历史归档测试")
+class ProcessHistoryArchiverTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("测试引用内容内联后，引用被清理仍可从归档读回")
+    void testArchiveSweepReadBack() throws Exception {
+        ObjectNode instance = instance("ref-1");
+        // 归档：引用内容仍在 lims_variable_ref 中
+        Map<String, String> refTable = new HashMap<>();
+        refTable.put("ref-1", "[\"s1\",\"s2\",\"s3\"]");
+        ProcessHistoryArchiver.inlineReferences(instance, refTable, objectMapper);
+        String archivedLine = objectMapper.writeValueAsString(instance);
+
+        // 孤立清理：历史删除后引用行被删除
+        refTable.clear();
+
+        // 读回：归档行不依赖引用表
+        JsonNode variable = objectMapper.readTree(archivedLine).get("variables").get(0);
+        assertEquals("sampleIds", variable.get("name").asText());
+        assertEquals(List.of("s1", "s2", "s3"), objectMapper.convertValue(variable.get("value"), List.class));
+    }
+
+    @Test
+    @DisplayName("测试非引用变量和已不存在的引用保持原样")
+    void testSkipNonReference() throws Exception {
+        ObjectNode instance = instance("ref-missing");
+        ((ArrayNode) instance.get("variables")).addObject()
+                .put("name", "projectId")
+                .put("type", "string")
+                .put("text", "p-1");
+
+        ProcessHistoryArchiver.inlineReferences(instance, Map.of(), objectMapper);
+
+        for (JsonNode variable : instance.get("variables")) {
+            assertFalse(variable.has("value"));
+        }
+        assertEquals("ref-missing", instance.get("variables").get(0).get("text").asText());
+    }
+
+    private ObjectNode instance(String refId) {
+        ObjectNode instance = objectMapper.createObjectNode();
+        instance.putObject("processInstance").put("id_", "pi-1");
+        instance.putArray("variables").addObject()
+                .put("name", "sampleIds")
+                .put("type", ReferencedListVariableType.TYPE_NAME)
+                .put("text", refId)
+                .put("long", 3);
+        return instance;
+    }
+}
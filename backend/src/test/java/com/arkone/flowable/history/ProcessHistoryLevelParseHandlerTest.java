@@ -0,0 +1,69 @@
+package com.arkone.flowable.history;
+
+import org.flowable.bpmn.model.ExtensionElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProcessHistoryLevelParseHandler单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("流程历史级别解析处理器测试")
+class ProcessHistoryLevelParseHandlerTest {
+
+    private final ProcessHistoryLevelParseHandler handler = new ProcessHistoryLevelParseHandler(new MockEnvironment()
+            .withProperty("process-history.levels.pcr_sequencing", "audit"));
+
+    @Test
+    @DisplayName("测试为配置的流程添加历史级别")
+    void testConfiguredProcess() {
+        Process process = process("pcr_sequencing");
+        handler.executeParse(null, process);
+
+        assertEquals("audit", process.getExtensionElements().get("historyLevel").get(0).getElementText());
+    }
+
+    @Test
+    @DisplayName("测试未配置的流程使用全局历史级别")
+    void testUnconfiguredProcess() {
+        Process process = process("plasmid_sequencing");
+        handler.executeParse(null, process);
+
+        assertFalse(process.getExtensionElements().containsKey("historyLevel"));
+    }
+
+    @Test
+    @DisplayName("测试BPMN中声明的历史级别优先")
+    void testDeclaredLevelWins() {
+        Process process = process("pcr_sequencing");
+        ExtensionElement declared = new ExtensionElement();
+        declared.setName("historyLevel");
+        declared.setElementText("full");
+        process.addExtensionElement(declared);
+
+        handler.executeParse(null, process);
+
+        assertEquals(1, process.getExtensionElements().get("historyLevel").size());
+        assertEquals("full", process.getExtensionElements().get("historyLevel").get(0).getElementText());
+    }
+
+    @Test
+    @DisplayName("测试无效的历史级别在启动时报错")
+    void testInvalidLevel() {
+        MockEnvironment environment = new MockEnvironment().withProperty("process-history.levels.pcr_sequencing", "verbose");
+        assertThrows(FlowableIllegalArgumentException.class, () -> new ProcessHistoryLevelParseHandler(environment));
+    }
+
+    private Process process(String id) {
+        Process process = new Process();
+        process.setId(id);
+        return process;
+    }
+}
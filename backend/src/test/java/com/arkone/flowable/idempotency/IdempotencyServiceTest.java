@@ -0,0 +1,123 @@
+package com.arkone.flowable.idempotency;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.common.Result;
+import com.arkone.flowable.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdempotencyService单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("幂等请求执行器测试")
+class IdempotencyServiceTest {
+
+    private InMemoryIdempotencyStore store;
+    private IdempotencyService service;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryIdempotencyStore();
+        service = new IdempotencyService(store, new ObjectMapper().findAndRegisterModules(),
+                Duration.ofHours(1), Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("测试重复请求返回缓存结果且不再执行")
+    void testReplayReturnsCachedResult() {
+        Map<String, Object> request = Map.of("taskId", "t1", "sampleId", "s1");
+
+        Result<String> first = service.execute("key-1", "task-complete", request, this::work);
+        Result<String> second = service.execute("key-1", "task-complete", request, this::work);
+
+        assertEquals(1, executions.get());
+        assertEquals("done-1", first.getData());
+        assertEquals("done-1", second.getData());
+        assertEquals(first.getCode(), second.getCode());
+    }
+
+    @Test
+    @DisplayName("测试未携带幂等键时每次都执行")
+    void testWithoutKeyAlwaysExecutes() {
+        service.execute(null, "task-complete", Map.of(), this::work);
+        service.execute(" ", "task-complete", Map.of(), this::work);
+        assertEquals(2, executions.get());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("测试相同幂等键不同请求内容被拒绝")
+    void testKeyReuseWithDifferentRequest() {
+        service.execute("key-1", "task-complete", Map.of("taskId", "t1"), this::work);
+
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> service.execute("key-1", "task-complete", Map.of("taskId", "t2"), this::work));
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, e.getErrorCode());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("测试处理中的重复请求被拒绝")
+    void testInProgressRequestRejected() {
+        Map<String, Object> request = Map.of("taskId", "t1");
+
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> service.execute("key-1", "task-complete", request,
+                        () -> service.execute("key-1", "task-complete", request, this::work)));
+        assertEquals(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, e.getErrorCode());
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    @DisplayName("测试业务失败后释放幂等键允许重试")
+    void testFailureReleasesKey() {
+        Map<String, Object> request = Map.of("taskId", "t1");
+
+        assertThrows(BusinessException.class, () -> service.execute("key-1", "task-complete", request, () -> {
+            throw new BusinessException(ErrorCode.TASK_NOT_FOUND);
+        }));
+        Result<String> retried = service.execute("key-1", "task-complete", request, this::work);
+
+        assertEquals("done-1", retried.getData());
+    }
+
+    @Test
+    @DisplayName("测试不同操作范围互不影响")
+    void testScopesAreIsolated() {
+        service.execute("key-1", "task-complete", Map.of(), this::work);
+        service.execute("key-1", "batch-sample-create", Map.of(), this::work);
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("测试记录编码与解码")
+    void testRecordEncoding() {
+        IdempotencyRecord processing = IdempotencyRecord.decode(IdempotencyRecord.encodeProcessing("abc"));
+        assertEquals(IdempotencyRecord.State.PROCESSING, processing.state());
+        assertEquals("abc", processing.fingerprint());
+
+        IdempotencyRecord completed = IdempotencyRecord.decode(
+                IdempotencyRecord.encodeCompleted("abc", "{\"data\":\"a:b\"}"));
+        assertEquals(IdempotencyRecord.State.COMPLETED, completed.state());
+        assertEquals("abc", completed.fingerprint());
+        assertEquals("{\"data\":\"a:b\"}", completed.response());
+
+        assertNull(IdempotencyRecord.decode("unknown"));
+    }
+
+    private Result<String> work() {
+        return Result.success("done-" + executions.incrementAndGet());
+    }
+}
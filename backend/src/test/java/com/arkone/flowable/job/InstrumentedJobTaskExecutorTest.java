@@ -0,0 +1,100 @@
+package com.arkone.flowable.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InstrumentedJobTaskExecutor单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("异步作业执行线程池测试")
+class InstrumentedJobTaskExecutorTest {
+
+    @Test
+    @DisplayName("测试虚拟线程模式并发达上限时拒绝")
+    void testVirtualThreadsRejectWhenFull() throws Exception {
+        InstrumentedJobTaskExecutor executor = new InstrumentedJobTaskExecutor(true, 1, 1, 1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<?> first = executor.submit(() -> awaitQuietly(release));
+            CompletableFuture<?> second = executor.submit(() -> awaitQuietly(release));
+
+            assertEquals(0, executor.getRemainingCapacity());
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+
+            AsyncExecutorStats stats = executor.snapshot().build();
+            assertEquals(2, stats.getSubmitted());
+            assertEquals(2, stats.getCompleted());
+            assertEquals(1, stats.getRejected());
+            assertEquals(2, executor.getRemainingCapacity());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("测试平台线程模式队列满时拒绝")
+    void testPlatformThreadsRejectWhenQueueFull() throws Exception {
+        InstrumentedJobTaskExecutor executor = new InstrumentedJobTaskExecutor(false, 1, 1, 1, 64);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<?> running = executor.submit(() -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<?> waiting = executor.submit(() -> { });
+
+            assertEquals(0, executor.getRemainingCapacity());
+            assertEquals(1, executor.snapshot().build().getQueueDepth());
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            waiting.get(5, TimeUnit.SECONDS);
+            assertEquals(0, executor.snapshot().build().getQueueDepth());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("测试作业异常时计入失败并传递给调用方")
+    void testFailurePropagates() {
+        InstrumentedJobTaskExecutor executor = new InstrumentedJobTaskExecutor(true, 1, 1, 1, 4);
+        try {
+            CompletableFuture<?> future = executor.submit(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertEquals(1, executor.snapshot().build().getUncaughtFailures());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
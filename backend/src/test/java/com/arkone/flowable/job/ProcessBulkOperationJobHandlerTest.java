@@ -0,0 +1,64 @@
+package com.arkone.flowable.job;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProcessBulkOperationJobHandler单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("流程批量操作作业处理器测试")
+class ProcessBulkOperationJobHandlerTest {
+
+    private static final List<String> IDS = List.of("pi-1", "pi-2", "pi-3");
+
+    @Test
+    @DisplayName("测试挂起时跳过已挂起实例")
+    void testPlanSuspend() {
+        ProcessBulkOperationJobHandler.ChunkPlan plan = ProcessBulkOperationJobHandler.plan("suspend", IDS, 0,
+                Map.of("pi-1", false, "pi-2", true, "pi-3", false));
+
+        assertEquals(List.of("pi-1", "pi-3"), plan.toApply());
+        assertEquals(1, plan.unchanged());
+        assertTrue(plan.failures().isEmpty());
+    }
+
+    @Test
+    @DisplayName("测试激活时跳过未挂起实例")
+    void testPlanActivate() {
+        ProcessBulkOperationJobHandler.ChunkPlan plan = ProcessBulkOperationJobHandler.plan("activate", IDS, 0,
+                Map.of("pi-1", false, "pi-2", true, "pi-3", true));
+
+        assertEquals(List.of("pi-2", "pi-3"), plan.toApply());
+        assertEquals(1, plan.unchanged());
+    }
+
+    @Test
+    @DisplayName("测试已结束实例记为失败，索引为清单中的全局位置")
+    void testPlanMissingInstance() {
+        ProcessBulkOperationJobHandler.ChunkPlan plan = ProcessBulkOperationJobHandler.plan("cancel", IDS, 200,
+                Map.of("pi-1", false, "pi-3", true));
+
+        assertEquals(List.of("pi-1", "pi-3"), plan.toApply());
+        assertEquals(1, plan.failures().size());
+        assertEquals(201, plan.failures().get(0).getIndex());
+        assertEquals("PROCESS_INSTANCE_NOT_FOUND", plan.failures().get(0).getErrorCode());
+        assertEquals("pi-2", plan.failures().get(0).getData());
+    }
+
+    @Test
+    @DisplayName("测试操作对应的样本状态")
+    void testSampleStatus() {
+        assertEquals("suspended", ProcessBulkOperationJobHandler.sampleStatusOf("suspend"));
+        assertEquals("in_progress", ProcessBulkOperationJobHandler.sampleStatusOf("activate"));
+        assertEquals("pending", ProcessBulkOperationJobHandler.sampleStatusOf("cancel"));
+        assertThrows(IllegalArgumentException.class, () -> ProcessBulkOperationJobHandler.sampleStatusOf("unknown"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.arkone.flowable.lock;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SampleLockService单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("样本锁服务测试")
+class SampleLockServiceTest {
+
+    private StripedLockProvider provider;
+    private SampleLockService lockService;
+
+    @BeforeEach
+    void setUp() {
+        provider = new StripedLockProvider(64);
+        lockService = new SampleLockService(provider, Duration.ofMillis(50), Duration.ofMinutes(1));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeTransaction();
+        }
+    }
+
+    @Test
+    @DisplayName("测试锁持有到事务结束")
+    void testLockHeldUntilCompletion() throws Exception {
+        lockService.lockForTransaction("s1");
+
+        assertFalse(tryLockFromOtherThread("s1"));
+
+        completeTransaction();
+        assertTrue(tryLockFromOtherThread("s1"));
+    }
+
+    @Test
+    @DisplayName("测试同一事务内重复加锁")
+    void testReentrantWithinTransaction() {
+        lockService.lockForTransaction(List.of("s1", "s2"));
+        assertDoesNotThrow(() -> lockService.lockForTransaction("s1"));
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+    }
+
+    @Test
+    @DisplayName("测试等待超时抛出业务异常")
+    void testTimeout() throws Exception {
+        AtomicBoolean release = new AtomicBoolean();
+        String lockKey = provider.lockKey("s1");
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            try {
+                provider.tryLock(lockKey, "other", Duration.ofSeconds(1), Duration.ofMinutes(1));
+                while (!release.get()) {
+                    Thread.onSpinWait();
+                }
+                provider.unlock(lockKey, "other");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        while (tryLockFromOtherThread("s1")) {
+            Thread.onSpinWait();
+        }
+
+        BusinessException e = assertThrows(BusinessException.class, () -> lockService.lockForTransaction("s1"));
+        assertEquals(ErrorCode.SAMPLE_LOCK_TIMEOUT, e.getErrorCode());
+
+        release.set(true);
+        holder.get();
+    }
+
+    @Test
+    @DisplayName("测试事务外加锁被拒绝")
+    void testRequiresTransaction() {
+        completeTransaction();
+        assertThrows(IllegalStateException.class, () -> lockService.lockForTransaction("s1"));
+    }
+
+    @Test
+    @DisplayName("测试锁键映射稳定")
+    void testLockKeyStable() {
+        assertEquals(provider.lockKey("sample-1"), provider.lockKey("sample-1"));
+        assertTrue(provider.lockKey("sample-1").matches("stripe-\\d{5}"));
+    }
+
+    private boolean tryLockFromOtherThread(String sampleId) throws Exception {
+        String lockKey = provider.lockKey(sampleId);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                boolean acquired = provider.tryLock(lockKey, "other", Duration.ofMillis(20), Duration.ofMinutes(1));
+                if (acquired) {
+                    provider.unlock(lockKey, "other");
+                }
+                return acquired;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }).get();
+    }
+
+    private void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,62 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.dto.TaskCompletionJobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InMemoryTaskCompletionJobStore单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("进程内作业状态存储测试")
+class InMemoryTaskCompletionJobStoreTest {
+
+    private final InMemoryTaskCompletionJobStore store = new InMemoryTaskCompletionJobStore(Duration.ofHours(1));
+
+    @Test
+    @DisplayName("测试作业状态流转")
+    void testStatusTransitions() {
+        assertEquals("queued", store.create("job-1", 3).getStatus());
+
+        store.recordSuccess("job-1", 1);
+        assertEquals("running", store.get("job-1").getStatus());
+        assertNull(store.get("job-1").getFinishedAt());
+
+        store.recordSuccess("job-1", 2);
+        TaskCompletionJobStatus status = store.get("job-1");
+        assertEquals("completed", status.getStatus());
+        assertEquals(3, status.getSuccessCount());
+        assertNotNull(status.getFinishedAt());
+    }
+
+    @Test
+    @DisplayName("测试记录失败明细")
+    void testFailures() {
+        store.create("job-2", 2);
+        store.recordSuccess("job-2", 1);
+        store.recordFailure("job-2", BatchOperationResult.BatchOperationError.builder()
+                .index(1)
+                .errorCode("TASK_NOT_FOUND")
+                .errorMessage("任务不存在")
+                .build());
+
+        TaskCompletionJobStatus status = store.get("job-2");
+        assertEquals("completed_with_errors", status.getStatus());
+        assertEquals(1, status.getFailureCount());
+        assertEquals(1, status.getFailureList().get(0).getIndex());
+    }
+
+    @Test
+    @DisplayName("测试未知作业")
+    void testUnknownJob() {
+        assertNull(store.get("missing"));
+        assertDoesNotThrow(() -> store.recordSuccess("missing", 1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.entity.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OutboxRelay单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("发件箱中继投递顺序测试")
+class OutboxRelayTest {
+
+    private static OutboxEvent event(long id, String sampleId) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType(DomainEventMessage.AGGREGATE_SAMPLE)
+                .aggregateId(sampleId)
+                .eventType(DomainEventMessage.SAMPLE_STATUS_CHANGED)
+                .payload(Map.of("sampleId", sampleId))
+                .build();
+    }
+
+    @Test
+    @DisplayName("测试整批投递成功")
+    void testBatchPublished() {
+        List<Long> delivered = new ArrayList<>();
+        OutboxRelay.RelayResult result = OutboxRelay.publishInOrder(
+                List.of(event(1, "s1"), event(2, "s2"), event(3, "s1")),
+                messages -> messages.forEach(m -> delivered.add(m.getEventId())));
+
+        assertEquals(List.of(1L, 2L, 3L), result.publishedIds());
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+        assertTrue(result.failures().isEmpty());
+        assertEquals(0, result.skipped());
+    }
+
+    @Test
+    @DisplayName("测试失败事件阻塞同一样本的后续事件")
+    void testFailureBlocksSameAggregate() {
+        List<Long> delivered = new ArrayList<>();
+        DomainEventPublisher publisher = messages -> {
+            if (messages.size() > 1 || messages.get(0).getEventId() == 2L) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            delivered.add(messages.get(0).getEventId());
+        };
+
+        OutboxRelay.RelayResult result = OutboxRelay.publishInOrder(
+                List.of(event(1, "s1"), event(2, "s2"), event(3, "s1"), event(4, "s2"), event(5, "s3")),
+                publisher);
+
+        assertEquals(List.of(1L, 3L, 5L), result.publishedIds());
+        assertEquals(List.of(1L, 3L, 5L), delivered);
+        assertEquals("broker unavailable", result.failures().get(2L));
+        assertEquals(1, result.failures().size());
+        assertEquals(1, result.skipped());
+    }
+
+    @Test
+    @DisplayName("测试消息内容来自发件箱记录")
+    void testMessageFromEvent() {
+        DomainEventMessage message = DomainEventMessage.from(event(7, "s7"));
+        assertEquals(7L, message.getEventId());
+        assertEquals("s7", message.getAggregateId());
+        assertEquals(DomainEventMessage.SAMPLE_STATUS_CHANGED, message.getEventType());
+        assertEquals("s7", message.getPayload().get("sampleId"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.dto.TaskCompleteRequest;
+import com.arkone.flowable.dto.TaskCompletionJobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RabbitTaskCompletionDispatcher单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("RabbitMQ任务完成通道测试")
+class RabbitTaskCompletionDispatcherTest {
+
+    private final InMemoryTaskCompletionJobStore jobStore = new InMemoryTaskCompletionJobStore(Duration.ofHours(1));
+    private final List<Object> published = new ArrayList<>();
+
+    @Test
+    @DisplayName("测试全部发布成功时不记录失败")
+    void testDispatchAll() {
+        jobStore.create("job-1", 3);
+
+        dispatcher(Integer.MAX_VALUE).dispatch(commands("job-1", 3));
+
+        assertEquals(3, published.size());
+        assertEquals("queued", jobStore.get("job-1").getStatus());
+    }
+
+    @Test
+    @DisplayName("测试发布失败时未发布的命令记为失败")
+    void testPublishFailureMarksRemaining() {
+        jobStore.create("job-2", 3);
+
+        dispatcher(1).dispatch(commands("job-2", 3));
+
+        // 第二条发布失败后停止发布，第二、三条直接记为失败
+        assertEquals(1, published.size());
+        TaskCompletionJobStatus status = jobStore.get("job-2");
+        assertEquals(2, status.getFailureCount());
+        assertEquals(List.of(1, 2), status.getFailureList().stream()
+                .map(BatchOperationResult.BatchOperationError::getIndex)
+                .toList());
+        assertEquals("SERVICE_UNAVAILABLE", status.getFailureList().get(0).getErrorCode());
+        assertEquals("t1", status.getFailureList().get(0).getData());
+
+        // 已发布的命令消费完成后作业正常结束
+        jobStore.recordSuccess("job-2", 1);
+        assertEquals("completed_with_errors", jobStore.get("job-2").getStatus());
+    }
+
+    private RabbitTaskCompletionDispatcher dispatcher(int publishLimit) {
+        RabbitTemplate rabbitTemplate = new RabbitTemplate() {
+            @Override
+            public void convertAndSend(String routingKey, Object object) {
+                if (published.size() >= publishLimit) {
+                    throw new AmqpConnectException(new ConnectException("Connection refused"));
+                }
+                published.add(object);
+            }
+        };
+        return new RabbitTaskCompletionDispatcher(rabbitTemplate, null, jobStore);
+    }
+
+    private static List<TaskCompletionCommand> commands(String jobId, int count) {
+        List<TaskCompletionCommand> commands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add(TaskCompletionCommand.builder()
+                    .jobId(jobId)
+                    .index(i)
+                    .request(TaskCompleteRequest.builder().taskId("t" + i).sampleId("s" + i).build())
+                    .build());
+        }
+        return commands;
+    }
+}
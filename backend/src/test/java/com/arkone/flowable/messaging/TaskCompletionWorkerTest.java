@@ -0,0 +1,185 @@
+package com.arkone.flowable.messaging;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.TaskCompleteRequest;
+import com.arkone.flowable.dto.TaskCompletionJobStatus;
+import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.lock.SampleLockService;
+import com.arkone.flowable.lock.StripedLockProvider;
+import com.arkone.flowable.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.SavepointManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskCompletionWorker单元测试
+ * <p>使用支持保存点的内存事务管理器，验证同批命令共享一个事务、单条失败只回滚到保存点</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("任务完成命令处理器测试")
+class TaskCompletionWorkerTest {
+
+    private final FakeTransactionManager transactionManager = new FakeTransactionManager();
+    private final InMemoryTaskCompletionJobStore jobStore = new InMemoryTaskCompletionJobStore(Duration.ofHours(1));
+    private Set<String> failingTasks = Set.of();
+    private TaskCompletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        // 与TaskServiceImpl的@Transactional一致：完成任务以REQUIRED传播加入当前事务
+        TransactionTemplate serviceTransaction = new TransactionTemplate(transactionManager);
+        TaskService taskService = (TaskService) Proxy.newProxyInstance(TaskService.class.getClassLoader(),
+                new Class<?>[]{TaskService.class}, (proxy, method, args) -> {
+                    if ("completeTask".equals(method.getName())) {
+                        TaskCompleteRequest request = (TaskCompleteRequest) args[0];
+                        serviceTransaction.executeWithoutResult(status -> {
+                            transactionManager.pending.add(request.getTaskId());
+                            if (failingTasks.contains(request.getTaskId())) {
+                                throw new BusinessException(ErrorCode.TASK_NOT_FOUND);
+                            }
+                        });
+                    }
+                    return null;
+                });
+        SampleLockService lockService = new SampleLockService(new StripedLockProvider(64),
+                Duration.ofMillis(50), Duration.ofMinutes(1));
+        worker = new TaskCompletionWorker(taskService, lockService, jobStore, transactionManager);
+    }
+
+    @Test
+    @DisplayName("测试整批命令只提交一次")
+    void testGroupCommitsOnce() {
+        jobStore.create("job-1", 3);
+
+        worker.process(commands("job-1", "t1", "t2", "t3"));
+
+        assertEquals(List.of(List.of("t1", "t2", "t3")), transactionManager.commits);
+        assertEquals(0, transactionManager.rollbacks);
+        assertEquals("completed", jobStore.get("job-1").getStatus());
+    }
+
+    @Test
+    @DisplayName("测试单条失败只回滚到保存点，同批其他命令照常提交")
+    void testFailedCommandRollsBackToSavepoint() {
+        failingTasks = Set.of("t2");
+        jobStore.create("job-2", 3);
+
+        worker.process(commands("job-2", "t1", "t2", "t3"));
+
+        // 失败命令的写入随保存点回滚，其余命令在同一个事务里一次提交
+        assertEquals(List.of(List.of("t1", "t3")), transactionManager.commits);
+        assertEquals(0, transactionManager.rollbacks);
+
+        TaskCompletionJobStatus status = jobStore.get("job-2");
+        assertEquals("completed_with_errors", status.getStatus());
+        assertEquals(2, status.getSuccessCount());
+        assertEquals(1, status.getFailureCount());
+        assertEquals(1, status.getFailureList().get(0).getIndex());
+        assertEquals("TASK_NOT_FOUND", status.getFailureList().get(0).getErrorCode());
+        assertEquals("t2", status.getFailureList().get(0).getData());
+    }
+
+    private static List<TaskCompletionCommand> commands(String jobId, String... taskIds) {
+        List<TaskCompletionCommand> commands = new ArrayList<>(taskIds.length);
+        for (int i = 0; i < taskIds.length; i++) {
+            commands.add(TaskCompletionCommand.builder()
+                    .jobId(jobId)
+                    .index(i)
+                    .request(TaskCompleteRequest.builder().taskId(taskIds[i]).sampleId("s" + i).build())
+                    .build());
+        }
+        return commands;
+    }
+
+    /**
+     * 内存事务管理器：事务内的写入记在pending中，提交时整体转入commits，保存点即pending的长度
+     */
+    private static final class FakeTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final List<List<String>> commits = new ArrayList<>();
+        private List<String> pending;
+        private boolean rollbackOnly;
+        private int rollbacks;
+
+        private FakeTransactionManager() {
+            setNestedTransactionAllowed(true);
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Transaction();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return pending != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            pending = new ArrayList<>();
+            rollbackOnly = false;
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits.add(List.copyOf(pending));
+            pending = null;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks++;
+            pending = null;
+        }
+
+        @Override
+        protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+            rollbackOnly = true;
+        }
+
+        private final class Transaction implements SavepointManager, SmartTransactionObject {
+
+            @Override
+            public Object createSavepoint() {
+                return pending.size();
+            }
+
+            @Override
+            public void rollbackToSavepoint(Object savepoint) {
+                pending.subList((Integer) savepoint, pending.size()).clear();
+                // 与JDBC事务一致：回滚到保存点后清除参与者设置的rollback-only标记
+                rollbackOnly = false;
+            }
+
+            @Override
+            public void releaseSavepoint(Object savepoint) {
+            }
+
+            @Override
+            public boolean isRollbackOnly() {
+                return rollbackOnly;
+            }
+
+            @Override
+            public void flush() {
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.arkone.flowable.metrics;
+
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.util.FormulaEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ServiceMetricsAspect单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("服务方法计时切面测试")
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private ServiceMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        aspect = new ServiceMetricsAspect(registry);
+    }
+
+    @Test
+    @DisplayName("测试公式计算按异常类型计时")
+    void testFormulaTimer() throws Exception {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new FormulaEngine());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        FormulaEngine engine = factory.getProxy();
+
+        engine.evaluate("a + 1", Map.of("a", 1));
+        assertThrows(FormulaEngine.FormulaException.class, () -> engine.evaluate("", Map.of()));
+
+        assertEquals(1, registry.get(ServiceMetricsAspect.FORMULA_TIMER).tag("exception", "none").timer().count());
+        assertEquals(1, registry.get(ServiceMetricsAspect.FORMULA_TIMER)
+                .tag("exception", "FormulaException").timer().count());
+    }
+
+    @Test
+    @DisplayName("测试批量结果按成功失败累加条数")
+    void testRecordBatch() {
+        BatchOperationResult<String> result = BatchOperationResult.<String>builder()
+                .total(5)
+                .successCount(3)
+                .failureCount(2)
+                .successList(List.of("a", "b", "c"))
+                .failureList(List.of())
+                .build();
+
+        aspect.recordBatch("TaskServiceImpl.batchCompleteTasks", result);
+        aspect.recordBatch("TaskServiceImpl.batchCompleteTasks", result);
+
+        assertEquals(6, registry.get(ServiceMetricsAspect.BATCH_ITEMS).tag("outcome", "success").counter().count());
+        assertEquals(4, registry.get(ServiceMetricsAspect.BATCH_ITEMS).tag("outcome", "failure").counter().count());
+    }
+}
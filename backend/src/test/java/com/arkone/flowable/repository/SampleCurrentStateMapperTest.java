@@ -0,0 +1,73 @@
+package com.arkone.flowable.repository;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SampleCurrentStateMapper单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("样本当前状态投影SQL测试")
+class SampleCurrentStateMapperTest {
+
+    @Test
+    @DisplayName("测试按样本ID刷新时只涉及指定样本")
+    void testUpsertSelectedSamples() throws Exception {
+        BoundSql sql = upsertSql(List.of("s1", "s2"));
+
+        assertTrue(sql.getSql().replaceAll("\\s+", "").contains("ANDs.idIN(CAST(?ASuuid),CAST(?ASuuid))"),
+                sql.getSql());
+        List<Object> bound = sql.getParameterMappings().stream()
+                .map(mapping -> sql.getAdditionalParameter(mapping.getProperty()))
+                .toList();
+        assertEquals(List.of("s1", "s2"), bound);
+    }
+
+    @Test
+    @DisplayName("测试参数为空时重建全部样本")
+    void testUpsertAllSamples() throws Exception {
+        BoundSql sql = upsertSql(null);
+
+        String text = normalize(sql.getSql());
+        assertFalse(text.contains("s.id IN"), text);
+        assertTrue(text.contains("WHERE s.deleted = false ON CONFLICT (sample_id) DO UPDATE SET"), text);
+        assertTrue(sql.getParameterMappings().isEmpty());
+    }
+
+    @Test
+    @DisplayName("测试冲突时覆盖全部投影列")
+    void testUpsertOverwritesProjection() throws Exception {
+        String text = normalize(upsertSql(List.of("s1")).getSql());
+        for (String column : List.of("status", "current_node_id", "container_id", "position", "last_node_id",
+                "last_node_name", "last_node_time", "metrics", "updated_at")) {
+            assertTrue(text.contains(column + " = EXCLUDED." + column), column);
+        }
+    }
+
+    private static BoundSql upsertSql(List<String> sampleIds) throws Exception {
+        Insert insert = SampleCurrentStateMapper.class.getMethod("upsertFromSource", List.class)
+                .getAnnotation(Insert.class);
+        SqlSource source = new XMLLanguageDriver()
+                .createSqlSource(new Configuration(), String.join(" ", insert.value()), Map.class);
+        Map<String, Object> params = new HashMap<>();
+        params.put("sampleIds", sampleIds);
+        return source.getBoundSql(params);
+    }
+
+    private static String normalize(String sql) {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+}
@@ -0,0 +1,87 @@
+package com.arkone.flowable.repository.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NodeDataFieldQuery单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("节点数据字段查询测试")
+class NodeDataFieldQueryTest {
+
+    @Test
+    @DisplayName("测试等值条件使用包含操作符")
+    void testEqUsesContainment() {
+        List<NodeDataFieldQuery.Condition> conditions = NodeDataFieldQuery.create()
+                .eq("plate_48_code", "P001")
+                .getConditions();
+
+        assertEquals(1, conditions.size());
+        assertEquals("data @> CAST({0} AS jsonb)", conditions.get(0).sql());
+        assertEquals("{\"plate_48_code\":\"P001\"}", conditions.get(0).params()[0]);
+    }
+
+    @Test
+    @DisplayName("测试数值范围条件与索引表达式一致")
+    void testNumericRangeMatchesIndexExpression() {
+        List<NodeDataFieldQuery.Condition> conditions = NodeDataFieldQuery.create()
+                .between("nucleic_acid_concentration", 100, new BigDecimal("500.5"))
+                .getConditions();
+
+        assertEquals(2, conditions.size());
+        String expression = NodeDataFieldQuery.numericExpression("nucleic_acid_concentration");
+        assertEquals("data ?? 'nucleic_acid_concentration' AND " + expression + " >= {0}", conditions.get(0).sql());
+        assertEquals(new BigDecimal("100"), conditions.get(0).params()[0]);
+        assertTrue(conditions.get(1).sql().endsWith(expression + " <= {0}"));
+        assertTrue(NodeDataIndexProvisioner.buildIndexDdl("nucleic_acid_concentration")
+                .contains("((" + expression + "))"));
+    }
+
+    @Test
+    @DisplayName("测试只对JSON数值做类型转换")
+    void testNumericExpressionGuardsCast() {
+        assertEquals("CASE WHEN jsonb_typeof(data->'od_260_280') = 'number' THEN (data->>'od_260_280')::numeric END",
+                NodeDataFieldQuery.numericExpression("od_260_280"));
+    }
+
+    @Test
+    @DisplayName("测试区间单端为空时忽略")
+    void testBetweenOpenEnded() {
+        assertEquals(1, NodeDataFieldQuery.create().between("od_260_280", null, 2.0).getConditions().size());
+    }
+
+    @Test
+    @DisplayName("测试存在条件")
+    void testExists() {
+        assertEquals("data ?? '核酸浓度'",
+                NodeDataFieldQuery.create().exists("核酸浓度").getConditions().get(0).sql());
+    }
+
+    @Test
+    @DisplayName("测试拒绝非法字段名")
+    void testRejectsIllegalFieldName() {
+        NodeDataFieldQuery query = NodeDataFieldQuery.create();
+        assertThrows(IllegalArgumentException.class, () -> query.gt("a') OR ('1'='1", 1));
+        assertThrows(IllegalArgumentException.class, () -> query.exists(""));
+        assertThrows(IllegalArgumentException.class, () -> query.eq("a b", "x"));
+    }
+
+    @Test
+    @DisplayName("测试索引名稳定且区分字段")
+    void testIndexName() {
+        String numeric = NodeDataIndexProvisioner.indexName("library_concentration");
+        assertEquals(numeric, NodeDataIndexProvisioner.indexName("library_concentration"));
+        assertNotEquals(numeric, NodeDataIndexProvisioner.indexName("od_260_280"));
+        assertTrue(numeric.matches("idx_nd_f_[0-9a-f]{8}"));
+        assertTrue(NodeDataIndexProvisioner.buildIndexDdl("od_260_280")
+                .endsWith("WHERE deleted = false AND data ? 'od_260_280'"));
+    }
+}
@@ -0,0 +1,125 @@
+package com.arkone.flowable.service.impl;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.TaskSampleSummary;
+import com.arkone.flowable.entity.Sample;
+import com.arkone.flowable.exception.BusinessException;
+import com.arkone.flowable.messaging.OutboxEventRecorder;
+import com.arkone.flowable.repository.SampleMapper;
+import com.arkone.flowable.service.SampleCurrentStateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SampleServiceImpl单元测试
+ * <p>覆盖状态变更写入路径对当前状态投影的刷新</p>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("样本状态变更投影刷新测试")
+class SampleServiceImplTest {
+
+    private final Map<String, Sample> sampleTable = new HashMap<>();
+    private final List<List<String>> refreshed = new ArrayList<>();
+    private final List<String> events = new ArrayList<>();
+    private List<TaskSampleSummary> changedByProcess = List.of();
+    private SampleServiceImpl service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        SampleMapper sampleMapper = stub(SampleMapper.class, (name, args) -> switch (name) {
+            case "selectById" -> sampleTable.get((String) args[0]);
+            case "updateById" -> 1;
+            case "updateStatusByProcessInstances" -> changedByProcess;
+            default -> null;
+        });
+        SampleCurrentStateService currentStateService = stub(SampleCurrentStateService.class, (name, args) -> {
+            if ("refresh".equals(name)) {
+                refreshed.add(args[0] instanceof String id ? List.of(id) : List.copyOf((List<String>) args[0]));
+            }
+            return null;
+        });
+        OutboxEventRecorder recorder = new OutboxEventRecorder(null, null) {
+            @Override
+            public void recordSampleEvent(String sampleId, String eventType, Map<String, Object> payload) {
+                events.add(sampleId);
+            }
+        };
+        service = new SampleServiceImpl(sampleMapper, null, null, null, null, currentStateService, recorder);
+    }
+
+    @Test
+    @DisplayName("测试单个样本状态变更刷新投影")
+    void testUpdateSampleStatusRefreshesProjection() {
+        Sample sample = Sample.builder().sampleCode("AK20260101001").status("pending").build();
+        sample.setId("s1");
+        sample.setDeleted(false);
+        sampleTable.put("s1", sample);
+
+        assertEquals("in_progress", service.updateSampleStatus("s1", "in_progress").getStatus());
+        assertEquals(List.of(List.of("s1")), refreshed);
+        assertEquals(List.of("s1"), events);
+    }
+
+    @Test
+    @DisplayName("测试非法状态不刷新投影")
+    void testInvalidStatusSkipsProjection() {
+        Sample sample = Sample.builder().status("pending").build();
+        sample.setId("s1");
+        sample.setDeleted(false);
+        sampleTable.put("s1", sample);
+
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> service.updateSampleStatus("s1", "unknown"));
+        assertEquals(ErrorCode.INVALID_SAMPLE_STATUS, e.getErrorCode());
+        assertTrue(refreshed.isEmpty());
+    }
+
+    @Test
+    @DisplayName("测试按流程实例批量变更只刷新实际变更的样本")
+    void testUpdateByProcessInstancesRefreshesChanged() {
+        changedByProcess = List.of(summary("s1", "pi-1"), summary("s2", "pi-2"));
+
+        assertEquals(2, service.updateStatusByProcessInstances(List.of("pi-1", "pi-2", "pi-3"), "suspended", null));
+        assertEquals(List.of(List.of("s1", "s2")), refreshed);
+        assertEquals(List.of("s1", "s2"), events);
+    }
+
+    @Test
+    @DisplayName("测试没有样本变更时不刷新投影")
+    void testNothingChanged() {
+        assertEquals(0, service.updateStatusByProcessInstances(List.of("pi-1"), "suspended", null));
+        assertTrue(refreshed.isEmpty());
+        assertTrue(events.isEmpty());
+    }
+
+    private static TaskSampleSummary summary(String sampleId, String processInstanceId) {
+        return TaskSampleSummary.builder()
+                .id(sampleId)
+                .processInstanceId(processInstanceId)
+                .status("in_progress")
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(String methodName, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method.getName(), args));
+    }
+}
@@ -0,0 +1,181 @@
+package com.arkone.flowable.service.impl;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.dto.BatchOperationResult;
+import com.arkone.flowable.messaging.OutboxEventRecorder;
+import com.arkone.flowable.service.TaskAssignmentService.Action;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.TaskService;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskAssignmentServiceImpl单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("任务批量认领测试")
+class TaskAssignmentServiceImplTest {
+
+    /**
+     * 任务ID -> 任务属性（assignee、suspended）
+     */
+    private final Map<String, Map<String, Object>> taskTable = new LinkedHashMap<>();
+    private final List<String> claimed = new ArrayList<>();
+    private final List<String> events = new ArrayList<>();
+    private RuntimeException claimFailure;
+    private TaskAssignmentServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void query(PreparedStatementCreator psc, RowCallbackHandler rch) {
+                // 行锁由数据库保证，此处不需要
+            }
+        };
+        OutboxEventRecorder recorder = new OutboxEventRecorder(null, null) {
+            @Override
+            public void record(String aggregateType, String aggregateId, String eventType, Map<String, Object> payload) {
+                events.add((String) payload.get("taskId"));
+            }
+        };
+        service = new TaskAssignmentServiceImpl(taskService(), managementService(), jdbcTemplate, recorder);
+    }
+
+    @Test
+    @DisplayName("测试批量认领部分成功部分失败")
+    void testMixedBatch() {
+        task("t1", null, false);
+        task("t2", "bob", false);
+        task("t4", null, true);
+        task("t5", "alice", false);
+
+        BatchOperationResult<String> result = service.executeBatch(Action.CLAIM,
+                List.of("t1", "t2", "t3", "t4", "t5"), "alice");
+
+        assertEquals(5, result.getTotal());
+        assertEquals(List.of("t1", "t5"), result.getSuccessList());
+        assertEquals(List.of("t1"), claimed);
+        assertEquals(List.of("t1"), events);
+
+        Map<String, String> failures = new HashMap<>();
+        for (BatchOperationResult.BatchOperationError error : result.getFailureList()) {
+            failures.put((String) error.getData(), error.getErrorCode());
+        }
+        assertEquals(Map.of(
+                "t2", ErrorCode.TASK_ALREADY_CLAIMED.name(),
+                "t3", ErrorCode.TASK_NOT_FOUND.name(),
+                "t4", ErrorCode.OPERATION_NOT_ALLOWED.name()), failures);
+    }
+
+    @Test
+    @DisplayName("测试同一任务重复出现时只认领一次")
+    void testDuplicateIds() {
+        task("t1", null, false);
+
+        BatchOperationResult<String> result = service.executeBatch(Action.CLAIM, List.of("t1", "t1"), "alice");
+
+        assertEquals(List.of("t1", "t1"), result.getSuccessList());
+        assertEquals(List.of("t1"), claimed);
+        assertEquals(List.of("t1"), events);
+    }
+
+    @Test
+    @DisplayName("测试引擎异常使整批失败")
+    void testEngineErrorFailsBatch() {
+        task("t1", null, false);
+        claimFailure = new FlowableException("optimistic locking");
+
+        assertThrows(FlowableException.class,
+                () -> service.executeBatch(Action.CLAIM, List.of("t1"), "alice"));
+    }
+
+    private void task(String id, String assignee, boolean suspended) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("assignee", assignee);
+        row.put("suspended", suspended);
+        taskTable.put(id, row);
+    }
+
+    private Task taskProxy(String id) {
+        Map<String, Object> row = taskTable.get(id);
+        return stub(Task.class, (name, args) -> switch (name) {
+            case "getId" -> id;
+            case "getName" -> "任务" + id;
+            case "getAssignee" -> row.get("assignee");
+            case "isSuspended" -> row.get("suspended");
+            case "getProcessInstanceId" -> "pi-" + id;
+            default -> null;
+        });
+    }
+
+    private TaskService taskService() {
+        return stub(TaskService.class, (name, args) -> switch (name) {
+            case "createTaskQuery" -> taskQuery();
+            case "claim" -> {
+                if (claimFailure != null) {
+                    throw claimFailure;
+                }
+                claimed.add((String) args[0]);
+                taskTable.get((String) args[0]).put("assignee", args[1]);
+                yield null;
+            }
+            default -> null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private TaskQuery taskQuery() {
+        List<String> ids = new ArrayList<>();
+        TaskQuery[] self = new TaskQuery[1];
+        self[0] = stub(TaskQuery.class, (name, args) -> switch (name) {
+            case "taskIds" -> {
+                ids.addAll((Collection<String>) args[0]);
+                yield self[0];
+            }
+            case "list" -> ids.stream().filter(taskTable::containsKey).map(this::taskProxy).toList();
+            default -> self[0];
+        });
+        return self[0];
+    }
+
+    private static ManagementService managementService() {
+        return stub(ManagementService.class, (name, args) -> {
+            if ("executeCommand".equals(name)) {
+                return ((Command<?>) args[args.length - 1]).execute(null);
+            }
+            return null;
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(String methodName, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method.getName(), args));
+    }
+}
@@ -0,0 +1,119 @@
+package com.arkone.flowable.sqlbudget;
+
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SqlRequestStats单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("请求SQL统计测试")
+class SqlRequestStatsTest {
+
+    private static final String SELECT_BY_ID = "com.arkone.flowable.repository.SampleMapper.selectById";
+    private static final String UPDATE_BY_ID = "com.arkone.flowable.repository.SampleMapper.updateById";
+
+    private final SqlStatementInterceptor interceptor = new SqlStatementInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestStats.end();
+    }
+
+    @Test
+    @DisplayName("测试累计语句数和行数")
+    void testRecord() throws Throwable {
+        SqlRequestStats stats = SqlRequestStats.begin();
+
+        execute(SELECT_BY_ID, SqlCommandType.SELECT, List.of("s1", "s2"));
+        execute(UPDATE_BY_ID, SqlCommandType.UPDATE, 1);
+
+        assertEquals(2, stats.getStatements());
+        assertEquals(3, stats.getRows());
+    }
+
+    @Test
+    @DisplayName("测试同一语句超过阈值时识别为重复执行")
+    void testRepeatedStatements() throws Throwable {
+        SqlRequestStats stats = SqlRequestStats.begin();
+
+        for (int i = 0; i < 12; i++) {
+            execute(SELECT_BY_ID, SqlCommandType.SELECT, List.of("s" + i));
+        }
+        execute(UPDATE_BY_ID, SqlCommandType.UPDATE, 12);
+
+        List<Map.Entry<String, Integer>> repeated = stats.repeatedStatements(10);
+        assertEquals(1, repeated.size());
+        assertEquals(SELECT_BY_ID, repeated.get(0).getKey());
+        assertEquals(12, repeated.get(0).getValue());
+        assertTrue(stats.repeatedStatements(12).isEmpty());
+    }
+
+    @Test
+    @DisplayName("测试请求之外不统计")
+    void testOutsideRequest() throws Throwable {
+        assertEquals(1, execute(UPDATE_BY_ID, SqlCommandType.UPDATE, 1));
+        assertNull(SqlRequestStats.current());
+    }
+
+    @Test
+    @DisplayName("测试语句异常时仍计入统计")
+    void testFailedStatement() throws Exception {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        MappedStatement ms = mappedStatement(UPDATE_BY_ID, SqlCommandType.UPDATE);
+        Executor failing = executor(new IllegalStateException("duplicate key"));
+
+        assertThrows(Exception.class, () -> interceptor.intercept(new Invocation(failing,
+                Executor.class.getMethod("update", MappedStatement.class, Object.class), new Object[]{ms, null})));
+        assertEquals(1, stats.getStatements());
+        assertEquals(0, stats.getRows());
+    }
+
+    private Object execute(String statementId, SqlCommandType type, Object result) throws Throwable {
+        MappedStatement ms = mappedStatement(statementId, type);
+        if (type == SqlCommandType.SELECT) {
+            return interceptor.intercept(new Invocation(executor(result),
+                    Executor.class.getMethod("query", MappedStatement.class, Object.class, RowBounds.class,
+                            ResultHandler.class),
+                    new Object[]{ms, null, RowBounds.DEFAULT, null}));
+        }
+        return interceptor.intercept(new Invocation(executor(result),
+                Executor.class.getMethod("update", MappedStatement.class, Object.class), new Object[]{ms, null}));
+    }
+
+    /**
+     * 任意方法都返回给定结果（为异常时抛出）的执行器
+     */
+    private static Executor executor(Object result) {
+        return (Executor) Proxy.newProxyInstance(Executor.class.getClassLoader(), new Class<?>[]{Executor.class},
+                (proxy, method, args) -> {
+                    if (result instanceof RuntimeException e) {
+                        throw e;
+                    }
+                    return result;
+                });
+    }
+
+    private static MappedStatement mappedStatement(String id, SqlCommandType type) {
+        Configuration configuration = new Configuration();
+        return new MappedStatement.Builder(configuration, id,
+                new StaticSqlSource(configuration, "SELECT 1"), type).build();
+    }
+}
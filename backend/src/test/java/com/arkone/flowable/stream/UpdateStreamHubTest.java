@@ -0,0 +1,137 @@
+package com.arkone.flowable.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UpdateStreamHub单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("实时推送分发中心测试")
+class UpdateStreamHubTest {
+
+    /**
+     * 记录发送内容的推送目标
+     */
+    private static class RecordingSink implements EventSink {
+        private final List<String> received = new ArrayList<>();
+        private boolean failing;
+        private boolean closed;
+
+        @Override
+        public void send(StreamEvent event) throws IOException {
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            received.add(event.getType());
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    /**
+     * 手动执行的发送线程池，模拟发送线程暂时跟不上
+     */
+    private static class ManualExecutor implements Executor {
+        private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    private static StreamEvent event(String type, String projectId, String containerId) {
+        return StreamEvent.builder().type(type).projectId(projectId).containerId(containerId).build();
+    }
+
+    @Test
+    @DisplayName("测试按项目、容器、事件类型过滤")
+    void testFilter() {
+        UpdateStreamHub hub = new UpdateStreamHub(Runnable::run, 16, 10);
+        RecordingSink projectSink = new RecordingSink();
+        RecordingSink plateSink = new RecordingSink();
+        hub.subscribe(new StreamFilter("p1", null, Set.of("sample")), projectSink);
+        hub.subscribe(new StreamFilter(null, "c1", null), plateSink);
+
+        hub.publish(event("sample.status_changed", "p1", "c1"));
+        hub.publish(event("task.created", "p1", null));
+        hub.publish(event("sample.created", "p2", "c1"));
+        hub.publish(event("sample.created", "p1", "c2"));
+
+        assertEquals(List.of("sample.status_changed", "sample.created"), projectSink.received);
+        assertEquals(List.of("sample.status_changed", "sample.created"), plateSink.received);
+    }
+
+    @Test
+    @DisplayName("测试慢客户端缓冲区溢出后收到resync，不影响其他客户端")
+    void testOverflowResync() {
+        ManualExecutor executor = new ManualExecutor();
+        UpdateStreamHub hub = new UpdateStreamHub(executor, 2, 10);
+        RecordingSink slow = new RecordingSink();
+        StreamSubscriber subscriber = hub.subscribe(new StreamFilter(null, null, null), slow);
+
+        for (int i = 0; i < 5; i++) {
+            hub.publish(event("sample.status_changed", "p1", null));
+        }
+        assertTrue(subscriber.bufferedCount() <= 2);
+        assertTrue(subscriber.getDroppedCount() > 0);
+
+        executor.runAll();
+        assertEquals(StreamEvent.TYPE_RESYNC, slow.received.get(0));
+        assertTrue(slow.received.size() <= 3);
+    }
+
+    @Test
+    @DisplayName("测试发送失败时移除订阅并关闭连接")
+    void testSendFailure() {
+        UpdateStreamHub hub = new UpdateStreamHub(Runnable::run, 16, 10);
+        RecordingSink broken = new RecordingSink();
+        broken.failing = true;
+        hub.subscribe(new StreamFilter(null, null, null), broken);
+
+        hub.publish(event("task.created", "p1", null));
+
+        assertEquals(0, hub.getClientCount());
+        assertTrue(broken.closed);
+    }
+
+    @Test
+    @DisplayName("测试心跳只发给空闲连接")
+    void testHeartbeat() {
+        ManualExecutor executor = new ManualExecutor();
+        UpdateStreamHub hub = new UpdateStreamHub(executor, 16, 10);
+        RecordingSink sink = new RecordingSink();
+        hub.subscribe(new StreamFilter("p1", null, null), sink);
+
+        hub.publish(event("task.created", "p1", null));
+        hub.heartbeat();
+        executor.runAll();
+        assertEquals(List.of("task.created"), sink.received);
+
+        hub.heartbeat();
+        executor.runAll();
+        assertEquals(List.of("task.created", StreamEvent.TYPE_HEARTBEAT), sink.received);
+    }
+}
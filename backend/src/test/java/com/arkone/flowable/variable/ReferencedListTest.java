@@ -0,0 +1,66 @@
+package com.arkone.flowable.variable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReferencedList单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("引用型流程变量测试")
+class ReferencedListTest {
+
+    @Test
+    @DisplayName("测试懒加载：取元素个数不查询，首次访问元素时只加载一次")
+    void testLazyLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        ReferencedList list = ReferencedList.lazy("ref-1", 3, refId -> {
+            loads.incrementAndGet();
+            return List.of("s1", "s2", "s3");
+        });
+
+        assertEquals(3, list.size());
+        assertFalse(list.isLoaded());
+        assertEquals(0, loads.get());
+
+        assertEquals("s2", list.get(1));
+        assertEquals(List.of("s1", "s2", "s3"), list);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("测试列表不可修改")
+    void testUnmodifiable() {
+        ReferencedList list = ReferencedList.of(List.of("s1"));
+
+        assertTrue(list.isLoaded());
+        assertThrows(UnsupportedOperationException.class, () -> list.add("s2"));
+    }
+
+    @Test
+    @DisplayName("测试只有超过阈值的集合改为按引用保存")
+    void testToReferences() {
+        ReferencedListVariableType type = new ReferencedListVariableType(null, new ObjectMapper(), null,
+                2, Duration.ofHours(1), 500);
+
+        Map<String, Object> result = type.toReferences(Map.of(
+                "small", List.of("a", "b"),
+                "large", List.of("a", "b", "c"),
+                "scalar", "value"));
+
+        assertFalse(result.get("small") instanceof ReferencedList);
+        assertInstanceOf(ReferencedList.class, result.get("large"));
+        assertEquals(List.of("a", "b", "c"), result.get("large"));
+        assertEquals("value", result.get("scalar"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.arkone.flowable.web;
+
+import com.arkone.flowable.common.ErrorCode;
+import com.arkone.flowable.exception.BusinessException;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConnectionAdmissionInterceptor单元测试
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+@DisplayName("请求准入拦截器测试")
+class ConnectionAdmissionInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    @DisplayName("测试许可用尽时等待超时拒绝")
+    void testRejectWhenFull() {
+        ConnectionAdmissionInterceptor interceptor = new ConnectionAdmissionInterceptor(1, Duration.ofMillis(10));
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/samples");
+        assertTrue(interceptor.preHandle(first, response, null));
+
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest("GET", "/samples"), response, null));
+        assertEquals(ErrorCode.REQUEST_ADMISSION_TIMEOUT, e.getErrorCode());
+        assertEquals(1, interceptor.rejectedCount());
+
+        interceptor.afterCompletion(first, response, null, null);
+        assertEquals(1, interceptor.availablePermits());
+    }
+
+    @Test
+    @DisplayName("测试重复完成回调只归还一次许可")
+    void testReleaseOnce() {
+        ConnectionAdmissionInterceptor interceptor = new ConnectionAdmissionInterceptor(2, Duration.ofMillis(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples");
+        interceptor.preHandle(request, response, null);
+
+        interceptor.afterCompletion(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(2, interceptor.availablePermits());
+    }
+
+    @Test
+    @DisplayName("测试异步请求开始后归还许可且异步派发不再获取")
+    void testAsyncRequest() {
+        ConnectionAdmissionInterceptor interceptor = new ConnectionAdmissionInterceptor(1, Duration.ofMillis(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/export");
+        interceptor.preHandle(request, response, null);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        assertEquals(1, interceptor.availablePermits());
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        assertTrue(interceptor.preHandle(request, response, null));
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(1, interceptor.availablePermits());
+    }
+}
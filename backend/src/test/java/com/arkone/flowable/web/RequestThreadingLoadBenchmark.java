@@ -0,0 +1,190 @@
+package com.arkone.flowable.web;
+
+import com.arkone.flowable.exception.BusinessException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 请求线程模型负载基准
+ *
+ * <p>对比平台线程（Tomcat 默认200个工作线程）与虚拟线程处理请求时的吞吐量和P99延迟，以及是否启用
+ * {@link ConnectionAdmissionInterceptor} 的差别。每个模拟请求：少量CPU计算，从20个许可的"连接池"
+ * （与 hikari.maximum-pool-size 一致，等待超时30秒）取连接执行4ms查询，再做2ms不占连接的I/O（Redis、序列化输出）。
+ * 客户端为闭环模型：每个客户端收到响应后立即发下一个请求。</p>
+ *
+ * <p>关注点：并发客户端远多于连接数时，虚拟线程不再受工作线程数限制，但所有请求都堆到连接池等待，
+ * P99会随客户端数线性增长；准入限制让超出部分快速失败，已准入请求的延迟保持稳定。</p>
+ *
+ * <p>运行方式（可选参数：每个场景的测量秒数，默认10）：</p>
+ * <pre>
+ * mvn test-compile
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.arkone.flowable.web.RequestThreadingLoadBenchmark 10
+ * </pre>
+ *
+ * @author ArkOne Team
+ * @since 1.0.0
+ */
+public class RequestThreadingLoadBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 20;
+    private static final long CONNECTION_TIMEOUT_MS = 30_000;
+    private static final long QUERY_MILLIS = 4;
+    private static final long IO_MILLIS = 2;
+    private static final long CPU_NANOS = 100_000;
+
+    private static final int[] CLIENTS = {200, 2000};
+
+    /**
+     * 防止CPU模拟循环被优化掉
+     */
+    private static volatile long sink;
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+
+        System.out.printf("%-10s %-6s %8s %12s %10s %10s %10s %10s%n",
+                "线程模型", "准入", "客户端", "吞吐(req/s)", "P50(ms)", "P99(ms)", "拒绝", "连接超时");
+        for (int clients : CLIENTS) {
+            for (boolean virtual : new boolean[]{false, true}) {
+                for (boolean admission : new boolean[]{false, true}) {
+                    // 预热
+                    run(virtual, admission, clients, Duration.ofSeconds(2));
+                    Result result = run(virtual, admission, clients, Duration.ofSeconds(seconds));
+                    System.out.printf("%-10s %-6s %8d %12.0f %10.2f %10.2f %10d %10d%n",
+                            virtual ? "virtual" : "platform", admission ? "on" : "off", clients,
+                            result.throughput(), result.percentile(0.50), result.percentile(0.99),
+                            result.rejected(), result.connectionTimeouts());
+                }
+            }
+        }
+    }
+
+    private static Result run(boolean virtual, boolean admission, int clients, Duration duration) throws Exception {
+        ExecutorService server = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : new ThreadPoolExecutor(TOMCAT_MAX_THREADS, TOMCAT_MAX_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        ConnectionAdmissionInterceptor interceptor = admission
+                ? new ConnectionAdmissionInterceptor(POOL_SIZE * 2, Duration.ofSeconds(3))
+                : null;
+        Semaphore connections = new Semaphore(POOL_SIZE, true);
+        LongAdder rejected = new LongAdder();
+        LongAdder connectionTimeouts = new LongAdder();
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> clientResults = new ArrayList<>(clients);
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                clientResults.add(clientExecutor.submit(() -> {
+                    long[] latencies = new long[256];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        boolean ok = server.submit(() -> handle(interceptor, connections, rejected, connectionTimeouts))
+                                .get();
+                        if (ok) {
+                            if (count == latencies.length) {
+                                latencies = Arrays.copyOf(latencies, count * 2);
+                            }
+                            latencies[count++] = System.nanoTime() - start;
+                        }
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+        server.shutdown();
+        server.awaitTermination(1, TimeUnit.MINUTES);
+
+        long[] all = clientResults.stream()
+                .map(RequestThreadingLoadBenchmark::join)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+        return new Result(all, duration, rejected.sum(), connectionTimeouts.sum());
+    }
+
+    /**
+     * 模拟一次请求处理
+     *
+     * @return 是否成功响应
+     */
+    private static boolean handle(ConnectionAdmissionInterceptor interceptor, Semaphore connections,
+                                  LongAdder rejected, LongAdder connectionTimeouts) throws InterruptedException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/samples");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (interceptor != null) {
+            try {
+                interceptor.preHandle(request, response, null);
+            } catch (BusinessException e) {
+                rejected.increment();
+                return false;
+            }
+        }
+        try {
+            burnCpu();
+            if (!connections.tryAcquire(CONNECTION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                connectionTimeouts.increment();
+                return false;
+            }
+            try {
+                Thread.sleep(QUERY_MILLIS);
+            } finally {
+                connections.release();
+            }
+            Thread.sleep(IO_MILLIS);
+            return true;
+        } finally {
+            if (interceptor != null) {
+                interceptor.afterCompletion(request, response, null, null);
+            }
+        }
+    }
+
+    private static void burnCpu() {
+        long end = System.nanoTime() + CPU_NANOS;
+        long x = 0;
+        while (System.nanoTime() < end) {
+            x += System.nanoTime() & 1;
+        }
+        sink = x;
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Result(long[] sortedLatencies, Duration duration, long rejected, long connectionTimeouts) {
+
+        double throughput() {
+            return sortedLatencies.length / (duration.toMillis() / 1000.0);
+        }
+
+        double percentile(double p) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+import type { StreamEvent, StreamEventType } from '@/types'
+
+const baseURL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080/api'
+
+const EVENT_TYPES: StreamEventType[] = [
+  'sample.created',
+  'sample.status_changed',
+  'sample.process_started',
+  'sample.task_completed',
+  'task.created',
+  'task.assigned',
+  'resync'
+]
+
+// 订阅参数
+export interface StreamSubscribeParams {
+  projectId?: string
+  containerId?: string
+  // 事件类型前缀，如 sample、task.created
+  types?: string[]
+}
+
+// 订阅变更推送，返回取消订阅函数；连接断开后浏览器自动重连
+export function subscribeUpdates(
+  params: StreamSubscribeParams,
+  onEvent: (event: StreamEvent) => void
+): () => void {
+  const query = new URLSearchParams()
+  if (params.projectId) query.set('projectId', params.projectId)
+  if (params.containerId) query.set('containerId', params.containerId)
+  if (params.types?.length) query.set('types', params.types.join(','))
+
+  const source = new EventSource(`${baseURL}/events/stream?${query.toString()}`)
+  const handler = (e: MessageEvent) => {
+    try {
+      onEvent(JSON.parse(e.data) as StreamEvent)
+    } catch (error) {
+      console.error('Stream event parse error:', error)
+    }
+  }
+  EVENT_TYPES.forEach((type) => source.addEventListener(type, handler as EventListener))
+
+  return () => source.close()
+}
+
+// 合并短时间内的多次推送，只触发一次刷新
+export function debounceRefresh(fn: () => void, wait = 500): () => void {
+  let timer: ReturnType<typeof setTimeout> | undefined
+  return () => {
+    if (timer) clearTimeout(timer)
+    timer = setTimeout(fn, wait)
+  }
+}
@@ -1,5 +1,5 @@
 import { http } from './request'
-import type { Task, PageParams, PageResult, BatchResult } from '@/types'
+import type { Task, PageParams, PageResult, BatchResult, BatchOperationResult, ProcessBulkOperationStatus } from '@/types'
 
 // 启动流程参数
 export interface StartProcessParams {
@@ -21,6 +21,25 @@ export interface BatchCompleteTaskParams {
   atomic?: boolean
 }
 
+// 批量认领/分派参数
+export interface BatchAssignTaskParams {
+  taskIds: string[]
+  userId?: string
+}
+
+// 批量认领/分派操作
+export type TaskAssignAction = 'claim' | 'unclaim' | 'delegate' | 'assign'
+
+// 流程实例批量操作参数(projectId / businessKeyPrefix / sampleIds 三选一)
+export interface ProcessBulkOperationParams {
+  action: 'suspend' | 'activate' | 'cancel'
+  processDefinitionKey?: string
+  projectId?: string
+  businessKeyPrefix?: string
+  sampleIds?: string[]
+  reason?: string
+}
+
 // 任务查询参数
 export interface TaskQueryParams extends PageParams {
   processDefinitionKey?: string
@@ -28,6 +47,10 @@ export interface TaskQueryParams extends PageParams {
   candidateUser?: string
   candidateGroup?: string
   processInstanceId?: string
+  taskDefinitionKey?: string
+  includeSamples?: boolean
+  // 样本附带的节点数据字段, 逗号分隔
+  sampleFields?: string
 }
 
 // 流程API
@@ -67,6 +90,18 @@ export const processApi = {
     return http.delete(`/process/instances/${processInstanceId}`, {
       data: { reason }
     })
+  },
+
+  // 批量挂起/激活/取消流程实例(如试剂批次召回), 后台按块处理
+  submitBulkOperation(data: ProcessBulkOperationParams, idempotencyKey?: string) {
+    return http.post<ProcessBulkOperationStatus>('/process/instances/bulk', data, {
+      headers: idempotencyKey ? { 'Idempotency-Key': idempotencyKey } : undefined
+    })
+  },
+
+  // 查询批量操作进度
+  getBulkOperation(operationId: string) {
+    return http.get<ProcessBulkOperationStatus>(`/process/instances/bulk/${operationId}`)
   }
 }
 
@@ -82,9 +117,11 @@ export const taskApi = {
     return http.get<Task>(`/tasks/${taskId}`)
   },
 
-  // 完成任务
-  completeTask(data: CompleteTaskParams) {
-    return http.post(`/tasks/${data.taskId}/complete`, data)
+  // 完成任务(idempotencyKey: 同一次提交的重试使用相同的键, 重复请求直接返回首次结果)
+  completeTask(data: CompleteTaskParams, idempotencyKey?: string) {
+    return http.post(`/tasks/${data.taskId}/complete`, data, {
+      headers: idempotencyKey ? { 'Idempotency-Key': idempotencyKey } : undefined
+    })
   },
 
   // 批量完成任务
@@ -110,5 +147,10 @@ export const taskApi = {
   // 转办任务
   assignTask(taskId: string, userId: string) {
     return http.post(`/tasks/${taskId}/assign`, { userId })
+  },
+
+  // 批量认领/取消认领/委派/转办(如整板认领), 失败列表中逐个返回冲突的任务
+  batchAssignTasks(action: TaskAssignAction, data: BatchAssignTaskParams) {
+    return http.post<BatchOperationResult<string>>(`/tasks/batch/${action}`, data)
   }
 }
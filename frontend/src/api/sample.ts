@@ -4,7 +4,8 @@ import type {
   PageParams,
   PageResult,
   BatchOperationResult,
-  SampleStatus
+  SampleStatus,
+  SampleCurrentState
 } from '@/types'
 
 // 样本查询参数
@@ -57,6 +58,11 @@ export const sampleApi = {
     return http.get<PageResult<Sample>>('/samples', { params })
   },
 
+  // 获取样本当前状态(投影表, 含当前节点与关键指标)
+  getSampleCurrentStates(params: SampleQueryParams & { currentNodeId?: string }) {
+    return http.get<PageResult<SampleCurrentState>>('/samples/current-state', { params })
+  },
+
   // 获取样本详情
   getSampleById(id: string) {
     return http.get<Sample>(`/samples/${id}`)
@@ -106,8 +112,8 @@ export const sampleApi = {
   },
 
   // 获取样本历史
-  getSampleHistory(id: string) {
-    return http.get(`/samples/${id}/history`)
+  getSampleHistory(id: string, params?: { pageNum?: number; pageSize?: number }) {
+    return http.get(`/samples/${id}/history`, { params })
   },
 
   // 导出样本
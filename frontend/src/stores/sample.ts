@@ -1,11 +1,12 @@
 import { defineStore } from 'pinia'
 import { ref, computed } from 'vue'
-import type { Sample, SampleStatus } from '@/types'
+import type { Sample, SampleCurrentState, SampleStatus } from '@/types'
 import { sampleApi, type SampleQueryParams } from '@/api/sample'
 
 export const useSampleStore = defineStore('sample', () => {
   // 状态
   const samples = ref<Sample[]>([])
+  const currentStates = ref<SampleCurrentState[]>([])
   const currentSample = ref<Sample | null>(null)
   const loading = ref(false)
   const total = ref(0)
@@ -37,6 +38,26 @@ export const useSampleStore = defineStore('sample', () => {
     }
   }
 
+  // 获取样本当前状态列表(投影表, 列表页使用, 不再逐条关联节点数据)
+  async function fetchCurrentStates(params: SampleQueryParams & { currentNodeId?: string } = {}) {
+    loading.value = true
+    try {
+      const response = await sampleApi.getSampleCurrentStates({
+        pageNum: currentPage.value,
+        pageSize: pageSize.value,
+        ...params
+      })
+      currentStates.value = response.data.records || []
+      total.value = response.data.total || 0
+      currentPage.value = response.data.current || 1
+    } catch (error) {
+      console.error('获取样本当前状态失败:', error)
+      throw error
+    } finally {
+      loading.value = false
+    }
+  }
+
   // 获取样本详情
   async function fetchSampleById(id: string) {
     loading.value = true
@@ -158,6 +179,7 @@ export const useSampleStore = defineStore('sample', () => {
   // 重置状态
   function reset() {
     samples.value = []
+    currentStates.value = []
     currentSample.value = null
     loading.value = false
     total.value = 0
@@ -168,6 +190,7 @@ export const useSampleStore = defineStore('sample', () => {
   return {
     // 状态
     samples,
+    currentStates,
     currentSample,
     loading,
     total,
@@ -178,6 +201,7 @@ export const useSampleStore = defineStore('sample', () => {
     totalPages,
     // 方法
     fetchSamples,
+    fetchCurrentStates,
     fetchSampleById,
     createSample,
     updateSample,
@@ -38,6 +38,47 @@ export interface Sample {
   deleted: boolean
 }
 
+// 样本当前状态(投影)
+export interface SampleCurrentState {
+  sampleId: string
+  sampleCode: string
+  sampleName: string
+  sampleType: SampleType
+  status: SampleStatus
+  projectId: string
+  processInstanceId?: string
+  currentNodeId?: string
+  containerId?: string
+  position?: string
+  lastNodeId?: string
+  lastNodeName?: string
+  lastNodeTime?: string
+  metrics: Record<string, unknown>
+  createdAt: string
+  updatedAt: string
+}
+
+// 实时推送事件类型
+export type StreamEventType =
+  | 'sample.created'
+  | 'sample.status_changed'
+  | 'sample.process_started'
+  | 'sample.task_completed'
+  | 'task.created'
+  | 'task.assigned'
+  | 'resync'
+
+// 实时推送事件
+export interface StreamEvent {
+  id?: string
+  type: StreamEventType
+  projectId?: string
+  containerId?: string
+  sampleId?: string
+  data?: Record<string, unknown>
+  timestamp?: string
+}
+
 // 项目接口
 export interface Project {
   id: string
@@ -117,10 +158,27 @@ export interface Task {
   processDefinitionId: string
   taskDefinitionKey: string
   assignee?: string
+  owner?: string
+  delegationState?: 'pending' | 'resolved'
   createTime: string
   dueDate?: string
   priority: number
   suspended: boolean
+  samples: TaskSample[]
+}
+
+// 任务关联样本摘要
+export interface TaskSample {
+  id: string
+  processInstanceId: string
+  sampleCode: string
+  sampleName: string
+  sampleType: SampleType
+  status: SampleStatus
+  containerId?: string
+  position?: string
+  // 查询时指定 sampleFields 才返回
+  fields?: Record<string, unknown>
 }
 
 // 批量操作结果
@@ -142,6 +200,25 @@ export interface BatchOperationResult<T> {
   }>
 }
 
+// 流程实例批量操作状态
+export interface ProcessBulkOperationStatus {
+  operationId: string
+  action: 'suspend' | 'activate' | 'cancel'
+  status: 'queued' | 'running' | 'completed' | 'completed_with_errors'
+  total: number
+  processedCount: number
+  successCount: number
+  failureCount: number
+  failureList: Array<{
+    index: number
+    errorCode: string
+    errorMessage: string
+    data?: string
+  }>
+  submittedAt: string
+  finishedAt?: string
+}
+
 // 分页参数
 export interface PageParams {
   pageNum: number